@@ -1,21 +1,49 @@
 package com.iiitd.dsavisualizer.algorithms.sorting;
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
 import android.app.Activity;
 import android.content.Context;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.view.View;
 
-// AnimateViews class is used to animate views left, right, up and down based on AnimationDirection
+// AnimateViews class is used to animate views left, right, up and down based on SortingEngine opcodes
 // Used by SortingSequence for sorting algorithms animation
+// Moves of a step are batched, beginBatch() ... add() ... endBatch(), and all moved views are animated by a single ValueAnimator
+// Translations are interpolated from float[] start and end arrays, moved views use hardware layers while moving
 public class AnimateViews {
+    public static final long MAX_DURATION = 300;    // ms, duration of a step when stepping manually
+    public static final long MIN_DURATION = 16;     // ms, shorter steps are not animated, views are moved directly
 
     private float height;
     private float width;
     public final Context context;
 
+    // Batch being recorded, deltas are in rows and columns per view index
+    private int[] deltaColumns;
+    private int[] deltaRows;
+    private int[] movedIndexes;
+    private boolean[] isMoved;
+    private int noOfMovedIndexes;
+    private View[] views;
+    private long lastBatchTime;                     // SystemClock.uptimeMillis() of the last endBatch()
+
+    private ValueAnimator animator;                 // running batch, used only on the UI thread
+
     public AnimateViews(float height, float width, Context context) {
         this.height = height;
         this.width = width;
         this.context = context;
+        this.deltaColumns = new int[0];
+        this.deltaRows = new int[0];
+        this.movedIndexes = new int[0];
+        this.isMoved = new boolean[0];
+        this.noOfMovedIndexes = 0;
+        this.views = null;
+        this.lastBatchTime = 0;
+        this.animator = null;
     }
 
     public void updateHeight(float height) {
@@ -26,51 +54,166 @@ public class AnimateViews {
         this.width = width;
     }
 
-    private void animateBottom(View view, int times){
-        int by = (int) (times * height);
-        view.animate().translationYBy(by);
+    public void beginBatch(View[] views){
+        if(deltaColumns.length != views.length){
+            deltaColumns = new int[views.length];
+            deltaRows = new int[views.length];
+            movedIndexes = new int[views.length];
+            isMoved = new boolean[views.length];
+        }
+
+        this.views = views;
+        this.noOfMovedIndexes = 0;
+    }
+
+    // Adds a single SortingEngine opcode of view at index to the batch
+    public void add(int index, int opcode, int times){
+        if(!isMoved[index]){
+            isMoved[index] = true;
+            movedIndexes[noOfMovedIndexes++] = index;
+        }
+
+        switch (opcode){
+            case SortingEngine.OP_UP:
+                deltaRows[index] -= times;
+                break;
+            case SortingEngine.OP_RIGHT:
+                deltaColumns[index] += times;
+                break;
+            case SortingEngine.OP_DOWN:
+                deltaRows[index] += times;
+                break;
+            case SortingEngine.OP_LEFT:
+                deltaColumns[index] -= times;
+                break;
+            default:
+                break;
+        }
     }
 
-    private void animateUp(View view, int times){
-        int by = (int) (times * height);
-        view.animate().translationYBy(-by);
+    // Starts the batch, its duration follows the time between steps, so fast playback never queues animations
+    // Playback steps already run on the UI thread, so the batch is started directly without posting a Runnable
+    public void endBatch(){
+        long now = SystemClock.uptimeMillis();
+        long duration = lastBatchTime == 0 ? MAX_DURATION : Math.min(MAX_DURATION, (now - lastBatchTime) * 3 / 4);
+        lastBatchTime = now;
+
+        if(noOfMovedIndexes == 0)
+            return;
+
+        final View[] movedViews = new View[noOfMovedIndexes];
+        final float[] dx = new float[noOfMovedIndexes];
+        final float[] dy = new float[noOfMovedIndexes];
+        for(int i=0;i<noOfMovedIndexes;i++){
+            int index = movedIndexes[i];
+            movedViews[i] = views[index];
+            width = views[index].getWidth();
+            dx[i] = (int) (deltaColumns[index] * width);
+            dy[i] = (int) (deltaRows[index] * height);
+            deltaColumns[index] = 0;
+            deltaRows[index] = 0;
+            isMoved[index] = false;
+        }
+        noOfMovedIndexes = 0;
+
+        final long finalDuration = duration < MIN_DURATION ? 0 : duration;
+        if(Looper.myLooper() == Looper.getMainLooper()){
+            startBatch(movedViews, dx, dy, finalDuration);
+            return;
+        }
+
+        ((Activity) context).runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                startBatch(movedViews, dx, dy, finalDuration);
+            }
+        });
     }
 
-    private void animateLeft(View view, int times){
-        int by = (int) (times * width);
-        view.animate().translationXBy(-by);
+    // Translations start from the end of the previous batch, which is finished first
+    private void startBatch(final View[] movedViews, float[] dx, float[] dy, long duration){
+        endAnimation();
+
+        int length = movedViews.length;
+        final float[] startX = new float[length];
+        final float[] startY = new float[length];
+        final float[] endX = new float[length];
+        final float[] endY = new float[length];
+        for(int i=0;i<length;i++){
+            startX[i] = movedViews[i].getTranslationX();
+            startY[i] = movedViews[i].getTranslationY();
+            endX[i] = startX[i] + dx[i];
+            endY[i] = startY[i] + dy[i];
+        }
+
+        if(duration == 0){
+            for(int i=0;i<length;i++){
+                movedViews[i].setTranslationX(endX[i]);
+                movedViews[i].setTranslationY(endY[i]);
+            }
+            return;
+        }
+
+        for(View view : movedViews){
+            view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        }
+
+        animator = ValueAnimator.ofFloat(0, 1);
+        animator.setDuration(duration);
+        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animation) {
+                float fraction = (float) animation.getAnimatedValue();
+                for(int i=0;i<movedViews.length;i++){
+                    movedViews[i].setTranslationX(startX[i] + (endX[i] - startX[i]) * fraction);
+                    movedViews[i].setTranslationY(startY[i] + (endY[i] - startY[i]) * fraction);
+                }
+            }
+        });
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                for(View view : movedViews){
+                    view.setLayerType(View.LAYER_TYPE_NONE, null);
+                }
+                if(animator == animation){
+                    animator = null;
+                }
+            }
+        });
+        animator.start();
     }
 
-    private void animateRight(View view, int times){
-        int by = (int) (times * width);
-        view.animate().translationXBy(by);
+    // Jumps the running batch to its end values
+    private void endAnimation(){
+        if(animator != null){
+            ValueAnimator animator = this.animator;
+            this.animator = null;
+            animator.end();
+        }
     }
 
-    public void animateInst(final View view, final int times, final AnimationDirection animationDirection) {
-        width = view.getWidth();
-        view.animate().setDuration(0);
+    // Moves all views directly to their positions and rows, without animation, in a single UI thread update
+    // views[i] is initially at position i, the running batch is finished first, used by SortingSequence.seek()
+    public void jumpTo(final View[] views, int[] positions, int[] rows) {
+        // Copied, positions and rows may change before the update runs
+        final int[] columns = new int[views.length];
+        final int[] finalRows = new int[views.length];
+        for(int i=0;i<views.length;i++){
+            columns[i] = positions[i] - i;
+            finalRows[i] = rows[i];
+        }
+
         ((Activity) context).runOnUiThread(new Runnable() {
             @Override
             public void run() {
-                switch (animationDirection){
-                    case UP:
-                        animateUp(view, times);
-                        break;
-                    case RIGHT:
-                        animateRight(view, times);
-                        break;
-                    case DOWN:
-                        animateBottom(view, times);
-                        break;
-                    case LEFT:
-                        animateLeft(view, times);
-                        break;
-                    case NULL:
-                    default:
-                        break;
+                endAnimation();
+                for(int i=0;i<views.length;i++){
+                    views[i].setTranslationX(columns[i] * views[i].getWidth());
+                    views[i].setTranslationY((int) (finalRows[i] * height));
                 }
             }
         });
     }
 
-}
\ No newline at end of file
+}
@@ -1,9 +1,8 @@
 package com.iiitd.dsavisualizer.algorithms.sorting;
 
-import android.util.Pair;
+import com.iiitd.dsavisualizer.utility.Pair;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
 // This class is used to hold animation data for single state of a sorting algorithm
 public class ElementAnimationData {
@@ -21,12 +20,14 @@ public class ElementAnimationData {
         this.index = index;
         this.instructions = new ArrayList<>();
 
-        instructions.addAll(Arrays.asList(inst));
+        for(Pair<AnimationDirection, Integer> pair : inst)
+            instructions.add(pair);
     }
 
     @SafeVarargs
     public final void add(Pair<AnimationDirection, Integer>... inst){
-        instructions.addAll(Arrays.asList(inst));
+        for(Pair<AnimationDirection, Integer> pair : inst)
+            instructions.add(pair);
     }
 
 
@@ -0,0 +1,14 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+// Enum class
+// Used in SortingInputGenerator, order matches the input_distributions string array
+public enum InputDistribution {
+    RANDOM,
+    SORTED,
+    REVERSED,
+    NEARLY_SORTED,          // sorted with a few random swaps
+    FEW_UNIQUE,             // only a few distinct values
+    ORGAN_PIPE,             // ascending then descending
+    SAWTOOTH,               // a few ascending runs
+    ZIPF                    // small values are far more frequent than large ones
+}
@@ -1,14 +1,19 @@
 package com.iiitd.dsavisualizer.algorithms.sorting;
 
-import android.util.Pair;
+import com.iiitd.dsavisualizer.utility.Pair;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
 // This class is used to hold complete animation data for an instance of a sorting algorithm
+// info is either given directly or formatted later from infoId and infoArgs by a SortingInfoFormatter
 public class SortingAnimationState {
+    public static final int NO_INFO_ID = -1;
+
     public final String state;
     public String info;
+    public int infoId;
+    public int[] infoArgs;
     public ArrayList<ElementAnimationData> elementAnimationData;
     public ArrayList<Integer> highlightIndexes;
     public ArrayList<Pair<Integer, String>> pointers;
@@ -16,11 +21,20 @@ public class SortingAnimationState {
     public SortingAnimationState(String state, String info) {
         this.state = state;
         this.info = info;
+        this.infoId = NO_INFO_ID;
+        this.infoArgs = null;
         this.elementAnimationData = new ArrayList<>();
         this.highlightIndexes = new ArrayList<>();
         this.pointers = new ArrayList<>();
     }
 
+    // info is formatted lazily from infoId and infoArgs
+    public SortingAnimationState(String state, int infoId, int... infoArgs) {
+        this(state, null);
+        this.infoId = infoId;
+        this.infoArgs = infoArgs;
+    }
+
     public void addElementAnimationData(ElementAnimationData... elementAnimationDatas) {
         this.elementAnimationData.addAll(Arrays.asList(elementAnimationDatas));
     }
@@ -32,7 +46,8 @@ public class SortingAnimationState {
 
     @SafeVarargs
     public final void addPointers(Pair<Integer, String>... pairs){
-        this.pointers.addAll(Arrays.asList(pairs));
+        for(Pair<Integer, String> pair : pairs)
+            this.pointers.add(pair);
     }
 
     @Override
@@ -40,4 +55,4 @@ public class SortingAnimationState {
         return state + "|" + elementAnimationData.toString();
     }
 
-}
\ No newline at end of file
+}
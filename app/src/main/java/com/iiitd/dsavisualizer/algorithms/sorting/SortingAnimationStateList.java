@@ -0,0 +1,329 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import com.iiitd.dsavisualizer.utility.Pair;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+// SortingAnimationStateList stores animation states of a sorting algorithm as a compact byte stream
+// Each state is recorded once by beginStep() ... endStep() as varints, strings [ states, constant infos, pointers ] are stored once in a table
+// Step layout : state, info, [ infoArgs ], moves { index, opcode, times }, highlightIndexes, pointers { index, string }
+// get(index) decodes a complete state, info is formatted only then by the SortingInfoFormatter
+// apply(index, reverse, sortingRecorder) plays a state directly from the stream, without allocating
+// move(index, positions, rows) only updates arrays, used by SortingRecorder.seek()
+// Recording stops with a SortingLimitException beyond MAX_SORTING_STATES states or MAX_SORTING_BYTES bytes
+public class SortingAnimationStateList extends AbstractList<SortingAnimationState> {
+    public static final int MAX_SORTING_STATES = 1000000;       // Max recorded states of a sequence
+    public static final int MAX_SORTING_BYTES = 48 << 20;       // Max size of encoded states of a sequence
+
+    // Opcode -> inverse opcode, used when going backward
+    private static final int[] INVERSE = new int[]{
+            0,                                      // NULL
+            SortingEngine.OP_DOWN,                  // OP_UP
+            SortingEngine.OP_LEFT,                  // OP_RIGHT
+            SortingEngine.OP_UP,                    // OP_DOWN
+            SortingEngine.OP_RIGHT                  // OP_LEFT
+    };
+    private static final AnimationDirection[] DIRECTIONS = AnimationDirection.values();
+
+    private final SortingInfoFormatter sortingInfoFormatter;
+    private final ArrayList<String> strings;
+    private final HashMap<String, Integer> stringIds;
+
+    private byte[] codes;
+    private int length;
+    private int[] offsets;          // state index -> first byte of the state in codes
+    private int size;
+    private int cursor;             // read position in codes
+    private int[] instBuffer;       // reusable buffer, moves of a state are read into it when reversing
+
+    // State being recorded, its moves, highlights and pointers are written by endStep()
+    private boolean isRecording;
+    private int[] stepMoves;        // { index, opcode | times << 3 } per move
+    private int noOfStepMoves;
+    private int[] stepHighlights;
+    private int noOfStepHighlights;
+    private int[] stepPointers;     // { index, string id } per pointer
+    private int noOfStepPointers;
+
+    // Last decoded state, activities read the same state several times for a single step
+    private int lastIndex;
+    private SortingAnimationState lastState;
+
+    public SortingAnimationStateList(SortingInfoFormatter sortingInfoFormatter) {
+        this.sortingInfoFormatter = sortingInfoFormatter;
+        this.strings = new ArrayList<>();
+        this.stringIds = new HashMap<>();
+        this.codes = new byte[1024];
+        this.length = 0;
+        this.offsets = new int[64];
+        this.size = 0;
+        this.instBuffer = new int[16];
+        this.isRecording = false;
+        this.stepMoves = new int[16];
+        this.stepHighlights = new int[8];
+        this.stepPointers = new int[8];
+        this.lastIndex = -1;
+        this.lastState = null;
+    }
+
+    // Starts recording a new state, info is stored as a string
+    public synchronized void beginStep(String state, String info){
+        beginStep(state);
+
+        // Info, odd => formatted from infoId and infoArgs, even => string id + 1, 0 => null
+        int stringId = info == null ? -1 : getStringId(info);
+        writeUnsigned(2 * (stringId + 1));
+    }
+
+    // Starts recording a new state, info is formatted from infoId and infoArgs by the SortingInfoFormatter
+    public synchronized void beginStep(String state, int infoId, int[] infoArgs){
+        beginStep(state);
+
+        writeUnsigned(2 * infoId + 1);
+        writeUnsigned(infoArgs.length);
+        for(int infoArg : infoArgs){
+            writeSigned(infoArg);
+        }
+    }
+
+    private void beginStep(String state){
+        if(isRecording){
+            throw new IllegalStateException("endStep() not called for state " + size);
+        }
+
+        if(size >= MAX_SORTING_STATES || getNoOfBytes() >= MAX_SORTING_BYTES){
+            throw new SortingLimitException("Too many steps to animate, decrease elements");
+        }
+
+        if(size == offsets.length){
+            offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+        }
+        offsets[size] = length;
+        isRecording = true;
+        noOfStepMoves = 0;
+        noOfStepHighlights = 0;
+        noOfStepPointers = 0;
+
+        writeUnsigned(getStringId(state));
+    }
+
+    public synchronized void addMove(int index, int opcode, int times){
+        if(noOfStepMoves + 2 > stepMoves.length){
+            stepMoves = Arrays.copyOf(stepMoves, 2 * stepMoves.length);
+        }
+        stepMoves[noOfStepMoves++] = index;
+        stepMoves[noOfStepMoves++] = times << 3 | opcode;
+    }
+
+    public synchronized void addHighlight(int index){
+        if(noOfStepHighlights == stepHighlights.length){
+            stepHighlights = Arrays.copyOf(stepHighlights, 2 * stepHighlights.length);
+        }
+        stepHighlights[noOfStepHighlights++] = index;
+    }
+
+    public synchronized void addPointer(int index, String pointer){
+        if(noOfStepPointers + 2 > stepPointers.length){
+            stepPointers = Arrays.copyOf(stepPointers, 2 * stepPointers.length);
+        }
+        stepPointers[noOfStepPointers++] = index;
+        stepPointers[noOfStepPointers++] = getStringId(pointer);
+    }
+
+    // Writes the moves, highlights and pointers of the state being recorded, the state is visible only after this
+    public synchronized void endStep(){
+        if(!isRecording){
+            throw new IllegalStateException("beginStep() not called");
+        }
+
+        writeUnsigned(noOfStepMoves / 2);
+        for(int i=0;i<noOfStepMoves;i++){
+            writeUnsigned(stepMoves[i]);
+        }
+
+        writeUnsigned(noOfStepHighlights);
+        for(int i=0;i<noOfStepHighlights;i++){
+            writeUnsigned(stepHighlights[i]);
+        }
+
+        writeUnsigned(noOfStepPointers / 2);
+        for(int i=0;i<noOfStepPointers;i++){
+            writeUnsigned(stepPointers[i]);
+        }
+
+        isRecording = false;
+        size++;
+    }
+
+    @Override
+    public synchronized SortingAnimationState get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index = " + index + ", size = " + size);
+        }
+
+        if(index == lastIndex){
+            return lastState;
+        }
+
+        cursor = offsets[index];
+        String state = strings.get(readUnsigned());
+
+        SortingAnimationState sortingAnimationState;
+        int infoCode = readUnsigned();
+        if(infoCode % 2 == 1){
+            int[] infoArgs = new int[readUnsigned()];
+            for(int i=0;i<infoArgs.length;i++){
+                infoArgs[i] = readSigned();
+            }
+            sortingAnimationState = new SortingAnimationState(state, infoCode / 2, infoArgs);
+            if(sortingInfoFormatter != null){
+                sortingAnimationState.info = sortingInfoFormatter.getInfo(infoCode / 2, infoArgs);
+            }
+        }
+        else{
+            sortingAnimationState = new SortingAnimationState(state, infoCode == 0 ? null : strings.get(infoCode / 2 - 1));
+        }
+
+        // Consecutive moves of an element are grouped into a single ElementAnimationData
+        int noOfMoves = readUnsigned();
+        ElementAnimationData elementAnimationData = null;
+        for(int i=0;i<noOfMoves;i++){
+            int elementIndex = readUnsigned();
+            int inst = readUnsigned();
+            if(elementAnimationData == null || elementAnimationData.index != elementIndex){
+                elementAnimationData = new ElementAnimationData(elementIndex);
+                sortingAnimationState.addElementAnimationData(elementAnimationData);
+            }
+            elementAnimationData.add(new Pair<>(DIRECTIONS[inst & 7], inst >>> 3));
+        }
+
+        int noOfHighlights = readUnsigned();
+        for(int i=0;i<noOfHighlights;i++){
+            sortingAnimationState.highlightIndexes.add(readUnsigned());
+        }
+
+        int noOfPointers = readUnsigned();
+        for(int i=0;i<noOfPointers;i++){
+            int pointerIndex = readUnsigned();
+            sortingAnimationState.pointers.add(new Pair<>(pointerIndex, strings.get(readUnsigned())));
+        }
+
+        lastIndex = index;
+        lastState = sortingAnimationState;
+
+        return sortingAnimationState;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    // Applies moves of state at index on sortingRecorder
+    // reverse => moves are applied in reverse order and with inverse opcodes
+    public synchronized void apply(int index, boolean reverse, SortingRecorder sortingRecorder){
+        skipToMoves(index);
+
+        int noOfMoves = readUnsigned();
+        if(!reverse){
+            for(int i=0;i<noOfMoves;i++){
+                int elementIndex = readUnsigned();
+                int inst = readUnsigned();
+                sortingRecorder.applyInst(elementIndex, inst & 7, inst >>> 3);
+            }
+        }
+        else{
+            if(instBuffer.length < 2 * noOfMoves){
+                instBuffer = new int[Math.max(2 * noOfMoves, 2 * instBuffer.length)];
+            }
+            for(int i=0;i<2*noOfMoves;i++){
+                instBuffer[i] = readUnsigned();
+            }
+            for(int i=noOfMoves-1;i>=0;i--){
+                int inst = instBuffer[2*i+1];
+                sortingRecorder.applyInst(instBuffer[2*i], INVERSE[inst & 7], inst >>> 3);
+            }
+        }
+    }
+
+    // Adds moves of state at index to positions [ OP_LEFT, OP_RIGHT ] and rows [ OP_UP, OP_DOWN ], without animating
+    public synchronized void move(int index, int[] positions, int[] rows){
+        skipToMoves(index);
+
+        int noOfMoves = readUnsigned();
+        for(int i=0;i<noOfMoves;i++){
+            int elementIndex = readUnsigned();
+            int inst = readUnsigned();
+            SortingRecorder.move(elementIndex, inst & 7, inst >>> 3, positions, rows);
+        }
+    }
+
+    // Size of the encoded states in bytes, excluding the string table
+    public synchronized int getNoOfBytes(){
+        return length + 4 * size;
+    }
+
+    // Moves cursor to the moves of state at index, skipping state, info and infoArgs
+    private void skipToMoves(int index){
+        cursor = offsets[index];
+        readUnsigned();
+        int infoCode = readUnsigned();
+        if(infoCode % 2 == 1){
+            int noOfArgs = readUnsigned();
+            for(int i=0;i<noOfArgs;i++){
+                readUnsigned();
+            }
+        }
+    }
+
+    private int getStringId(String string){
+        Integer id = stringIds.get(string);
+        if(id == null){
+            id = strings.size();
+            strings.add(string);
+            stringIds.put(string, id);
+        }
+
+        return id;
+    }
+
+    // Varint, 7 bits per byte, high bit set => more bytes follow
+    private void writeUnsigned(int value){
+        if(length + 5 > codes.length){
+            codes = Arrays.copyOf(codes, 2 * codes.length);
+        }
+
+        while ((value & ~0x7F) != 0){
+            codes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        codes[length++] = (byte) value;
+    }
+
+    // ZigZag, so that small negative values also take a single byte
+    private void writeSigned(int value){
+        writeUnsigned((value << 1) ^ (value >> 31));
+    }
+
+    private int readUnsigned(){
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do{
+            b = codes[cursor++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    private int readSigned(){
+        int value = readUnsigned();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+// Common API of all sorting backends [ BubbleSort, SelectionSort, InsertionSort, MergeSort, QuickSort ]
+// Constructor of a backend only draws the elements on the UI thread, sort() then records the complete sequence
+// sort() does not touch any View, so it may also run on a worker thread [ race mode ]
+public interface SortingBackend {
+    void sort();
+
+    SortingSequence getSequence();
+
+    SortingMetrics getMetrics();
+}
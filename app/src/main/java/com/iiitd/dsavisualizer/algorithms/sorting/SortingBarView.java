@@ -0,0 +1,188 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.utility.Pair;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// SortingBarView draws all elements of a sorting algorithm as bars on a single View
+// Used instead of one inflated View per element when the array is too large [ > AppSettings.MAX_VIEW_ELEMENTS ]
+// Bars are drawn from primitive arrays, element index -> value, position, row and color
+public class SortingBarView extends View {
+
+    private static final byte NORMAL = 0;
+    private static final byte HIGHLIGHTED = 1;
+    private static final byte DONE = 2;
+
+    private int[] data;                 // element index -> value
+    private int[] positions;            // element index -> position in array [ shared with SortingSequence ]
+    private int[] rows;                 // element index -> row, changed by UP and DOWN instructions
+    private byte[] colors;              // element index -> NORMAL, HIGHLIGHTED or DONE
+    private int noOfRows;
+    private int max;
+    private final Paint[] paints;
+    private final float[][] lines;      // color -> batched bar lines {x0, y0, x1, y1, ...}
+    private final int[] noOfLines;      // color -> no of bar lines in lines[color]
+
+    public SortingBarView(Context context) {
+        super(context);
+
+        this.paints = new Paint[]{
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.base)),
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.medium)),
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.dark))};
+        this.lines = new float[paints.length][];
+        this.noOfLines = new int[paints.length];
+    }
+
+    // Creates a SortingBarView for data and adds it to linearLayout
+    // positions is the same array which is updated by SortingSequence, noOfRows is used by MergeSort
+    public static SortingBarView create(Context context, LinearLayout linearLayout,
+                                        int[] data, int[] positions, int noOfRows){
+        SortingBarView sortingBarView = new SortingBarView(context);
+        sortingBarView.setData(data, positions, noOfRows);
+        sortingBarView.setLayoutParams(new LinearLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        linearLayout.addView(sortingBarView);
+
+        return sortingBarView;
+    }
+
+    public void setData(int[] data, int[] positions, int noOfRows){
+        this.data = data;
+        this.positions = positions;
+        this.rows = new int[data.length];
+        this.colors = new byte[data.length];
+        this.noOfRows = Math.max(1, noOfRows);
+        this.max = 1;
+        for(int value : data){
+            max = Math.max(max, value);
+        }
+
+        for(int i=0;i<lines.length;i++){
+            lines[i] = new float[4 * data.length];
+        }
+
+        postInvalidate();
+    }
+
+    // Sets row of element at index, positions are already updated by SortingSequence
+    // Can be called from any thread
+    public void setRow(int index, int row){
+        rows[index] = row;
+
+        postInvalidate();
+    }
+
+    // Sets rows of all elements at once, positions are already updated by SortingSequence.seek()
+    public void jumpTo(int[] rows){
+        System.arraycopy(rows, 0, this.rows, 0, this.rows.length);
+
+        postInvalidate();
+    }
+
+    // Same as UtilUI.highlightViews
+    public void highlight(ArrayList<Integer> indexes){
+        Arrays.fill(colors, NORMAL);
+        setColors(indexes, HIGHLIGHTED);
+
+        postInvalidate();
+    }
+
+    // Same as UtilUI.highlightCombined, highlighted elements are overwritten by sorted elements
+    // curSeqNo = -1 => all elements are sorted
+    public void highlightCombined(ArrayList<Pair<Integer, Integer>> sortedIndexes, int curSeqNo, ArrayList<Integer> indexes){
+        highlightCombined(sortedIndexes, curSeqNo, indexes, false);
+    }
+
+    // Same as UtilUI.highlightCombinedForInsertionSort, highlighted elements are kept over sorted elements
+    public void highlightCombinedForInsertionSort(ArrayList<Pair<Integer, Integer>> sortedIndexes, int curSeqNo, ArrayList<Integer> indexes){
+        highlightCombined(sortedIndexes, curSeqNo, indexes, true);
+    }
+
+    private void highlightCombined(ArrayList<Pair<Integer, Integer>> sortedIndexes, int curSeqNo,
+                                   ArrayList<Integer> indexes, boolean keepHighlighted){
+        if(curSeqNo == -1){
+            Arrays.fill(colors, DONE);
+            postInvalidate();
+            return;
+        }
+
+        Arrays.fill(colors, NORMAL);
+        setColors(indexes, HIGHLIGHTED);
+
+        for(Pair<Integer, Integer> pair : sortedIndexes){
+            if(curSeqNo >= pair.first){
+                if(!keepHighlighted || colors[pair.second] != HIGHLIGHTED){
+                    colors[pair.second] = DONE;
+                }
+            }
+        }
+
+        postInvalidate();
+    }
+
+    private void setColors(ArrayList<Integer> indexes, byte color){
+        if(indexes != null){
+            for(int i : indexes){
+                colors[i] = color;
+            }
+        }
+    }
+
+    // All bars of one color are drawn with a single drawLines call
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        if(data == null || data.length == 0)
+            return;
+
+        int length = data.length;
+        float barWidth = (float) getWidth() / length;
+        float rowHeight = (float) getHeight() / noOfRows;
+        float strokeWidth = barWidth > 3 ? barWidth - 2 : Math.max(1, barWidth);
+
+        Arrays.fill(noOfLines, 0);
+        for(int i=0;i<length;i++){
+            int color = colors[i];
+            float x = positions[i] * barWidth + barWidth / 2;
+            float bottom = (rows[i] + 1) * rowHeight;
+            float height = rowHeight * (((float) data[i] / max) * .75f + .20f);
+
+            float[] colorLines = lines[color];
+            int index = 4 * noOfLines[color];
+            colorLines[index] = x;
+            colorLines[index + 1] = bottom;
+            colorLines[index + 2] = x;
+            colorLines[index + 3] = bottom - height;
+            noOfLines[color]++;
+        }
+
+        for(int color=0;color<paints.length;color++){
+            if(noOfLines[color] > 0){
+                paints[color].setStrokeWidth(strokeWidth);
+                canvas.drawLines(lines[color], 0, 4 * noOfLines[color], paints[color]);
+            }
+        }
+    }
+
+    private static Paint getPaint(int color){
+        Paint paint = new Paint();
+        paint.setColor(color);
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeCap(Paint.Cap.BUTT);
+
+        return paint;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+// SortingEngine records animation steps of a sorting algorithm and plays them
+// A step is recorded as beginStep(), any no of move(), highlight() and pointer() calls, then endStep()
+// Moves are stored as primitive opcodes and applied by a single interpreter for all algorithms
+// Implemented by SortingRecorder, a new algorithm only needs an Info class for its states and infos
+public interface SortingEngine {
+    // Opcodes of move(), same as AnimationDirection ordinals
+    int OP_UP = 1;
+    int OP_RIGHT = 2;
+    int OP_DOWN = 3;
+    int OP_LEFT = 4;
+
+    void beginStep(String state, String info);
+
+    // info is formatted from infoId and infoArgs only when the step is displayed
+    void beginStep(String state, int infoId, int... infoArgs);
+
+    // Moves element at index by times rows [ OP_UP, OP_DOWN ] or columns [ OP_LEFT, OP_RIGHT ]
+    // Moves of an element are applied in the order they are recorded
+    void move(int index, int opcode, int times);
+
+    void highlight(int... indexes);
+
+    void pointer(int index, String pointer);
+
+    void endStep();
+
+    // No of recorded steps
+    int getSize();
+
+    boolean forward();
+
+    boolean backward();
+
+    // Jumps directly to step seqNo [ 0, getSize() ]
+    void seek(int seqNo);
+}
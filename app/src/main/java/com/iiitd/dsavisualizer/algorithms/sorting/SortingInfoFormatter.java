@@ -0,0 +1,7 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+// Formats the info text of a SortingAnimationState from its infoId and infoArgs
+// Implemented by each sorting algorithm's Info class, info is only formatted when a state is displayed
+public interface SortingInfoFormatter {
+    String getInfo(int infoId, int[] infoArgs);
+}
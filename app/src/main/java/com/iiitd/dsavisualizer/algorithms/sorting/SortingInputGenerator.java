@@ -0,0 +1,167 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Generates input arrays of any size for sorting algorithms and benchmarks
+// Arrays are seeded, the same distribution, size, bound and seed always give the same array
+// so best and worst cases of an algorithm can be shown again on exactly the same input
+public class SortingInputGenerator {
+    public static final int MAX_SEED = 1000000;             // random seeds are in [ 0, MAX_SEED ), short enough to type
+    public static final int NEARLY_SORTED_FRACTION = 10;    // size / NEARLY_SORTED_FRACTION swaps, at least 1
+    public static final int FEW_UNIQUE_VALUES = 4;
+    public static final int SAWTOOTH_TEETH = 4;
+    public static final double ZIPF_EXPONENT = 1.0;
+
+    // Array size of each step of the array size sliders, sizes above AppSettings.MAX_VIEW_ELEMENTS are drawn as bars
+    // Sliders of quadratic sorts stop at AppSettings.MAX_QUADRATIC_ELEMENTS
+    public static final int[] ARRAY_SIZES = new int[]{
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+            32, 64, 128, 256, 512, 1000, 2500, 5000, 10000
+    };
+
+    // size elements in [ 1, bound ] of distribution, with the default parameters of each distribution
+    public static int[] generate(InputDistribution distribution, int size, int bound, long seed){
+        Random random = new Random(seed);
+        switch (distribution){
+            case SORTED:
+                return sorted(size, bound, random);
+            case REVERSED:
+                return reversed(size, bound, random);
+            case NEARLY_SORTED:
+                return nearlySorted(size, bound, Math.max(1, size / NEARLY_SORTED_FRACTION), random);
+            case FEW_UNIQUE:
+                return fewUnique(size, bound, FEW_UNIQUE_VALUES, random);
+            case ORGAN_PIPE:
+                return organPipe(size, bound, random);
+            case SAWTOOTH:
+                return sawtooth(size, bound, SAWTOOTH_TEETH, random);
+            case ZIPF:
+                return zipf(size, bound, ZIPF_EXPONENT, random);
+            default:
+                return random(size, bound, random);
+        }
+    }
+
+    // Array size for progress of an array size slider
+    public static int getArraySize(int progress){
+        return ARRAY_SIZES[Math.max(0, Math.min(progress, ARRAY_SIZES.length - 1))];
+    }
+
+    // Seed typed by the user, empty or bad text => a new random seed
+    public static long parseSeed(String text, Random random){
+        try {
+            return Long.parseLong(text.trim());
+        }
+        catch (NumberFormatException e){
+            return random.nextInt(MAX_SEED);
+        }
+    }
+
+    public static int[] random(int size, int bound, Random random){
+        int[] data = new int[size];
+        for(int i=0;i<size;i++){
+            data[i] = random.nextInt(bound) + 1;
+        }
+
+        return data;
+    }
+
+    public static int[] sorted(int size, int bound, Random random){
+        int[] data = random(size, bound, random);
+        Arrays.sort(data);
+
+        return data;
+    }
+
+    public static int[] reversed(int size, int bound, Random random){
+        int[] data = sorted(size, bound, random);
+        for(int i=0, j=size-1;i<j;i++,j--){
+            swap(data, i, j);
+        }
+
+        return data;
+    }
+
+    // Sorted, then swaps random pairs of elements
+    public static int[] nearlySorted(int size, int bound, int swaps, Random random){
+        int[] data = sorted(size, bound, random);
+        if(size < 2)
+            return data;
+
+        for(int k=0;k<swaps;k++){
+            swap(data, random.nextInt(size), random.nextInt(size));
+        }
+
+        return data;
+    }
+
+    // Every element is one of noOfValues random values
+    public static int[] fewUnique(int size, int bound, int noOfValues, Random random){
+        int[] values = random(Math.max(1, noOfValues), bound, random);
+        int[] data = new int[size];
+        for(int i=0;i<size;i++){
+            data[i] = values[random.nextInt(values.length)];
+        }
+
+        return data;
+    }
+
+    // Smaller half of sorted values ascending from the left, larger half descending to the right
+    public static int[] organPipe(int size, int bound, Random random){
+        int[] sorted = sorted(size, bound, random);
+        int[] data = new int[size];
+        int left = 0;
+        int right = size-1;
+        for(int i=0;i<size;i++){
+            if(i % 2 == 0){
+                data[left++] = sorted[i];
+            }
+            else{
+                data[right--] = sorted[i];
+            }
+        }
+
+        return data;
+    }
+
+    // noOfTeeth runs of random values, each run sorted ascending
+    public static int[] sawtooth(int size, int bound, int noOfTeeth, Random random){
+        int[] data = random(size, bound, random);
+        int toothSize = Math.max(1, (size + noOfTeeth - 1) / noOfTeeth);
+        for(int start=0;start<size;start+=toothSize){
+            Arrays.sort(data, start, Math.min(size, start + toothSize));
+        }
+
+        return data;
+    }
+
+    // Value v in [ 1, bound ] is picked with probability proportional to 1 / v^exponent
+    public static int[] zipf(int size, int bound, double exponent, Random random){
+        double[] cumulative = new double[bound];
+        double total = 0;
+        for(int v=1;v<=bound;v++){
+            total += 1 / Math.pow(v, exponent);
+            cumulative[v-1] = total;
+        }
+
+        int[] data = new int[size];
+        for(int i=0;i<size;i++){
+            double x = random.nextDouble() * total;
+            int index = Arrays.binarySearch(cumulative, x);
+            if(index < 0){
+                index = -index - 1;
+            }
+            data[i] = Math.min(bound, index + 1);
+        }
+
+        return data;
+    }
+
+    private static void swap(int[] data, int i, int j){
+        int temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+// Thrown while recording, when a sequence grows beyond SortingAnimationStateList.MAX_SORTING_STATES or SortingAnimationStateList.MAX_SORTING_BYTES
+// Its message is shown to the user instead of the sequence
+public class SortingLimitException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public SortingLimitException(String message) {
+        super(message);
+    }
+}
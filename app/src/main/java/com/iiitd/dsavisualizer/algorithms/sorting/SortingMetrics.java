@@ -0,0 +1,210 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import java.util.Locale;
+
+// Operation counts, memory and generation time of a single run of a sorting algorithm
+// Counters are plain fields, only the thread running sort() reads and writes them while it runs
+// Other threads [ race mode ] read getSnapshot(), published every PUBLISH_INTERVAL steps and by stop()
+// Counters are sampled after every recorded step [ record() is called by SortingRecorder.endStep() ]
+// so they can be plotted against the step index, see SortingMetricsView
+public class SortingMetrics {
+    // Values of a history sample
+    public static final int STEP = 0;
+    public static final int COMPARISONS = 1;
+    public static final int SWAPS = 2;
+    public static final int READS = 3;
+    public static final int WRITES = 4;
+    public static final int AUX_MEMORY = 5;
+    public static final int DEPTH = 6;
+    public static final int NO_OF_VALUES = 7;
+
+    // Max samples kept, every other sample is dropped when full, a plot needs about one sample per pixel
+    public static final int MAX_HISTORY = 2048;
+    // Steps between two snapshots published for other threads
+    public static final int PUBLISH_INTERVAL = 256;
+
+    public int comparisons;
+    public int swaps;
+    public int reads;                       // array reads, including reads of auxiliary arrays
+    public int writes;                      // array writes, including writes to auxiliary arrays
+    public int auxMemory;                   // elements in auxiliary arrays now, e.g. L and R of MergeSort.merge()
+    public int auxMemoryPeak;
+    public int depth;                       // recursion depth now, 0 => not in a recursive call
+    public int maxDepth;
+    private volatile long startTime;        // System.nanoTime() when sort() started
+    private volatile long endTime;          // System.nanoTime() when sort() ended, 0 => still running
+    private volatile int[] snapshot;        // NO_OF_VALUES ints, a new array every time it is published
+
+    private int[] history;                  // NO_OF_VALUES ints per sample
+    private int historySize;                // no of samples
+    private int historyInterval;            // a sample is kept every historyInterval steps
+    private int lastStep;
+
+    public SortingMetrics() {
+        this.comparisons = 0;
+        this.swaps = 0;
+        this.reads = 0;
+        this.writes = 0;
+        this.auxMemory = 0;
+        this.auxMemoryPeak = 0;
+        this.depth = 0;
+        this.maxDepth = 0;
+        this.startTime = 0;
+        this.endTime = 0;
+        this.snapshot = new int[NO_OF_VALUES];
+        this.history = new int[NO_OF_VALUES * MAX_HISTORY];
+        this.historySize = 0;
+        this.historyInterval = 1;
+        this.lastStep = 0;
+    }
+
+    public void start(){
+        historySize = 0;
+        historyInterval = 1;
+        lastStep = 0;
+        endTime = 0;
+        startTime = System.nanoTime();
+        addSample(0);
+        publish(0);
+    }
+
+    // Final counters are always kept as the last sample
+    public void stop(){
+        if(historySize > 0 && history[NO_OF_VALUES * (historySize-1) + STEP] == lastStep){
+            historySize--;
+        }
+        addSample(lastStep);
+        publish(lastStep);
+        endTime = System.nanoTime();
+    }
+
+    public boolean isCompleted(){
+        return endTime != 0;
+    }
+
+    // n elements are allocated in auxiliary arrays
+    public void allocate(int n){
+        auxMemory += n;
+        if(auxMemory > auxMemoryPeak){
+            auxMemoryPeak = auxMemory;
+        }
+    }
+
+    public void free(int n){
+        auxMemory -= n;
+    }
+
+    // Called at the start and end of every recursive call
+    public void enter(){
+        depth++;
+        if(depth > maxDepth){
+            maxDepth = depth;
+        }
+    }
+
+    public void exit(){
+        depth--;
+    }
+
+    // Samples counters after step no of steps are recorded
+    void record(int step){
+        lastStep = step;
+        if(step % historyInterval == 0){
+            addSample(step);
+        }
+        if(step % PUBLISH_INTERVAL == 0){
+            publish(step);
+        }
+    }
+
+    // Copies counters into a new snapshot, so a reader never sees a partly written one
+    private void publish(int step){
+        int[] values = new int[NO_OF_VALUES];
+        values[STEP] = step;
+        values[COMPARISONS] = comparisons;
+        values[SWAPS] = swaps;
+        values[READS] = reads;
+        values[WRITES] = writes;
+        values[AUX_MEMORY] = auxMemory;
+        values[DEPTH] = depth;
+        snapshot = values;
+    }
+
+    // Counters at the last published step, indexed like a history sample [ STEP, COMPARISONS, ... DEPTH ]
+    // Safe to read from any thread, final counters once isCompleted()
+    public int[] getSnapshot(){
+        return snapshot;
+    }
+
+    private void addSample(int step){
+        // Full, keeps samples of every 2 * historyInterval steps
+        if(historySize == MAX_HISTORY){
+            historyInterval *= 2;
+            int noOfSamples = 0;
+            for(int i=0;i<historySize;i++){
+                if(history[NO_OF_VALUES * i + STEP] % historyInterval == 0){
+                    System.arraycopy(history, NO_OF_VALUES * i, history, NO_OF_VALUES * noOfSamples, NO_OF_VALUES);
+                    noOfSamples++;
+                }
+            }
+            historySize = noOfSamples;
+        }
+
+        int index = NO_OF_VALUES * historySize;
+        history[index + STEP] = step;
+        history[index + COMPARISONS] = comparisons;
+        history[index + SWAPS] = swaps;
+        history[index + READS] = reads;
+        history[index + WRITES] = writes;
+        history[index + AUX_MEMORY] = auxMemory;
+        history[index + DEPTH] = depth;
+        historySize++;
+    }
+
+    // No of samples, complete only after sort() has ended
+    public int getHistorySize(){
+        return historySize;
+    }
+
+    // value [ STEP, COMPARISONS, ... DEPTH ] of sample [ 0, getHistorySize() )
+    public int getHistory(int sample, int value){
+        return history[NO_OF_VALUES * sample + value];
+    }
+
+    // Max of value over all samples
+    public int getHistoryMax(int value){
+        int max = 0;
+        for(int i=0;i<historySize;i++){
+            max = Math.max(max, history[NO_OF_VALUES * i + value]);
+        }
+
+        return max;
+    }
+
+    // Wall clock generation time in ms, up to now if sort() is still running
+    public double getGenerationTime(){
+        if(startTime == 0)
+            return 0;
+
+        long end = endTime == 0 ? System.nanoTime() : endTime;
+        return (end - startTime) / 1000000.0;
+    }
+
+    // Shown in the info dialog of all sorting algorithms
+    public String getOperationsString(){
+        return String.format(Locale.getDefault(), "Swaps %d | Reads %d | Writes %d", swaps, reads, writes);
+    }
+
+    public String getMemoryString(){
+        return String.format(Locale.getDefault(), "Aux Peak %d | Max Depth %d | %.2f ms",
+                auxMemoryPeak, maxDepth, getGenerationTime());
+    }
+
+    @Override
+    public String toString() {
+        return "comparisons = " + comparisons + ", swaps = " + swaps + ", reads = " + reads + ", writes = " + writes
+                + ", auxPeak = " + auxMemoryPeak + ", maxDepth = " + maxDepth
+                + ", time = " + String.format("%.2f", getGenerationTime()) + "ms";
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+// SortingMetricsView plots comparisons, swaps, reads and writes of a SortingMetrics against the step index
+// All counters share a single y axis, so their lines show the real cost of each operation relative to the others
+// A vertical line marks the current step of the sequence
+public class SortingMetricsView extends View {
+
+    private static final int[] VALUES = new int[]{
+            SortingMetrics.COMPARISONS, SortingMetrics.SWAPS, SortingMetrics.READS, SortingMetrics.WRITES};
+    private static final String[] LABELS = new String[]{"Comparisons", "Swaps", "Reads", "Writes"};
+
+    private SortingMetrics metrics;
+    private int curSeqNo;
+    private final Paint[] paints;
+    private final Paint markerPaint;
+    private float[] lines;              // {x0, y0, x1, y1, ...} of a single value
+
+    public SortingMetricsView(Context context) {
+        this(context, null);
+    }
+
+    public SortingMetricsView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        float density = context.getResources().getDisplayMetrics().density;
+        this.paints = new Paint[]{
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.dark), density),
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.opp), density),
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.base), density),
+                getPaint(UtilUI.getCurrentThemeColor(context, R.attr.medium), density)};
+        this.markerPaint = getPaint(UtilUI.getCurrentThemeColor(context, R.attr.light), density);
+        this.metrics = null;
+        this.curSeqNo = 0;
+        this.lines = new float[0];
+    }
+
+    // metrics = null => nothing is plotted, history is read only after sort() has ended
+    public void setMetrics(SortingMetrics metrics, int curSeqNo){
+        this.metrics = metrics != null && metrics.isCompleted() ? metrics : null;
+        this.curSeqNo = curSeqNo;
+
+        invalidate();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        if(metrics == null || metrics.getHistorySize() < 2)
+            return;
+
+        int noOfSamples = metrics.getHistorySize();
+        float width = getWidth();
+        float height = getHeight();
+        float textSize = paints[0].getTextSize();
+        float top = textSize * 1.5f;
+        float maxStep = Math.max(1, metrics.getHistory(noOfSamples - 1, SortingMetrics.STEP));
+        float max = 1;
+        for(int value : VALUES){
+            max = Math.max(max, metrics.getHistoryMax(value));
+        }
+
+        if(lines.length < 4 * (noOfSamples - 1)){
+            lines = new float[4 * (noOfSamples - 1)];
+        }
+
+        float x = curSeqNo / maxStep * width;
+        canvas.drawLine(x, top, x, height, markerPaint);
+
+        float legendX = 0;
+        for(int i=0;i<VALUES.length;i++){
+            int value = VALUES[i];
+            for(int sample=1;sample<noOfSamples;sample++){
+                int index = 4 * (sample - 1);
+                lines[index] = metrics.getHistory(sample - 1, SortingMetrics.STEP) / maxStep * width;
+                lines[index + 1] = height - metrics.getHistory(sample - 1, value) / max * (height - top);
+                lines[index + 2] = metrics.getHistory(sample, SortingMetrics.STEP) / maxStep * width;
+                lines[index + 3] = height - metrics.getHistory(sample, value) / max * (height - top);
+            }
+            canvas.drawLines(lines, 0, 4 * (noOfSamples - 1), paints[i]);
+
+            canvas.drawText(LABELS[i], legendX, textSize, paints[i]);
+            legendX += paints[i].measureText(LABELS[i]) + textSize;
+        }
+    }
+
+    private static Paint getPaint(int color, float density){
+        Paint paint = new Paint();
+        paint.setColor(color);
+        paint.setAntiAlias(true);
+        paint.setStrokeWidth(2 * density);
+        paint.setTextSize(12 * density);
+
+        return paint;
+    }
+
+}
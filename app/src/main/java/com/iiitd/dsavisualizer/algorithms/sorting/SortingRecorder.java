@@ -0,0 +1,229 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+
+// Records animation sequences of all Sorting Algorithms, without any View
+// Steps are recorded through the SortingEngine methods, applyInst() is the single interpreter of their opcodes
+// positions and rows of all elements are kept as keyframes every keyframeInterval states, used by seek()
+// Extended by SortingSequence, which also plays the sequence on views or a sortingBarView
+// Used directly by the sorting generators on a plain JVM [ benchmark module ]
+public class SortingRecorder implements SortingEngine {
+    public static final int MIN_KEYFRAME_INTERVAL = 64;
+
+    public int size;
+    public int curSeqNo;
+    public int[] positions;
+    public int[] rows;                              // element index -> row offset, changed by UP and DOWN
+    public SortingAnimationStateList sortingAnimationStates;
+    public SortingMetrics metrics;                  // sampled after every recorded step, if not null
+
+    private int keyframeInterval;
+    private final ArrayList<int[]> keyframePositions;
+    private final ArrayList<int[]> keyframeRows;
+    private int[] lastPositions;                    // positions after the last added state
+    private int[] lastRows;                         // rows after the last added state
+    private volatile boolean cancelled;             // set from the UI thread while recording in background [ SortingTask ]
+
+    // sortingInfoFormatter formats info of states which are added with an infoId
+    public SortingRecorder(SortingInfoFormatter sortingInfoFormatter) {
+        this.curSeqNo = 0;
+        this.size = 0;
+        this.sortingAnimationStates = new SortingAnimationStateList(sortingInfoFormatter);
+        this.keyframeInterval = MIN_KEYFRAME_INTERVAL;
+        this.keyframePositions = new ArrayList<>();
+        this.keyframeRows = new ArrayList<>();
+        this.metrics = null;
+        this.cancelled = false;
+    }
+
+    @Override
+    public void beginStep(String state, String info) {
+        checkCancelled();
+        sortingAnimationStates.beginStep(state, info);
+    }
+
+    @Override
+    public void beginStep(String state, int infoId, int... infoArgs) {
+        checkCancelled();
+        sortingAnimationStates.beginStep(state, infoId, infoArgs);
+    }
+
+    // Throws CancellationException from the next beginStep(), which stops the recording algorithm
+    public void cancel(){
+        cancelled = true;
+    }
+
+    private void checkCancelled(){
+        if(cancelled){
+            throw new CancellationException("sorting sequence cancelled");
+        }
+    }
+
+    @Override
+    public void move(int index, int opcode, int times) {
+        sortingAnimationStates.addMove(index, opcode, times);
+    }
+
+    @Override
+    public void highlight(int... indexes) {
+        for(int index : indexes){
+            sortingAnimationStates.addHighlight(index);
+        }
+    }
+
+    @Override
+    public void pointer(int index, String pointer) {
+        sortingAnimationStates.addPointer(index, pointer);
+    }
+
+    @Override
+    public void endStep() {
+        sortingAnimationStates.endStep();
+        size++;
+
+        if(lastPositions != null){
+            sortingAnimationStates.move(size-1, lastPositions, lastRows);
+            if(size % keyframeInterval == 0){
+                keyframePositions.add(lastPositions.clone());
+                keyframeRows.add(lastRows.clone());
+            }
+        }
+
+        if(metrics != null){
+            metrics.record(size);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean backward(){
+        if(size <= 0)
+            return false;
+
+        if(curSeqNo == 0)
+            return false;
+
+        beginBatch();
+        sortingAnimationStates.apply(curSeqNo-1, true, this);
+        endBatch();
+        curSeqNo--;
+        return true;
+    }
+
+    @Override
+    public boolean forward(){
+        if(size <= 0)
+            return false;
+
+        if(curSeqNo == size)
+            return false;
+
+        beginBatch();
+        sortingAnimationStates.apply(curSeqNo, false, this);
+        endBatch();
+        curSeqNo++;
+        return true;
+    }
+
+    // positions must hold the initial positions, before any state is added
+    // Keyframes take 2 * length ints each, so the interval grows with the no of elements
+    public void setPositions(int[] positions) {
+        this.positions = positions;
+        this.rows = new int[positions.length];
+        this.keyframeInterval = Math.max(MIN_KEYFRAME_INTERVAL, 4 * positions.length);
+        this.lastPositions = positions.clone();
+        this.lastRows = new int[positions.length];
+        this.keyframePositions.clear();
+        this.keyframeRows.clear();
+        this.keyframePositions.add(lastPositions.clone());
+        this.keyframeRows.add(lastRows.clone());
+    }
+
+    public void setMetrics(SortingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Moves element at index by a single opcode, SortingSequence also animates it
+    void applyInst(int index, int opcode, int times){
+        move(index, opcode, times, positions, rows);
+    }
+
+    // Called around the moves of a step played by forward() and backward()
+    void beginBatch(){
+    }
+
+    void endBatch(){
+    }
+
+    // Called once seek() has updated positions and rows
+    void jumpTo(){
+    }
+
+    // positions are updated for OP_LEFT and OP_RIGHT, rows for OP_UP and OP_DOWN
+    static void move(int index, int opcode, int times, int[] positions, int[] rows){
+        switch (opcode){
+            case OP_UP:
+                rows[index] -= times;
+                break;
+            case OP_RIGHT:
+                positions[index] += times;
+                break;
+            case OP_DOWN:
+                rows[index] += times;
+                break;
+            case OP_LEFT:
+                positions[index] -= times;
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Jumps directly to state seqNo [ 0, size ], elements are moved to their final place without intermediate animations
+    // Starts from the nearest keyframe at or before seqNo, so at most keyframeInterval states are replayed on arrays
+    // The first and the last state need no replay, the last positions and rows are kept by endStep()
+    @Override
+    public void seek(int seqNo){
+        if(positions == null || keyframePositions.isEmpty())
+            return;
+
+        seqNo = Math.max(0, Math.min(seqNo, size));
+        if(seqNo == size){
+            System.arraycopy(lastPositions, 0, positions, 0, positions.length);
+            System.arraycopy(lastRows, 0, rows, 0, rows.length);
+        }
+        else{
+            int keyframe = Math.min(seqNo / keyframeInterval, keyframePositions.size() - 1);
+            System.arraycopy(keyframePositions.get(keyframe), 0, positions, 0, positions.length);
+            System.arraycopy(keyframeRows.get(keyframe), 0, rows, 0, rows.length);
+            for(int i=keyframe*keyframeInterval;i<seqNo;i++){
+                sortingAnimationStates.move(i, positions, rows);
+            }
+        }
+        curSeqNo = seqNo;
+
+        jumpTo();
+    }
+
+    public String printAnimationStates() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for(SortingAnimationState sortingAnimationState : sortingAnimationStates){
+            stringBuilder.append(sortingAnimationState.toString());
+            stringBuilder.append("\n");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size + ", curSeqNo = " + curSeqNo + ", bytes = " + sortingAnimationStates.getNoOfBytes()
+                + "\n" + printAnimationStates();
+    }
+
+}
@@ -3,58 +3,119 @@ package com.iiitd.dsavisualizer.algorithms.sorting;
 import android.content.Context;
 import android.view.View;
 
+import com.iiitd.dsavisualizer.utility.Pair;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
 import java.util.ArrayList;
 
-// Abstract Class used by Sorting Algorithms for maintaining animation sequences
-// Sub-classes must provide definition for backward() and forward() methods.
-public abstract class SortingSequence {
+// Class used by all Sorting Algorithms for recording and playing animation sequences
+// Recording is done by SortingRecorder, moves of a played step are also animated here on views or the sortingBarView
+public class SortingSequence extends SortingRecorder {
 
-    public int size;
-    public int curSeqNo;
     public View[] views;
-    public int[] positions;
     public AnimateViews animateViews;
-    public ArrayList<SortingAnimationState> sortingAnimationStates;
-
-    public abstract boolean backward();
-    public abstract boolean forward();
+    public SortingBarView sortingBarView;         // not null when elements are drawn as bars, views is null then
 
-    public SortingSequence() {
-        this.curSeqNo = 0;
-        this.size = 0;
-        this.sortingAnimationStates = new ArrayList<>();
+    // sortingInfoFormatter formats info of states which are added with an infoId
+    public SortingSequence(SortingInfoFormatter sortingInfoFormatter) {
+        super(sortingInfoFormatter);
     }
 
     public void setAnimateViews(float height, float width, Context context) {
         this.animateViews = new AnimateViews(height, width, context);
     }
 
-    public void addAnimSeq(SortingAnimationState sortingAnimationState){
-        sortingAnimationStates.add(sortingAnimationState);
-        size++;
-    }
-
     public void setViews(View[] views) {
         this.views = views;
     }
 
-    public void setPositions(int[] positions) {
-        this.positions = positions;
+    public void setSortingBarView(SortingBarView sortingBarView) {
+        this.sortingBarView = sortingBarView;
+    }
+
+    // Moves element at index by a single opcode, on its view or on the sortingBarView
+    @Override
+    void applyInst(int index, int opcode, int times){
+        super.applyInst(index, opcode, times);
+
+        if(sortingBarView != null){
+            sortingBarView.setRow(index, rows[index]);
+        }
+        else{
+            animateViews.add(index, opcode, times);
+        }
     }
 
-    public String printAnimationStates() {
-        StringBuilder stringBuilder = new StringBuilder();
-        for(SortingAnimationState sortingAnimationState : sortingAnimationStates){
-            stringBuilder.append(sortingAnimationState.toString());
-            stringBuilder.append("\n");
+    // All moves of a step are animated together by animateViews
+    @Override
+    void beginBatch(){
+        if(sortingBarView == null && views != null){
+            animateViews.beginBatch(views);
         }
+    }
 
-        return stringBuilder.toString();
+    @Override
+    void endBatch(){
+        if(sortingBarView == null && views != null){
+            animateViews.endBatch();
+        }
     }
 
     @Override
-    public String toString() {
-        return "size = " + size + ", curSeqNo = " + curSeqNo + "\n" + printAnimationStates();
+    void jumpTo(){
+        if(sortingBarView != null){
+            sortingBarView.jumpTo(rows);
+        }
+        else{
+            animateViews.jumpTo(views, positions, rows);
+        }
+    }
+
+    // Highlighting helpers, same as UtilUI helpers for views, but also work with the sortingBarView
+
+    public void highlightViews(Context context, ArrayList<Integer> indexes){
+        if(sortingBarView != null){
+            sortingBarView.highlight(indexes);
+        }
+        else{
+            UtilUI.highlightViews(context, views, indexes);
+        }
+    }
+
+    public void highlightCombined(Context context, ArrayList<Pair<Integer, Integer>> sortedIndexes,
+                                  int curSeqNo, ArrayList<Integer> indexes){
+        if(sortingBarView != null){
+            sortingBarView.highlightCombined(sortedIndexes, curSeqNo, indexes);
+        }
+        else{
+            UtilUI.highlightCombined(context, sortedIndexes, views, curSeqNo, indexes);
+        }
+    }
+
+    public void highlightCombinedForInsertionSort(Context context, ArrayList<Pair<Integer, Integer>> sortedIndexes,
+                                                  int curSeqNo, ArrayList<Integer> indexes){
+        if(sortingBarView != null){
+            sortingBarView.highlightCombinedForInsertionSort(sortedIndexes, curSeqNo, indexes);
+        }
+        else{
+            UtilUI.highlightCombinedForInsertionSort(context, sortedIndexes, views, curSeqNo, indexes);
+        }
+    }
+
+    public void highlightSortedElements(Context context, ArrayList<Pair<Integer, Integer>> sortedIndexes, int curSeqNo){
+        if(sortingBarView != null){
+            sortingBarView.highlightCombined(sortedIndexes, curSeqNo, null);
+        }
+        else{
+            UtilUI.highlightSortedElements(context, sortedIndexes, views, curSeqNo);
+        }
+    }
+
+    // Pointers are not drawn on the sortingBarView, they are also in the info text
+    public void changePointers(ArrayList<Pair<Integer, String>> pointers){
+        if(sortingBarView == null){
+            UtilUI.changePointers(pointers, views);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// SortingTask records the sequence of a SortingBackend on a background thread, as GraphAlgorithm does for graphs
+// Large inputs record millions of steps, which must not block the UI thread
+// Only one sequence is recorded at a time, start() cancels the one still being recorded
+public class SortingTask {
+
+    // Single background thread used for recording sortingSequences
+    private static final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private SortingBackend sortingBackend;      // backend being recorded, null => none
+    private Future<?> future;
+
+    // Callbacks for a sequence recorded in background, called on the UI thread
+    public interface OnSortingTaskListener {
+        void onCompleted();
+        void onFailed(String message);
+    }
+
+    // sortingBackend must already be drawn, only its sort() runs in background
+    public void start(final SortingBackend sortingBackend, final OnSortingTaskListener listener){
+        cancel();
+        this.sortingBackend = sortingBackend;
+
+        this.future = executorService.submit(new Runnable() {
+            @Override
+            public void run() {
+                String message = null;
+                try {
+                    sortingBackend.sort();
+                }
+                catch (CancellationException e) {
+                    return;
+                }
+                catch (SortingLimitException e) {
+                    message = e.getMessage();
+                }
+                catch (Throwable throwable) {
+                    // A null message would be taken as completed
+                    message = throwable.getMessage() != null ? throwable.getMessage() : throwable.toString();
+                }
+
+                final String error = message;
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        // Ignore callbacks of an older, already replaced or cancelled backend
+                        if(SortingTask.this.sortingBackend != sortingBackend){
+                            return;
+                        }
+
+                        SortingTask.this.sortingBackend = null;
+                        SortingTask.this.future = null;
+                        if(error == null){
+                            listener.onCompleted();
+                        }
+                        else{
+                            listener.onFailed(error);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    // Stops recording the current sequence, its listener is never called
+    public void cancel(){
+        if(sortingBackend != null){
+            sortingBackend.getSequence().cancel();
+            sortingBackend = null;
+        }
+
+        if(future != null){
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    public boolean isRunning(){
+        return sortingBackend != null;
+    }
+
+}
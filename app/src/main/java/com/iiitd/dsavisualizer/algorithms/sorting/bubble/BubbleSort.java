@@ -2,51 +2,51 @@ package com.iiitd.dsavisualizer.algorithms.sorting.bubble;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.util.Pair;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.iiitd.dsavisualizer.R;
-import com.iiitd.dsavisualizer.algorithms.sorting.SortingAnimationState;
-import com.iiitd.dsavisualizer.algorithms.sorting.ElementAnimationData;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBarView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.algorithms.sorting.AnimationDirection;
-import com.iiitd.dsavisualizer.utility.Util;
+import com.iiitd.dsavisualizer.utility.Pair;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
 import java.util.ArrayList;
 import java.util.Random;
 
 // BubbleSort Backend
-public class BubbleSort {
+public class BubbleSort implements SortingBackend {
 
     final Context context;
     final int arraySize;
     int[] data;
-    BubbleSortData[] bubbleSortData;
     View[] views;
+    SortingBarView sortingBarView;
     int[] positions;
     final LinearLayout linearLayout;
-    BubbleSortSortingSequence sequence;
-    final Random random;
+    SortingSequence sequence;
+    final Random random;                    // generated data of the arraySize constructor, null => input is given
     float width;
     float height;
     int textSize;
     final boolean isRandomize;
     final int[] rawInput;
-    int comparisons;
-    final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+    final SortingMetrics metrics;
+    BubbleSortGenerator generator;
+    ArrayList<Pair<Integer, Integer>> sortedIndexes;
 
-    public BubbleSort(Context context, LinearLayout linearLayout, int arraySize) {
+    public BubbleSort(Context context, LinearLayout linearLayout, int arraySize, long seed) {
         this.context = context;
-        this.random = new Random();
+        this.random = new Random(seed);
         this.arraySize = arraySize;
         this.isRandomize = true;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         rawInput = null;
 
         init();
@@ -54,12 +54,11 @@ public class BubbleSort {
 
     public BubbleSort(Context context, LinearLayout linearLayout, int[] rawInput) {
         this.context = context;
-        this.random = new Random();
+        this.random = null;
         this.arraySize = rawInput.length;
         this.isRandomize = false;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         this.rawInput = rawInput;
 
         init();
@@ -81,7 +80,6 @@ public class BubbleSort {
         int MAX = 0;
 
         this.data = new int[arraySize];
-        this.bubbleSortData = new BubbleSortData[arraySize];
         this.views = new View[arraySize];
         this.positions = new int[arraySize];
         if(isRandomize){
@@ -97,10 +95,23 @@ public class BubbleSort {
             }
         }
 
+        // Too many elements for a View per element, all elements are drawn on a single SortingBarView
+        if(arraySize > AppSettings.MAX_VIEW_ELEMENTS){
+            this.views = null;
+            this.sortingBarView = SortingBarView.create(context, linearLayout, data, positions, Math.round(totalHeight / height));
+        }
+
         LinearLayout.LayoutParams layoutParams = new LinearLayout.LayoutParams(0, (int) height, 1);
         LayoutInflater vi = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
 
         for(int i=0;i<data.length;i++){
+            positions[i] = i;
+
+            // Elements are drawn as bars by sortingBarView
+            if(sortingBarView != null){
+                continue;
+            }
+
             float x = (float)data[i] / (float)MAX;
             float h = (x * .75f) + .20f;
 
@@ -114,81 +125,42 @@ public class BubbleSort {
             tv.getLayoutParams().height = (int) (height * h);
             tv.setBackground(UtilUI.getDrawable(context, AppSettings.ROUNDED_RECT_ELEMENT));
             linearLayout.addView(myView);
-
-            BubbleSortData mergeSortData1 = new BubbleSortData();
-            mergeSortData1.data = data[i];
-            mergeSortData1.index = i;
             views[i] = myView;
-            positions[i] = i;
-            bubbleSortData[i] = mergeSortData1;
         }
 
-        this.sequence = new BubbleSortSortingSequence();
+        this.sequence = new SortingSequence(BubbleSortInfo.sortingInfoFormatter);
         this.sequence.setViews(views);
         this.sequence.setPositions(positions);
+        this.sequence.setSortingBarView(sortingBarView);
         this.sequence.setAnimateViews(height, width, context);
+        this.sequence.setMetrics(metrics);
 
-        this.bubblesort();
+        this.generator = new BubbleSortGenerator(data, sequence, metrics);
+        this.sortedIndexes = generator.sortedIndexes;
     }
 
-    public void forward(){
-        sequence.forward();
+    // Records the complete sequence, may run on a worker thread
+    @Override
+    public void sort(){
+        generator.generate();
     }
 
-    public void backward(){
-        sequence.backward();
+    @Override
+    public SortingSequence getSequence() {
+        return sequence;
     }
 
-    private void bubblesort() {
-        SortingAnimationState sortingAnimationState = new SortingAnimationState(BubbleSortInfo.BS, BubbleSortInfo.getBubbleSortString());
-        for(int i=0;i<bubbleSortData.length;i++){
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(bubbleSortData[i].index, new Pair<>(AnimationDirection.NULL, 1)));
-            sortingAnimationState.addHighlightIndexes(bubbleSortData[i].index);
-        }
-        sequence.addAnimSeq(sortingAnimationState);
-        bubble(bubbleSortData);
+    @Override
+    public SortingMetrics getMetrics() {
+        return metrics;
     }
 
-    private void bubble(BubbleSortData[] arr){
-        int length = arr.length;
-        boolean flag = false;
-
-        for (int i = 0; i < length; i++) {
-            flag = false;
-
-            for (int j = 0; j < length - i - 1; j++) {
-                comparisons++;
-                if (arr[j].data > arr[j + 1].data) {
-                    SortingAnimationState sortingAnimationState = new SortingAnimationState(BubbleSortInfo.L_GREATER_R, BubbleSortInfo.getComparedString(arr[j].data, arr[j+1].data, j, j+1));
-                    sortingAnimationState.addHighlightIndexes(bubbleSortData[j].index, bubbleSortData[j+1].index);
-                    sortingAnimationState.addElementAnimationData(new ElementAnimationData(bubbleSortData[j].index, new Pair<>(AnimationDirection.RIGHT, 1)));
-                    sortingAnimationState.addElementAnimationData(new ElementAnimationData(bubbleSortData[j+1].index, new Pair<>(AnimationDirection.LEFT, 1)));
-                    sequence.addAnimSeq(sortingAnimationState);
-
-                    Util.swap(arr[j], arr[j + 1]);
-                    flag = true;
-                }
-                else{
-                    SortingAnimationState sortingAnimationState = new SortingAnimationState(BubbleSortInfo.L_LESSEQUAL_R, BubbleSortInfo.getComparedString(arr[j].data, arr[j+1].data, j, j+1));
-                    sortingAnimationState.addHighlightIndexes(bubbleSortData[j].index, bubbleSortData[j+1].index);
-                    sortingAnimationState.addElementAnimationData(new ElementAnimationData(bubbleSortData[j].index, new Pair<>(AnimationDirection.NULL, 1)));
-                    sortingAnimationState.addElementAnimationData(new ElementAnimationData(bubbleSortData[j+1].index, new Pair<>(AnimationDirection.NULL, 1)));
-                    sequence.addAnimSeq(sortingAnimationState);
-                }
-
-            }
-
-            if(!flag){
-                SortingAnimationState sortingAnimationState = new SortingAnimationState(BubbleSortInfo.FLAG, BubbleSortInfo.getFlagString());
-                sequence.addAnimSeq(sortingAnimationState);
-                for(int k=0;k<length-i-1;k++){
-                    sortedIndexes.add(new Pair<>(sequence.sortingAnimationStates.size(), arr[k].index));
-                }
-                return;
-            }
+    public void forward(){
+        sequence.forward();
+    }
 
-            sortedIndexes.add(new Pair<>(sequence.sortingAnimationStates.size(), arr[length-i-1].index));
-        }
+    public void backward(){
+        sequence.backward();
     }
 
 }
\ No newline at end of file
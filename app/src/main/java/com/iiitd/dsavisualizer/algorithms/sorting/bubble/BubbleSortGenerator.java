@@ -0,0 +1,106 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.bubble;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingEngine;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingRecorder;
+import com.iiitd.dsavisualizer.utility.Pair;
+
+import java.util.ArrayList;
+
+// Records the sequence of BubbleSort on a SortingRecorder, without any View
+// Used by the BubbleSort backend, and directly on a plain JVM [ benchmark module ]
+public class BubbleSortGenerator {
+
+    final SortingRecorder sequence;
+    final SortingMetrics metrics;
+    final BubbleSortData[] bubbleSortData;
+    public final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+
+    // data[i] is the element with index i
+    public BubbleSortGenerator(int[] data, SortingRecorder sequence, SortingMetrics metrics) {
+        this.sequence = sequence;
+        this.metrics = metrics;
+        this.bubbleSortData = new BubbleSortData[data.length];
+        this.sortedIndexes = new ArrayList<>();
+
+        for(int i=0;i<data.length;i++){
+            BubbleSortData bubbleSortData1 = new BubbleSortData();
+            bubbleSortData1.data = data[i];
+            bubbleSortData1.index = i;
+            bubbleSortData[i] = bubbleSortData1;
+        }
+    }
+
+    // Records the complete sequence, may run on a worker thread
+    public void generate(){
+        metrics.start();
+        bubblesort();
+        metrics.stop();
+    }
+
+    private void bubblesort() {
+        sequence.beginStep(BubbleSortInfo.BS, BubbleSortInfo.getBubbleSortString());
+        for(int i=0;i<bubbleSortData.length;i++){
+            sequence.highlight(bubbleSortData[i].index);
+        }
+        sequence.endStep();
+        bubble(bubbleSortData);
+    }
+
+    private void bubble(BubbleSortData[] arr){
+        int length = arr.length;
+        boolean flag = false;
+
+        for (int i = 0; i < length; i++) {
+            flag = false;
+
+            for (int j = 0; j < length - i - 1; j++) {
+                metrics.comparisons++;
+                metrics.reads += 2;
+                if (arr[j].data > arr[j + 1].data) {
+                    sequence.beginStep(BubbleSortInfo.L_GREATER_R, BubbleSortInfo.INFO_COMPARED, arr[j].data, arr[j+1].data, j, j+1);
+                    sequence.highlight(bubbleSortData[j].index, bubbleSortData[j+1].index);
+                    sequence.move(bubbleSortData[j].index, SortingEngine.OP_RIGHT, 1);
+                    sequence.move(bubbleSortData[j+1].index, SortingEngine.OP_LEFT, 1);
+                    sequence.endStep();
+
+                    metrics.swaps++;
+                    metrics.reads += 2;
+                    metrics.writes += 2;
+                    swap(arr[j], arr[j + 1]);
+                    flag = true;
+                }
+                else{
+                    sequence.beginStep(BubbleSortInfo.L_LESSEQUAL_R, BubbleSortInfo.INFO_COMPARED, arr[j].data, arr[j+1].data, j, j+1);
+                    sequence.highlight(bubbleSortData[j].index, bubbleSortData[j+1].index);
+                    sequence.endStep();
+                }
+
+            }
+
+            if(!flag){
+                sequence.beginStep(BubbleSortInfo.FLAG, BubbleSortInfo.getFlagString());
+                sequence.endStep();
+                for(int k=0;k<length-i-1;k++){
+                    sortedIndexes.add(new Pair<>(sequence.size, arr[k].index));
+                }
+                return;
+            }
+
+            sortedIndexes.add(new Pair<>(sequence.size, arr[length-i-1].index));
+        }
+    }
+
+    // Swaps data and index of a and b
+    private static void swap(BubbleSortData a, BubbleSortData b){
+        int oldData = a.data;
+        int oldIndex = a.index;
+
+        a.data = b.data;
+        a.index = b.index;
+
+        b.data = oldData;
+        b.index = oldIndex;
+    }
+
+}
@@ -2,50 +2,51 @@ package com.iiitd.dsavisualizer.algorithms.sorting.insertion;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.util.Pair;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.iiitd.dsavisualizer.R;
-import com.iiitd.dsavisualizer.algorithms.sorting.SortingAnimationState;
-import com.iiitd.dsavisualizer.algorithms.sorting.ElementAnimationData;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBarView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.algorithms.sorting.AnimationDirection;
+import com.iiitd.dsavisualizer.utility.Pair;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
 import java.util.ArrayList;
 import java.util.Random;
 
 // InsertionSort Backend
-public class InsertionSort {
+public class InsertionSort implements SortingBackend {
 
     final Context context;
     final int arraySize;
     int[] data;
-    InsertionSortData[] insertionSortData;
     View[] views;
+    SortingBarView sortingBarView;
     int[] positions;
     final LinearLayout linearLayout;
-    InsertionSortSortingSequence sequence;
-    final Random random;
+    SortingSequence sequence;
+    final Random random;                    // generated data of the arraySize constructor, null => input is given
     float width;
     float height;
     int textSize;
     final boolean isRandomize;
     final int[] rawInput;
-    int comparisons;
-    final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+    final SortingMetrics metrics;
+    InsertionSortGenerator generator;
+    ArrayList<Pair<Integer, Integer>> sortedIndexes;
 
-    public InsertionSort(Context context, LinearLayout linearLayout, int arraySize) {
+    public InsertionSort(Context context, LinearLayout linearLayout, int arraySize, long seed) {
         this.context = context;
-        this.random = new Random();
+        this.random = new Random(seed);
         this.arraySize = arraySize;
         this.isRandomize = true;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         rawInput = null;
 
         init();
@@ -53,12 +54,11 @@ public class InsertionSort {
 
     public InsertionSort(Context context, LinearLayout linearLayout, int[] rawInput) {
         this.context = context;
-        this.random = new Random();
+        this.random = null;
         this.arraySize = rawInput.length;
         this.isRandomize = false;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         this.rawInput = rawInput;
 
         init();
@@ -80,7 +80,6 @@ public class InsertionSort {
         int MAX = 0;
 
         this.data = new int[arraySize];
-        this.insertionSortData = new InsertionSortData[arraySize];
         this.views = new View[arraySize];
         this.positions = new int[arraySize];
         if(isRandomize){
@@ -96,10 +95,23 @@ public class InsertionSort {
             }
         }
 
+        // Too many elements for a View per element, all elements are drawn on a single SortingBarView
+        if(arraySize > AppSettings.MAX_VIEW_ELEMENTS){
+            this.views = null;
+            this.sortingBarView = SortingBarView.create(context, linearLayout, data, positions, Math.round(totalHeight / height));
+        }
+
         LinearLayout.LayoutParams layoutParams = new LinearLayout.LayoutParams(0, (int) height, 1);
         LayoutInflater vi = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
 
         for(int i=0;i<data.length;i++){
+            positions[i] = i;
+
+            // Elements are drawn as bars by sortingBarView
+            if(sortingBarView != null){
+                continue;
+            }
+
             float x = (float)data[i] / (float)MAX;
             float h = (x * .75f) + .20f;
 
@@ -113,91 +125,42 @@ public class InsertionSort {
             tv.getLayoutParams().height = (int) (height * h);
             tv.setBackground(UtilUI.getDrawable(context, AppSettings.ROUNDED_RECT_ELEMENT));
             linearLayout.addView(myView);
-
-            InsertionSortData mergeSortData1 = new InsertionSortData();
-            mergeSortData1.data = data[i];
-            mergeSortData1.index = i;
             views[i] = myView;
-            positions[i] = i;
-            insertionSortData[i] = mergeSortData1;
         }
 
-        this.sequence = new InsertionSortSortingSequence();
+        this.sequence = new SortingSequence(InsertionSortInfo.sortingInfoFormatter);
         this.sequence.setViews(views);
         this.sequence.setPositions(positions);
+        this.sequence.setSortingBarView(sortingBarView);
         this.sequence.setAnimateViews(height, width, context);
+        this.sequence.setMetrics(metrics);
 
-        this.insertionsort();
+        this.generator = new InsertionSortGenerator(data, sequence, metrics);
+        this.sortedIndexes = generator.sortedIndexes;
     }
 
-    public void forward(){
-        sequence.forward();
+    // Records the complete sequence, may run on a worker thread
+    @Override
+    public void sort(){
+        generator.generate();
     }
 
-    public void backward(){
-        sequence.backward();
+    @Override
+    public SortingSequence getSequence() {
+        return sequence;
     }
 
-    private void insertionsort() {
-        SortingAnimationState sortingAnimationState = new SortingAnimationState(InsertionSortInfo.IS, InsertionSortInfo.getInsertionSortString());
-        for(int i = 0; i< insertionSortData.length; i++){
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(insertionSortData[i].index, new Pair<>(AnimationDirection.NULL, 1)));
-            sortingAnimationState.addHighlightIndexes(insertionSortData[i].index);
-        }
-        sequence.addAnimSeq(sortingAnimationState);
-        insertion(insertionSortData);
+    @Override
+    public SortingMetrics getMetrics() {
+        return metrics;
     }
 
-    private void insertion(InsertionSortData[] arr){
-        int length = arr.length;
-        sortedIndexes.add(new Pair<>(sequence.sortingAnimationStates.size(), arr[0].index));
-        for (int i = 1; i < length; i++) {
-            InsertionSortData insertionSortData = arr[i];
-            int j = i - 1;
-
-            SortingAnimationState sortingAnimationState = new SortingAnimationState(InsertionSortInfo.VAL, InsertionSortInfo.getValString(insertionSortData.data, j));
-            sortingAnimationState.addHighlightIndexes(insertionSortData.index);
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(insertionSortData.index,
-                    new Pair<>(AnimationDirection.DOWN, 1)));
-            sequence.addAnimSeq(sortingAnimationState);
-
-            while (j >= 0) {
-                comparisons++;
-                if(arr[j].data > insertionSortData.data) {
-
-                    SortingAnimationState sortingAnimationState1 = new SortingAnimationState(InsertionSortInfo.L_GREATER_R,
-                            InsertionSortInfo.getComparedString(arr[j].data, insertionSortData.data, j, j+1));
-                    sortingAnimationState1.addHighlightIndexes(insertionSortData.index);
-                    sortingAnimationState1.addHighlightIndexes(arr[j].index);
-                    sortingAnimationState1.addElementAnimationData(new ElementAnimationData(arr[j].index,
-                            new Pair<>(AnimationDirection.RIGHT, 1)));
-                    sortingAnimationState1.addElementAnimationData(new ElementAnimationData(insertionSortData.index,
-                            new Pair<>(AnimationDirection.LEFT, 1)));
-                    sequence.addAnimSeq(sortingAnimationState1);
-
-                    arr[j + 1] = arr[j];
-                    j--;
-                }
-                else{
-                    SortingAnimationState sortingAnimationState1 = new SortingAnimationState(InsertionSortInfo.L_LESSEQUAL_R,
-                            InsertionSortInfo.getComparedString(arr[j].data, insertionSortData.data, j, insertionSortData.index));
-                    sortingAnimationState1.addHighlightIndexes(insertionSortData.index);
-                    sortingAnimationState1.addHighlightIndexes(arr[j].index);
-                    sequence.addAnimSeq(sortingAnimationState1);
-
-                    break;
-                }
-            }
-
-            SortingAnimationState sortingAnimationState2 = new SortingAnimationState(InsertionSortInfo.VAL_U, InsertionSortInfo.getValUString());
-            sortingAnimationState2.addElementAnimationData(new ElementAnimationData(insertionSortData.index,
-                    new Pair<>(AnimationDirection.UP, 1)));
-            sequence.addAnimSeq(sortingAnimationState2);
-            sortedIndexes.add(new Pair<>(sequence.sortingAnimationStates.size(), insertionSortData.index));
-
-            arr[j + 1] = insertionSortData;
+    public void forward(){
+        sequence.forward();
+    }
 
-        }
+    public void backward(){
+        sequence.backward();
     }
 
 }
\ No newline at end of file
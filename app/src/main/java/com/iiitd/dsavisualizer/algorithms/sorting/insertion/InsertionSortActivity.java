@@ -16,6 +16,7 @@ import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.ScrollView;
 import android.widget.SeekBar;
+import android.widget.Spinner;
 import android.widget.Switch;
 import android.widget.TextView;
 
@@ -27,16 +28,21 @@ import androidx.drawerlayout.widget.DrawerLayout;
 import com.github.florent37.viewanimator.AnimationListener;
 import com.github.florent37.viewanimator.ViewAnimator;
 import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.algorithms.sorting.InputDistribution;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInputGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetricsView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingTask;
 import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortActivity;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Random;
+
 
 // InsertionSort FrontEnd
 public class InsertionSortActivity extends BaseActivity {
@@ -51,6 +57,9 @@ public class InsertionSortActivity extends BaseActivity {
     ImageButton btn_forward;
     SeekBar sb_animspeed;
     TextView tv_seqno;
+    SeekBar sb_seqno;
+    ImageButton btn_tostart;
+    ImageButton btn_toend;
     TextView tv_info;
     ConstraintLayout cl_psuedocode;
     ScrollView sv_psuedocode;
@@ -64,8 +73,11 @@ public class InsertionSortActivity extends BaseActivity {
     Button btn_clear;
     Switch sw_randomarray;
     EditText et_customarray;
+    Spinner sp_distribution;
+    EditText et_seed;
 
     InsertionSort insertionSort;
+    final SortingTask sortingTask = new SortingTask();
     TextView[] textViews;
 
     ImageButton btn_closenav;
@@ -76,9 +88,9 @@ public class InsertionSortActivity extends BaseActivity {
     ConstraintLayout cl_mergesort;
     ConstraintLayout cl_quicksort;
 
-    Timer timer = new Timer();
     boolean isAutoPlay = false;
     boolean isRandomArray = true;
+    final Random random = new Random();
     int autoAnimSpeed = AppSettings.DEFAULT_ANIM_SPEED;
     final int LAYOUT_MAIN = R.layout.activity_sorting;
     final int LAYOUT_LEFT = R.layout.navigation_sorting;
@@ -104,6 +116,9 @@ public class InsertionSortActivity extends BaseActivity {
         btn_backward = v_main.findViewById(R.id.btn_backward);
         btn_forward = v_main.findViewById(R.id.btn_forward);
         tv_seqno = v_main.findViewById(R.id.tv_seqno);
+        sb_seqno = v_main.findViewById(R.id.sb_seqno);
+        btn_tostart = v_main.findViewById(R.id.btn_tostart);
+        btn_toend = v_main.findViewById(R.id.btn_toend);
         tv_info = v_main.findViewById(R.id.tv_info);
         cl_psuedocode = v_main.findViewById(R.id.cl_psuedocode);
         sv_psuedocode = v_main.findViewById(R.id.sv_psuedocode);
@@ -117,6 +132,8 @@ public class InsertionSortActivity extends BaseActivity {
         btn_clear = v_menu_right.findViewById(R.id.btn_clear);
         sw_randomarray = v_menu_right.findViewById(R.id.sw_randomarray);
         et_customarray = v_menu_right.findViewById(R.id.et_customarray);
+        sp_distribution = v_menu_right.findViewById(R.id.sp_distribution);
+        et_seed = v_menu_right.findViewById(R.id.et_seed);
 
         btn_closenav = v_menu_left.findViewById(R.id.btn_closenav);
         cl_home = v_menu_left.findViewById(R.id.cl_home);
@@ -126,7 +143,7 @@ public class InsertionSortActivity extends BaseActivity {
         cl_mergesort = v_menu_left.findViewById(R.id.cl_mergesort);
         cl_quicksort = v_menu_left.findViewById(R.id.cl_quicksort);
 
-        tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress() + 1));
+        tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
 
         initOnBoarding();
         initPseudoCode();
@@ -141,7 +158,7 @@ public class InsertionSortActivity extends BaseActivity {
                     isRandomArray = true;
                     et_customarray.setError(null);
                     sw_randomarray.setText(sw_randomarray.getTextOn());
-                    tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress()+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
                 }
                 else {
                     isRandomArray = false;
@@ -150,7 +167,7 @@ public class InsertionSortActivity extends BaseActivity {
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_QUADRATIC_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -184,7 +201,7 @@ public class InsertionSortActivity extends BaseActivity {
                     if (s != null || !s.toString().isEmpty()) {
                         String[] customInput = s.toString().split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_QUADRATIC_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -209,32 +226,16 @@ public class InsertionSortActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                autoAnimSpeed = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                autoAnimSpeed = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                playbackEngine.setStepDuration(autoAnimSpeed);
             }
 
             @Override
             public void onStartTrackingTouch(SeekBar seekBar) {}
 
             @Override
-            public void onStopTrackingTouch(SeekBar seekBar) {
-               if (insertionSort != null && isAutoPlay) {
-                    timer.cancel();
-                    timer = new Timer();
-                    timer.schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            if (insertionSort.sequence.curSeqNo < insertionSort.sequence.size)
-                                onForwardClick();
-                            else {
-                                isAutoPlay = false;
-                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                timer.cancel();
-                            }
-                        }
-                    }, 0, autoAnimSpeed);
-                }
-            }
+            public void onStopTrackingTouch(SeekBar seekBar) {}
         });
 
         // Auto Animation Play/Pause Button
@@ -243,26 +244,33 @@ public class InsertionSortActivity extends BaseActivity {
             public void onClick(View v) {
                 if(insertionSort != null){
                     if(isAutoPlay){
-                        isAutoPlay = false;
-                        btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                        timer.cancel();
+                        playbackEngine.stop();
                     }
                     else{
                         isAutoPlay = true;
                         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PAUSE_BUTTON));
-                        timer = new Timer();
-                        timer.schedule(new TimerTask() {
+                        playbackEngine.start(autoAnimSpeed, new PlaybackEngine.OnPlaybackListener() {
+                            @Override
+                            public boolean onStep() {
+                                if(insertionSort == null)
+                                    return false;
+
+                                return insertionSort.sequence.forward() && insertionSort.sequence.curSeqNo < insertionSort.sequence.size;
+                            }
+
                             @Override
-                            public void run() {
-                                if (insertionSort.sequence.curSeqNo < insertionSort.sequence.size)
-                                    onForwardClick();
-                                else {
-                                    isAutoPlay = false;
-                                    btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                    timer.cancel();
+                            public void onFrame() {
+                                if(insertionSort != null){
+                                    showState(insertionSort.sequence.curSeqNo);
                                 }
                             }
-                        }, 0, autoAnimSpeed);
+
+                            @Override
+                            public void onStop() {
+                                isAutoPlay = false;
+                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                            }
+                        });
                     }
                 }
             }
@@ -274,7 +282,7 @@ public class InsertionSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onBackwardClick();
             }
         });
@@ -285,11 +293,54 @@ public class InsertionSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onForwardClick();
             }
         });
 
+        // Jumps to the first or the last step at once, without playing the steps in between
+        btn_tostart.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                onSeek(0);
+            }
+        });
+
+        btn_toend.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                if(insertionSort != null) {
+                    onSeek(insertionSort.sequence.size);
+                }
+            }
+        });
+
+        // Scrub Bar, jumps directly to the selected animation step
+        sb_seqno.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                if(fromUser){
+                    onSeek(progress);
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+            }
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
         // Info Button
         btn_info.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -302,14 +353,22 @@ public class InsertionSortActivity extends BaseActivity {
                 TextView tv_space = view.findViewById(R.id.tv_space);
                 TextView tv_stable = view.findViewById(R.id.tv_stable);
                 TextView tv_comparisons = view.findViewById(R.id.tv_comparisons);
+                TextView tv_operations = view.findViewById(R.id.tv_operations);
+                TextView tv_memory = view.findViewById(R.id.tv_memory);
+                SortingMetricsView smv_metrics = view.findViewById(R.id.smv_metrics);
                 ImageButton btn_close = view.findViewById(R.id.btn_close);
 
                 String comparisons = "-";
+                String operations = "-";
+                String memory = "-";
                 if(insertionSort != null) {
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
-                    comparisons = String.valueOf(insertionSort.comparisons);
+                    playbackEngine.stop();
+                    comparisons = String.valueOf(insertionSort.metrics.comparisons);
+                    operations = insertionSort.metrics.getOperationsString();
+                    memory = insertionSort.metrics.getMemoryString();
+                    smv_metrics.setMetrics(insertionSort.metrics, insertionSort.sequence.curSeqNo);
                 }
 
                 tv_name.setText(InsertionSortStats.name);
@@ -319,6 +378,8 @@ public class InsertionSortActivity extends BaseActivity {
                 UtilUI.setTextInBigONotation(tv_space, InsertionSortStats.space);
                 tv_stable.setText(InsertionSortStats.stable);
                 tv_comparisons.setText(comparisons);
+                tv_operations.setText(operations);
+                tv_memory.setText(memory);
 
                 final Dialog dialog = new Dialog(context);
                 dialog.setContentView(view);
@@ -338,7 +399,7 @@ public class InsertionSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(1);
             }
@@ -356,7 +417,7 @@ public class InsertionSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(2);
             }
@@ -383,7 +444,7 @@ public class InsertionSortActivity extends BaseActivity {
                 if(slideOffset >= 0.35){
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
+                    playbackEngine.stop();
                 }
             }
 
@@ -411,7 +472,7 @@ public class InsertionSortActivity extends BaseActivity {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
                 if(isRandomArray)
-                    tv_arraysize.setText(String.valueOf(progress+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(progress)));
             }
 
             @Override
@@ -425,21 +486,20 @@ public class InsertionSortActivity extends BaseActivity {
         btn_generate.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int arraySize = sb_arraysize.getProgress() + 1;
-                if(insertionSort != null){
-                    insertionSort.linearLayout.removeAllViews();
-                    insertionSort = null;
-                }
+                int arraySize = SortingInputGenerator.getArraySize(sb_arraysize.getProgress());
+                sortingTask.cancel();
+                ll_anim.removeAllViews();
+                insertionSort = null;
 
                 if(isRandomArray){
-                    insertionSort = new InsertionSort(context, ll_anim, arraySize);
+                    record(new InsertionSort(context, ll_anim, generateInput(arraySize)));
                 }
                 else {
                     String customArray = et_customarray.getText().toString();
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_QUADRATIC_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -449,7 +509,7 @@ public class InsertionSortActivity extends BaseActivity {
                                 for (int i = 0; i < data.length; i++) {
                                     data[i] = Integer.parseInt(customInput[i]);
                                 }
-                                insertionSort = new InsertionSort(context, ll_anim, data);
+                                record(new InsertionSort(context, ll_anim, data));
                             }
                             catch (NumberFormatException e){
                                 et_customarray.setError("Bad Input");
@@ -467,10 +527,9 @@ public class InsertionSortActivity extends BaseActivity {
         btn_clear.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-            if(insertionSort != null) {
-                insertionSort.linearLayout.removeAllViews();
-                insertionSort = null;
-            }
+            sortingTask.cancel();
+            ll_anim.removeAllViews();
+            insertionSort = null;
             initViews();
             }
         });
@@ -486,7 +545,7 @@ public class InsertionSortActivity extends BaseActivity {
                             cl_psuedocode.postDelayed(new Runnable() {
                                 @Override
                                 public void run() {
-                                    if(insertionSort != null){
+                                    if(insertionSort != null && insertionSort.views != null){
                                         int width = ll_anim.getWidth();
                                         int div = width / insertionSort.arraySize;
 
@@ -508,7 +567,7 @@ public class InsertionSortActivity extends BaseActivity {
                     cl_psuedocode.postDelayed(new Runnable() {
                         @Override
                         public void run() {
-                            if(insertionSort != null){
+                            if(insertionSort != null && insertionSort.views != null){
                                 int width = ll_anim.getWidth();
                                 int div = width / insertionSort.arraySize;
 
@@ -535,36 +594,53 @@ public class InsertionSortActivity extends BaseActivity {
 
     }
 
+    // Array of the selected input distribution, the seed used is shown in et_seed so the array can be generated again
+    private int[] generateInput(int arraySize){
+        InputDistribution distribution = InputDistribution.values()[sp_distribution.getSelectedItemPosition()];
+        long seed = SortingInputGenerator.parseSeed(et_seed.getText().toString(), random);
+        et_seed.setHint(getString(R.string.seed) + " " + seed);
+        return SortingInputGenerator.generate(distribution, arraySize, AppSettings.SORTING_ELEMENT_BOUND, seed);
+    }
+
     private void onForwardClick(){
         if (insertionSort != null) {
             insertionSort.forward();
-            final int curSeqNo = insertionSort.sequence.curSeqNo;
+            showState(insertionSort.sequence.curSeqNo);
+        }
+    }
 
-            runOnUiThread(new Runnable() {
-                @Override
-                public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + insertionSort.sequence.sortingAnimationStates.size());
-                    if(curSeqNo < insertionSort.sequence.size) {
-                        String state = insertionSort.sequence.sortingAnimationStates.get(curSeqNo).state;
-                        if(InsertionSortInfo.map.containsKey(state)){
-                            Integer[] integers = InsertionSortInfo.map.get(state);
-                            UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
-                        }
-                        UtilUI.setText(tv_info, insertionSort.sequence.sortingAnimationStates.get(curSeqNo).info);
-                        UtilUI.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes,
-                                insertionSort.views, curSeqNo,
-                                insertionSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
-                    }
-                    else{
-                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
-                        UtilUI.setText(tv_info, "Array is sorted");
-                        UtilUI.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes,
-                                insertionSort.views, -1,
-                                null);
+    // Jumps directly to the animation step seqNo, used by the scrub bar
+    private void onSeek(int seqNo){
+        if (insertionSort != null) {
+            insertionSort.sequence.seek(seqNo);
+            showState(insertionSort.sequence.curSeqNo);
+        }
+    }
+
+    // Shows info, pseudocode and highlighted elements of the animation step curSeqNo
+    private void showState(final int curSeqNo){
+        runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, insertionSort.sequence.size);
+                if(curSeqNo < insertionSort.sequence.size) {
+                    String state = insertionSort.sequence.sortingAnimationStates.get(curSeqNo).state;
+                    if(InsertionSortInfo.map.containsKey(state)){
+                        Integer[] integers = InsertionSortInfo.map.get(state);
+                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
+                    UtilUI.setText(tv_info, insertionSort.sequence.sortingAnimationStates.get(curSeqNo).info);
+                    insertionSort.sequence.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes, curSeqNo,
+                            insertionSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
-            });
-        }
+                else{
+                    UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
+                    UtilUI.setText(tv_info, "Array is sorted");
+                    insertionSort.sequence.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes, -1,
+                            null);
+                }
+            }
+        });
     }
 
     private void onBackwardClick(){
@@ -574,7 +650,7 @@ public class InsertionSortActivity extends BaseActivity {
             runOnUiThread(new Runnable() {
                 @Override
                 public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + insertionSort.sequence.sortingAnimationStates.size());
+                    UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, insertionSort.sequence.size);
                     UtilUI.setText(tv_info, insertionSort.sequence.sortingAnimationStates.get(curSeqNo).info);
                     String state = insertionSort.sequence.sortingAnimationStates.get(curSeqNo).state;
                     if (InsertionSortInfo.map.containsKey(state)) {
@@ -582,8 +658,7 @@ public class InsertionSortActivity extends BaseActivity {
                         UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
 
-                    UtilUI.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes,
-                            insertionSort.views, curSeqNo,
+                    insertionSort.sequence.highlightCombinedForInsertionSort(context, insertionSort.sortedIndexes, curSeqNo,
                             insertionSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
             });
@@ -611,12 +686,36 @@ public class InsertionSortActivity extends BaseActivity {
         }
     }
 
+    // Records steps of insertionSort in background, it is shown once all its steps are recorded
+    private void record(final InsertionSort insertionSort){
+        sortingTask.start(insertionSort, new SortingTask.OnSortingTaskListener() {
+            @Override
+            public void onCompleted() {
+                InsertionSortActivity.this.insertionSort = insertionSort;
+                initViews();
+            }
+
+            @Override
+            public void onFailed(String message) {
+                ll_anim.removeAllViews();
+                initViews();
+                UtilUI.setText(tv_info, message);
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        sortingTask.cancel();
+        super.onDestroy();
+    }
+
     @Override
     protected void initViews() {
         if(insertionSort != null){
-            tv_seqno.setText("0 / " + insertionSort.sequence.sortingAnimationStates.size());
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, insertionSort.sequence.size);
             UtilUI.setText(tv_info, insertionSort.sequence.sortingAnimationStates.get(0).info);
-            UtilUI.highlightViews(context, insertionSort.sequence.views,
+            insertionSort.sequence.highlightViews(context,
                     insertionSort.sequence.sortingAnimationStates.get(0).highlightIndexes);
             String state = insertionSort.sequence.sortingAnimationStates.get(0).state;
             if(InsertionSortInfo.map.containsKey(state)){
@@ -625,8 +724,8 @@ public class InsertionSortActivity extends BaseActivity {
             }
         }
         else{
-            tv_seqno.setText("0 / 0");
-            UtilUI.setText(tv_info, "-");
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, 0);
+            UtilUI.setText(tv_info, sortingTask.isRunning() ? "Recording steps ..." : "-");
             UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
         }
     }
@@ -688,7 +787,7 @@ public class InsertionSortActivity extends BaseActivity {
     @Override
     protected void back(){isAutoPlay = false;
         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-        timer.cancel();
+        playbackEngine.stop();
 
         View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
 
@@ -732,6 +831,9 @@ public class InsertionSortActivity extends BaseActivity {
         TooltipCompat.setTooltipText(btn_backward, "Backward");
         TooltipCompat.setTooltipText(tv_info, "Current Animation Info");
         TooltipCompat.setTooltipText(tv_seqno, "Animation Step Counter");
+        TooltipCompat.setTooltipText(sb_seqno, "Jump to Animation Step");
+        TooltipCompat.setTooltipText(btn_tostart, "Jump to Start");
+        TooltipCompat.setTooltipText(btn_toend, "Jump to Result");
 
         // Right Menu
         TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
@@ -0,0 +1,106 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.insertion;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingEngine;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingRecorder;
+import com.iiitd.dsavisualizer.utility.Pair;
+
+import java.util.ArrayList;
+
+// Records the sequence of InsertionSort on a SortingRecorder, without any View
+// Used by the InsertionSort backend, and directly on a plain JVM [ benchmark module ]
+public class InsertionSortGenerator {
+
+    final SortingRecorder sequence;
+    final SortingMetrics metrics;
+    final InsertionSortData[] insertionSortData;
+    public final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+
+    // data[i] is the element with index i
+    public InsertionSortGenerator(int[] data, SortingRecorder sequence, SortingMetrics metrics) {
+        this.sequence = sequence;
+        this.metrics = metrics;
+        this.insertionSortData = new InsertionSortData[data.length];
+        this.sortedIndexes = new ArrayList<>();
+
+        for(int i=0;i<data.length;i++){
+            InsertionSortData insertionSortData1 = new InsertionSortData();
+            insertionSortData1.data = data[i];
+            insertionSortData1.index = i;
+            insertionSortData[i] = insertionSortData1;
+        }
+    }
+
+    // Records the complete sequence, may run on a worker thread
+    public void generate(){
+        metrics.start();
+        insertionsort();
+        metrics.stop();
+    }
+
+    private void insertionsort() {
+        sequence.beginStep(InsertionSortInfo.IS, InsertionSortInfo.getInsertionSortString());
+        for(int i = 0; i< insertionSortData.length; i++){
+            sequence.highlight(insertionSortData[i].index);
+        }
+        sequence.endStep();
+        insertion(insertionSortData);
+    }
+
+    private void insertion(InsertionSortData[] arr){
+        int length = arr.length;
+        // Key element is held outside the array while it is inserted
+        metrics.allocate(1);
+        sortedIndexes.add(new Pair<>(sequence.size, arr[0].index));
+        for (int i = 1; i < length; i++) {
+            InsertionSortData insertionSortData = arr[i];
+            metrics.reads++;
+            int j = i - 1;
+
+            sequence.beginStep(InsertionSortInfo.VAL, InsertionSortInfo.INFO_VAL, insertionSortData.data, j);
+            sequence.highlight(insertionSortData.index);
+            sequence.move(insertionSortData.index, SortingEngine.OP_DOWN, 1);
+            sequence.endStep();
+
+            while (j >= 0) {
+                metrics.comparisons++;
+                metrics.reads++;
+                if(arr[j].data > insertionSortData.data) {
+
+                    sequence.beginStep(InsertionSortInfo.L_GREATER_R,
+                            InsertionSortInfo.INFO_COMPARED, arr[j].data, insertionSortData.data, j, j+1);
+                    sequence.highlight(insertionSortData.index);
+                    sequence.highlight(arr[j].index);
+                    sequence.move(arr[j].index, SortingEngine.OP_RIGHT, 1);
+                    sequence.move(insertionSortData.index, SortingEngine.OP_LEFT, 1);
+                    sequence.endStep();
+
+                    arr[j + 1] = arr[j];
+                    metrics.reads++;
+                    metrics.writes++;
+                    j--;
+                }
+                else{
+                    sequence.beginStep(InsertionSortInfo.L_LESSEQUAL_R,
+                            InsertionSortInfo.INFO_COMPARED, arr[j].data, insertionSortData.data, j, insertionSortData.index);
+                    sequence.highlight(insertionSortData.index);
+                    sequence.highlight(arr[j].index);
+                    sequence.endStep();
+
+                    break;
+                }
+            }
+
+            sequence.beginStep(InsertionSortInfo.VAL_U, InsertionSortInfo.getValUString());
+            sequence.move(insertionSortData.index, SortingEngine.OP_UP, 1);
+            sequence.endStep();
+            sortedIndexes.add(new Pair<>(sequence.size, insertionSortData.index));
+
+            arr[j + 1] = insertionSortData;
+            metrics.writes++;
+
+        }
+        metrics.free(1);
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.iiitd.dsavisualizer.algorithms.sorting.insertion;
 
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInfoFormatter;
+
 import java.util.HashMap;
 
 //HARDCODED INFORMATION, Handle with care
@@ -11,6 +13,10 @@ public class InsertionSortInfo {
     /*11*/ public static final String L_LESSEQUAL_R = "Left <= Right";
     /*13*/ public static final String L_GREATER_R = "Left > Right";
 
+    // Info ids, info of these states is formatted lazily by sortingInfoFormatter
+    public static final int INFO_COMPARED = 0;
+    public static final int INFO_VAL = 1;
+
     public static final HashMap<String, Integer[]> map = new HashMap<>();
 
     static {
@@ -64,4 +70,18 @@ public class InsertionSortInfo {
         return "break";
     }
 
-}
\ No newline at end of file
+    public static final SortingInfoFormatter sortingInfoFormatter = new SortingInfoFormatter() {
+        @Override
+        public String getInfo(int infoId, int[] infoArgs) {
+            switch (infoId){
+                case INFO_COMPARED:
+                    return getComparedString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_VAL:
+                    return getValString(infoArgs[0], infoArgs[1]);
+                default:
+                    return "";
+            }
+        }
+    };
+
+}
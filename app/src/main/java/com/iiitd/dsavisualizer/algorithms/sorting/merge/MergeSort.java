@@ -2,7 +2,6 @@ package com.iiitd.dsavisualizer.algorithms.sorting.merge;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.util.Pair;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.LinearLayout;
@@ -10,51 +9,65 @@ import android.widget.TextView;
 
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.algorithms.sorting.AnimationDirection;
-import com.iiitd.dsavisualizer.algorithms.sorting.SortingAnimationState;
-import com.iiitd.dsavisualizer.algorithms.sorting.ElementAnimationData;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBarView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
 import java.util.Random;
 
 // MergeSort Backend
-public class MergeSort {
+public class MergeSort implements SortingBackend {
 
     final Context context;
     final int arraySize;
     int[] data;
-    MergeSortData[] mergeSortData;
     View[] views;
+    SortingBarView sortingBarView;
     int[] positions;
     final LinearLayout linearLayout;
-    MergeSortSortingSequence sequence;
-    final Random random;
+    SortingSequence sequence;
+    final Random random;                    // generated data of the arraySize constructor, null => input is given
     float width;
     float height;
     int textSize;
     final boolean isRandomize;
     final int[] rawInput;
-    int comparisons;
+    final SortingMetrics metrics;
+    final boolean isParallel;               // merges of the same depth are animated together [ MergeSortGenerator ]
+    MergeSortGenerator generator;
+    ParallelMergeSort benchmark;            // speedup, timed on ParallelMergeSort.BENCHMARK_SIZE elements
 
-    public MergeSort(Context context, LinearLayout linearLayout, int arraySize) {
+    public MergeSort(Context context, LinearLayout linearLayout, int arraySize, long seed) {
+        this(context, linearLayout, arraySize, false, seed);
+    }
+
+    public MergeSort(Context context, LinearLayout linearLayout, int arraySize, boolean isParallel, long seed) {
         this.context = context;
-        this.random = new Random();
+        this.random = new Random(seed);
         this.arraySize = arraySize;
         this.isRandomize = true;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
+        this.metrics = new SortingMetrics();
+        this.isParallel = isParallel;
         rawInput = null;
 
         init();
     }
 
     public MergeSort(Context context, LinearLayout linearLayout, int[] rawInput) {
+        this(context, linearLayout, rawInput, false);
+    }
+
+    public MergeSort(Context context, LinearLayout linearLayout, int[] rawInput, boolean isParallel) {
         this.context = context;
-        this.random = new Random();
+        this.random = null;
         this.arraySize = rawInput.length;
         this.isRandomize = false;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
+        this.metrics = new SortingMetrics();
+        this.isParallel = isParallel;
         this.rawInput = rawInput;
 
         init();
@@ -82,7 +95,6 @@ public class MergeSort {
         int MAX = 0;
 
         this.data = new int[arraySize];
-        this.mergeSortData = new MergeSortData[arraySize];
         this.views = new View[arraySize];
         this.positions = new int[arraySize];
         if(isRandomize){
@@ -98,10 +110,23 @@ public class MergeSort {
             }
         }
 
+        // Too many elements for a View per element, all elements are drawn on a single SortingBarView
+        if(arraySize > AppSettings.MAX_VIEW_ELEMENTS){
+            this.views = null;
+            this.sortingBarView = SortingBarView.create(context, linearLayout, data, positions, Math.round(totalHeight / height));
+        }
+
         LinearLayout.LayoutParams layoutParams = new LinearLayout.LayoutParams(0, (int) height, 1);
         LayoutInflater vi = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
 
         for(int i=0;i<data.length;i++){
+            positions[i] = i;
+
+            // Elements are drawn as bars by sortingBarView
+            if(sortingBarView != null){
+                continue;
+            }
+
             float x = (float)data[i] / (float)MAX;
             float h = (x * .75f) + .20f;
 
@@ -115,186 +140,48 @@ public class MergeSort {
             tv.getLayoutParams().height = (int) (height * h);
             tv.setBackground(UtilUI.getDrawable(context, AppSettings.ROUNDED_RECT_ELEMENT));
             linearLayout.addView(myView);
-
-            MergeSortData mergeSortData1 = new MergeSortData();
-            mergeSortData1.data = data[i];
-            mergeSortData1.index = i;
             views[i] = myView;
-            positions[i] = i;
-            mergeSortData[i] = mergeSortData1;
         }
 
-        this.sequence = new MergeSortSortingSequence();
+        this.sequence = new SortingSequence(MergeSortInfo.sortingInfoFormatter);
         this.sequence.setViews(views);
         this.sequence.setPositions(positions);
+        this.sequence.setSortingBarView(sortingBarView);
         this.sequence.setAnimateViews(height, width, context);
+        this.sequence.setMetrics(metrics);
 
-        this.mergesort();
+        this.generator = new MergeSortGenerator(data, sequence, metrics, isParallel);
     }
 
-    public void forward(){
-        sequence.forward();
-    }
+    // Records the complete sequence, may run on a worker thread
+    @Override
+    public void sort(){
+        // Timed before metrics start, so the benchmark is not a part of the generation time
+        if(isParallel){
+            benchmark = ParallelMergeSort.createBenchmark();
+            benchmark.measure();
+            generator.setBenchmark(benchmark);
+        }
 
-    public void backward(){
-        sequence.backward();
+        generator.generate();
     }
 
-    private void mergesort(){
-        SortingAnimationState sortingAnimationState = new SortingAnimationState(MergeSortInfo.MS, MergeSortInfo.getMergeSortString(0, mergeSortData.length-1));
-        for(int i=0;i<mergeSortData.length;i++){
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(mergeSortData[i].index, new Pair<>(AnimationDirection.NULL, 1)));
-            sortingAnimationState.addHighlightIndexes(mergeSortData[i].index);
-        }
-        sequence.addAnimSeq(sortingAnimationState);
-        sort(mergeSortData, 0, mergeSortData.length-1);
+    @Override
+    public SortingSequence getSequence() {
+        return sequence;
     }
 
-    private void merge(MergeSortData[] arr, int l, int m, int r) {
-        SortingAnimationState sortingAnimationState = new SortingAnimationState(MergeSortInfo.MERGE_STARTED, MergeSortInfo.getMergeString(l, m, r));
-        for(int i=l;i<=r;i++){
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(arr[i].index, new Pair<>(AnimationDirection.DOWN, 1)));
-            sortingAnimationState.addHighlightIndexes(arr[i].index);
-        }
-        sequence.addAnimSeq(sortingAnimationState);
-
-        final int n1 = m - l + 1;
-        final int n2 = r - m;
-
-        MergeSortData[] L = new MergeSortData[n1];
-        MergeSortData[] R = new MergeSortData[n2];
-
-        for (int i = 0; i < n1; ++i)
-            L[i] = arr[l + i];
-        for (int j = 0; j < n2; ++j)
-            R[j] = arr[m + 1 + j];
-
-        int i = 0;
-        int j = 0;
-        int k = l;
-
-        while (i < n1 && j < n2) {
-            comparisons++;
-            final int finalI = i;
-            final int finalJ = j;
-            final int finalK = k-l;
-
-            if (L[i].data <= R[j].data) {
-                int start = finalK;
-                int end = finalI;
-                final int diff = start - end;
-
-                SortingAnimationState sortingAnimationState1 = new SortingAnimationState(MergeSortInfo.L_LESSEQUAL_R, MergeSortInfo.getComparedString(L[i].data, R[j].data));
-                ElementAnimationData u = new ElementAnimationData(L[finalI].index, new Pair<>(AnimationDirection.UP, 1));
-                if(Math.abs(diff) != 0)
-                    u.add(new Pair<>(diff < 0 ? AnimationDirection.LEFT : AnimationDirection.RIGHT, Math.abs(diff)));
-                sortingAnimationState1.addElementAnimationData(u);
-                sortingAnimationState1.addHighlightIndexes(L[finalI].index, R[finalJ].index);
-                sequence.addAnimSeq(sortingAnimationState1);
-                arr[k] = L[i];
-                i++;
-            }
-            else {
-                int start = finalK;
-                int end = finalJ + (n1);
-                final int diff = start - end;
-                SortingAnimationState sortingAnimationState2 = new SortingAnimationState(MergeSortInfo.L_GREATER_R, MergeSortInfo.getComparedString(L[i].data, R[j].data));
-                ElementAnimationData u1 = new ElementAnimationData(R[finalJ].index, new Pair<>(AnimationDirection.UP, 1));
-                if(Math.abs(diff) != 0)
-                    u1.add(new Pair<>(diff < 0 ? AnimationDirection.LEFT : AnimationDirection.RIGHT, Math.abs(diff)));
-                sortingAnimationState2.addElementAnimationData(u1);
-                sortingAnimationState2.addHighlightIndexes(L[finalI].index, R[finalJ].index);
-                sequence.addAnimSeq(sortingAnimationState2);
-                arr[k] = R[j];
-                j++;
-            }
-            k++;
-        }
-
-        while (i < n1) {
-            final int finalI = i;
-            final int finalJ = j;
-            final int finalK = k-l;
-            int start = finalK;
-            int end = finalI;
-            final int diff = start - end;
-            SortingAnimationState sortingAnimationState1 = new SortingAnimationState(MergeSortInfo.L_EXTRAS, MergeSortInfo.getRemainingElementString(L[i].data, true));
-            ElementAnimationData u = new ElementAnimationData(L[finalI].index, new Pair<>(AnimationDirection.UP, 1));
-            if(Math.abs(diff) != 0)
-                u.add(new Pair<>(diff < 0 ? AnimationDirection.LEFT : AnimationDirection.RIGHT, Math.abs(diff)));
-            sortingAnimationState1.addElementAnimationData(u);
-            sequence.addAnimSeq(sortingAnimationState1);
-            sortingAnimationState1.addHighlightIndexes(L[finalI].index);
-            arr[k] = L[i];
-            i++;
-            k++;
-        }
-
-        while (j < n2) {
-            final int finalI = i;
-            final int finalJ = j;
-            final int finalK = k-l;
-            int start = finalK;
-            int end = finalJ + (n1);
-            final int diff = start - end;
-            SortingAnimationState sortingAnimationState1 = new SortingAnimationState(MergeSortInfo.R_EXTRAS, MergeSortInfo.getRemainingElementString(R[j].data, false));
-            ElementAnimationData u = new ElementAnimationData(R[finalJ].index, new Pair<>(AnimationDirection.UP, 1));
-            if(Math.abs(diff) != 0)
-                u.add(new Pair<>(diff < 0 ? AnimationDirection.LEFT : AnimationDirection.RIGHT, Math.abs(diff)));
-            sortingAnimationState1.addElementAnimationData(u);
-            sortingAnimationState1.addHighlightIndexes(R[finalJ].index);
-            sequence.addAnimSeq(sortingAnimationState1);
-            arr[k] = R[j];
-            j++;
-            k++;
-        }
-
+    @Override
+    public SortingMetrics getMetrics() {
+        return metrics;
     }
 
-    private void sort(final MergeSortData[] data, int l, int r) {
-        if (l < r) {
-            int m = (l + r) / 2;
-
-            SortingAnimationState sortingAnimationState1 = new SortingAnimationState(MergeSortInfo.LS,MergeSortInfo.getMergeSortString(l, m));
-            for(int i=l;i<=m;i++){
-                sortingAnimationState1.addElementAnimationData(new ElementAnimationData(data[i].index, new Pair<>(AnimationDirection.DOWN, 1)));
-                sortingAnimationState1.addHighlightIndexes(data[i].index);
-            }
-            sequence.addAnimSeq(sortingAnimationState1);
-
-            sort(data, l, m);
-
-            SortingAnimationState sortingAnimationState2 = new SortingAnimationState(MergeSortInfo.LS_U, MergeSortInfo.getMergeSortString(l, m) + " done");
-            for(int i=l;i<=m;i++){
-                sortingAnimationState2.addElementAnimationData(new ElementAnimationData(data[i].index, new Pair<>(AnimationDirection.UP, 1)));
-                sortingAnimationState2.addHighlightIndexes(data[i].index);
-            }
-            sequence.addAnimSeq(sortingAnimationState2);
-
-            SortingAnimationState sortingAnimationState3 = new SortingAnimationState(MergeSortInfo.RS, MergeSortInfo.getMergeSortString(m+1, r));
-            for(int i=m+1;i<=r;i++){
-                sortingAnimationState3.addElementAnimationData(new ElementAnimationData(data[i].index, new Pair<>(AnimationDirection.DOWN, 1)));
-                sortingAnimationState3.addHighlightIndexes(data[i].index);
-            }
-            sequence.addAnimSeq(sortingAnimationState3);
-
-            sort(data, m + 1, r);
-
-            SortingAnimationState sortingAnimationState4 = new SortingAnimationState(MergeSortInfo.RS_U, MergeSortInfo.getMergeSortString(m+1, r) + " done");
-            for(int i=m+1;i<=r;i++){
-                sortingAnimationState4.addElementAnimationData(new ElementAnimationData(data[i].index, new Pair<>(AnimationDirection.UP, 1)));
-                sortingAnimationState4.addHighlightIndexes(data[i].index);
-            }
-            sequence.addAnimSeq(sortingAnimationState4);
+    public void forward(){
+        sequence.forward();
+    }
 
-            merge(data, l, m, r);
-        }
-        else{
-            SortingAnimationState sortingAnimationState = new SortingAnimationState(MergeSortInfo.SINGLE_MERGE, MergeSortInfo.SINGLE_MERGE);
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(l, new Pair<>(AnimationDirection.NULL, 1)));
-            sortingAnimationState.addHighlightIndexes(data[l].index);
-            sequence.addAnimSeq(sortingAnimationState);
-        }
+    public void backward(){
+        sequence.backward();
     }
 
 }
\ No newline at end of file
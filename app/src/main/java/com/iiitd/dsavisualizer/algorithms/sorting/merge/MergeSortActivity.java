@@ -16,6 +16,7 @@ import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.ScrollView;
 import android.widget.SeekBar;
+import android.widget.Spinner;
 import android.widget.Switch;
 import android.widget.TextView;
 
@@ -27,16 +28,21 @@ import androidx.drawerlayout.widget.DrawerLayout;
 import com.github.florent37.viewanimator.AnimationListener;
 import com.github.florent37.viewanimator.ViewAnimator;
 import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.algorithms.sorting.InputDistribution;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInputGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetricsView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingTask;
 import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortActivity;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Random;
+
 
 // MergeSort FrontEnd
 public class MergeSortActivity extends BaseActivity {
@@ -51,6 +57,9 @@ public class MergeSortActivity extends BaseActivity {
     ImageButton btn_forward;
     SeekBar sb_animspeed;
     TextView tv_seqno;
+    SeekBar sb_seqno;
+    ImageButton btn_tostart;
+    ImageButton btn_toend;
     TextView tv_info;
     ConstraintLayout cl_psuedocode;
     ScrollView sv_psuedocode;
@@ -63,9 +72,13 @@ public class MergeSortActivity extends BaseActivity {
     Button btn_generate;
     Button btn_clear;
     Switch sw_randomarray;
+    Switch sw_parallel;
     EditText et_customarray;
+    Spinner sp_distribution;
+    EditText et_seed;
 
     MergeSort mergeSort;
+    final SortingTask sortingTask = new SortingTask();
     TextView[] textViews;
 
     ImageButton btn_closenav;
@@ -76,9 +89,9 @@ public class MergeSortActivity extends BaseActivity {
     ConstraintLayout cl_mergesort;
     ConstraintLayout cl_quicksort;
 
-    Timer timer = new Timer();
     boolean isAutoPlay = false;
     boolean isRandomArray = true;
+    final Random random = new Random();
     int autoAnimSpeed = AppSettings.DEFAULT_ANIM_SPEED;
     final int LAYOUT_MAIN = R.layout.activity_sorting;
     final int LAYOUT_LEFT = R.layout.navigation_sorting;
@@ -104,6 +117,9 @@ public class MergeSortActivity extends BaseActivity {
         btn_backward = v_main.findViewById(R.id.btn_backward);
         btn_forward = v_main.findViewById(R.id.btn_forward);
         tv_seqno = v_main.findViewById(R.id.tv_seqno);
+        sb_seqno = v_main.findViewById(R.id.sb_seqno);
+        btn_tostart = v_main.findViewById(R.id.btn_tostart);
+        btn_toend = v_main.findViewById(R.id.btn_toend);
         tv_info = v_main.findViewById(R.id.tv_info);
         cl_psuedocode = v_main.findViewById(R.id.cl_psuedocode);
         sv_psuedocode = v_main.findViewById(R.id.sv_psuedocode);
@@ -116,7 +132,10 @@ public class MergeSortActivity extends BaseActivity {
         btn_generate = v_menu_right.findViewById(R.id.btn_generate);
         btn_clear = v_menu_right.findViewById(R.id.btn_clear);
         sw_randomarray = v_menu_right.findViewById(R.id.sw_randomarray);
+        sw_parallel = v_menu_right.findViewById(R.id.sw_parallel);
         et_customarray = v_menu_right.findViewById(R.id.et_customarray);
+        sp_distribution = v_menu_right.findViewById(R.id.sp_distribution);
+        et_seed = v_menu_right.findViewById(R.id.et_seed);
 
         btn_closenav = v_menu_left.findViewById(R.id.btn_closenav);
         cl_home = v_menu_left.findViewById(R.id.cl_home);
@@ -126,7 +145,7 @@ public class MergeSortActivity extends BaseActivity {
         cl_mergesort = v_menu_left.findViewById(R.id.cl_mergesort);
         cl_quicksort = v_menu_left.findViewById(R.id.cl_quicksort);
 
-        tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress() + 1));
+        tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
 
         initOnBoarding();
         initPseudoCode();
@@ -141,7 +160,7 @@ public class MergeSortActivity extends BaseActivity {
                     isRandomArray = true;
                     et_customarray.setError(null);
                     sw_randomarray.setText(sw_randomarray.getTextOn());
-                    tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress()+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
                 }
                 else {
                     isRandomArray = false;
@@ -150,7 +169,7 @@ public class MergeSortActivity extends BaseActivity {
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -184,7 +203,7 @@ public class MergeSortActivity extends BaseActivity {
                     if (s != null || !s.toString().isEmpty()) {
                         String[] customInput = s.toString().split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -209,32 +228,16 @@ public class MergeSortActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                autoAnimSpeed = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                autoAnimSpeed = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                playbackEngine.setStepDuration(autoAnimSpeed);
             }
 
             @Override
             public void onStartTrackingTouch(SeekBar seekBar) {}
 
             @Override
-            public void onStopTrackingTouch(SeekBar seekBar) {
-                if (mergeSort != null && isAutoPlay) {
-                    timer.cancel();
-                    timer = new Timer();
-                    timer.schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            if (mergeSort.sequence.curSeqNo < mergeSort.sequence.size)
-                                onForwardClick();
-                            else {
-                                isAutoPlay = false;
-                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                timer.cancel();
-                            }
-                        }
-                    }, 0, autoAnimSpeed);
-                }
-            }
+            public void onStopTrackingTouch(SeekBar seekBar) {}
         });
 
         // Auto Animation Play/Pause Button
@@ -243,26 +246,33 @@ public class MergeSortActivity extends BaseActivity {
             public void onClick(View v) {
                 if(mergeSort != null){
                     if(isAutoPlay){
-                        isAutoPlay = false;
-                        btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                        timer.cancel();
+                        playbackEngine.stop();
                     }
                     else{
                         isAutoPlay = true;
                         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PAUSE_BUTTON));
-                        timer = new Timer();
-                        timer.schedule(new TimerTask() {
+                        playbackEngine.start(autoAnimSpeed, new PlaybackEngine.OnPlaybackListener() {
+                            @Override
+                            public boolean onStep() {
+                                if(mergeSort == null)
+                                    return false;
+
+                                return mergeSort.sequence.forward() && mergeSort.sequence.curSeqNo < mergeSort.sequence.size;
+                            }
+
                             @Override
-                            public void run() {
-                                if (mergeSort.sequence.curSeqNo < mergeSort.sequence.size)
-                                    onForwardClick();
-                                else {
-                                    isAutoPlay = false;
-                                    btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                    timer.cancel();
+                            public void onFrame() {
+                                if(mergeSort != null){
+                                    showState(mergeSort.sequence.curSeqNo);
                                 }
                             }
-                        }, 0, autoAnimSpeed);
+
+                            @Override
+                            public void onStop() {
+                                isAutoPlay = false;
+                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                            }
+                        });
                     }
                 }
             }
@@ -274,7 +284,7 @@ public class MergeSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onBackwardClick();
             }
         });
@@ -285,11 +295,54 @@ public class MergeSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onForwardClick();
             }
         });
 
+        // Jumps to the first or the last step at once, without playing the steps in between
+        btn_tostart.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                onSeek(0);
+            }
+        });
+
+        btn_toend.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                if(mergeSort != null) {
+                    onSeek(mergeSort.sequence.size);
+                }
+            }
+        });
+
+        // Scrub Bar, jumps directly to the selected animation step
+        sb_seqno.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                if(fromUser){
+                    onSeek(progress);
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+            }
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
         // Info Button
         btn_info.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -302,14 +355,22 @@ public class MergeSortActivity extends BaseActivity {
                 TextView tv_space = view.findViewById(R.id.tv_space);
                 TextView tv_stable = view.findViewById(R.id.tv_stable);
                 TextView tv_comparisons = view.findViewById(R.id.tv_comparisons);
+                TextView tv_operations = view.findViewById(R.id.tv_operations);
+                TextView tv_memory = view.findViewById(R.id.tv_memory);
+                SortingMetricsView smv_metrics = view.findViewById(R.id.smv_metrics);
                 ImageButton btn_close = view.findViewById(R.id.btn_close);
 
                 String comparisons = "-";
+                String operations = "-";
+                String memory = "-";
                 if(mergeSort != null) {
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
-                    comparisons = String.valueOf(mergeSort.comparisons);
+                    playbackEngine.stop();
+                    comparisons = String.valueOf(mergeSort.metrics.comparisons);
+                    operations = mergeSort.metrics.getOperationsString();
+                    memory = mergeSort.metrics.getMemoryString();
+                    smv_metrics.setMetrics(mergeSort.metrics, mergeSort.sequence.curSeqNo);
                 }
 
                 tv_name.setText(MergeSortStats.name);
@@ -319,6 +380,8 @@ public class MergeSortActivity extends BaseActivity {
                 UtilUI.setTextInBigONotation(tv_space, MergeSortStats.space);
                 tv_stable.setText(MergeSortStats.stable);
                 tv_comparisons.setText(comparisons);
+                tv_operations.setText(operations);
+                tv_memory.setText(memory);
 
                 final Dialog dialog = new Dialog(context);
                 dialog.setContentView(view);
@@ -338,7 +401,7 @@ public class MergeSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(1);
             }
@@ -356,7 +419,7 @@ public class MergeSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(2);
             }
@@ -383,7 +446,7 @@ public class MergeSortActivity extends BaseActivity {
                 if(slideOffset >= 0.35){
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
+                    playbackEngine.stop();
                 }
             }
 
@@ -411,7 +474,7 @@ public class MergeSortActivity extends BaseActivity {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
                 if(isRandomArray)
-                    tv_arraysize.setText(String.valueOf(progress+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(progress)));
             }
 
             @Override
@@ -425,21 +488,21 @@ public class MergeSortActivity extends BaseActivity {
         btn_generate.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int arraySize = sb_arraysize.getProgress() + 1;
-                if(mergeSort != null){
-                    mergeSort.linearLayout.removeAllViews();
-                    mergeSort = null;
-                }
+                int arraySize = SortingInputGenerator.getArraySize(sb_arraysize.getProgress());
+                sortingTask.cancel();
+                ll_anim.removeAllViews();
+                mergeSort = null;
 
+                boolean isParallel = sw_parallel.isChecked();
                 if(isRandomArray){
-                    mergeSort = new MergeSort(context, ll_anim, arraySize);
+                    record(new MergeSort(context, ll_anim, generateInput(arraySize), isParallel));
                 }
                 else {
                     String customArray = et_customarray.getText().toString();
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -449,7 +512,7 @@ public class MergeSortActivity extends BaseActivity {
                                 for (int i = 0; i < data.length; i++) {
                                     data[i] = Integer.parseInt(customInput[i]);
                                 }
-                                mergeSort = new MergeSort(context, ll_anim, data);
+                                record(new MergeSort(context, ll_anim, data, isParallel));
                             }
                             catch (NumberFormatException e){
                                 et_customarray.setError("Bad Input");
@@ -467,10 +530,9 @@ public class MergeSortActivity extends BaseActivity {
         btn_clear.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-            if(mergeSort != null) {
-                mergeSort.linearLayout.removeAllViews();
-                mergeSort = null;
-            }
+            sortingTask.cancel();
+            ll_anim.removeAllViews();
+            mergeSort = null;
             initViews();
             }
         });
@@ -486,7 +548,7 @@ public class MergeSortActivity extends BaseActivity {
                             cl_psuedocode.postDelayed(new Runnable() {
                                 @Override
                                 public void run() {
-                                    if(mergeSort != null){
+                                    if(mergeSort != null && mergeSort.views != null){
                                         int width = ll_anim.getWidth();
                                         int div = width / mergeSort.arraySize;
 
@@ -509,7 +571,7 @@ public class MergeSortActivity extends BaseActivity {
                     cl_psuedocode.postDelayed(new Runnable() {
                         @Override
                         public void run() {
-                            if(mergeSort != null){
+                            if(mergeSort != null && mergeSort.views != null){
                                 int width = ll_anim.getWidth();
                                 int div = width / mergeSort.arraySize;
 
@@ -536,33 +598,52 @@ public class MergeSortActivity extends BaseActivity {
 
     }
 
+    // Array of the selected input distribution, the seed used is shown in et_seed so the array can be generated again
+    private int[] generateInput(int arraySize){
+        InputDistribution distribution = InputDistribution.values()[sp_distribution.getSelectedItemPosition()];
+        long seed = SortingInputGenerator.parseSeed(et_seed.getText().toString(), random);
+        et_seed.setHint(getString(R.string.seed) + " " + seed);
+        return SortingInputGenerator.generate(distribution, arraySize, AppSettings.SORTING_ELEMENT_BOUND, seed);
+    }
+
     private void onForwardClick(){
         if (mergeSort != null) {
             mergeSort.forward();
-            final int curSeqNo = mergeSort.sequence.curSeqNo;
+            showState(mergeSort.sequence.curSeqNo);
+        }
+    }
 
-            runOnUiThread(new Runnable() {
-                @Override
-                public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + mergeSort.sequence.sortingAnimationStates.size());
-                    if(curSeqNo < mergeSort.sequence.size) {
-                        String state = mergeSort.sequence.sortingAnimationStates.get(curSeqNo).state;
-                        if(MergeSortInfo.map.containsKey(state)){
-                            Integer[] integers = MergeSortInfo.map.get(state);
-                            UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
-                        }
-                        UtilUI.setText(tv_info, mergeSort.sequence.sortingAnimationStates.get(curSeqNo).info);
-                        UtilUI.highlightViews(context, mergeSort.sequence.views,
-                                mergeSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
-                    }
-                    else{
-                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
-                        UtilUI.highlightViews(context, mergeSort.sequence.views,null);
-                        UtilUI.setText(tv_info, "Array is sorted");
+    // Jumps directly to the animation step seqNo, used by the scrub bar
+    private void onSeek(int seqNo){
+        if (mergeSort != null) {
+            mergeSort.sequence.seek(seqNo);
+            showState(mergeSort.sequence.curSeqNo);
+        }
+    }
+
+    // Shows info, pseudocode and highlighted elements of the animation step curSeqNo
+    private void showState(final int curSeqNo){
+        runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, mergeSort.sequence.size);
+                if(curSeqNo < mergeSort.sequence.size) {
+                    String state = mergeSort.sequence.sortingAnimationStates.get(curSeqNo).state;
+                    if(MergeSortInfo.map.containsKey(state)){
+                        Integer[] integers = MergeSortInfo.map.get(state);
+                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
+                    UtilUI.setText(tv_info, mergeSort.sequence.sortingAnimationStates.get(curSeqNo).info);
+                    mergeSort.sequence.highlightViews(context,
+                            mergeSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
-            });
-        }
+                else{
+                    UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
+                    mergeSort.sequence.highlightViews(context, null);
+                    UtilUI.setText(tv_info, "Array is sorted");
+                }
+            }
+        });
     }
 
     private void onBackwardClick(){
@@ -572,14 +653,14 @@ public class MergeSortActivity extends BaseActivity {
             runOnUiThread(new Runnable() {
                 @Override
                 public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + mergeSort.sequence.sortingAnimationStates.size());
+                    UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, mergeSort.sequence.size);
                     UtilUI.setText(tv_info, mergeSort.sequence.sortingAnimationStates.get(curSeqNo).info);
                     String state = mergeSort.sequence.sortingAnimationStates.get(curSeqNo).state;
                     if (MergeSortInfo.map.containsKey(state)) {
                         Integer[] integers = MergeSortInfo.map.get(state);
                         UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
-                    UtilUI.highlightViews(context, mergeSort.sequence.views,
+                    mergeSort.sequence.highlightViews(context,
                             mergeSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
             });
@@ -607,12 +688,36 @@ public class MergeSortActivity extends BaseActivity {
         }
     }
 
+    // Records steps of mergeSort in background, it is shown once all its steps are recorded
+    private void record(final MergeSort mergeSort){
+        sortingTask.start(mergeSort, new SortingTask.OnSortingTaskListener() {
+            @Override
+            public void onCompleted() {
+                MergeSortActivity.this.mergeSort = mergeSort;
+                initViews();
+            }
+
+            @Override
+            public void onFailed(String message) {
+                ll_anim.removeAllViews();
+                initViews();
+                UtilUI.setText(tv_info, message);
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        sortingTask.cancel();
+        super.onDestroy();
+    }
+
     @Override
     protected void initViews() {
         if(mergeSort != null){
-            tv_seqno.setText("0 / " + mergeSort.sequence.sortingAnimationStates.size());
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, mergeSort.sequence.size);
             UtilUI.setText(tv_info, mergeSort.sequence.sortingAnimationStates.get(0).info);
-            UtilUI.highlightViews(context, mergeSort.sequence.views,
+            mergeSort.sequence.highlightViews(context,
                     mergeSort.sequence.sortingAnimationStates.get(0).highlightIndexes);
             String state = mergeSort.sequence.sortingAnimationStates.get(0).state;
             if(MergeSortInfo.map.containsKey(state)){
@@ -621,8 +726,8 @@ public class MergeSortActivity extends BaseActivity {
             }
         }
         else{
-            tv_seqno.setText("0 / 0");
-            UtilUI.setText(tv_info, "-");
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, 0);
+            UtilUI.setText(tv_info, sortingTask.isRunning() ? "Recording steps ..." : "-");
             UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
         }
 
@@ -686,7 +791,7 @@ public class MergeSortActivity extends BaseActivity {
     protected void back(){
         isAutoPlay = false;
         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-        timer.cancel();
+        playbackEngine.stop();
 
         View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
 
@@ -730,6 +835,9 @@ public class MergeSortActivity extends BaseActivity {
         TooltipCompat.setTooltipText(btn_backward, "Backward");
         TooltipCompat.setTooltipText(tv_info, "Current Animation Info");
         TooltipCompat.setTooltipText(tv_seqno, "Animation Step Counter");
+        TooltipCompat.setTooltipText(sb_seqno, "Jump to Animation Step");
+        TooltipCompat.setTooltipText(btn_tostart, "Jump to Start");
+        TooltipCompat.setTooltipText(btn_toend, "Jump to Result");
 
         // Right Menu
         TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
@@ -0,0 +1,339 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.merge;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingEngine;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingRecorder;
+
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+// Records the sequence of MergeSort on a SortingRecorder, without any View
+// Used by the MergeSort backend, and directly on a plain JVM [ benchmark module ]
+public class MergeSortGenerator {
+
+    final int[] data;
+    final SortingRecorder sequence;
+    final SortingMetrics metrics;
+    final MergeSortData[] mergeSortData;
+    final boolean isParallel;               // merges of the same depth are animated together, see parallelmergesort()
+    ParallelMergeSort parallelMergeSort;    // workers of the merges of data
+    ParallelMergeSort benchmark;            // speedup shown in the first step, must be measured before generate()
+
+    // data[i] is the element with index i
+    public MergeSortGenerator(int[] data, SortingRecorder sequence, SortingMetrics metrics, boolean isParallel) {
+        this.data = data;
+        this.sequence = sequence;
+        this.metrics = metrics;
+        this.mergeSortData = new MergeSortData[data.length];
+        this.isParallel = isParallel;
+
+        for(int i=0;i<data.length;i++){
+            MergeSortData mergeSortData1 = new MergeSortData();
+            mergeSortData1.data = data[i];
+            mergeSortData1.index = i;
+            mergeSortData[i] = mergeSortData1;
+        }
+    }
+
+    public void setBenchmark(ParallelMergeSort benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    // Records the complete sequence, may run on a worker thread
+    public void generate(){
+        metrics.start();
+        if(isParallel){
+            parallelmergesort();
+        }
+        else{
+            mergesort();
+        }
+        metrics.stop();
+    }
+
+    private void mergesort(){
+        sequence.beginStep(MergeSortInfo.MS, MergeSortInfo.INFO_MERGE_SORT, 0, mergeSortData.length-1);
+        for(int i=0;i<mergeSortData.length;i++){
+            sequence.highlight(mergeSortData[i].index);
+        }
+        sequence.endStep();
+        sort(mergeSortData, 0, mergeSortData.length-1);
+    }
+
+    // Sorts data with ParallelMergeSort first, to find the worker of every merge, its speedup is shown from benchmark
+    // Merges of the same depth are independent, so they are animated together by parallelMerge(), deepest first
+    private void parallelmergesort(){
+        parallelMergeSort = new ParallelMergeSort(data);
+        parallelMergeSort.run();
+
+        sequence.beginStep(MergeSortInfo.MS, MergeSortInfo.getParallelMergeSortString(benchmark.getNoOfWorkers(),
+                benchmark.getData().length, benchmark.getSequentialTime(), benchmark.getParallelTime(), benchmark.getSpeedup()));
+        for(int i=0;i<mergeSortData.length;i++){
+            sequence.highlight(mergeSortData[i].index);
+        }
+        sequence.endStep();
+
+        ArrayList<ArrayList<int[]>> levels = new ArrayList<>();
+        addMerges(levels, 0, mergeSortData.length-1, 0);
+        for(int depth=levels.size()-1;depth>=0;depth--){
+            parallelMerge(mergeSortData, levels.get(depth), depth);
+        }
+    }
+
+    // Adds merges {l, m, r} of sort(data, l, r) to levels, by depth
+    private void addMerges(ArrayList<ArrayList<int[]>> levels, int l, int r, int depth){
+        if(l < r){
+            int m = (l + r) / 2;
+            if(levels.size() == depth){
+                levels.add(new ArrayList<int[]>());
+            }
+            levels.get(depth).add(new int[]{l, m, r});
+
+            addMerges(levels, l, m, depth + 1);
+            addMerges(levels, m + 1, r, depth + 1);
+        }
+    }
+
+    // Same as merge(), for all merges of a depth at once, every step copies the next element of every unfinished merge
+    private void parallelMerge(MergeSortData[] arr, ArrayList<int[]> merges, int depth) {
+        int noOfMerges = merges.size();
+        MergeSortData[] aux = new MergeSortData[arr.length];        // aux [ l, r ] is used by merge {l, m, r} only
+        int[] is = new int[noOfMerges];
+        int[] js = new int[noOfMerges];
+        int[] ks = new int[noOfMerges];
+        int noOfElements = 0;
+
+        // No of merges done by every worker
+        TreeMap<Integer, Integer> workers = new TreeMap<>();
+        for(int[] merge : merges){
+            int worker = parallelMergeSort.getWorker(merge[0], merge[2]);
+            Integer count = workers.get(worker);
+            workers.put(worker, count == null ? 1 : count + 1);
+        }
+
+        sequence.beginStep(MergeSortInfo.PARALLEL_MERGE_STARTED,
+                MergeSortInfo.getParallelMergeStartedString(depth, noOfMerges, workers));
+        for(int t=0;t<noOfMerges;t++){
+            int l = merges.get(t)[0];
+            int m = merges.get(t)[1];
+            int r = merges.get(t)[2];
+            for(int i=l;i<=r;i++){
+                sequence.move(arr[i].index, SortingEngine.OP_DOWN, 1);
+                sequence.highlight(arr[i].index);
+                aux[i] = arr[i];
+            }
+            is[t] = l;
+            js[t] = m + 1;
+            ks[t] = l;
+            noOfElements += r - l + 1;
+        }
+        sequence.endStep();
+        metrics.allocate(noOfElements);
+        metrics.reads += noOfElements;
+        metrics.writes += noOfElements;
+
+        int remaining = noOfElements;
+        while (remaining > 0){
+            int noOfActiveMerges = 0;
+            for(int t=0;t<noOfMerges;t++){
+                if(ks[t] <= merges.get(t)[2])
+                    noOfActiveMerges++;
+            }
+
+            sequence.beginStep(MergeSortInfo.PARALLEL_MERGE, MergeSortInfo.INFO_PARALLEL_MERGE, noOfActiveMerges);
+            for(int t=0;t<noOfMerges;t++){
+                int m = merges.get(t)[1];
+                int r = merges.get(t)[2];
+                if(ks[t] > r)
+                    continue;
+
+                // Position of the copied element in aux, elements of aux are still at their old positions
+                int from;
+                if(is[t] <= m && js[t] <= r){
+                    metrics.comparisons++;
+                    metrics.reads += 2;
+                    from = aux[is[t]].data <= aux[js[t]].data ? is[t]++ : js[t]++;
+                }
+                else if(is[t] <= m){
+                    from = is[t]++;
+                }
+                else{
+                    from = js[t]++;
+                }
+
+                int diff = ks[t] - from;
+                sequence.move(aux[from].index, SortingEngine.OP_UP, 1);
+                if(diff != 0)
+                    sequence.move(aux[from].index, diff < 0 ? SortingEngine.OP_LEFT : SortingEngine.OP_RIGHT, Math.abs(diff));
+                sequence.highlight(aux[from].index);
+
+                arr[ks[t]] = aux[from];
+                metrics.reads++;
+                metrics.writes++;
+                ks[t]++;
+                remaining--;
+            }
+            sequence.endStep();
+        }
+
+        metrics.free(noOfElements);
+    }
+
+    private void merge(MergeSortData[] arr, int l, int m, int r) {
+        sequence.beginStep(MergeSortInfo.MERGE_STARTED, MergeSortInfo.INFO_MERGE, l, m, r);
+        for(int i=l;i<=r;i++){
+            sequence.move(arr[i].index, SortingEngine.OP_DOWN, 1);
+            sequence.highlight(arr[i].index);
+        }
+        sequence.endStep();
+
+        final int n1 = m - l + 1;
+        final int n2 = r - m;
+
+        MergeSortData[] L = new MergeSortData[n1];
+        MergeSortData[] R = new MergeSortData[n2];
+        metrics.allocate(n1 + n2);
+
+        for (int i = 0; i < n1; ++i)
+            L[i] = arr[l + i];
+        for (int j = 0; j < n2; ++j)
+            R[j] = arr[m + 1 + j];
+        metrics.reads += n1 + n2;
+        metrics.writes += n1 + n2;
+
+        int i = 0;
+        int j = 0;
+        int k = l;
+
+        while (i < n1 && j < n2) {
+            metrics.comparisons++;
+            metrics.reads += 2;
+            final int finalI = i;
+            final int finalJ = j;
+            final int finalK = k-l;
+
+            if (L[i].data <= R[j].data) {
+                int start = finalK;
+                int end = finalI;
+                final int diff = start - end;
+
+                sequence.beginStep(MergeSortInfo.L_LESSEQUAL_R, MergeSortInfo.INFO_COMPARED, L[i].data, R[j].data);
+                sequence.move(L[finalI].index, SortingEngine.OP_UP, 1);
+                if(Math.abs(diff) != 0)
+                    sequence.move(L[finalI].index, diff < 0 ? SortingEngine.OP_LEFT : SortingEngine.OP_RIGHT, Math.abs(diff));
+                sequence.highlight(L[finalI].index, R[finalJ].index);
+                sequence.endStep();
+                arr[k] = L[i];
+                metrics.reads++;
+                metrics.writes++;
+                i++;
+            }
+            else {
+                int start = finalK;
+                int end = finalJ + (n1);
+                final int diff = start - end;
+                sequence.beginStep(MergeSortInfo.L_GREATER_R, MergeSortInfo.INFO_COMPARED, L[i].data, R[j].data);
+                sequence.move(R[finalJ].index, SortingEngine.OP_UP, 1);
+                if(Math.abs(diff) != 0)
+                    sequence.move(R[finalJ].index, diff < 0 ? SortingEngine.OP_LEFT : SortingEngine.OP_RIGHT, Math.abs(diff));
+                sequence.highlight(L[finalI].index, R[finalJ].index);
+                sequence.endStep();
+                arr[k] = R[j];
+                metrics.reads++;
+                metrics.writes++;
+                j++;
+            }
+            k++;
+        }
+
+        while (i < n1) {
+            final int finalI = i;
+            final int finalJ = j;
+            final int finalK = k-l;
+            int start = finalK;
+            int end = finalI;
+            final int diff = start - end;
+            sequence.beginStep(MergeSortInfo.L_EXTRAS, MergeSortInfo.INFO_REMAINING_LEFT, L[i].data);
+            sequence.move(L[finalI].index, SortingEngine.OP_UP, 1);
+            if(Math.abs(diff) != 0)
+                sequence.move(L[finalI].index, diff < 0 ? SortingEngine.OP_LEFT : SortingEngine.OP_RIGHT, Math.abs(diff));
+            sequence.highlight(L[finalI].index);
+            sequence.endStep();
+            arr[k] = L[i];
+            metrics.reads++;
+            metrics.writes++;
+            i++;
+            k++;
+        }
+
+        while (j < n2) {
+            final int finalI = i;
+            final int finalJ = j;
+            final int finalK = k-l;
+            int start = finalK;
+            int end = finalJ + (n1);
+            final int diff = start - end;
+            sequence.beginStep(MergeSortInfo.R_EXTRAS, MergeSortInfo.INFO_REMAINING_RIGHT, R[j].data);
+            sequence.move(R[finalJ].index, SortingEngine.OP_UP, 1);
+            if(Math.abs(diff) != 0)
+                sequence.move(R[finalJ].index, diff < 0 ? SortingEngine.OP_LEFT : SortingEngine.OP_RIGHT, Math.abs(diff));
+            sequence.highlight(R[finalJ].index);
+            sequence.endStep();
+            arr[k] = R[j];
+            metrics.reads++;
+            metrics.writes++;
+            j++;
+            k++;
+        }
+
+        metrics.free(n1 + n2);
+    }
+
+    private void sort(final MergeSortData[] data, int l, int r) {
+        metrics.enter();
+        if (l < r) {
+            int m = (l + r) / 2;
+
+            sequence.beginStep(MergeSortInfo.LS, MergeSortInfo.INFO_MERGE_SORT, l, m);
+            for(int i=l;i<=m;i++){
+                sequence.move(data[i].index, SortingEngine.OP_DOWN, 1);
+                sequence.highlight(data[i].index);
+            }
+            sequence.endStep();
+
+            sort(data, l, m);
+
+            sequence.beginStep(MergeSortInfo.LS_U, MergeSortInfo.INFO_MERGE_SORT_DONE, l, m);
+            for(int i=l;i<=m;i++){
+                sequence.move(data[i].index, SortingEngine.OP_UP, 1);
+                sequence.highlight(data[i].index);
+            }
+            sequence.endStep();
+
+            sequence.beginStep(MergeSortInfo.RS, MergeSortInfo.INFO_MERGE_SORT, m+1, r);
+            for(int i=m+1;i<=r;i++){
+                sequence.move(data[i].index, SortingEngine.OP_DOWN, 1);
+                sequence.highlight(data[i].index);
+            }
+            sequence.endStep();
+
+            sort(data, m + 1, r);
+
+            sequence.beginStep(MergeSortInfo.RS_U, MergeSortInfo.INFO_MERGE_SORT_DONE, m+1, r);
+            for(int i=m+1;i<=r;i++){
+                sequence.move(data[i].index, SortingEngine.OP_UP, 1);
+                sequence.highlight(data[i].index);
+            }
+            sequence.endStep();
+
+            merge(data, l, m, r);
+        }
+        else{
+            sequence.beginStep(MergeSortInfo.SINGLE_MERGE, MergeSortInfo.SINGLE_MERGE);
+            sequence.highlight(data[l].index);
+            sequence.endStep();
+        }
+        metrics.exit();
+    }
+
+}
@@ -1,6 +1,11 @@
 package com.iiitd.dsavisualizer.algorithms.sorting.merge;
 
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInfoFormatter;
+
 import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 
 //HARDCODED INFORMATION, Handle with care
 public class MergeSortInfo {
@@ -16,6 +21,17 @@ public class MergeSortInfo {
     /*13*/ public static final String R_EXTRAS = "Right Extras";
     /*9*/  public static final String MERGE_STARTED = "Merge arrays, Array copy for merging";
     /*1*/  public static final String SINGLE_MERGE = "Single element is always sorted";
+    /*9*/  public static final String PARALLEL_MERGE_STARTED = "Parallel merge, Array copy for all merges of a depth";
+    /*10*/ public static final String PARALLEL_MERGE = "Parallel merge step";
+
+    // Info ids, info of these states is formatted lazily by sortingInfoFormatter
+    public static final int INFO_COMPARED = 0;
+    public static final int INFO_REMAINING_LEFT = 1;
+    public static final int INFO_REMAINING_RIGHT = 2;
+    public static final int INFO_MERGE_SORT = 3;
+    public static final int INFO_MERGE_SORT_DONE = 4;
+    public static final int INFO_MERGE = 5;
+    public static final int INFO_PARALLEL_MERGE = 6;
 
     public static final HashMap<String, Integer[]> map = new HashMap<>();
 
@@ -31,6 +47,8 @@ public class MergeSortInfo {
         map.put(R_EXTRAS, new Integer[]{17, 18});
         map.put(MERGE_STARTED, new Integer[]{8, 9});
         map.put(SINGLE_MERGE, new Integer[]{1, 2});
+        map.put(PARALLEL_MERGE_STARTED, new Integer[]{6, 8, 9});
+        map.put(PARALLEL_MERGE, new Integer[]{10, 11, 13, 15, 17});
     }
 
     public static final int[] boldIndexes = new int[]{0, 8};
@@ -84,4 +102,48 @@ public class MergeSortInfo {
            return "merge(data, " + left + ", " + mid + ", " + right + ")";
        }
 
-}
\ No newline at end of file
+       public static String getParallelMergeSortString(int noOfWorkers, int noOfElements, double sequentialTime, double parallelTime, double speedup){
+           return String.format(Locale.getDefault(), "Parallel merge sort on %d workers, %d elements : sequential %.2fms, parallel %.2fms, speedup %.2fx",
+                   noOfWorkers, noOfElements, sequentialTime, parallelTime, speedup);
+       }
+
+       // workers : worker -> no of merges done by it, worker -1 => merged outside the pool
+       public static String getParallelMergeStartedString(int depth, int noOfMerges, TreeMap<Integer, Integer> workers){
+           StringBuilder stringBuilder = new StringBuilder();
+           stringBuilder.append("Depth ").append(depth).append(" : ").append(noOfMerges).append(" merges in parallel |");
+           for(Map.Entry<Integer, Integer> entry : workers.entrySet()){
+               stringBuilder.append(" W").append(entry.getKey()).append(" x").append(entry.getValue());
+           }
+
+           return stringBuilder.toString();
+       }
+
+       public static String getParallelMergeStepString(int noOfMerges){
+           return "copy next element of " + noOfMerges + " merges to final array";
+       }
+
+    public static final SortingInfoFormatter sortingInfoFormatter = new SortingInfoFormatter() {
+        @Override
+        public String getInfo(int infoId, int[] infoArgs) {
+            switch (infoId){
+                case INFO_COMPARED:
+                    return getComparedString(infoArgs[0], infoArgs[1]);
+                case INFO_REMAINING_LEFT:
+                    return getRemainingElementString(infoArgs[0], true);
+                case INFO_REMAINING_RIGHT:
+                    return getRemainingElementString(infoArgs[0], false);
+                case INFO_MERGE_SORT:
+                    return getMergeSortString(infoArgs[0], infoArgs[1]);
+                case INFO_MERGE_SORT_DONE:
+                    return getMergeSortString(infoArgs[0], infoArgs[1]) + " done";
+                case INFO_MERGE:
+                    return getMergeString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                case INFO_PARALLEL_MERGE:
+                    return getParallelMergeStepString(infoArgs[0]);
+                default:
+                    return "";
+            }
+        }
+    };
+
+}
@@ -0,0 +1,188 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.merge;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.InputDistribution;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInputGenerator;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+// Merge sort of plain values on a ForkJoinPool, both halves of a subrange are sorted concurrently
+// Splits subranges exactly like MergeSort.sort(), so every merge [ l, r ] of MergeSort is also a merge here
+// run() records the worker which merged every subrange, measure() times the speedup over a sequential run
+// The speedup is measured on its own BENCHMARK_SIZE elements, animated arrays are far too small to time
+public class ParallelMergeSort {
+    public static final int MIN_THRESHOLD = 2;
+    public static final int RUNS = 3;           // best of RUNS is measured, the first run also warms up the code
+    public static final int BENCHMARK_SIZE = 1 << 19;
+    public static final long BENCHMARK_SEED = 1;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+
+    private final int[] data;
+    private final int threshold;                // subranges of up to threshold elements are sorted within a single task
+    private final ConcurrentHashMap<Long, Integer> workers;     // merge [ l, r ] of a task above threshold -> worker
+    private final int[] leafWorkers;            // element -> worker of the task which sorted it within threshold
+    private long sequentialTime;                // ns
+    private long parallelTime;                  // ns
+
+    public ParallelMergeSort(int[] data) {
+        this.data = data;
+        // About 4 tasks per worker, enough to balance the load without tasks of a few elements
+        this.threshold = Math.max(MIN_THRESHOLD, data.length / (4 * POOL.getParallelism()));
+        this.workers = new ConcurrentHashMap<>();
+        this.leafWorkers = new int[data.length];
+        this.sequentialTime = 0;
+        this.parallelTime = 0;
+    }
+
+    // Random input of BENCHMARK_SIZE elements, the same for every measurement
+    public static ParallelMergeSort createBenchmark(){
+        return new ParallelMergeSort(SortingInputGenerator.generate(InputDistribution.RANDOM,
+                BENCHMARK_SIZE, BENCHMARK_SIZE, BENCHMARK_SEED));
+    }
+
+    // Sorts a copy of data in parallel once, only to record the worker of every subrange
+    public void run(){
+        workers.clear();
+        int[] arr = data.clone();
+        POOL.invoke(new MergeSortTask(arr, new int[arr.length], 0, arr.length-1));
+    }
+
+    // Sorts copies of data, sequentially and in parallel, RUNS times each
+    public void measure(){
+        sequentialTime = Long.MAX_VALUE;
+        parallelTime = Long.MAX_VALUE;
+        int[] sorted = null;
+
+        for(int run=0;run<RUNS;run++){
+            int[] arr = data.clone();
+            int[] aux = new int[arr.length];
+            long start = System.nanoTime();
+            sort(arr, aux, 0, arr.length-1);
+            sequentialTime = Math.min(sequentialTime, System.nanoTime() - start);
+            sorted = arr;
+
+            workers.clear();
+            arr = data.clone();
+            aux = new int[arr.length];
+            start = System.nanoTime();
+            POOL.invoke(new MergeSortTask(arr, aux, 0, arr.length-1));
+            parallelTime = Math.min(parallelTime, System.nanoTime() - start);
+
+            if(!Arrays.equals(arr, sorted)){
+                throw new IllegalStateException("Parallel merge sort differs from sequential merge sort");
+            }
+        }
+    }
+
+    // Pool index of the worker which merged [ l, r ], -1 => not merged by a worker
+    public int getWorker(int l, int r){
+        Integer worker = workers.get(getKey(l, r));
+        if(worker != null)
+            return worker;
+
+        return leafWorkers.length == 0 ? -1 : leafWorkers[l];
+    }
+
+    public int[] getData(){
+        return data;
+    }
+
+    public int getNoOfWorkers(){
+        return POOL.getParallelism();
+    }
+
+    public double getSequentialTime(){
+        return sequentialTime / 1000000.0;
+    }
+
+    public double getParallelTime(){
+        return parallelTime / 1000000.0;
+    }
+
+    public double getSpeedup(){
+        return parallelTime == 0 ? 0 : (double) sequentialTime / parallelTime;
+    }
+
+    private static long getKey(int l, int r){
+        return ((long) l << 32) | r;
+    }
+
+    private static int getCurrentWorker(){
+        Thread thread = Thread.currentThread();
+        if(thread instanceof ForkJoinWorkerThread){
+            return ((ForkJoinWorkerThread) thread).getPoolIndex();
+        }
+
+        return -1;
+    }
+
+    private static void sort(int[] arr, int[] aux, int l, int r){
+        if(l < r){
+            int m = (l + r) / 2;
+            sort(arr, aux, l, m);
+            sort(arr, aux, m + 1, r);
+            merge(arr, aux, l, m, r);
+        }
+    }
+
+    // Merges sorted [ l, m ] and [ m+1, r ], aux [ l, r ] is used by this merge only
+    private static void merge(int[] arr, int[] aux, int l, int m, int r){
+        System.arraycopy(arr, l, aux, l, r - l + 1);
+
+        int i = l;
+        int j = m + 1;
+        int k = l;
+        while (i <= m && j <= r){
+            if(aux[i] <= aux[j]){
+                arr[k++] = aux[i++];
+            }
+            else{
+                arr[k++] = aux[j++];
+            }
+        }
+
+        while (i <= m){
+            arr[k++] = aux[i++];
+        }
+
+        while (j <= r){
+            arr[k++] = aux[j++];
+        }
+    }
+
+    // Sorts [ l, r ], both halves are sorted concurrently by invokeAll(), then merged by the current worker
+    private class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int[] aux;
+        final int l;
+        final int r;
+
+        MergeSortTask(int[] arr, int[] aux, int l, int r) {
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        @Override
+        protected void compute() {
+            if(r - l + 1 <= threshold){
+                sort(arr, aux, l, r);
+                Arrays.fill(leafWorkers, l, r + 1, getCurrentWorker());
+                return;
+            }
+
+            int m = (l + r) / 2;
+            invokeAll(new MergeSortTask(arr, aux, l, m), new MergeSortTask(arr, aux, m + 1, r));
+            merge(arr, aux, l, m, r);
+            workers.put(getKey(l, r), getCurrentWorker());
+        }
+    }
+
+}
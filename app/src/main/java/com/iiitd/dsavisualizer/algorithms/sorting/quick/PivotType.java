@@ -5,5 +5,9 @@ package com.iiitd.dsavisualizer.algorithms.sorting.quick;
 public enum PivotType {
     FIRST,
     MIDDLE,
-    END
+    END,
+    RANDOM,
+    MEDIAN_OF_THREE,        // median of first, middle and end
+    NINTHER,                // median of 3 medians of three, spread over the subrange
+    DUAL_PIVOT              // first and end, partition into 3 parts
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import android.widget.LinearLayout;
 import android.widget.RadioGroup;
 import android.widget.ScrollView;
 import android.widget.SeekBar;
+import android.widget.Spinner;
 import android.widget.Switch;
 import android.widget.TextView;
 
@@ -28,16 +29,21 @@ import androidx.drawerlayout.widget.DrawerLayout;
 import com.github.florent37.viewanimator.AnimationListener;
 import com.github.florent37.viewanimator.ViewAnimator;
 import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.algorithms.sorting.InputDistribution;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInputGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetricsView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingTask;
 import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortActivity;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Random;
+
 
 // QuickSort FrontEnd
 public class QuickSortActivity extends BaseActivity {
@@ -52,6 +58,9 @@ public class QuickSortActivity extends BaseActivity {
     ImageButton btn_forward;
     SeekBar sb_animspeed;
     TextView tv_seqno;
+    SeekBar sb_seqno;
+    ImageButton btn_tostart;
+    ImageButton btn_toend;
     TextView tv_info;
     ConstraintLayout cl_psuedocode;
     ScrollView sv_psuedocode;
@@ -65,9 +74,13 @@ public class QuickSortActivity extends BaseActivity {
     Button btn_clear;
     Switch sw_randomarray;
     EditText et_customarray;
+    Spinner sp_distribution;
+    EditText et_seed;
     RadioGroup rg_pivot;
+    Switch sw_introsort;
 
     QuickSort quickSort;
+    final SortingTask sortingTask = new SortingTask();
     TextView[] textViews;
 
     ImageButton btn_closenav;
@@ -78,9 +91,9 @@ public class QuickSortActivity extends BaseActivity {
     ConstraintLayout cl_mergesort;
     ConstraintLayout cl_quicksort;
 
-    Timer timer = new Timer();
     boolean isAutoPlay = false;
     boolean isRandomArray = true;
+    final Random random = new Random();
     int autoAnimSpeed = AppSettings.DEFAULT_ANIM_SPEED;
     final int LAYOUT_MAIN = R.layout.activity_sorting;
     final int LAYOUT_LEFT = R.layout.navigation_sorting;
@@ -106,6 +119,9 @@ public class QuickSortActivity extends BaseActivity {
         btn_backward = v_main.findViewById(R.id.btn_backward);
         btn_forward = v_main.findViewById(R.id.btn_forward);
         tv_seqno = v_main.findViewById(R.id.tv_seqno);
+        sb_seqno = v_main.findViewById(R.id.sb_seqno);
+        btn_tostart = v_main.findViewById(R.id.btn_tostart);
+        btn_toend = v_main.findViewById(R.id.btn_toend);
         tv_info = v_main.findViewById(R.id.tv_info);
         cl_psuedocode = v_main.findViewById(R.id.cl_psuedocode);
         sv_psuedocode = v_main.findViewById(R.id.sv_psuedocode);
@@ -119,7 +135,10 @@ public class QuickSortActivity extends BaseActivity {
         btn_clear = v_menu_right.findViewById(R.id.btn_clear);
         sw_randomarray = v_menu_right.findViewById(R.id.sw_randomarray);
         et_customarray = v_menu_right.findViewById(R.id.et_customarray);
+        sp_distribution = v_menu_right.findViewById(R.id.sp_distribution);
+        et_seed = v_menu_right.findViewById(R.id.et_seed);
         rg_pivot = v_menu_right.findViewById(R.id.rg_pivot);
+        sw_introsort = v_menu_right.findViewById(R.id.sw_introsort);
 
         btn_closenav = v_menu_left.findViewById(R.id.btn_closenav);
         cl_home = v_menu_left.findViewById(R.id.cl_home);
@@ -129,7 +148,7 @@ public class QuickSortActivity extends BaseActivity {
         cl_mergesort = v_menu_left.findViewById(R.id.cl_mergesort);
         cl_quicksort = v_menu_left.findViewById(R.id.cl_quicksort);
 
-        tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress() + 1));
+        tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
 
         initOnBoarding();
         initPseudoCode();
@@ -144,7 +163,7 @@ public class QuickSortActivity extends BaseActivity {
                     isRandomArray = true;
                     et_customarray.setError(null);
                     sw_randomarray.setText(sw_randomarray.getTextOn());
-                    tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress()+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(sb_arraysize.getProgress())));
                 }
                 else {
                     isRandomArray = false;
@@ -153,7 +172,7 @@ public class QuickSortActivity extends BaseActivity {
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -187,7 +206,7 @@ public class QuickSortActivity extends BaseActivity {
                     if (s != null || !s.toString().isEmpty()) {
                         String[] customInput = s.toString().split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -212,32 +231,16 @@ public class QuickSortActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                autoAnimSpeed = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                autoAnimSpeed = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                playbackEngine.setStepDuration(autoAnimSpeed);
             }
 
             @Override
             public void onStartTrackingTouch(SeekBar seekBar) {}
 
             @Override
-            public void onStopTrackingTouch(SeekBar seekBar) {
-               if (quickSort != null && isAutoPlay) {
-                    timer.cancel();
-                    timer = new Timer();
-                    timer.schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            if (quickSort.sequence.curSeqNo < quickSort.sequence.size)
-                                onForwardClick();
-                            else {
-                                isAutoPlay = false;
-                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                timer.cancel();
-                            }
-                        }
-                    }, 0, autoAnimSpeed);
-                }
-            }
+            public void onStopTrackingTouch(SeekBar seekBar) {}
         });
 
         // Auto Animation Play/Pause Button
@@ -246,26 +249,33 @@ public class QuickSortActivity extends BaseActivity {
             public void onClick(View v) {
                 if(quickSort != null){
                     if(isAutoPlay){
-                        isAutoPlay = false;
-                        btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                        timer.cancel();
+                        playbackEngine.stop();
                     }
                     else{
                         isAutoPlay = true;
                         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PAUSE_BUTTON));
-                        timer = new Timer();
-                        timer.schedule(new TimerTask() {
+                        playbackEngine.start(autoAnimSpeed, new PlaybackEngine.OnPlaybackListener() {
                             @Override
-                            public void run() {
-                                if (quickSort.sequence.curSeqNo < quickSort.sequence.size)
-                                    onForwardClick();
-                                else {
-                                    isAutoPlay = false;
-                                    btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                    timer.cancel();
+                            public boolean onStep() {
+                                if(quickSort == null)
+                                    return false;
+
+                                return quickSort.sequence.forward() && quickSort.sequence.curSeqNo < quickSort.sequence.size;
+                            }
+
+                            @Override
+                            public void onFrame() {
+                                if(quickSort != null){
+                                    showState(quickSort.sequence.curSeqNo);
                                 }
                             }
-                        }, 0, autoAnimSpeed);
+
+                            @Override
+                            public void onStop() {
+                                isAutoPlay = false;
+                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                            }
+                        });
                     }
                 }
             }
@@ -277,7 +287,7 @@ public class QuickSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onBackwardClick();
             }
         });
@@ -288,11 +298,54 @@ public class QuickSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
                 onForwardClick();
             }
         });
 
+        // Jumps to the first or the last step at once, without playing the steps in between
+        btn_tostart.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                onSeek(0);
+            }
+        });
+
+        btn_toend.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+                if(quickSort != null) {
+                    onSeek(quickSort.sequence.size);
+                }
+            }
+        });
+
+        // Scrub Bar, jumps directly to the selected animation step
+        sb_seqno.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                if(fromUser){
+                    onSeek(progress);
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                playbackEngine.stop();
+            }
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
         // Info Button
         btn_info.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -305,14 +358,22 @@ public class QuickSortActivity extends BaseActivity {
                 TextView tv_space = view.findViewById(R.id.tv_space);
                 TextView tv_stable = view.findViewById(R.id.tv_stable);
                 TextView tv_comparisons = view.findViewById(R.id.tv_comparisons);
+                TextView tv_operations = view.findViewById(R.id.tv_operations);
+                TextView tv_memory = view.findViewById(R.id.tv_memory);
+                SortingMetricsView smv_metrics = view.findViewById(R.id.smv_metrics);
                 ImageButton btn_close = view.findViewById(R.id.btn_close);
 
                 String comparisons = "-";
+                String operations = "-";
+                String memory = "-";
                 if(quickSort != null) {
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
-                    comparisons = String.valueOf(quickSort.comparisons);
+                    playbackEngine.stop();
+                    comparisons = quickSort.getComparisonsString();
+                    operations = quickSort.metrics.getOperationsString();
+                    memory = quickSort.metrics.getMemoryString();
+                    smv_metrics.setMetrics(quickSort.metrics, quickSort.sequence.curSeqNo);
                 }
 
                 tv_name.setText(QuickSortStats.name);
@@ -322,6 +383,8 @@ public class QuickSortActivity extends BaseActivity {
                 UtilUI.setTextInBigONotation(tv_space, QuickSortStats.space);
                 tv_stable.setText(QuickSortStats.stable);
                 tv_comparisons.setText(comparisons);
+                tv_operations.setText(operations);
+                tv_memory.setText(memory);
 
                 final Dialog dialog = new Dialog(context);
                 dialog.setContentView(view);
@@ -342,7 +405,7 @@ public class QuickSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(1);
             }
@@ -360,7 +423,7 @@ public class QuickSortActivity extends BaseActivity {
             public void onClick(View v) {
                 isAutoPlay = false;
                 btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                timer.cancel();
+                playbackEngine.stop();
 
                 openDrawer(2);
             }
@@ -387,7 +450,7 @@ public class QuickSortActivity extends BaseActivity {
                 if(slideOffset >= 0.35){
                     isAutoPlay = false;
                     btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                    timer.cancel();
+                    playbackEngine.stop();
                 }
             }
 
@@ -415,7 +478,7 @@ public class QuickSortActivity extends BaseActivity {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
                 if(isRandomArray)
-                    tv_arraysize.setText(String.valueOf(progress+1));
+                    tv_arraysize.setText(String.valueOf(SortingInputGenerator.getArraySize(progress)));
             }
 
             @Override
@@ -429,11 +492,10 @@ public class QuickSortActivity extends BaseActivity {
         btn_generate.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int arraySize = sb_arraysize.getProgress() + 1;
-                if(quickSort != null){
-                    quickSort.linearLayout.removeAllViews();
-                    quickSort = null;
-                }
+                int arraySize = SortingInputGenerator.getArraySize(sb_arraysize.getProgress());
+                sortingTask.cancel();
+                ll_anim.removeAllViews();
+                quickSort = null;
 
                 PivotType pivotType = PivotType.FIRST;
                 int checkedRadioButtonId = rg_pivot.getCheckedRadioButtonId();
@@ -447,16 +509,32 @@ public class QuickSortActivity extends BaseActivity {
                     else if(checkedRadioButtonId == R.id.rb_end){
                         pivotType = PivotType.END;
                     }
+                    else if(checkedRadioButtonId == R.id.rb_random){
+                        pivotType = PivotType.RANDOM;
+                    }
+                    else if(checkedRadioButtonId == R.id.rb_medianofthree){
+                        pivotType = PivotType.MEDIAN_OF_THREE;
+                    }
+                    else if(checkedRadioButtonId == R.id.rb_ninther){
+                        pivotType = PivotType.NINTHER;
+                    }
+                    else if(checkedRadioButtonId == R.id.rb_dualpivot){
+                        pivotType = PivotType.DUAL_PIVOT;
+                    }
                 }
+                boolean isIntroSort = sw_introsort.isChecked();
+                // Seeds the input and RANDOM pivots, so a typed seed reproduces the whole sequence
+                long seed = SortingInputGenerator.parseSeed(et_seed.getText().toString(), random);
+                et_seed.setHint(getString(R.string.seed) + " " + seed);
                 if(isRandomArray){
-                    quickSort = new QuickSort(context, ll_anim, arraySize, pivotType);
+                    record(new QuickSort(context, ll_anim, generateInput(arraySize, seed), pivotType, isIntroSort, seed));
                 }
                 else {
                     String customArray = et_customarray.getText().toString();
                     if(customArray != null || !customArray.isEmpty()){
                         String[] customInput = customArray.split(",");
                         int length = customInput.length;
-                        if(length > 16){
+                        if(length > AppSettings.MAX_BAR_ELEMENTS){
                             et_customarray.setError("Decrease elements");
                             tv_arraysize.setText("0");
                         }
@@ -466,7 +544,7 @@ public class QuickSortActivity extends BaseActivity {
                                 for (int i = 0; i < data.length; i++) {
                                     data[i] = Integer.parseInt(customInput[i]);
                                 }
-                                quickSort = new QuickSort(context, ll_anim, data, pivotType);
+                                record(new QuickSort(context, ll_anim, data, pivotType, isIntroSort, seed));
                             }
                             catch (NumberFormatException e){
                                 et_customarray.setError("Bad Input");
@@ -484,10 +562,9 @@ public class QuickSortActivity extends BaseActivity {
         btn_clear.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                if(quickSort != null) {
-                    quickSort.linearLayout.removeAllViews();
-                    quickSort = null;
-                }
+                sortingTask.cancel();
+                ll_anim.removeAllViews();
+                quickSort = null;
                 initViews();
             }
         });
@@ -503,7 +580,7 @@ public class QuickSortActivity extends BaseActivity {
                             cl_psuedocode.postDelayed(new Runnable() {
                                 @Override
                                 public void run() {
-                                    if(quickSort != null){
+                                    if(quickSort != null && quickSort.views != null){
                                         int width = ll_anim.getWidth();
                                         int div = width / quickSort.arraySize;
 
@@ -525,7 +602,7 @@ public class QuickSortActivity extends BaseActivity {
                     cl_psuedocode.postDelayed(new Runnable() {
                         @Override
                         public void run() {
-                            if(quickSort != null){
+                            if(quickSort != null && quickSort.views != null){
                                 int width = ll_anim.getWidth();
                                 int div = width / quickSort.arraySize;
 
@@ -552,38 +629,52 @@ public class QuickSortActivity extends BaseActivity {
 
     }
 
+    // Array of the selected input distribution, the seed used is shown in et_seed so the array can be generated again
+    private int[] generateInput(int arraySize, long seed){
+        InputDistribution distribution = InputDistribution.values()[sp_distribution.getSelectedItemPosition()];
+        return SortingInputGenerator.generate(distribution, arraySize, AppSettings.SORTING_ELEMENT_BOUND, seed);
+    }
+
     private void onForwardClick(){
         if (quickSort != null) {
             quickSort.forward();
-            final int curSeqNo = quickSort.sequence.curSeqNo;
+            showState(quickSort.sequence.curSeqNo);
+        }
+    }
 
-            runOnUiThread(new Runnable() {
-                @Override
-                public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + quickSort.sequence.sortingAnimationStates.size());
-                    if(curSeqNo < quickSort.sequence.size) {
-                        String state = quickSort.sequence.sortingAnimationStates.get(curSeqNo).state;
-                        if(QuickSortInfo.map.containsKey(state)){
-                            Integer[] integers = QuickSortInfo.map.get(state);
-                            UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
-                        }
-                        UtilUI.setText(tv_info, quickSort.sequence.sortingAnimationStates.get(curSeqNo).info);
-                        UtilUI.changePointers(quickSort.sequence.sortingAnimationStates.get(curSeqNo).pointers,
-                                quickSort.views);
-                        UtilUI.highlightCombined(context, quickSort.sortedIndexes,
-                                quickSort.views, curSeqNo,
-                                quickSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
-                    }
-                    else{
-                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
-                        UtilUI.setText(tv_info, "Array is sorted");
-                        UtilUI.highlightCombined(context, quickSort.sortedIndexes,
-                                quickSort.views, -1,
-                                null);
+    // Jumps directly to the animation step seqNo, used by the scrub bar
+    private void onSeek(int seqNo){
+        if (quickSort != null) {
+            quickSort.sequence.seek(seqNo);
+            showState(quickSort.sequence.curSeqNo);
+        }
+    }
+
+    // Shows info, pseudocode and highlighted elements of the animation step curSeqNo
+    private void showState(final int curSeqNo){
+        runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, quickSort.sequence.size);
+                if(curSeqNo < quickSort.sequence.size) {
+                    String state = quickSort.sequence.sortingAnimationStates.get(curSeqNo).state;
+                    if(QuickSortInfo.map.containsKey(state)){
+                        Integer[] integers = QuickSortInfo.map.get(state);
+                        UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
+                    UtilUI.setText(tv_info, quickSort.sequence.sortingAnimationStates.get(curSeqNo).info);
+                    quickSort.sequence.changePointers(quickSort.sequence.sortingAnimationStates.get(curSeqNo).pointers);
+                    quickSort.sequence.highlightCombined(context, quickSort.sortedIndexes, curSeqNo,
+                            quickSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
-            });
-        }
+                else{
+                    UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
+                    UtilUI.setText(tv_info, "Array is sorted");
+                    quickSort.sequence.highlightCombined(context, quickSort.sortedIndexes, -1,
+                            null);
+                }
+            }
+        });
     }
 
     private void onBackwardClick(){
@@ -593,17 +684,15 @@ public class QuickSortActivity extends BaseActivity {
             runOnUiThread(new Runnable() {
                 @Override
                 public void run() {
-                    tv_seqno.setText(curSeqNo + " / " + quickSort.sequence.sortingAnimationStates.size());
+                    UtilUI.setSeqNo(tv_seqno, sb_seqno, curSeqNo, quickSort.sequence.size);
                     UtilUI.setText(tv_info, quickSort.sequence.sortingAnimationStates.get(curSeqNo).info);
                     String state = quickSort.sequence.sortingAnimationStates.get(curSeqNo).state;
                     if (QuickSortInfo.map.containsKey(state)) {
                         Integer[] integers = QuickSortInfo.map.get(state);
                         UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
                     }
-                    UtilUI.changePointers(quickSort.sequence.sortingAnimationStates.get(curSeqNo).pointers,
-                            quickSort.views);
-                    UtilUI.highlightCombined(context, quickSort.sortedIndexes,
-                            quickSort.views, curSeqNo,
+                    quickSort.sequence.changePointers(quickSort.sequence.sortingAnimationStates.get(curSeqNo).pointers);
+                    quickSort.sequence.highlightCombined(context, quickSort.sortedIndexes, curSeqNo,
                             quickSort.sequence.sortingAnimationStates.get(curSeqNo).highlightIndexes);
                 }
             });
@@ -631,12 +720,36 @@ public class QuickSortActivity extends BaseActivity {
         }
     }
 
+    // Records steps of quickSort in background, it is shown once all its steps are recorded
+    private void record(final QuickSort quickSort){
+        sortingTask.start(quickSort, new SortingTask.OnSortingTaskListener() {
+            @Override
+            public void onCompleted() {
+                QuickSortActivity.this.quickSort = quickSort;
+                initViews();
+            }
+
+            @Override
+            public void onFailed(String message) {
+                ll_anim.removeAllViews();
+                initViews();
+                UtilUI.setText(tv_info, message);
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        sortingTask.cancel();
+        super.onDestroy();
+    }
+
     @Override
     protected void initViews() {
         if(quickSort != null){
-            tv_seqno.setText("0 / " + quickSort.sequence.sortingAnimationStates.size());
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, quickSort.sequence.size);
             UtilUI.setText(tv_info, quickSort.sequence.sortingAnimationStates.get(0).info);
-            UtilUI.highlightViews(context, quickSort.sequence.views,
+            quickSort.sequence.highlightViews(context,
                     quickSort.sequence.sortingAnimationStates.get(0).highlightIndexes);
             String state = quickSort.sequence.sortingAnimationStates.get(0).state;
             if(QuickSortInfo.map.containsKey(state)){
@@ -644,15 +757,13 @@ public class QuickSortActivity extends BaseActivity {
                 UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, integers);
             }
 
-            UtilUI.changePointers(quickSort.sequence.sortingAnimationStates.get(0).pointers,
-                    quickSort.views);
+            quickSort.sequence.changePointers(quickSort.sequence.sortingAnimationStates.get(0).pointers);
 
-            UtilUI.highlightSortedElements(context, quickSort.sortedIndexes,
-                    quickSort.views, 0);
+            quickSort.sequence.highlightSortedElements(context, quickSort.sortedIndexes, 0);
         }
         else{
-            tv_seqno.setText("0 / 0");
-            UtilUI.setText(tv_info, "-");
+            UtilUI.setSeqNo(tv_seqno, sb_seqno, 0, 0);
+            UtilUI.setText(tv_info, sortingTask.isRunning() ? "Recording steps ..." : "-");
             UtilUI.changeTextViewsColors(context, sv_psuedocode, textViews, null);
         }
     }
@@ -715,7 +826,7 @@ public class QuickSortActivity extends BaseActivity {
     protected void back(){
         isAutoPlay = false;
         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-        timer.cancel();
+        playbackEngine.stop();
 
         View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
 
@@ -760,6 +871,9 @@ public class QuickSortActivity extends BaseActivity {
         TooltipCompat.setTooltipText(btn_backward, "Backward");
         TooltipCompat.setTooltipText(tv_info, "Current Animation Info");
         TooltipCompat.setTooltipText(tv_seqno, "Animation Step Counter");
+        TooltipCompat.setTooltipText(sb_seqno, "Jump to Animation Step");
+        TooltipCompat.setTooltipText(btn_tostart, "Jump to Start");
+        TooltipCompat.setTooltipText(btn_toend, "Jump to Result");
 
         // Right Menu
         TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
@@ -0,0 +1,506 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.quick;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingEngine;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingRecorder;
+import com.iiitd.dsavisualizer.utility.Pair;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+// Records the sequence of QuickSort on a SortingRecorder, without any View
+// Used by the QuickSort backend, and directly on a plain JVM [ benchmark module ]
+public class QuickSortGenerator {
+    public static final int NINTHER_SIZE = 9;      // smaller subranges use median of three instead of ninther
+
+    final SortingRecorder sequence;
+    final SortingMetrics metrics;
+    final QuickSortData[] quickSortData;
+    final Random random;                    // RANDOM pivots
+    final PivotType pivotType;
+    final boolean isIntroSort;              // subranges deeper than depthLimit are sorted by heapSort()
+    public final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+    final int depthLimit;                   // 2 * floor(log2(n))
+    int noOfFallbacks;                      // no of heapSort() calls
+    int heapSortComparisons;                // comparisons made by heapSort() calls
+
+    // data[i] is the element with index i
+    public QuickSortGenerator(int[] data, SortingRecorder sequence, SortingMetrics metrics,
+                              PivotType pivotType, boolean isIntroSort, Random random) {
+        this.sequence = sequence;
+        this.metrics = metrics;
+        this.quickSortData = new QuickSortData[data.length];
+        this.random = random;
+        this.pivotType = pivotType;
+        this.isIntroSort = isIntroSort;
+        this.sortedIndexes = new ArrayList<>();
+        this.depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(1, data.length)));
+        this.noOfFallbacks = 0;
+        this.heapSortComparisons = 0;
+
+        for(int i=0;i<data.length;i++){
+            QuickSortData quickSortData1 = new QuickSortData();
+            quickSortData1.data = data[i];
+            quickSortData1.index = i;
+            quickSortData[i] = quickSortData1;
+        }
+    }
+
+    // Records the complete sequence, may run on a worker thread
+    public void generate(){
+        metrics.start();
+        quicksort();
+        metrics.stop();
+    }
+
+    private void quicksort(){
+        sequence.beginStep(QuickSortInfo.QS,
+                QuickSortInfo.INFO_QUICK_SORT, 0, quickSortData.length-1);
+        sequence.endStep();
+        sort(quickSortData, 0, quickSortData.length-1, 0);
+
+        if(isIntroSort){
+            sequence.beginStep(QuickSortInfo.INTRO_DONE, QuickSortInfo.INFO_INTRO_DONE,
+                    metrics.comparisons, noOfFallbacks, heapSortComparisons);
+            sequence.endStep();
+        }
+    }
+
+    private int partition(QuickSortData[] arr, int low, int high){
+        sequence.beginStep(QuickSortInfo.PA, QuickSortInfo.INFO_PARTITION, low, high);
+        for(int z=low;z<=high;z++){
+            sequence.move(arr[z].index, SortingEngine.OP_DOWN, 1);
+        }
+        sequence.endStep();
+
+        int pivot = selectPivot(arr, low, high);
+        if(pivot != low){
+            sequence.beginStep(QuickSortInfo.PI, QuickSortInfo.getPivotSwap());
+            int val = Math.abs(pivot - low);
+            sequence.move(arr[low].index, SortingEngine.OP_RIGHT, val);
+            sequence.move(arr[pivot].index, SortingEngine.OP_LEFT, val);
+            sequence.pointer(arr[pivot].index, "P");
+            sortedIndexes.add(new Pair<>(sequence.size, arr[pivot].index));
+            sequence.endStep();
+            metrics.swaps++;
+            metrics.reads += 2;
+            metrics.writes += 2;
+            swap(arr[low], arr[pivot]);
+        }
+
+        int i = low+1;
+        int j = low+1;
+        QuickSortData pivotElement = arr[low];
+        metrics.reads++;
+
+        sequence.beginStep(QuickSortInfo.PI, QuickSortInfo.INFO_PIVOT, pivotElement.data);
+        sequence.pointer(pivotElement.index, "P");
+        sequence.endStep();
+
+        sequence.beginStep(QuickSortInfo.PA_START, QuickSortInfo.getPartitionStart());
+        sequence.pointer(pivotElement.index, "P");
+        sequence.pointer(arr[i].index, "I");
+        sequence.pointer(arr[j].index, "J");
+        sequence.endStep();
+
+        for (; j<=high; j++){
+            metrics.comparisons++;
+            metrics.reads++;
+            // Pointers are at the elements before swapping
+            int pointerI = arr[i].index;
+            int pointerJ = arr[j].index;
+            if (arr[j].data < pivotElement.data){
+                int val = j-i;
+                sequence.beginStep(QuickSortInfo.E_LESSER_P,
+                        QuickSortInfo.INFO_COMPARED, arr[j].data, pivotElement.data, j, i);
+                sequence.move(arr[i].index, SortingEngine.OP_RIGHT, val);
+                sequence.move(arr[j].index, SortingEngine.OP_LEFT, val);
+                sequence.highlight(arr[i].index, arr[j].index);
+                metrics.swaps++;
+                metrics.reads += 2;
+                metrics.writes += 2;
+                swap(arr[i], arr[j]);
+                i++;
+            }
+            else{
+                sequence.beginStep(QuickSortInfo.E_GREATEREQUAL_P,
+                        QuickSortInfo.INFO_COMPARED, arr[j].data, pivotElement.data, j, i);
+                sequence.highlight(arr[i].index, arr[j].index);
+            }
+            sequence.pointer(pivotElement.index, "P");
+            sequence.pointer(pointerI, "I");
+            sequence.pointer(pointerJ, "J");
+            sequence.endStep();
+        }
+
+        int val2 = i-1-low;
+        sequence.beginStep(QuickSortInfo.SWAP_END, QuickSortInfo.INFO_END_SWAP, low, i-1);
+        sequence.move(arr[low].index, SortingEngine.OP_RIGHT, val2);
+        sequence.move(arr[i-1].index, SortingEngine.OP_LEFT, val2);
+        sequence.pointer(pivotElement.index, "P");
+        sequence.pointer(arr[i-1].index, "I-1");
+        sequence.highlight(arr[i-1].index, pivotElement.index);
+        sequence.endStep();
+        metrics.swaps++;
+        metrics.reads += 2;
+        metrics.writes += 2;
+        swap(arr[low], arr[i-1]);
+
+        sortedIndexes.add(new Pair<>(sequence.size, arr[i-1].index));
+        sequence.beginStep(QuickSortInfo.PA_U, QuickSortInfo.PA_U);
+        for(int z=low;z<=high;z++){
+            sequence.move(quickSortData[z].index, SortingEngine.OP_UP, 1);
+        }
+        sequence.endStep();
+
+
+        return i-1;
+    }
+
+    // depth => no of quicksort calls above this one, introsort falls back to heapSort() past depthLimit
+    private void sort(QuickSortData[] arr, int low, int high, int depth){
+        metrics.enter();
+        if (low < high && isIntroSort && depth > depthLimit) {
+            heapSort(arr, low, high, depth);
+        }
+        else if (low < high && pivotType == PivotType.DUAL_PIVOT) {
+            int[] pivots = dualPivotPartition(arr, low, high);
+            int lp = pivots[0];
+            int rp = pivots[1];
+
+            if(low <= lp-1) {
+                sequence.beginStep(QuickSortInfo.LS, QuickSortInfo.INFO_QUICK_SORT, low, lp - 1);
+                sequence.endStep();
+            }
+            sort(arr, low, lp-1, depth+1);
+
+            if(lp+1 <= rp-1) {
+                sequence.beginStep(QuickSortInfo.MS, QuickSortInfo.INFO_QUICK_SORT, lp + 1, rp - 1);
+                sequence.endStep();
+            }
+            sort(arr, lp+1, rp-1, depth+1);
+
+            if(rp+1 <= high) {
+                sequence.beginStep(QuickSortInfo.RS, QuickSortInfo.INFO_QUICK_SORT, rp + 1, high);
+                sequence.endStep();
+            }
+            sort(arr, rp+1, high, depth+1);
+        }
+        else if (low < high) {
+            int pi = partition(arr, low, high);
+
+            if(low <= pi-1) {
+                sequence.beginStep(QuickSortInfo.LS, QuickSortInfo.INFO_QUICK_SORT, low, pi - 1);
+                sequence.endStep();
+            }
+            sort(arr, low, pi-1, depth+1);
+
+            if(pi+1 <= high) {
+                sequence.beginStep(QuickSortInfo.RS, QuickSortInfo.INFO_QUICK_SORT, pi + 1, high);
+                sequence.endStep();
+            }
+            sort(arr, pi + 1, high, depth+1);
+
+        }
+        else if (low >=0 && low < arr.length && high >=0 && high <arr.length){
+            sequence.beginStep(QuickSortInfo.SINGLE_PARTITION, QuickSortInfo.SINGLE_PARTITION);
+            sequence.endStep();
+            sortedIndexes.add(new Pair<>(sequence.size, arr[low].index));
+        }
+        metrics.exit();
+    }
+
+    // Index of the pivot in [ low, high ], candidates of median strategies are shown in a step
+    private int selectPivot(QuickSortData[] arr, int low, int high){
+        int mid = (low + high)/2;
+        switch (pivotType){
+            case MIDDLE:
+                return mid;
+            case END:
+                return high;
+            case RANDOM:
+                return low + random.nextInt(high - low + 1);
+            case MEDIAN_OF_THREE:
+            {
+                int pivot = median(arr, low, mid, high);
+                sequence.beginStep(QuickSortInfo.PIVOT_SELECT, QuickSortInfo.INFO_MEDIAN_OF_THREE,
+                        arr[low].data, arr[mid].data, arr[high].data, arr[pivot].data);
+                sequence.highlight(arr[low].index, arr[mid].index, arr[high].index);
+                sequence.pointer(arr[pivot].index, "P");
+                sequence.endStep();
+                return pivot;
+            }
+            case NINTHER:
+            {
+                // Tukey's ninther, median of the medians of 3 groups of 3, too few elements => median of three
+                int pivot;
+                int n = high - low + 1;
+                if(n >= NINTHER_SIZE){
+                    int eighth = n/8;
+                    int m1 = median(arr, low, low + eighth, low + 2*eighth);
+                    int m2 = median(arr, mid - eighth, mid, mid + eighth);
+                    int m3 = median(arr, high - 2*eighth, high - eighth, high);
+                    pivot = median(arr, m1, m2, m3);
+                    sequence.beginStep(QuickSortInfo.PIVOT_SELECT, QuickSortInfo.INFO_NINTHER,
+                            arr[m1].data, arr[m2].data, arr[m3].data, arr[pivot].data);
+                    sequence.highlight(arr[low].index, arr[low + eighth].index, arr[low + 2*eighth].index,
+                            arr[mid - eighth].index, arr[mid].index, arr[mid + eighth].index,
+                            arr[high - 2*eighth].index, arr[high - eighth].index, arr[high].index);
+                }
+                else{
+                    pivot = median(arr, low, mid, high);
+                    sequence.beginStep(QuickSortInfo.PIVOT_SELECT, QuickSortInfo.INFO_MEDIAN_OF_THREE,
+                            arr[low].data, arr[mid].data, arr[high].data, arr[pivot].data);
+                    sequence.highlight(arr[low].index, arr[mid].index, arr[high].index);
+                }
+                sequence.pointer(arr[pivot].index, "P");
+                sequence.endStep();
+                return pivot;
+            }
+            default:
+                return low;
+        }
+    }
+
+    // Index of the median of arr[a], arr[b] and arr[c], 2 or 3 comparisons
+    private int median(QuickSortData[] arr, int a, int b, int c){
+        metrics.comparisons += 2;
+        metrics.reads += 4;
+        if(arr[a].data < arr[b].data){
+            if(arr[b].data < arr[c].data)
+                return b;
+
+            metrics.comparisons++;
+            metrics.reads += 2;
+            return arr[a].data < arr[c].data ? c : a;
+        }
+
+        if(arr[a].data < arr[c].data)
+            return a;
+
+        metrics.comparisons++;
+        metrics.reads += 2;
+        return arr[b].data < arr[c].data ? c : b;
+    }
+
+    // Yaroslavskiy's partition around pivots p = data[low] <= q = data[high]
+    // [ low+1, lt-1 ] < p, [ lt, i-1 ] in [ p, q ], [ gt+1, high-1 ] > q
+    // returns final indexes of p and q
+    private int[] dualPivotPartition(QuickSortData[] arr, int low, int high){
+        sequence.beginStep(QuickSortInfo.PA, QuickSortInfo.INFO_PARTITION, low, high);
+        for(int z=low;z<=high;z++){
+            sequence.move(arr[z].index, SortingEngine.OP_DOWN, 1);
+        }
+        sequence.endStep();
+
+        metrics.comparisons++;
+        metrics.reads += 2;
+        if(arr[low].data > arr[high].data){
+            sequence.beginStep(QuickSortInfo.DP_PIVOTS_SWAP, QuickSortInfo.INFO_END_SWAP, low, high);
+            sequence.highlight(arr[low].index, arr[high].index);
+            swap(arr, low, high);
+            sequence.endStep();
+        }
+
+        QuickSortData p = arr[low];
+        QuickSortData q = arr[high];
+        metrics.reads += 2;
+        sortedIndexes.add(new Pair<>(sequence.size, p.index));
+        sortedIndexes.add(new Pair<>(sequence.size, q.index));
+        sequence.beginStep(QuickSortInfo.DP_PIVOTS, QuickSortInfo.INFO_DUAL_PIVOTS, p.data, q.data);
+        sequence.pointer(p.index, "P");
+        sequence.pointer(q.index, "Q");
+        sequence.endStep();
+
+        int lt = low+1;
+        int gt = high-1;
+        int i = low+1;
+        while (i <= gt){
+            metrics.comparisons++;
+            metrics.reads += 2;
+            if(arr[i].data < p.data){
+                sequence.beginStep(QuickSortInfo.DP_LESSER, QuickSortInfo.INFO_DUAL_LESSER, arr[i].data, p.data, i, lt);
+                dualPivotPointers(arr, p, q, lt, i, gt);
+                sequence.highlight(arr[i].index, arr[lt].index);
+                swap(arr, i, lt);
+                sequence.endStep();
+                lt++;
+            }
+            else {
+                metrics.comparisons++;
+                metrics.reads++;
+                if(arr[i].data > q.data){
+                    while (i < gt){
+                        metrics.comparisons++;
+                        metrics.reads++;
+                        if(arr[gt].data <= q.data)
+                            break;
+
+                        sequence.beginStep(QuickSortInfo.DP_GREATER, QuickSortInfo.INFO_DUAL_SKIP, arr[gt].data, q.data);
+                        dualPivotPointers(arr, p, q, lt, i, gt);
+                        sequence.highlight(arr[gt].index);
+                        sequence.endStep();
+                        gt--;
+                    }
+
+                    sequence.beginStep(QuickSortInfo.DP_GREATER, QuickSortInfo.INFO_DUAL_GREATER, arr[i].data, q.data, i, gt);
+                    dualPivotPointers(arr, p, q, lt, i, gt);
+                    sequence.highlight(arr[i].index, arr[gt].index);
+                    swap(arr, i, gt);
+                    sequence.endStep();
+                    gt--;
+
+                    // Element swapped in from gt is <= q, it may still be < p
+                    metrics.comparisons++;
+                    metrics.reads++;
+                    if(arr[i].data < p.data){
+                        sequence.beginStep(QuickSortInfo.DP_LESSER, QuickSortInfo.INFO_DUAL_LESSER, arr[i].data, p.data, i, lt);
+                        dualPivotPointers(arr, p, q, lt, i, gt);
+                        sequence.highlight(arr[i].index, arr[lt].index);
+                        swap(arr, i, lt);
+                        sequence.endStep();
+                        lt++;
+                    }
+                }
+                else{
+                    sequence.beginStep(QuickSortInfo.DP_BETWEEN, QuickSortInfo.INFO_DUAL_BETWEEN, p.data, arr[i].data, q.data);
+                    dualPivotPointers(arr, p, q, lt, i, gt);
+                    sequence.highlight(arr[i].index);
+                    sequence.endStep();
+                }
+            }
+            i++;
+        }
+
+        // Pivots to their final places, both swaps touch different elements so they share a step
+        lt--;
+        gt++;
+        sequence.beginStep(QuickSortInfo.DP_SWAP_END, QuickSortInfo.INFO_DUAL_END_SWAP, low, lt, high, gt);
+        sequence.pointer(p.index, "P");
+        sequence.pointer(q.index, "Q");
+        sequence.highlight(p.index, q.index);
+        swap(arr, low, lt);
+        swap(arr, high, gt);
+        sequence.endStep();
+
+        sequence.beginStep(QuickSortInfo.PA_U, QuickSortInfo.PA_U);
+        for(int z=low;z<=high;z++){
+            sequence.move(arr[z].index, SortingEngine.OP_UP, 1);
+        }
+        sequence.endStep();
+
+        return new int[]{lt, gt};
+    }
+
+    private void dualPivotPointers(QuickSortData[] arr, QuickSortData p, QuickSortData q, int lt, int i, int gt){
+        sequence.pointer(p.index, "P");
+        sequence.pointer(q.index, "Q");
+        sequence.pointer(arr[lt].index, "L");
+        sequence.pointer(arr[i].index, "I");
+        sequence.pointer(arr[gt].index, "G");
+    }
+
+    // Introsort fallback, heapsort of [ low, high ] once quicksort recursion is deeper than depthLimit
+    // Bounds the worst case to nlog(n), comparisons made here are also counted in heapSortComparisons
+    private void heapSort(QuickSortData[] arr, int low, int high, int depth){
+        int comparisons = metrics.comparisons;
+        int n = high - low + 1;
+        noOfFallbacks++;
+
+        sequence.beginStep(QuickSortInfo.HEAP_SORT, QuickSortInfo.INFO_HEAP_SORT, depth, depthLimit, low, high);
+        for(int z=low;z<=high;z++){
+            sequence.move(arr[z].index, SortingEngine.OP_DOWN, 1);
+            sequence.highlight(arr[z].index);
+        }
+        sequence.endStep();
+
+        for(int root=n/2-1;root>=0;root--){
+            siftDown(arr, low, root, n);
+        }
+
+        for(int end=n-1;end>0;end--){
+            metrics.reads++;
+            sequence.beginStep(QuickSortInfo.HEAP_EXTRACT, QuickSortInfo.INFO_HEAP_EXTRACT, arr[low].data, low, low + end);
+            sequence.highlight(arr[low].index, arr[low + end].index);
+            swap(arr, low, low + end);
+            sequence.endStep();
+            sortedIndexes.add(new Pair<>(sequence.size, arr[low + end].index));
+
+            siftDown(arr, low, 0, end);
+        }
+        sortedIndexes.add(new Pair<>(sequence.size, arr[low].index));
+
+        heapSortComparisons += metrics.comparisons - comparisons;
+        sequence.beginStep(QuickSortInfo.HEAP_SORT_DONE, QuickSortInfo.INFO_HEAP_SORT_DONE,
+                low, high, metrics.comparisons - comparisons);
+        for(int z=low;z<=high;z++){
+            sequence.move(arr[z].index, SortingEngine.OP_UP, 1);
+        }
+        sequence.endStep();
+    }
+
+    // Max heap of n elements stored in arr[ low, low+n-1 ], heap index root => arr[low+root]
+    private void siftDown(QuickSortData[] arr, int low, int root, int n){
+        while (2*root+1 < n){
+            int largest = root;
+            int left = 2*root+1;
+            int right = left+1;
+
+            metrics.comparisons++;
+            metrics.reads += 2;
+            if(arr[low + left].data > arr[low + largest].data){
+                largest = left;
+            }
+            if(right < n){
+                metrics.comparisons++;
+                metrics.reads += 2;
+                if(arr[low + right].data > arr[low + largest].data){
+                    largest = right;
+                }
+            }
+
+            sequence.beginStep(QuickSortInfo.HEAP_SIFT, QuickSortInfo.INFO_HEAP_SIFT,
+                    arr[low + root].data, arr[low + largest].data, low + root, low + largest);
+            sequence.highlight(arr[low + left].index, arr[low + root].index);
+            if(right < n){
+                sequence.highlight(arr[low + right].index);
+            }
+            if(largest == root){
+                sequence.endStep();
+                return;
+            }
+            swap(arr, low + root, low + largest);
+            sequence.endStep();
+
+            root = largest;
+        }
+    }
+
+    // Swaps arr[a] and arr[b] within the current step
+    private void swap(QuickSortData[] arr, int a, int b){
+        if(a == b)
+            return;
+
+        int left = Math.min(a, b);
+        int right = Math.max(a, b);
+        sequence.move(arr[left].index, SortingEngine.OP_RIGHT, right - left);
+        sequence.move(arr[right].index, SortingEngine.OP_LEFT, right - left);
+        metrics.swaps++;
+        metrics.reads += 2;
+        metrics.writes += 2;
+        swap(arr[left], arr[right]);
+    }
+
+    // Swaps data and index of a and b
+    private static void swap(QuickSortData a, QuickSortData b){
+        int oldData = a.data;
+        int oldIndex = a.index;
+
+        a.data = b.data;
+        a.index = b.index;
+
+        b.data = oldData;
+        b.index = oldIndex;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.iiitd.dsavisualizer.algorithms.sorting.quick;
 
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInfoFormatter;
+
 import java.util.HashMap;
 
 //HARDCODED INFORMATION, Handle with care
@@ -16,6 +18,39 @@ public class QuickSortInfo {
     /*11*/ public static final String E_LESSER_P = "Element <= Pivot";
     /*2*/  public static final String SINGLE_PARTITION = "Single element is always sorted";
     /*2*/  public static final String SWAP_END = "Swap";
+    /*4*/  public static final String MS = "Sorting Middle Part";
+    /*8*/  public static final String PIVOT_SELECT = "Pivot Selection";
+    /*8*/  public static final String DP_PIVOTS = "Dual Pivots";
+    /*8*/  public static final String DP_PIVOTS_SWAP = "Swap Pivots";
+    /*11*/ public static final String DP_LESSER = "Element < P";
+    /*14*/ public static final String DP_BETWEEN = "P <= Element <= Q";
+    /*14*/ public static final String DP_GREATER = "Element > Q";
+    /*16*/ public static final String DP_SWAP_END = "Swap Pivots To Place";
+    /*19*/ public static final String HEAP_SORT = "Depth Limit Reached";
+    /*20*/ public static final String HEAP_SIFT = "Sift Down";
+    /*21*/ public static final String HEAP_EXTRACT = "Extract Max";
+    /*19*/ public static final String HEAP_SORT_DONE = "Heap Sort Done";
+    /*0*/  public static final String INTRO_DONE = "Intro Sort Done";
+
+    // Info ids, info of these states is formatted lazily by sortingInfoFormatter
+    public static final int INFO_COMPARED = 0;
+    public static final int INFO_PIVOT = 1;
+    public static final int INFO_END_SWAP = 2;
+    public static final int INFO_QUICK_SORT = 3;
+    public static final int INFO_PARTITION = 4;
+    public static final int INFO_MEDIAN_OF_THREE = 5;
+    public static final int INFO_NINTHER = 6;
+    public static final int INFO_DUAL_PIVOTS = 7;
+    public static final int INFO_DUAL_LESSER = 8;
+    public static final int INFO_DUAL_BETWEEN = 9;
+    public static final int INFO_DUAL_SKIP = 10;
+    public static final int INFO_DUAL_GREATER = 11;
+    public static final int INFO_DUAL_END_SWAP = 12;
+    public static final int INFO_HEAP_SORT = 13;
+    public static final int INFO_HEAP_SIFT = 14;
+    public static final int INFO_HEAP_EXTRACT = 15;
+    public static final int INFO_HEAP_SORT_DONE = 16;
+    public static final int INFO_INTRO_DONE = 17;
 
     public static final HashMap<String, Integer[]> map = new HashMap<>();
 
@@ -31,9 +66,22 @@ public class QuickSortInfo {
         map.put(SINGLE_PARTITION, new Integer[]{1, 2});
         map.put(SWAP_END, new Integer[]{16});
         map.put(PA_U, new Integer[]{17});
+        map.put(MS, new Integer[]{4, 5});
+        map.put(PIVOT_SELECT, new Integer[]{8});
+        map.put(DP_PIVOTS, new Integer[]{8});
+        map.put(DP_PIVOTS_SWAP, new Integer[]{8});
+        map.put(DP_LESSER, new Integer[]{11, 12, 13});
+        map.put(DP_BETWEEN, new Integer[]{14, 15});
+        map.put(DP_GREATER, new Integer[]{14, 15});
+        map.put(DP_SWAP_END, new Integer[]{16});
+        map.put(HEAP_SORT, new Integer[]{19, 20});
+        map.put(HEAP_SIFT, new Integer[]{20, 23});
+        map.put(HEAP_EXTRACT, new Integer[]{21, 22});
+        map.put(HEAP_SORT_DONE, new Integer[]{19});
+        map.put(INTRO_DONE, new Integer[]{0});
     }
 
-    public static final int[] boldIndexes = new int[]{0, 7};
+    public static final int[] boldIndexes = new int[]{0, 7, 19};
 
     public static final String[] psuedocode = new String[]{
        /*0*/         "quickSort(data, start, end):",
@@ -44,7 +92,7 @@ public class QuickSortInfo {
        /*5*/         "    quickSort(data, pivot+1, end)",
        /*6*/         "",
        /*7*/         "partition(data, start, end)",
-       /*8*/         "pivot = select pivot(first, last or middle)",
+       /*8*/         "pivot = select pivot(first, middle, end, random or median)",
        /*9*/         "i = start+1",
        /*10*/        "for(j = start+1 to end)",
        /*11*/        "    if(data[j] < pivot)",
@@ -54,7 +102,13 @@ public class QuickSortInfo {
        /*15*/        "        continue",
        /*16*/        "swap data[start] and data[i-1]",
        /*17*/        "return i-1",
-       /*18*/        ""
+       /*18*/        "",
+       /*19*/        "heapSort(data, start, end) [ introsort, depth > 2log(n) ]",
+       /*20*/        "    build max heap of data[start..end]",
+       /*21*/        "    for(k = end to start+1)",
+       /*22*/        "        swap data[start] and data[k]",
+       /*23*/        "        siftDown(data, start, k-1)",
+       /*24*/        ""
     };
 
 
@@ -90,4 +144,106 @@ public class QuickSortInfo {
        return "partition(data, " + left + ", " + right + ")";
     }
 
-}
\ No newline at end of file
+    public static String getMedianOfThreeString(int a, int b, int c, int median){
+        return "Median of " + a + ", " + b + ", " + c + " = " + median;
+    }
+
+    public static String getNintherString(int m1, int m2, int m3, int ninther){
+        return "Ninther, median of medians " + m1 + ", " + m2 + ", " + m3 + " = " + ninther;
+    }
+
+    public static String getDualPivotsString(int p, int q){
+        return "Pivots P : " + p + ", Q : " + q;
+    }
+
+    public static String getDualLesserString(int e, int p, int eIndex, int ltIndex){
+        return e + " < " + p + ", swap data[" + eIndex + "] and data[" + ltIndex + "], l++";
+    }
+
+    public static String getDualBetweenString(int p, int e, int q){
+        return p + " <= " + e + " <= " + q + ", continue";
+    }
+
+    public static String getDualSkipString(int e, int q){
+        return e + " > " + q + ", g--";
+    }
+
+    public static String getDualGreaterString(int e, int q, int eIndex, int gtIndex){
+        return e + " > " + q + ", swap data[" + eIndex + "] and data[" + gtIndex + "], g--";
+    }
+
+    public static String getDualEndSwapString(int start, int lt, int end, int gt){
+        return "swap data[" + start + "] and data[" + lt + "], swap data[" + end + "] and data[" + gt + "]";
+    }
+
+    public static String getHeapSortString(int depth, int depthLimit, int start, int end){
+        return "Depth " + depth + " > " + depthLimit + ", heapSort(data, " + start + ", " + end + ")";
+    }
+
+    public static String getHeapSiftString(int parent, int child, int parentIndex, int childIndex){
+        if(parentIndex == childIndex){
+            return parent + " >= children, heap ok";
+        }
+
+        return parent + " < " + child + ", swap data[" + parentIndex + "] and data[" + childIndex + "]";
+    }
+
+    public static String getHeapExtractString(int max, int start, int end){
+        return "Max " + max + ", swap data[" + start + "] and data[" + end + "]";
+    }
+
+    public static String getHeapSortDoneString(int start, int end, int comparisons){
+        return "heapSort(data, " + start + ", " + end + ") done, " + comparisons + " comparisons";
+    }
+
+    public static String getIntroSortDoneString(int comparisons, int noOfFallbacks, int heapSortComparisons){
+        return comparisons + " comparisons, " + noOfFallbacks + " heapsort fallbacks made " + heapSortComparisons;
+    }
+
+    public static final SortingInfoFormatter sortingInfoFormatter = new SortingInfoFormatter() {
+        @Override
+        public String getInfo(int infoId, int[] infoArgs) {
+            switch (infoId){
+                case INFO_COMPARED:
+                    return getComparedString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_PIVOT:
+                    return getPivot(infoArgs[0]);
+                case INFO_END_SWAP:
+                    return getEndSwap(infoArgs[0], infoArgs[1]);
+                case INFO_QUICK_SORT:
+                    return getQuickSortString(infoArgs[0], infoArgs[1]);
+                case INFO_PARTITION:
+                    return getPartitionString(infoArgs[0], infoArgs[1]);
+                case INFO_MEDIAN_OF_THREE:
+                    return getMedianOfThreeString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_NINTHER:
+                    return getNintherString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_DUAL_PIVOTS:
+                    return getDualPivotsString(infoArgs[0], infoArgs[1]);
+                case INFO_DUAL_LESSER:
+                    return getDualLesserString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_DUAL_BETWEEN:
+                    return getDualBetweenString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                case INFO_DUAL_SKIP:
+                    return getDualSkipString(infoArgs[0], infoArgs[1]);
+                case INFO_DUAL_GREATER:
+                    return getDualGreaterString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_DUAL_END_SWAP:
+                    return getDualEndSwapString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_HEAP_SORT:
+                    return getHeapSortString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_HEAP_SIFT:
+                    return getHeapSiftString(infoArgs[0], infoArgs[1], infoArgs[2], infoArgs[3]);
+                case INFO_HEAP_EXTRACT:
+                    return getHeapExtractString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                case INFO_HEAP_SORT_DONE:
+                    return getHeapSortDoneString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                case INFO_INTRO_DONE:
+                    return getIntroSortDoneString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                default:
+                    return "";
+            }
+        }
+    };
+
+}
@@ -0,0 +1,383 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.race;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.ImageButton;
+import android.widget.LinearLayout;
+import android.widget.SeekBar;
+import android.widget.Spinner;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.widget.TooltipCompat;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.algorithms.sorting.InputDistribution;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInputGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
+import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSort;
+import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSort;
+import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSort;
+import com.iiitd.dsavisualizer.algorithms.sorting.quick.PivotType;
+import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSort;
+import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSort;
+import com.iiitd.dsavisualizer.constants.AppSettings;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Race mode, runs 2 to 5 sorting algorithms on the same input, each on its own worker thread
+// Each lane shows live comparisons, swaps, writes and generation time while its sequence is generated
+// When all lanes are generated, their sequences are played together, a step of every lane per tick
+public class SortingRaceActivity extends AppCompatActivity {
+
+    static final int BUBBLE = 0;
+    static final int SELECTION = 1;
+    static final int INSERTION = 2;
+    static final int MERGE = 3;
+    static final int QUICK = 4;
+    static final String[] NAMES = new String[]{"BubbleSort", "SelectionSort", "InsertionSort", "MergeSort", "QuickSort"};
+    static final int MIN_LANES = 2;
+    static final int MIN_ELEMENTS = 2;
+    static final int STATS_INTERVAL = 100;      // ms between updates of live stats while generating
+
+    Context context;
+    int theme;
+    LinearLayout ll_lanes;
+    CheckBox[] checkBoxes;
+    SeekBar sb_arraysize;
+    TextView tv_arraysize;
+    SeekBar sb_animspeed;
+    Spinner sp_distribution;
+    EditText et_seed;
+    ImageButton btn_start;
+    ImageButton btn_play;
+    ImageButton btn_back;
+
+    final ArrayList<SortingRaceLane> lanes = new ArrayList<>();
+    final Random random = new Random();
+    ExecutorService executorService;
+    PlaybackEngine playbackEngine;
+    int raceNo = 0;                             // incremented by every race, old lanes are ignored
+    int noOfFinished = 0;
+    boolean isAutoPlay = false;
+    int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        theme = UtilUI.getCurrentAppTheme(getApplicationContext());
+        setTheme(theme);
+
+        super.onCreate(savedInstanceState);
+        UtilUI.setWindowSettings(getWindow());
+        setContentView(R.layout.activity_sorting_race);
+        context = this;
+
+        executorService = Executors.newFixedThreadPool(NAMES.length);
+        playbackEngine = new PlaybackEngine();
+
+        initViews();
+        initToolTipTexts();
+
+        sb_arraysize.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                tv_arraysize.setText(String.valueOf(progress + MIN_ELEMENTS));
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
+        sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                animStepDuration = PlaybackEngine.getStepDuration(progress);
+                if(isAutoPlay){
+                    playbackEngine.setStepDuration(animStepDuration);
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
+        btn_start.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                startRace();
+            }
+        });
+
+        btn_play.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                if(isAutoPlay){
+                    playbackEngine.stop();
+                }
+                else{
+                    play();
+                }
+            }
+        });
+
+        btn_back.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+            }
+        });
+
+    }
+
+    private void initViews(){
+        ll_lanes = findViewById(R.id.ll_lanes);
+        checkBoxes = new CheckBox[]{
+                findViewById(R.id.cb_bubblesort),
+                findViewById(R.id.cb_selectionsort),
+                findViewById(R.id.cb_insertionsort),
+                findViewById(R.id.cb_mergesort),
+                findViewById(R.id.cb_quicksort)};
+        sb_arraysize = findViewById(R.id.sb_arraysize);
+        tv_arraysize = findViewById(R.id.tv_arraysize);
+        sp_distribution = findViewById(R.id.sp_distribution);
+        et_seed = findViewById(R.id.et_seed);
+        sb_animspeed = findViewById(R.id.sb_animspeed);
+        btn_start = findViewById(R.id.btn_start);
+        btn_play = findViewById(R.id.btn_play);
+        btn_back = findViewById(R.id.btn_back);
+
+        sb_arraysize.setMax(AppSettings.MAX_RACE_ELEMENTS - MIN_ELEMENTS);
+        tv_arraysize.setText(String.valueOf(sb_arraysize.getProgress() + MIN_ELEMENTS));
+        animStepDuration = PlaybackEngine.getStepDuration(sb_animspeed.getProgress());
+        btn_play.setEnabled(false);
+    }
+
+    private void initToolTipTexts(){
+        TooltipCompat.setTooltipText(btn_start, "Start Race on a Generated Array");
+        TooltipCompat.setTooltipText(btn_play, "Play/Pause All Lanes");
+        TooltipCompat.setTooltipText(btn_back, "Go Back");
+    }
+
+    // Creates a lane for every selected algorithm, all lanes sort a copy of the same generated array
+    private void startRace(){
+        ArrayList<Integer> algorithms = new ArrayList<>();
+        for(int i=0;i<checkBoxes.length;i++){
+            if(checkBoxes[i].isChecked())
+                algorithms.add(i);
+        }
+
+        if(algorithms.size() < MIN_LANES){
+            Toast.makeText(context, "Select at least " + MIN_LANES + " algorithms", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        playbackEngine.stop();
+        cancelLanes();
+        raceNo++;
+        noOfFinished = 0;
+        lanes.clear();
+        ll_lanes.removeAllViews();
+        btn_play.setEnabled(false);
+
+        int arraySize = sb_arraysize.getProgress() + MIN_ELEMENTS;
+        int bound = Math.max(AppSettings.SORTING_ELEMENT_BOUND, arraySize);
+        InputDistribution distribution = InputDistribution.values()[sp_distribution.getSelectedItemPosition()];
+        long seed = SortingInputGenerator.parseSeed(et_seed.getText().toString(), random);
+        et_seed.setHint(getString(R.string.seed) + " " + seed);
+        final int[] data = SortingInputGenerator.generate(distribution, arraySize, bound, seed);
+
+        for(int algorithm : algorithms){
+            lanes.add(SortingRaceLane.create(context, ll_lanes, algorithm, NAMES[algorithm]));
+        }
+
+        // Backends need the size of their lane, so they are created after the lanes are laid out
+        final int curRaceNo = raceNo;
+        ll_lanes.post(new Runnable() {
+            @Override
+            public void run() {
+                if(curRaceNo == raceNo){
+                    generate(curRaceNo, data);
+                }
+            }
+        });
+    }
+
+    // Elements of each lane are drawn here on the UI thread, their sequences are generated concurrently on workers
+    private void generate(final int curRaceNo, int[] data){
+        for(final SortingRaceLane lane : lanes){
+            lane.sortingBackend = createSortingBackend(lane.algorithm, lane.ll_anim, data);
+            lane.updateStats();
+            lane.future = executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    // A throwing or cancelled sort() still finishes the lane, so the stats loop below always stops
+                    boolean isSorted = false;
+                    try {
+                        lane.sortingBackend.sort();
+                        isSorted = true;
+                    }
+                    finally {
+                        lane.isFailed = !isSorted;
+                        lane.isGenerated = true;
+                    }
+                }
+            });
+        }
+
+        // Live stats until every lane is generated
+        playbackEngine.start(STATS_INTERVAL, new PlaybackEngine.OnPlaybackListener() {
+            @Override
+            public boolean onStep() {
+                return !isGenerated();
+            }
+
+            @Override
+            public void onFrame() {
+                updateStats();
+            }
+
+            @Override
+            public void onStop() {
+                if(curRaceNo == raceNo){
+                    updateStats();
+                    btn_play.setEnabled(isGenerated() && !isFailed());
+                    if(isFailed()){
+                        Toast.makeText(context, "Race could not be generated", Toast.LENGTH_SHORT).show();
+                    }
+                }
+            }
+        });
+    }
+
+    private SortingBackend createSortingBackend(int algorithm, LinearLayout linearLayout, int[] data){
+        switch (algorithm){
+            case BUBBLE:
+                return new BubbleSort(context, linearLayout, data);
+            case SELECTION:
+                return new SelectionSort(context, linearLayout, data);
+            case INSERTION:
+                return new InsertionSort(context, linearLayout, data);
+            case MERGE:
+                return new MergeSort(context, linearLayout, data);
+            case QUICK:
+            default:
+                return new QuickSort(context, linearLayout, data, PivotType.FIRST);
+        }
+    }
+
+    // Plays all lanes together, a lane gets its rank when it reaches its last step
+    // Starts again from the first step if every lane is already finished
+    private void play(){
+        if(lanes.isEmpty() || !isGenerated() || isFailed())
+            return;
+
+        if(noOfFinished == lanes.size()){
+            noOfFinished = 0;
+            for(SortingRaceLane lane : lanes){
+                lane.sortingBackend.getSequence().seek(0);
+                lane.rank = 0;
+            }
+        }
+
+        isAutoPlay = true;
+        btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PAUSE_BUTTON));
+        playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
+            @Override
+            public boolean onStep() {
+                boolean hasNext = false;
+                for(SortingRaceLane lane : lanes){
+                    SortingSequence sequence = lane.sortingBackend.getSequence();
+                    if(sequence.forward()){
+                        hasNext = true;
+                        if(sequence.curSeqNo == sequence.size){
+                            lane.rank = ++noOfFinished;
+                        }
+                    }
+                }
+
+                return hasNext;
+            }
+
+            @Override
+            public void onFrame() {
+                for(SortingRaceLane lane : lanes){
+                    lane.showState(context);
+                    lane.updateStats();
+                }
+            }
+
+            @Override
+            public void onStop() {
+                isAutoPlay = false;
+                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+            }
+        });
+    }
+
+    private boolean isGenerated(){
+        for(SortingRaceLane lane : lanes){
+            if(!lane.isGenerated)
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean isFailed(){
+        for(SortingRaceLane lane : lanes){
+            if(lane.isFailed)
+                return true;
+        }
+
+        return false;
+    }
+
+    // Stops workers of the current race, their lanes are discarded
+    private void cancelLanes(){
+        for(SortingRaceLane lane : lanes){
+            lane.cancel();
+        }
+    }
+
+    private void updateStats(){
+        for(SortingRaceLane lane : lanes){
+            lane.updateStats();
+        }
+    }
+
+    @Override
+    protected void onResume() {
+        int currentAppTheme = UtilUI.getCurrentAppTheme(getApplicationContext());
+        if(theme != currentAppTheme){
+            recreate();
+        }
+        super.onResume();
+    }
+
+    @Override
+    protected void onDestroy() {
+        raceNo++;
+        playbackEngine.stop();
+        cancelLanes();
+        executorService.shutdownNow();
+
+        super.onDestroy();
+    }
+
+}
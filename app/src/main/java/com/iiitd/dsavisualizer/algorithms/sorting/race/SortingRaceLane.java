@@ -0,0 +1,108 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.race;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingAnimationState;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
+
+import java.util.Locale;
+import java.util.concurrent.Future;
+
+// A single lane of race mode, a sorting backend with its own elements and live stats
+// sortingBackend is created on the UI thread, its sort() is run on a worker thread by SortingRaceActivity
+public class SortingRaceLane {
+
+    public final int algorithm;
+    public final String name;
+    public final View view;
+    public final LinearLayout ll_anim;
+    public final TextView tv_name;
+    public final TextView tv_stats;
+    public SortingBackend sortingBackend;
+    public Future<?> future;                // worker recording sortingBackend, cancelled by a new race
+    public volatile boolean isGenerated;    // worker is done, isFailed => its sort() did not complete
+    public volatile boolean isFailed;
+    public int rank;                        // 1 => first lane to finish playing, 0 => still playing
+
+    public SortingRaceLane(int algorithm, String name, View view) {
+        this.algorithm = algorithm;
+        this.name = name;
+        this.view = view;
+        this.ll_anim = view.findViewById(R.id.ll_anim);
+        this.tv_name = view.findViewById(R.id.tv_lanename);
+        this.tv_stats = view.findViewById(R.id.tv_lanestats);
+        this.sortingBackend = null;
+        this.future = null;
+        this.isGenerated = false;
+        this.isFailed = false;
+        this.rank = 0;
+
+        tv_name.setText(name);
+    }
+
+    // Inflates a lane and adds it to ll_lanes, all lanes share the height of ll_lanes
+    public static SortingRaceLane create(Context context, LinearLayout ll_lanes, int algorithm, String name){
+        LayoutInflater layoutInflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
+        View view = layoutInflater.inflate(R.layout.layout_race_lane, ll_lanes, false);
+        ll_lanes.addView(view);
+
+        return new SortingRaceLane(algorithm, name, view);
+    }
+
+    // Shows live counters while generating, and the current step while playing
+    public void updateStats(){
+        if(sortingBackend == null)
+            return;
+
+        // Counters are written by the worker, only their published snapshot is read here
+        SortingMetrics metrics = sortingBackend.getMetrics();
+        int[] snapshot = metrics.getSnapshot();
+        String stats = String.format(Locale.getDefault(), "Comparisons %d | Swaps %d | Reads %d | Writes %d | %.2f ms",
+                snapshot[SortingMetrics.COMPARISONS], snapshot[SortingMetrics.SWAPS], snapshot[SortingMetrics.READS],
+                snapshot[SortingMetrics.WRITES], metrics.getGenerationTime());
+
+        if(isFailed){
+            stats += " | Failed";
+        }
+        else if(isGenerated){
+            SortingSequence sequence = sortingBackend.getSequence();
+            stats += " | Step " + sequence.curSeqNo + "/" + sequence.size;
+            if(rank > 0){
+                stats += " | #" + rank;
+            }
+        }
+
+        tv_stats.setText(stats);
+    }
+
+    // Stops the worker, a running sort() stops at the next step of its sequence
+    public void cancel(){
+        if(future != null){
+            future.cancel(true);
+        }
+
+        if(sortingBackend != null){
+            sortingBackend.getSequence().cancel();
+        }
+    }
+
+    // Highlights elements of the current step, nothing is highlighted after the last step
+    public void showState(Context context){
+        SortingSequence sequence = sortingBackend.getSequence();
+        if(sequence.curSeqNo < sequence.size){
+            SortingAnimationState sortingAnimationState = sequence.sortingAnimationStates.get(sequence.curSeqNo);
+            sequence.highlightViews(context, sortingAnimationState.highlightIndexes);
+        }
+        else{
+            sequence.highlightViews(context, null);
+        }
+    }
+
+}
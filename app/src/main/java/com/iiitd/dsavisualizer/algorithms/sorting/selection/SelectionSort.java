@@ -2,51 +2,51 @@ package com.iiitd.dsavisualizer.algorithms.sorting.selection;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.util.Pair;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.iiitd.dsavisualizer.R;
-import com.iiitd.dsavisualizer.algorithms.sorting.SortingAnimationState;
-import com.iiitd.dsavisualizer.algorithms.sorting.ElementAnimationData;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBackend;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingBarView;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingSequence;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.algorithms.sorting.AnimationDirection;
-import com.iiitd.dsavisualizer.utility.Util;
+import com.iiitd.dsavisualizer.utility.Pair;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
 import java.util.ArrayList;
 import java.util.Random;
 
 // SelectionSort Backend
-public class SelectionSort {
+public class SelectionSort implements SortingBackend {
 
     final Context context;
     final int arraySize;
     int[] data;
-    SelectionSortData[] selectionSortData;
     View[] views;
+    SortingBarView sortingBarView;
     int[] positions;
     final LinearLayout linearLayout;
-    SelectionSortSortingSequence sequence;
-    final Random random;
+    SortingSequence sequence;
+    final Random random;                    // generated data of the arraySize constructor, null => input is given
     float width;
     float height;
     int textSize;
     final boolean isRandomize;
     final int[] rawInput;
-    int comparisons;
-    final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+    final SortingMetrics metrics;
+    SelectionSortGenerator generator;
+    ArrayList<Pair<Integer, Integer>> sortedIndexes;
 
-    public SelectionSort(Context context, LinearLayout linearLayout, int arraySize) {
+    public SelectionSort(Context context, LinearLayout linearLayout, int arraySize, long seed) {
         this.context = context;
-        this.random = new Random();
+        this.random = new Random(seed);
         this.arraySize = arraySize;
         this.isRandomize = true;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         rawInput = null;
 
         init();
@@ -54,12 +54,11 @@ public class SelectionSort {
 
     public SelectionSort(Context context, LinearLayout linearLayout, int[] rawInput) {
         this.context = context;
-        this.random = new Random();
+        this.random = null;
         this.arraySize = rawInput.length;
         this.isRandomize = false;
         this.linearLayout = linearLayout;
-        this.comparisons = 0;
-        this.sortedIndexes = new ArrayList<>();
+        this.metrics = new SortingMetrics();
         this.rawInput = rawInput;
 
         init();
@@ -81,7 +80,6 @@ public class SelectionSort {
         int MAX = 0;
 
         this.data = new int[arraySize];
-        this.selectionSortData = new SelectionSortData[arraySize];
         this.views = new View[arraySize];
         this.positions = new int[arraySize];
         if(isRandomize){
@@ -97,10 +95,23 @@ public class SelectionSort {
             }
         }
 
+        // Too many elements for a View per element, all elements are drawn on a single SortingBarView
+        if(arraySize > AppSettings.MAX_VIEW_ELEMENTS){
+            this.views = null;
+            this.sortingBarView = SortingBarView.create(context, linearLayout, data, positions, Math.round(totalHeight / height));
+        }
+
         LinearLayout.LayoutParams layoutParams = new LinearLayout.LayoutParams(0, (int) height, 1);
         LayoutInflater vi = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
 
         for(int i=0;i<data.length;i++){
+            positions[i] = i;
+
+            // Elements are drawn as bars by sortingBarView
+            if(sortingBarView != null){
+                continue;
+            }
+
             float x = (float)data[i] / (float)MAX;
             float h = (x * .75f) + .20f;
 
@@ -114,87 +125,42 @@ public class SelectionSort {
             tv.getLayoutParams().height = (int) (height * h);
             tv.setBackground(UtilUI.getDrawable(context, AppSettings.ROUNDED_RECT_ELEMENT));
             linearLayout.addView(myView);
-
-            SelectionSortData mergeSortData1 = new SelectionSortData();
-            mergeSortData1.data = data[i];
-            mergeSortData1.index = i;
             views[i] = myView;
-            positions[i] = i;
-            selectionSortData[i] = mergeSortData1;
         }
 
-        this.sequence = new SelectionSortSortingSequence();
+        this.sequence = new SortingSequence(SelectionSortInfo.sortingInfoFormatter);
         this.sequence.setViews(views);
         this.sequence.setPositions(positions);
+        this.sequence.setSortingBarView(sortingBarView);
         this.sequence.setAnimateViews(height, width, context);
+        this.sequence.setMetrics(metrics);
 
-        this.selectionsort();
+        this.generator = new SelectionSortGenerator(data, sequence, metrics);
+        this.sortedIndexes = generator.sortedIndexes;
     }
 
-    public void forward(){
-        sequence.forward();
+    // Records the complete sequence, may run on a worker thread
+    @Override
+    public void sort(){
+        generator.generate();
     }
 
-    public void backward(){
-        sequence.backward();
+    @Override
+    public SortingSequence getSequence() {
+        return sequence;
     }
 
-    private void selectionsort() {
-        SortingAnimationState sortingAnimationState = new SortingAnimationState(SelectionSortInfo.SS, SelectionSortInfo.getSelectionSortString());
-        for(int i = 0; i< selectionSortData.length; i++){
-            sortingAnimationState.addElementAnimationData(new ElementAnimationData(selectionSortData[i].index, new Pair<>(AnimationDirection.NULL, 1)));
-            sortingAnimationState.addHighlightIndexes(selectionSortData[i].index);
-        }
-        sequence.addAnimSeq(sortingAnimationState);
-        selection(selectionSortData);
+    @Override
+    public SortingMetrics getMetrics() {
+        return metrics;
     }
 
-    void selection(SelectionSortData[] arr){
-        int length = arr.length;
-
-        for (int i = 0; i < length-1; i++) {
-            int min_idx = i;
-
-            SortingAnimationState sortingAnimationState = new SortingAnimationState(SelectionSortInfo.VAL, SelectionSortInfo.getValString(min_idx));
-            sortingAnimationState.addHighlightIndexes(arr[min_idx].index);
-            sequence.addAnimSeq(sortingAnimationState);
-
-            for (int j = i+1; j < length; j++) {
-                comparisons++;
-
-                if (arr[j].data < arr[min_idx].data) {
-                    SortingAnimationState sortingAnimationState1 = new SortingAnimationState(SelectionSortInfo.L_LESSER_R, SelectionSortInfo.getComparedString(arr[j].data, arr[min_idx].data, j));
-                    sortingAnimationState1.addHighlightIndexes(arr[min_idx].index);
-                    sortingAnimationState1.addHighlightIndexes(arr[j].index);
-                    sequence.addAnimSeq(sortingAnimationState1);
-
-                    min_idx = j;
-                }
-                else{
-                    SortingAnimationState sortingAnimationState1 = new SortingAnimationState(SelectionSortInfo.L_GREATEREQUAL_R, SelectionSortInfo.getComparedString(arr[j].data, arr[min_idx].data, j));
-                    sortingAnimationState1.addHighlightIndexes(arr[min_idx].index);
-                    sortingAnimationState1.addHighlightIndexes(arr[j].index);
-                    sequence.addAnimSeq(sortingAnimationState1);
-                }
-
-            }
-
-            if(min_idx != i) {
-                int diff = Math.abs(i - min_idx);
-                System.out.println(i + " | " + min_idx + " | " + diff);
-                SortingAnimationState sortingAnimationState2 = new SortingAnimationState(SelectionSortInfo.SWAP, SelectionSortInfo.getSwapString(i, min_idx));
-                sortingAnimationState2.addHighlightIndexes(arr[min_idx].index, arr[i].index);
-                sortingAnimationState2.addElementAnimationData(new ElementAnimationData(arr[min_idx].index,
-                        new Pair<>(AnimationDirection.LEFT, diff)));
-                sortingAnimationState2.addElementAnimationData(new ElementAnimationData(arr[i].index,
-                        new Pair<>(AnimationDirection.RIGHT, diff)));
-
-                sequence.addAnimSeq(sortingAnimationState2);
-            }
+    public void forward(){
+        sequence.forward();
+    }
 
-            sortedIndexes.add(new Pair<>(sequence.sortingAnimationStates.size(), arr[min_idx].index));
-            Util.swap(arr[min_idx], arr[i]);
-        }
+    public void backward(){
+        sequence.backward();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.iiitd.dsavisualizer.algorithms.sorting.selection;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingEngine;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingMetrics;
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingRecorder;
+import com.iiitd.dsavisualizer.utility.Pair;
+
+import java.util.ArrayList;
+
+// Records the sequence of SelectionSort on a SortingRecorder, without any View
+// Used by the SelectionSort backend, and directly on a plain JVM [ benchmark module ]
+public class SelectionSortGenerator {
+
+    final SortingRecorder sequence;
+    final SortingMetrics metrics;
+    final SelectionSortData[] selectionSortData;
+    public final ArrayList<Pair<Integer, Integer>> sortedIndexes;
+
+    // data[i] is the element with index i
+    public SelectionSortGenerator(int[] data, SortingRecorder sequence, SortingMetrics metrics) {
+        this.sequence = sequence;
+        this.metrics = metrics;
+        this.selectionSortData = new SelectionSortData[data.length];
+        this.sortedIndexes = new ArrayList<>();
+
+        for(int i=0;i<data.length;i++){
+            SelectionSortData selectionSortData1 = new SelectionSortData();
+            selectionSortData1.data = data[i];
+            selectionSortData1.index = i;
+            selectionSortData[i] = selectionSortData1;
+        }
+    }
+
+    // Records the complete sequence, may run on a worker thread
+    public void generate(){
+        metrics.start();
+        selectionsort();
+        metrics.stop();
+    }
+
+    private void selectionsort() {
+        sequence.beginStep(SelectionSortInfo.SS, SelectionSortInfo.getSelectionSortString());
+        for(int i = 0; i< selectionSortData.length; i++){
+            sequence.highlight(selectionSortData[i].index);
+        }
+        sequence.endStep();
+        selection(selectionSortData);
+    }
+
+    void selection(SelectionSortData[] arr){
+        int length = arr.length;
+
+        for (int i = 0; i < length-1; i++) {
+            int min_idx = i;
+
+            sequence.beginStep(SelectionSortInfo.VAL, SelectionSortInfo.INFO_VAL, min_idx);
+            sequence.highlight(arr[min_idx].index);
+            sequence.endStep();
+
+            for (int j = i+1; j < length; j++) {
+                metrics.comparisons++;
+                metrics.reads += 2;
+
+                if (arr[j].data < arr[min_idx].data) {
+                    sequence.beginStep(SelectionSortInfo.L_LESSER_R, SelectionSortInfo.INFO_COMPARED, arr[j].data, arr[min_idx].data, j);
+                    sequence.highlight(arr[min_idx].index);
+                    sequence.highlight(arr[j].index);
+                    sequence.endStep();
+
+                    min_idx = j;
+                }
+                else{
+                    sequence.beginStep(SelectionSortInfo.L_GREATEREQUAL_R, SelectionSortInfo.INFO_COMPARED, arr[j].data, arr[min_idx].data, j);
+                    sequence.highlight(arr[min_idx].index);
+                    sequence.highlight(arr[j].index);
+                    sequence.endStep();
+                }
+
+            }
+
+            if(min_idx != i) {
+                int diff = Math.abs(i - min_idx);
+                sequence.beginStep(SelectionSortInfo.SWAP, SelectionSortInfo.INFO_SWAP, i, min_idx);
+                sequence.highlight(arr[min_idx].index, arr[i].index);
+                sequence.move(arr[min_idx].index, SortingEngine.OP_LEFT, diff);
+                sequence.move(arr[i].index, SortingEngine.OP_RIGHT, diff);
+                sequence.endStep();
+                metrics.swaps++;
+                metrics.reads += 2;
+                metrics.writes += 2;
+            }
+
+            sortedIndexes.add(new Pair<>(sequence.size, arr[min_idx].index));
+            swap(arr[min_idx], arr[i]);
+        }
+    }
+
+    // Swaps data and index of a and b
+    private static void swap(SelectionSortData a, SelectionSortData b){
+        int oldData = a.data;
+        int oldIndex = a.index;
+
+        a.data = b.data;
+        a.index = b.index;
+
+        b.data = oldData;
+        b.index = oldIndex;
+    }
+
+}
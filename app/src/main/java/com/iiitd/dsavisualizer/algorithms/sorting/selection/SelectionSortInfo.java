@@ -1,5 +1,7 @@
 package com.iiitd.dsavisualizer.algorithms.sorting.selection;
 
+import com.iiitd.dsavisualizer.algorithms.sorting.SortingInfoFormatter;
+
 import java.util.HashMap;
 
 //HARDCODED INFORMATION, Handle with care
@@ -11,6 +13,11 @@ public class SelectionSortInfo {
     /*11*/ public static final String L_LESSER_R = "Left <= Right";
     /*13*/ public static final String L_GREATEREQUAL_R = "Left > Right";
 
+    // Info ids, info of these states is formatted lazily by sortingInfoFormatter
+    public static final int INFO_COMPARED = 0;
+    public static final int INFO_VAL = 1;
+    public static final int INFO_SWAP = 2;
+
     public static final HashMap<String, Integer[]> map = new HashMap<>();
 
     static {
@@ -62,4 +69,20 @@ public class SelectionSortInfo {
         return "swap data[" + i + "] and data[" + min_index + "]";
     }
 
-}
\ No newline at end of file
+    public static final SortingInfoFormatter sortingInfoFormatter = new SortingInfoFormatter() {
+        @Override
+        public String getInfo(int infoId, int[] infoArgs) {
+            switch (infoId){
+                case INFO_COMPARED:
+                    return getComparedString(infoArgs[0], infoArgs[1], infoArgs[2]);
+                case INFO_VAL:
+                    return getValString(infoArgs[0]);
+                case INFO_SWAP:
+                    return getSwapString(infoArgs[0], infoArgs[1]);
+                default:
+                    return "";
+            }
+        }
+    };
+
+}
@@ -33,6 +33,10 @@ public class AppSettings {
     public static final int DEFAULT_ANIM_SPEED = 1500;    // Range 500ms to 2500ms
     public static final int DEFAULT_ANIM_DURATION = 750;  // Half of DEFAULT_ANIM_SPEED
     public static final int SORTING_ELEMENT_BOUND = 20;
+    public static final int MAX_VIEW_ELEMENTS = 16;       // Larger sorting arrays are drawn as bars [ SortingBarView ]
+    public static final int MAX_BAR_ELEMENTS = 10000;     // Max elements in merge and quick sort arrays
+    public static final int MAX_QUADRATIC_ELEMENTS = 1000; // Max elements in bubble, selection and insertion sort arrays, they record ~n^2/2 steps
+    public static final int MAX_RACE_ELEMENTS = 1000;     // Max elements in race mode, quadratic sorts record ~n^2/2 states
     public static final int TEXT_SMALL = 12;
     public static final int TEXT_MEDIUM = 14;
     public static final int ACTIVITY_ITEM_WIDTH = 250;
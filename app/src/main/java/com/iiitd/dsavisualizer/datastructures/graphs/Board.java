@@ -4,6 +4,7 @@ import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.Typeface;
@@ -19,6 +20,7 @@ import com.iiitd.dsavisualizer.utility.UtilUI;
 
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 
@@ -35,6 +37,10 @@ public class Board {
     private final int topAngle = 45;                // in degrees
     private final int bottomAngle = 45;             // in degrees
     private final float coordinatesOffset = 0.95f;  // in ratio [0,1]
+    private final int vertexWeightOffset = 10;      // in pixels, vertex weight is drawn above the grid element
+    private final int edgeWeightOffset = 10;        // in pixels, edge weight is drawn away from the edge line
+    private final int BOUNDS_MARGIN = 2;            // in pixels, covers anti-aliased pixels around an element
+    private final int MAX_DIRTY_REGIONS = 32;       // more dirty regions than this => complete canvas is re-drawn
     private float nodeRadius;                       // in pixels [ GraphSettings contain all these constants ]
     private int nodeTextSize;                       // in pixels [ GraphSettings contain all these constants ]
     private int coordinatesTextSize;                // in pixels [ GraphSettings contain all these constants ]
@@ -55,10 +61,22 @@ public class Board {
     public float xOverall;                          // One Column Complete Width
     public float yOverall;                          // One Row Complete Height
     public BoardElement[][] boardElements;          // Contains data about board elements
+    public BoardVertexIndex boardVertexIndex;       // Vertex number -> grid element, O(1) lookups
     public int maxVertices;                         // Max No. of Vertices possible
     public boolean isLargeGraph;                    // if true -> large graph, else small graph
     public CustomCanvas customCanvas;               // Custom Canvas holds all canvases
 
+    // Drawn Elements [ null => canvas is cleared, so next draw re-draws the complete canvas ]
+    private HashMap<Long, BoardDrawnElement> drawnGraphVertices;      // Graph canvas vertices
+    private HashMap<Long, BoardDrawnElement> drawnGraphEdges;         // Graph canvas edges
+    private HashMap<Long, BoardDrawnElement> drawnAnimationVertices;  // Animation canvas vertices
+    private HashMap<Long, BoardDrawnElement> drawnAnimationEdges;     // Animation canvas edges
+    private HashMap<Long, BoardDrawnElement> drawnAnimationCycles;    // Animation canvas cycle edges
+
+    // Reused by update() for the graph canvas elements as they will be drawn now, swapped with drawn ones
+    private HashMap<Long, BoardDrawnElement> nextGraphVertices;
+    private HashMap<Long, BoardDrawnElement> nextGraphEdges;
+
     // Paint Variables
     private Paint paintGrid;                        // Grid
     private Paint paintGridCoordinates;             // Grid Coordinates
@@ -113,6 +131,9 @@ public class Board {
                 boardElements[r][c] = new BoardElement();
             }
         }
+        this.boardVertexIndex = new BoardVertexIndex(xCount);
+        this.nextGraphVertices = new HashMap<>();
+        this.nextGraphEdges = new HashMap<>();
 
         this.nodeRadius          = graphData.nodeCircleRadius;
         this.arrowLength         = graphData.nodeEdgeArrowLength;
@@ -252,30 +273,276 @@ public class Board {
         }
     }
 
-    // Re-Draws/Updates the Complete Graph
+    // Re-Draws/Updates the Graph
+    // Only the regions of vertices and edges changed since the last update are cleared and re-drawn
     public void update(Graph graph){
-        System.out.println("RE-DRAWING CANVAS");
+        // Vertices and Edges as they will be drawn now
+        HashMap<Long, BoardDrawnElement> vertices = nextGraphVertices;
+        vertices.clear();
+        for(int i=0;i<boardVertexIndex.size();i++){
+            int value = boardVertexIndex.vertexAt(i);
+            int r = boardVertexIndex.getRow(value);
+            int c = boardVertexIndex.getCol(value);
+            vertices.put((long) value, new BoardDrawnElement(0, r * xCount + c, getVertexBounds(r, c, value, null)));
+        }
+
+        HashMap<Long, BoardDrawnElement> edges = nextGraphEdges;
+        edges.clear();
+        for(Map.Entry<Integer, ArrayList<Edge>> vertex : graph.edgeListMap.entrySet() ){
+            for (Edge edge : vertex.getValue()) {
+                if(graph.directed || edge.isFirstEdge){
+                    edges.put(getEdgeKey(edge), new BoardDrawnElement(0, edge.weight, getEdgeBounds(edge, graph.weighted)));
+                }
+            }
+        }
 
-        // Clears Canvas
-        clearGraph(false);
+        ArrayList<Rect> dirtyRegions = null;
+        if(drawnGraphVertices != null && drawnGraphEdges != null){
+            dirtyRegions = new ArrayList<>();
+            addDirtyRegions(drawnGraphVertices, vertices, dirtyRegions);
+            addDirtyRegions(drawnGraphEdges, edges, dirtyRegions);
+
+            if(dirtyRegions.size() > MAX_DIRTY_REGIONS){
+                dirtyRegions = null;
+            }
+            else if(dirtyRegions.isEmpty()){
+                return;
+            }
+        }
+
+        nextGraphVertices = drawnGraphVertices != null ? drawnGraphVertices : new HashMap<Long, BoardDrawnElement>();
+        nextGraphEdges = drawnGraphEdges != null ? drawnGraphEdges : new HashMap<Long, BoardDrawnElement>();
+        drawnGraphVertices = vertices;
+        drawnGraphEdges = edges;
+
+        Canvas canvas = customCanvas.canvasGraph;
+        beginRedraw(canvas, dirtyRegions);
 
         // Vertices
-        for (int r = 0; r < yCount; r++) {
-            for (int c = 0; c < xCount; c++) {
-                if(boardElements[r][c].occupied){
-                    drawVertex(boardElements[r][c].value, false);
-                }
+        for(int i=0;i<boardVertexIndex.size();i++){
+            int value = boardVertexIndex.vertexAt(i);
+            if(isDirty(vertices.get((long) value), dirtyRegions)){
+                drawVertex(value, boardVertexIndex.getRow(value), boardVertexIndex.getCol(value), false);
             }
         }
 
         // Edges
         for(Map.Entry<Integer, ArrayList<Edge>> vertex : graph.edgeListMap.entrySet() ){
             for (Edge edge : vertex.getValue()) {
-                drawEdge(edge, graph.directed, graph.weighted, false);
+                if(graph.directed || edge.isFirstEdge){
+                    if(isDirty(edges.get(getEdgeKey(edge)), dirtyRegions)){
+                        drawEdge(edge, graph.directed, graph.weighted, false);
+                    }
+                }
+            }
+        }
+
+        endRedraw(canvas, dirtyRegions, false);
+    }
+
+    // Draws a complete GraphAnimationState on animation canvas
+    // Only the regions of vertices and edges changed since the last drawn state are cleared and re-drawn
+    public void drawAnimationState(GraphAnimationState graphAnimationState, boolean isDirected, boolean isWeighted){
+        GraphAnimationStateExtra graphAnimationStateExtra = graphAnimationState.graphAnimationStateExtra;
+        Map<Integer, Integer> weights = null;
+        if(graphAnimationStateExtra != null && graphAnimationStateExtra.map != null && graphAnimationStateExtra.map.size() > 0){
+            weights = graphAnimationStateExtra.map;
+        }
+
+        // Edges, Cycles and Vertices as they will be drawn now
+        HashMap<Long, BoardDrawnElement> edges = new HashMap<>();
+        for(Edge edge : graphAnimationState.edges){
+            if(edge.graphAnimationStateType != GraphAnimationStateType.NONE){
+                edges.put(getEdgeKey(edge), new BoardDrawnElement(edge.graphAnimationStateType.ordinal(), edge.weight, getEdgeBounds(edge, isWeighted)));
+            }
+        }
+
+        HashMap<Long, BoardDrawnElement> cycles = new HashMap<>();
+        if(graphAnimationStateExtra != null && graphAnimationStateExtra.cycles != null){
+            for(Edge edge : graphAnimationStateExtra.cycles) {
+                cycles.put(getEdgeKey(edge), new BoardDrawnElement(GraphAnimationStateType.DONE.ordinal(), edge.weight, getEdgeBounds(edge, isWeighted)));
+            }
+        }
+
+        // A vertex without weight has value 0, it is still told apart from weight 0 by its bounds
+        HashMap<Long, BoardDrawnElement> vertices = new HashMap<>();
+        for(Map.Entry<Integer, Vertex> entry : graphAnimationState.verticesState.entrySet()){
+            Vertex vertex = entry.getValue();
+            Integer weight = weights != null ? weights.get(entry.getKey()) : null;
+            vertices.put((long) entry.getKey(), new BoardDrawnElement(vertex.graphAnimationStateType.ordinal(),
+                    weight != null ? weight : 0, getVertexBounds(vertex.row, vertex.col, vertex.data, weight)));
+        }
+
+        ArrayList<Rect> dirtyRegions = null;
+        if(drawnAnimationEdges != null && drawnAnimationCycles != null && drawnAnimationVertices != null){
+            dirtyRegions = new ArrayList<>();
+            addDirtyRegions(drawnAnimationEdges, edges, dirtyRegions);
+            addDirtyRegions(drawnAnimationCycles, cycles, dirtyRegions);
+            addDirtyRegions(drawnAnimationVertices, vertices, dirtyRegions);
+
+            if(dirtyRegions.size() > MAX_DIRTY_REGIONS){
+                dirtyRegions = null;
+            }
+            else if(dirtyRegions.isEmpty()){
+                return;
             }
         }
 
-        refresh(false);
+        drawnAnimationEdges = edges;
+        drawnAnimationCycles = cycles;
+        drawnAnimationVertices = vertices;
+
+        Canvas canvas = customCanvas.canvasAnimation;
+        beginRedraw(canvas, dirtyRegions);
+
+        // Edges
+        for(Edge edge : graphAnimationState.edges){
+            if(edge.graphAnimationStateType != GraphAnimationStateType.NONE){
+                if(isDirty(edges.get(getEdgeKey(edge)), dirtyRegions)){
+                    setPaint(edge.graphAnimationStateType);
+                    drawEdge(edge, isDirected, isWeighted, true);
+                }
+            }
+        }
+
+        // Cycles
+        if(graphAnimationStateExtra != null && graphAnimationStateExtra.cycles != null){
+            for(Edge edge : graphAnimationStateExtra.cycles) {
+                if(isDirty(cycles.get(getEdgeKey(edge)), dirtyRegions)){
+                    setPaintDone();
+                    drawEdge(edge, isDirected, isWeighted, true);
+                }
+            }
+        }
+
+        // Vertices and Weights
+        for(Map.Entry<Integer, Vertex> entry : graphAnimationState.verticesState.entrySet()){
+            Vertex vertex = entry.getValue();
+            if(isDirty(vertices.get((long) entry.getKey()), dirtyRegions)){
+                setPaint(vertex.graphAnimationStateType);
+                drawVertex(vertex.data, vertex.row, vertex.col, true);
+
+                if(weights != null){
+                    drawVertexWeight(entry.getKey(), weights.get(entry.getKey()), true);
+                }
+            }
+        }
+
+        endRedraw(canvas, dirtyRegions, true);
+    }
+
+    // Adds bounds of elements which are added, removed or changed to dirtyRegions
+    private void addDirtyRegions(HashMap<Long, BoardDrawnElement> drawn, HashMap<Long, BoardDrawnElement> current,
+                                 ArrayList<Rect> dirtyRegions){
+        for(Map.Entry<Long, BoardDrawnElement> entry : current.entrySet()){
+            BoardDrawnElement old = drawn.get(entry.getKey());
+            if(!entry.getValue().isSame(old)){
+                dirtyRegions.add(entry.getValue().bounds);
+                if(old != null){
+                    dirtyRegions.add(old.bounds);
+                }
+            }
+        }
+
+        for(Map.Entry<Long, BoardDrawnElement> entry : drawn.entrySet()){
+            if(!current.containsKey(entry.getKey())){
+                dirtyRegions.add(entry.getValue().bounds);
+            }
+        }
+    }
+
+    // dirtyRegions = null => complete canvas is cleared, else only dirtyRegions are clipped and cleared
+    private void beginRedraw(Canvas canvas, ArrayList<Rect> dirtyRegions){
+        if(dirtyRegions == null){
+            canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            return;
+        }
+
+        Path path = new Path();
+        for(Rect rect : dirtyRegions){
+            path.addRect(rect.left, rect.top, rect.right, rect.bottom, Path.Direction.CW);
+        }
+
+        canvas.save();
+        canvas.clipPath(path);
+        canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+    }
+
+    // Restores the clip set by beginRedraw() and invalidates the re-drawn region
+    private void endRedraw(Canvas canvas, ArrayList<Rect> dirtyRegions, boolean isAnim){
+        if(dirtyRegions == null){
+            refresh(isAnim);
+            return;
+        }
+
+        canvas.restore();
+
+        Rect union = new Rect();
+        for(Rect rect : dirtyRegions){
+            union.union(rect);
+        }
+
+        refresh(isAnim, union);
+    }
+
+    // An element must be re-drawn if it overlaps any dirty region, dirtyRegions = null => everything is dirty
+    private boolean isDirty(BoardDrawnElement boardDrawnElement, ArrayList<Rect> dirtyRegions){
+        if(dirtyRegions == null){
+            return true;
+        }
+
+        for(Rect rect : dirtyRegions){
+            if(Rect.intersects(rect, boardDrawnElement.bounds)){
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Packs src and des of an edge in a single key
+    private long getEdgeKey(Edge edge){
+        return ((long) edge.src << 32) | (edge.des & 0xffffffffL);
+    }
+
+    // Region covered by a vertex, with its weight if vertexWeight != null
+    private Rect getVertexBounds(int row, int col, int vertexValue, Integer vertexWeight){
+        Rect rect = getRect(row, col);
+        int x = rect.centerX();
+        int y = rect.centerY();
+
+        String text = String.valueOf(vertexValue);
+        int half = (int) Math.ceil(Math.max(nodeRadius, paintVertexText.measureText(text) / 2)) + BOUNDS_MARGIN;
+
+        Rect bounds = new Rect(x - half, y - half, x + half, y + half);
+
+        if(vertexWeight != null){
+            Rect background = getTextBackgroundSize(x, rect.top - vertexWeightOffset, getVertexWeightText(vertexWeight), paintVertexWeight);
+            background.inset(-BOUNDS_MARGIN, -BOUNDS_MARGIN);
+            bounds.union(background);
+        }
+
+        return bounds;
+    }
+
+    // Region covered by an edge with its arrows and weight
+    private Rect getEdgeBounds(Edge edge, boolean isWeighted){
+        double[] lineCoordinates = getLineCoordinates(getRect(edge.src), getRect(edge.des));
+
+        int margin = arrowLength + Math.max(edgeWidth, edgeArrowWidth);
+        // Weight is rotated around the mid of the line, so it stays within its length + offset from the line
+        if(isWeighted){
+            String strWeight = String.valueOf(edge.weight);
+            margin = Math.max(margin, (int) Math.ceil(paintEdgeWeight.measureText(strWeight)) + 2 * edgeWeightTextSize + edgeWeightOffset);
+        }
+        margin += BOUNDS_MARGIN;
+
+        int left = (int) Math.floor(Math.min(lineCoordinates[0], lineCoordinates[2]));
+        int top = (int) Math.floor(Math.min(lineCoordinates[1], lineCoordinates[3]));
+        int right = (int) Math.ceil(Math.max(lineCoordinates[0], lineCoordinates[2]));
+        int bottom = (int) Math.ceil(Math.max(lineCoordinates[1], lineCoordinates[3]));
+
+        return new Rect(left - margin, top - margin, right + margin, bottom + margin);
     }
 
     // Draws a Vertex
@@ -311,8 +578,7 @@ public class Board {
 
     // Draws a Vertex
     public void drawVertex(int vertexValue, boolean isAnim){
-        int[] coordinates = getCoordinates(vertexValue);
-        drawVertex(vertexValue, coordinates[0], coordinates[1], isAnim);
+        drawVertex(vertexValue, boardVertexIndex.getRow(vertexValue), boardVertexIndex.getCol(vertexValue), isAnim);
     }
 
     // Draws Vertex Weight(Dijkstra, BellmanFord and Prims Distance)
@@ -333,12 +599,9 @@ public class Board {
 
         Rect rect = getRect(vertexValue);
         int x = rect.centerX();
-        int y = rect.top - 10;
+        int y = rect.top - vertexWeightOffset;
 
-        String text = String.valueOf(vertexWeight);
-        if(vertexWeight == Integer.MAX_VALUE) {
-            text = DecimalFormatSymbols.getInstance().getInfinity();
-        }
+        String text = getVertexWeightText(vertexWeight);
 
         int finalX = x;
         int finalY = (int) (y - (pVertexWeightText.descent() + pVertexWeightText.ascent()) / 2);
@@ -459,7 +722,7 @@ public class Board {
         float rotationX = x;
         float rotationY = y;
         float delta = 15;
-        float offsetNormal = 10;
+        float offsetNormal = edgeWeightOffset;
         float offsetReverse = offsetNormal + background.height();
 
         // Set Paint Alignment to center
@@ -504,6 +767,15 @@ public class Board {
         canvas.restore();
     }
 
+    // Returns text for vertex weight, Integer.MAX_VALUE is shown as infinity
+    private String getVertexWeightText(int vertexWeight){
+        if(vertexWeight == Integer.MAX_VALUE) {
+            return DecimalFormatSymbols.getInstance().getInfinity();
+        }
+
+        return String.valueOf(vertexWeight);
+    }
+
     private @NonNull
     Rect getTextBackgroundSize(float x, float y, @NonNull String text, @NonNull Paint paint) {
         Rect rectText = new Rect();
@@ -517,6 +789,19 @@ public class Board {
         return new Rect((int) (x - halfWidth), (int) (y - halfHeight), (int) (x + halfWidth), (int) (y + halfHeight));
     }
 
+    // set all Paint variables according to GraphAnimationStateType
+    public void setPaint(GraphAnimationStateType graphAnimationStateType) {
+        if(graphAnimationStateType == GraphAnimationStateType.HIGHLIGHT){
+            setPaintHighlight();
+        }
+        else if(graphAnimationStateType == GraphAnimationStateType.DONE){
+            setPaintDone();
+        }
+        else{
+            setPaintNormal();
+        }
+    }
+
     // set all Paint variables to Graph Animation Normal Mode
     public void setPaintNormal() {
         this.paintVertex.setColor(base);                    // Vertex
@@ -547,16 +832,16 @@ public class Board {
         this.paintEdgeWeight.setColor(dark);                // Edge Weight
     }
 
-    // Adds a Vertex and calls drawVertex [prevents re-drawing the complete graph]
+    // Adds a Vertex, drawn by next update() [only its region is re-drawn]
     public void addVertex(int row, int col, int name) {
         boardElements[row][col].occupied = true;
         boardElements[row][col].value = name;
-
-        drawVertex(boardElements[row][col].value, false);
+        boardVertexIndex.put(name, row, col);
     }
 
     // Removes a Vertex
     public void removeVertex(int row, int col) {
+        boardVertexIndex.remove(boardElements[row][col].value);
         boardElements[row][col].occupied = false;
         boardElements[row][col].value = -1;
     }
@@ -584,23 +869,9 @@ public class Board {
         return boardElements[row][col].occupied;
     }
 
-    // Returns coordinates for the given key, if key is not present null is returned
-    public int[] getCoordinates(int key){
-        for (int r = 0; r < yCount; r++) {
-            for (int c = 0; c < xCount; c++) {
-                if(boardElements[r][c].value == key){
-                    return new int[]{r, c};
-                }
-            }
-        }
-
-        return null;
-    }
-
-    // Returns Rect for given key value in graph's board, NPE if key is not present in graph
+    // Returns Rect for given key value in graph's board, key must be present in graph
     public Rect getRect(int key) {
-        int[] coordinates = getCoordinates(key);
-        return getRect(coordinates[0], coordinates[1]);
+        return getRect(boardVertexIndex.getRow(key), boardVertexIndex.getCol(key));
     }
 
     // Returns TouchData, which tells whether it is a grid element or an empty space in board
@@ -686,6 +957,11 @@ public class Board {
                 boardElements[r][c] = new BoardElement();
             }
         }
+        boardVertexIndex.clear();
+
+        // Complete graph is re-drawn
+        drawnGraphVertices = null;
+        drawnGraphEdges = null;
 
         update(graph);
     }
@@ -696,9 +972,14 @@ public class Board {
 
         if(isAnim){
             canvas = customCanvas.canvasAnimation;
+            drawnAnimationVertices = null;
+            drawnAnimationEdges = null;
+            drawnAnimationCycles = null;
         }
         else{
             canvas = customCanvas.canvasGraph;
+            drawnGraphVertices = null;
+            drawnGraphEdges = null;
         }
 
         canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
@@ -719,4 +1000,18 @@ public class Board {
         imageView.invalidate();
     }
 
+    // Refreshes only the given region of the graph by calling invalidate(rect)
+    public void refresh(boolean isAnim, Rect rect){
+        ImageView imageView;
+
+        if(isAnim){
+            imageView = customCanvas.imageViewAnimation;
+        }
+        else{
+            imageView = customCanvas.imageViewGraph;
+        }
+
+        imageView.invalidate(rect);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import android.graphics.Rect;
+
+// BoardDrawnElement records a vertex or an edge as it was last drawn on a Board canvas
+// Used by Board to find the regions that changed between two frames
+public class BoardDrawnElement {
+
+    public int type;        // GAST ordinal for animation canvas, 0 for graph canvas
+    public int value;       // edge weight, vertex cell or vertex weight
+    public Rect bounds;     // region covered by the element on canvas
+
+    public BoardDrawnElement(int type, int value, Rect bounds) {
+        this.type = type;
+        this.value = value;
+        this.bounds = bounds;
+    }
+
+    public boolean isSame(BoardDrawnElement boardDrawnElement){
+        return boardDrawnElement != null
+                && type == boardDrawnElement.type
+                && value == boardDrawnElement.value
+                && bounds.equals(boardDrawnElement.bounds);
+    }
+
+    @Override
+    public String toString() {
+        return "BoardDrawnElement{" +
+                "type = " + type +
+                ", value = " + value +
+                ", bounds = " + bounds +
+                '}';
+    }
+
+}
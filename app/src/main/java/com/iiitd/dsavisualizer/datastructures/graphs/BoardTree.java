@@ -8,10 +8,10 @@ import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.Typeface;
-import android.util.Pair;
 import android.widget.ImageView;
 
 import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.utility.Pair;
 import com.iiitd.dsavisualizer.utility.Util;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
@@ -43,6 +43,7 @@ public class BoardTree {
     public float xSize;                            // One Column Width
     public float ySize;                            // One Row Height
     public BoardElement[][] boardElements;         // Contains data about board elements
+    public BoardVertexIndex boardVertexIndex;      // Vertex number -> grid element, O(1) lookups
 
     // Paint Variables
     private Paint paintGrid;
@@ -103,6 +104,7 @@ public class BoardTree {
                 boardElements[r][c] = new BoardElement();
             }
         }
+        this.boardVertexIndex = new BoardVertexIndex(xCount);
 
         for(Map.Entry<Integer, Pair<Integer, Integer>> entry: graphTree.vertexMap.entrySet()){
             Pair<Integer, Integer> value = entry.getValue();
@@ -201,11 +203,8 @@ public class BoardTree {
             }
 
             if(showCurrentEdge) {
-                int[] vertex1 = getCoordinates(edgePro.src);
-                int[] vertex2 = getCoordinates(edgePro.des);
-
-                Rect rect1 = getRect(vertex1[0], vertex1[1]);
-                Rect rect2 = getRect(vertex2[0], vertex2[1]);
+                Rect rect1 = getRect(boardVertexIndex.getRow(edgePro.src), boardVertexIndex.getCol(edgePro.src));
+                Rect rect2 = getRect(boardVertexIndex.getRow(edgePro.des), boardVertexIndex.getCol(edgePro.des));
 
                 drawEdgeGraph(rect1, rect2, edgePro);
             }
@@ -292,18 +291,7 @@ public class BoardTree {
         // Change its state and add vertex reference
         boardElements[row][col].occupied = true;
         boardElements[row][col].value = name;
-    }
-
-    public int[] getCoordinates(int key){
-        for (int r = 0; r < yCount; r++) {
-            for (int c = 0; c < xCount; c++) {
-                if(boardElements[r][c].value == key){
-                    return new int[]{r, c};
-                }
-            }
-        }
-
-        return null;
+        boardVertexIndex.put(name, row, col);
     }
 
     // Returns Rect for given grid[row][col]
@@ -0,0 +1,87 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import java.util.Arrays;
+
+// Used by Board and BoardTree, maps a vertex number to its grid element in O(1)
+// Grid element is stored as row * xCount + col, -1 => vertex is not on the board
+// Vertices on the board are also kept in a dense list, so they can be iterated without scanning the grid
+public class BoardVertexIndex {
+
+    private static final int INITIAL_CAPACITY = 1000;   // vertex numbers are [0, 999] for custom input
+
+    private final int xCount;
+    private int[] cells;                                // vertex number -> grid element
+    private int[] slots;                                // vertex number -> position in vertices
+    private int[] vertices;                             // dense list of vertex numbers on the board
+    private int noOfVertices;
+
+    public BoardVertexIndex(int xCount) {
+        this.xCount = xCount;
+        this.cells = new int[INITIAL_CAPACITY];
+        this.slots = new int[INITIAL_CAPACITY];
+        this.vertices = new int[16];
+        this.noOfVertices = 0;
+        Arrays.fill(cells, -1);
+    }
+
+    public void put(int vertex, int row, int col){
+        if(vertex >= cells.length){
+            int oldLength = cells.length;
+            cells = Arrays.copyOf(cells, Math.max(vertex + 1, 2 * oldLength));
+            slots = Arrays.copyOf(slots, cells.length);
+            Arrays.fill(cells, oldLength, cells.length, -1);
+        }
+
+        if(!contains(vertex)){
+            if(noOfVertices == vertices.length){
+                vertices = Arrays.copyOf(vertices, 2 * vertices.length);
+            }
+            slots[vertex] = noOfVertices;
+            vertices[noOfVertices++] = vertex;
+        }
+
+        cells[vertex] = row * xCount + col;
+    }
+
+    // Last vertex of the dense list takes the place of the removed one
+    public void remove(int vertex){
+        if(contains(vertex)){
+            int last = vertices[--noOfVertices];
+            vertices[slots[vertex]] = last;
+            slots[last] = slots[vertex];
+            cells[vertex] = -1;
+        }
+    }
+
+    public void clear(){
+        for(int i=0;i<noOfVertices;i++){
+            cells[vertices[i]] = -1;
+        }
+        noOfVertices = 0;
+    }
+
+    public boolean contains(int vertex){
+        return vertex >= 0 && vertex < cells.length && cells[vertex] != -1;
+    }
+
+    // Row of the given vertex, -1 if vertex is not on the board
+    public int getRow(int vertex){
+        return contains(vertex) ? cells[vertex] / xCount : -1;
+    }
+
+    // Col of the given vertex, -1 if vertex is not on the board
+    public int getCol(int vertex){
+        return contains(vertex) ? cells[vertex] % xCount : -1;
+    }
+
+    // No. of vertices on the board
+    public int size(){
+        return noOfVertices;
+    }
+
+    // Vertex number at index [0, size()) of the dense list
+    public int vertexAt(int index){
+        return vertices[index];
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.Objects;
 // Edge Class
 public class Edge {
 
+    public int id;              // Stable id given by Graph, -1 if edge is not part of a graph
     public int src;
     public int des;
     public int weight;
@@ -13,6 +14,7 @@ public class Edge {
     public GraphAnimationStateType graphAnimationStateType;
 
     public Edge(int src, int des) {
+        this.id = -1;
         this.src = src;
         this.des = des;
         this.weight = 1;
@@ -20,6 +22,7 @@ public class Edge {
     }
 
     public Edge(int src, int des, int weight, boolean isFirstEdge) {
+        this.id = -1;
         this.src = src;
         this.des = des;
         this.weight = weight;
@@ -28,6 +31,7 @@ public class Edge {
     }
 
     public Edge(Edge edge,GraphAnimationStateType graphAnimationStateType) {
+        this.id = edge.id;
         this.src = edge.src;
         this.des = edge.des;
         this.weight = edge.weight;
@@ -52,6 +56,7 @@ public class Edge {
 
     public static Edge getClone(Edge edge){
         Edge edge1 = new Edge(edge.src, edge.des, edge.weight, edge.isFirstEdge);
+        edge1.id = edge.id;
         edge1.graphAnimationStateType = edge.graphAnimationStateType;
 
         return edge1;
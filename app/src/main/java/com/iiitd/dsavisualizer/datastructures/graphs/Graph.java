@@ -12,19 +12,30 @@ public class Graph {
     public int noOfVertices;
     public Map<Integer, ArrayList<Edge>> edgeListMap;        // Vertex number -> all (edges object)
     public Map<Integer, Vertex> vertexMap;                   // Vertex number -> vertex object
+    private Map<Integer, ArrayList<Edge>> inEdgeListMap;     // Vertex number -> all edges ending at it
+    private Map<Long, Edge> edgeIndex;                       // packed (src, des) -> edge object
+    private int nextEdgeId;                                  // edge ids are given in order and never reused
 
     public Graph(boolean directed, boolean weighted) {
         this.directed = directed;
         this.weighted = weighted;
         this.noOfVertices = 0;
+        this.nextEdgeId = 0;
         edgeListMap = new HashMap<>();
         vertexMap = new HashMap<>();
+        inEdgeListMap = new HashMap<>();
+        edgeIndex = new HashMap<>();
     }
 
-    // Add Edge to the graph
+    // Add Edge to the graph, an edge (src, des) can be added only once
     boolean addEdge(int src, int des, int weight, boolean isFirstEdge) {
-        if(checkContainsVertices(src, des)) {
-            edgeListMap.get(src).add(new Edge(src, des, weight, isFirstEdge));
+        if(checkContainsVertices(src, des) && !edgeIndex.containsKey(getEdgeKey(src, des))) {
+            Edge edge = new Edge(src, des, weight, isFirstEdge);
+            edge.id = nextEdgeId++;
+
+            edgeListMap.get(src).add(edge);
+            inEdgeListMap.get(des).add(edge);
+            edgeIndex.put(getEdgeKey(src, des), edge);
             return true;
         }
 
@@ -40,6 +51,7 @@ public class Graph {
 
         noOfVertices++;
         edgeListMap.put(v, new ArrayList<Edge>());
+        inEdgeListMap.put(v, new ArrayList<Edge>());
         vertexMap.put(v, new Vertex(v, row, col));
 
         return true;
@@ -52,25 +64,44 @@ public class Graph {
             return;
         }
 
+        // Only lists of the neighbours are touched, instead of every list in the graph
+        for(Edge edge : edgeListMap.get(v)){
+            edgeIndex.remove(getEdgeKey(edge.src, edge.des));
+            if(edge.des != v)
+                inEdgeListMap.get(edge.des).remove(edge);
+        }
+
+        for(Edge edge : inEdgeListMap.get(v)){
+            edgeIndex.remove(getEdgeKey(edge.src, edge.des));
+            if(edge.src != v)
+                edgeListMap.get(edge.src).remove(edge);
+        }
+
         noOfVertices--;
         edgeListMap.remove(v);
+        inEdgeListMap.remove(v);
         vertexMap.remove(v);
-        for(Map.Entry<Integer, ArrayList<Edge>> entry : edgeListMap.entrySet()){
-            for(Edge i : new ArrayList<>(entry.getValue())){
-                if(i.des == v)
-                    entry.getValue().remove(i);
-            }
-        }
     }
 
     // Remove Edge from the graph
     void removeEdge(int src, int des) {
-        for(Edge i : new ArrayList<>(edgeListMap.get(src))){
-            if(i.des == des)
-                edgeListMap.get(src).remove(i);
+        Edge edge = edgeIndex.remove(getEdgeKey(src, des));
+        if(edge != null){
+            edgeListMap.get(src).remove(edge);
+            inEdgeListMap.get(des).remove(edge);
         }
     }
 
+    // Packs src and des in a single key for edgeIndex
+    private static long getEdgeKey(int src, int des){
+        return ((long) src << 32) | (des & 0xffffffffL);
+    }
+
+    // Returns edge (src, des) in O(1), null if not present, reverse edge is not checked
+    public Edge getDirectedEdge(int src, int des){
+        return edgeIndex.get(getEdgeKey(src, des));
+    }
+
     // earlier length == 0 -> returns true
     // returns true if all vertices are present, or passed vertices length is 0
     boolean checkContainsVertices(int... vertices){
@@ -86,33 +117,7 @@ public class Graph {
     }
 
     boolean checkContainsEdge(int src, int des){
-        if(!checkContainsVertices(src, des)){
-            return false;
-        }
-
-        // Undirected
-        if(!directed){
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des){
-                    return true;
-                }
-            }
-
-            for(Edge edge : edgeListMap.get(des)){
-                if(edge.des == src){
-                    return true;
-                }
-            }
-        }
-        else{
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des){
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return getEdge(src, des) != null;
     }
 
     public ArrayList<Edge> getAllEdges(){
@@ -154,29 +159,14 @@ public class Graph {
             return null;
         }
 
-        // Undirected
-        if(!directed){
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des){
-                    return edge;
-                }
-            }
+        Edge edge = getDirectedEdge(src, des);
 
-            for(Edge edge : edgeListMap.get(des)){
-                if(edge.des == src){
-                    return edge;
-                }
-            }
-        }
-        else{
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des){
-                    return edge;
-                }
-            }
+        // Undirected
+        if(edge == null && !directed){
+            edge = getDirectedEdge(des, src);
         }
 
-        return null;
+        return edge;
     }
 
     // Returns edge which is firstEdge in case of undirected graph
@@ -185,25 +175,16 @@ public class Graph {
             return null;
         }
 
+        Edge edge = getDirectedEdge(src, des);
+        if(edge != null && edge.isFirstEdge){
+            return edge;
+        }
+
         // Undirected
         if(!directed){
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des && edge.isFirstEdge){
-                    return edge;
-                }
-            }
-
-            for(Edge edge : edgeListMap.get(des)){
-                if(edge.des == src && edge.isFirstEdge){
-                    return edge;
-                }
-            }
-        }
-        else{
-            for(Edge edge : edgeListMap.get(src)){
-                if(edge.des == des && edge.isFirstEdge){
-                    return edge;
-                }
+            edge = getDirectedEdge(des, src);
+            if(edge != null && edge.isFirstEdge){
+                return edge;
             }
         }
 
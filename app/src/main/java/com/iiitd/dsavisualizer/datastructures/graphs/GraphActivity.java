@@ -44,6 +44,7 @@ import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.GraphAlgorithm;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.Util;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 import com.otaliastudios.zoom.ZoomLayout;
@@ -53,9 +54,6 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 
 // GraphActivity FrontEnd
 public class GraphActivity extends BaseActivity {
@@ -131,7 +129,6 @@ public class GraphActivity extends BaseActivity {
     GraphControls graphControls;
     GraphAlgorithm graphAlgorithm;
 
-    Timer timer = null;
     int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
     final int LAYOUT_MAIN = R.layout.activity_graph;
     final int LAYOUT_LEFT = R.layout.navigation_graph;
@@ -231,36 +228,16 @@ public class GraphActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                animStepDuration = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                animStepDuration = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                playbackEngine.setStepDuration(animStepDuration);
             }
 
             @Override
             public void onStartTrackingTouch(SeekBar seekBar) {}
 
             @Override
-            public void onStopTrackingTouch(SeekBar seekBar) {
-                if (graphAlgorithm!= null && graphAlgorithm.graphSequence != null && isAutoPlay) {
-                    timer.cancel();
-                    timer = new Timer();
-                    timer.schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            if (graphAlgorithm.graphSequence.curSeqNo < graphAlgorithm.graphSequence.getSize()-1){
-                                graphAlgorithm.graphSequence.forward();
-                                taskStep(graphAlgorithm.graphSequence.curSeqNo);
-                            }
-                            else {
-                                isAutoPlay = false;
-                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                if(timer != null) {
-                                    timer.cancel();
-                                }
-                            }
-                        }
-                    }, 0, animStepDuration);
-                }
-            }
+            public void onStopTrackingTouch(SeekBar seekBar) {}
 
         });
 
@@ -684,32 +661,41 @@ public class GraphActivity extends BaseActivity {
             public void onClick(View v) {
                 if(graphAlgorithm != null && graphAlgorithm.graphSequence != null){
                     if(isAutoPlay){
-                        isAutoPlay = false;
-                        btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                        if(timer != null) {
-                            timer.cancel();
-                        }
+                        playbackEngine.stop();
                     }
                     else{
                         isAutoPlay = true;
                         btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PAUSE_BUTTON));
-                        timer = new Timer();
-                        timer.schedule(new TimerTask() {
+                        playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
+                            int drawnSeqNo = -1;
+
                             @Override
-                            public void run() {
-                                if (graphAlgorithm.graphSequence.curSeqNo < graphAlgorithm.graphSequence.getSize()-1){
-                                    graphAlgorithm.graphSequence.forward();
-                                    taskStep(graphAlgorithm.graphSequence.curSeqNo);
+                            public boolean onStep() {
+                                GraphSequence graphSequence = graphAlgorithm.graphSequence;
+                                if (graphSequence.curSeqNo < graphSequence.getSize()-1){
+                                    graphSequence.forward();
+                                    return true;
                                 }
-                                else {
-                                    isAutoPlay = false;
-                                    btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-                                    if(timer != null) {
-                                        timer.cancel();
-                                    }
+
+                                // Still being generated, wait for more states
+                                return !graphSequence.isCompleted();
+                            }
+
+                            @Override
+                            public void onFrame() {
+                                // Not redrawn while waiting for more states
+                                if(drawnSeqNo != graphAlgorithm.graphSequence.curSeqNo){
+                                    drawnSeqNo = graphAlgorithm.graphSequence.curSeqNo;
+                                    taskStep(drawnSeqNo);
                                 }
                             }
-                        }, 0, animStepDuration);
+
+                            @Override
+                            public void onStop() {
+                                isAutoPlay = false;
+                                btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
+                            }
+                        });
                     }
 
                 }
@@ -745,11 +731,7 @@ public class GraphActivity extends BaseActivity {
 
     private void pauseAnimation(){
         if(graphAlgorithm != null && graphAlgorithm.graphSequence != null){
-            isAutoPlay = false;
-            btn_play.setImageDrawable(UtilUI.getDrawable(context, AppSettings.PLAY_BUTTON));
-            if(timer != null) {
-                timer.cancel();
-            }
+            playbackEngine.stop();
         }
     }
 
@@ -854,7 +836,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BFS, vertexNumber);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BFS, vertexNumber, graphSequenceListener);
                     }
                 }
                 break;
@@ -876,7 +858,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BFS_CC, -1);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BFS_CC, -1, graphSequenceListener);
                     }
                 }
                 break;
@@ -906,7 +888,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DFS, vertexNumber);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DFS, vertexNumber, graphSequenceListener);
                     }
                 }
                 break;
@@ -928,7 +910,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DFS_CC, -1);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DFS_CC, -1, graphSequenceListener);
                     }
                 }
                 break;
@@ -962,7 +944,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DIJKSTRA, vertexNumber);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.DIJKSTRA, vertexNumber, graphSequenceListener);
                     }
                 }
                 break;
@@ -984,7 +966,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BELLMAN_FORD, -1);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.BELLMAN_FORD, -1, graphSequenceListener);
                     }
                 }
                 break;
@@ -1006,7 +988,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.KRUSKALS, -1);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.KRUSKALS, -1, graphSequenceListener);
                     }
                 }
                 break;
@@ -1028,7 +1010,7 @@ public class GraphActivity extends BaseActivity {
                         resetGraphSequence();
                         graphWrapper.board.clearGraph(true);
 
-                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.PRIMS, -1);
+                        graphAlgorithm.runAlgo(graphWrapper.graph, GraphAlgorithmType.PRIMS, -1, graphSequenceListener);
                     }
                 }
                 break;
@@ -1049,12 +1031,9 @@ public class GraphActivity extends BaseActivity {
                 hideControls();
                 closeDrawer(0);
 
-                if(graphAlgorithm.graphSequence.graphAnimationStates.size() > 0){
-                    taskStep(0);
-                    UtilUI.setText(tv_info, graphAlgorithm.graphSequence.graphAnimationStates.get(0).info);
-                }
-
-                UtilUI.setText(tv_seqno, "1/" + graphAlgorithm.graphSequence.size);
+                // First state is shown by graphSequenceListener, as soon as it is generated
+                UtilUI.setText(tv_info, "-");
+                UtilUI.setText(tv_seqno, "-");
                 break;
             case 1: // Toast Error
                 Toast.makeText(context, errorMessage, Toast.LENGTH_SHORT).show();
@@ -1066,6 +1045,27 @@ public class GraphActivity extends BaseActivity {
 
     }
 
+    // Listens to the graphSequence being generated in background by graphAlgorithm
+    private final GraphAlgorithm.OnGraphSequenceListener graphSequenceListener = new GraphAlgorithm.OnGraphSequenceListener() {
+        @Override
+        public void onFirstState() {
+            taskStep(0);
+        }
+
+        @Override
+        public void onCompleted() {
+            if(graphAlgorithm != null && graphAlgorithm.graphSequence != null && graphAlgorithm.graphSequence.size > 0){
+                UtilUI.setText(tv_seqno, graphAlgorithm.graphSequence.curSeqNo+1 + "/" + graphAlgorithm.graphSequence.size);
+            }
+        }
+
+        @Override
+        public void onFailed(Throwable throwable) {
+            resetAlgorithm();
+            Toast.makeText(context, "Algorithm failed: " + throwable, Toast.LENGTH_LONG).show();
+        }
+    };
+
     private void taskStep(final int curSeqNo) {
         if (graphAlgorithm != null && graphAlgorithm.graphSequence != null) {
             System.out.println("SEQ = "  + curSeqNo);
@@ -1075,103 +1075,19 @@ public class GraphActivity extends BaseActivity {
                 public void run() {
 
                     if(curSeqNo < graphAlgorithm.graphSequence.graphAnimationStates.size() && curSeqNo >= 0) {
-                        String str_tv_info = graphAlgorithm.graphSequence.graphAnimationStates.get(curSeqNo).info;
+                        // Materialized from the nearest keyframe, so fetched only once per step
+                        GraphAnimationState graphAnimationState = graphAlgorithm.graphSequence.graphAnimationStates.get(curSeqNo);
+                        String str_tv_info = graphAnimationState.info;
 
                         UtilUI.setText(tv_seqno, curSeqNo+1 + "/" + graphAlgorithm.graphSequence.size);
                         UtilUI.setText(tv_info, UtilUI.stringToSpannableStringBuilder(context, tv_info, str_tv_info));
 
-                        // Clear Graph
-                        graphWrapper.board.clearGraph(true);
-
-                        GraphAnimationState graphAnimationState = graphAlgorithm.graphSequence.graphAnimationStates.get(curSeqNo);
                         System.out.println(graphAnimationState);
 
                         graphAlgorithm.graphTreeDSPopUp.update(graphAnimationState.graphAnimationStateExtra);
 
-                        // Edges
-                        for(Edge edge : graphAnimationState.edges){
-                            if(edge.graphAnimationStateType == GraphAnimationStateType.HIGHLIGHT){
-                                graphWrapper.board.setPaintHighlight();
-                                graphWrapper.board.drawEdge(edge, graphWrapper.directed, graphWrapper.weighted, true);
-                            }
-                            else if(edge.graphAnimationStateType == GraphAnimationStateType.NONE){}
-                            else if(edge.graphAnimationStateType == GraphAnimationStateType.NORMAL){
-                                graphWrapper.board.setPaintNormal();
-                                graphWrapper.board.drawEdge(edge, graphWrapper.directed, graphWrapper.weighted, true);
-                            }
-                            else if(edge.graphAnimationStateType == GraphAnimationStateType.DONE){
-                                graphWrapper.board.setPaintDone();
-                                graphWrapper.board.drawEdge(edge, graphWrapper.directed, graphWrapper.weighted, true);
-                            }
-                        }
-
-                        if(graphAnimationState.graphAnimationStateExtra != null){
-                            if(graphAnimationState.graphAnimationStateExtra.cycles != null){
-                                for(Edge edge : graphAnimationState.graphAnimationStateExtra.cycles) {
-                                    graphWrapper.board.setPaintDone();
-                                    graphWrapper.board.drawEdge(edge, graphWrapper.directed, graphWrapper.weighted, true);
-                                }
-                            }
-                        }
-
-
-                        // Vertices
-                        for(Map.Entry<Integer, Vertex> entry : graphAnimationState.verticesState.entrySet()){
-                            if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.HIGHLIGHT){
-                                graphWrapper.board.setPaintHighlight();
-                                Vertex vertex = entry.getValue();
-                                graphWrapper.board.drawVertex(vertex.data, vertex.row, vertex.col,true);
-                            }
-                            else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.NONE){
-                                graphWrapper.board.setPaintNormal();
-                                Vertex vertex = entry.getValue();
-                                graphWrapper.board.drawVertex(vertex.data, vertex.row, vertex.col,true);
-                            }
-                            else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.NORMAL){
-                                graphWrapper.board.setPaintNormal();
-                                Vertex vertex = entry.getValue();
-                                graphWrapper.board.drawVertex(vertex.data, vertex.row, vertex.col,true);
-                            }
-                            else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.DONE){
-                                graphWrapper.board.setPaintDone();
-                                Vertex vertex = entry.getValue();
-                                graphWrapper.board.drawVertex(vertex.data, vertex.row, vertex.col,true);
-                            }
-
-                            // Weights
-                            if(graphAnimationState.graphAnimationStateExtra != null){
-                                if(graphAnimationState.graphAnimationStateExtra.map != null &&
-                                graphAnimationState.graphAnimationStateExtra.map.size() > 0) {
-                                    if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.HIGHLIGHT){
-                                        graphWrapper.board.setPaintHighlight();
-                                        graphWrapper.board.drawVertexWeight(
-                                                entry.getKey(),
-                                                graphAnimationState.graphAnimationStateExtra.map.get(entry.getKey()), true);
-                                    }
-                                    else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.NONE){
-                                        graphWrapper.board.setPaintNormal();
-                                        graphWrapper.board.drawVertexWeight(
-                                                entry.getKey(),
-                                                graphAnimationState.graphAnimationStateExtra.map.get(entry.getKey()), true);
-                                    }
-                                    else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.NORMAL){
-                                        graphWrapper.board.setPaintNormal();
-                                        graphWrapper.board.drawVertexWeight(
-                                                entry.getKey(),
-                                                graphAnimationState.graphAnimationStateExtra.map.get(entry.getKey()), true);
-                                    }
-                                    else if(entry.getValue().graphAnimationStateType == GraphAnimationStateType.DONE){
-                                        graphWrapper.board.setPaintDone();
-                                        graphWrapper.board.drawVertexWeight(
-                                                entry.getKey(),
-                                                graphAnimationState.graphAnimationStateExtra.map.get(entry.getKey()), true);
-                                    }
-                                }
-                            }
-
-                        }
-
-                        graphWrapper.board.refresh(true);
+                        // Edges, Vertices and Weights [ only regions changed since the last step are re-drawn ]
+                        graphWrapper.board.drawAnimationState(graphAnimationState, graphWrapper.directed, graphWrapper.weighted);
                     }
                     else{
                         UtilUI.setText(tv_info, "Done");
@@ -1618,6 +1534,9 @@ public class GraphActivity extends BaseActivity {
 
     private void setGraphChanged(boolean changed){
         if(changed && graphAlgorithm != null && graphAlgorithm.graphAlgorithmType != GraphAlgorithmType.NULL){
+            // Sequence belongs to the old graph, stop generating it
+            graphAlgorithm.cancel();
+
             btn_error.setAlpha(1f);
             btn_error.setClickable(true);
             btn_error.setEnabled(true);
@@ -1874,6 +1793,7 @@ public class GraphActivity extends BaseActivity {
             @Override
             public void onClick(View v) {
                 if(graphAlgorithm != null){
+                    graphAlgorithm.cancel();
                     graphAlgorithm.graphTreePopUp.popupwindow.dismiss();
                     graphAlgorithm.graphTreeDSPopUp.popupwindow.dismiss();
                 }
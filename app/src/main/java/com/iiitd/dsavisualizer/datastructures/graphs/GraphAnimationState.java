@@ -5,17 +5,22 @@ import java.util.HashMap;
 import java.util.Map;
 
 // This class is used to hold complete animation data for an instance of a graph algorithm
+// While recording, vertices and edges are only referenced, GraphSequence copies what changed when the state is added
 public class GraphAnimationState {
     public String state;
     public String info;
     public ArrayList<Edge> edges;
     public HashMap<Integer, Vertex> verticesState;
     public GraphAnimationStateExtra graphAnimationStateExtra;
+    public int[] changedVertices;           // vertex numbers changed since last state, null => unknown [ all are diffed ]
+    public int[] changedEdges;              // edge indices changed since last state, null => unknown [ all are diffed ]
 
     public GraphAnimationState() {
         this.edges = new ArrayList<>();
         this.verticesState = new HashMap<>();
         this.graphAnimationStateExtra = null;
+        this.changedVertices = null;
+        this.changedEdges = null;
     }
 
     public GraphAnimationState setState(String state){
@@ -40,10 +45,7 @@ public class GraphAnimationState {
     }
 
     public GraphAnimationState setVerticesState(HashMap<Integer, Vertex> _verticesState){
-        this.verticesState.clear();
-        for (Map.Entry<Integer, Vertex> entry : _verticesState.entrySet()) {
-            this.verticesState.put(entry.getKey(), Vertex.getClone(entry.getValue()));
-        }
+        this.verticesState = _verticesState;
         return this;
     }
 
@@ -52,10 +54,14 @@ public class GraphAnimationState {
     }
 
     public GraphAnimationState addEdges(ArrayList<Edge> _edges){
-        for(Edge edge : _edges){
-            edges.add(Edge.getClone(edge));
-        }
+        this.edges = _edges;
+        return this;
+    }
 
+    // Only touched vertices and edges are looked at when this state is recorded
+    public GraphAnimationState setChanges(GraphAnimationStateChanges graphAnimationStateChanges){
+        this.changedVertices = graphAnimationStateChanges.takeVertices();
+        this.changedEdges = graphAnimationStateChanges.takeEdges();
         return this;
     }
 
@@ -64,4 +70,25 @@ public class GraphAnimationState {
         return this;
     }
 
+    // Deep copy of vertices, edges and extra's map
+    public static GraphAnimationState getClone(GraphAnimationState graphAnimationState){
+        GraphAnimationState graphAnimationState1 = new GraphAnimationState();
+        graphAnimationState1.state = graphAnimationState.state;
+        graphAnimationState1.info = graphAnimationState.info;
+
+        for (Map.Entry<Integer, Vertex> entry : graphAnimationState.verticesState.entrySet()) {
+            graphAnimationState1.verticesState.put(entry.getKey(), Vertex.getClone(entry.getValue()));
+        }
+
+        for(Edge edge : graphAnimationState.edges){
+            graphAnimationState1.edges.add(Edge.getClone(edge));
+        }
+
+        if(graphAnimationState.graphAnimationStateExtra != null){
+            graphAnimationState1.graphAnimationStateExtra = GraphAnimationStateExtra.getClone(graphAnimationState.graphAnimationStateExtra);
+        }
+
+        return graphAnimationState1;
+    }
+
 }
\ No newline at end of file
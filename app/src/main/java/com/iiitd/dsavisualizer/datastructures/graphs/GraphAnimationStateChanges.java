@@ -0,0 +1,50 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import java.util.Arrays;
+
+// GraphAnimationStateChanges collects vertices and edges touched by an algorithm between two recorded states
+// A state carrying them is recorded by GraphAnimationStateList without diffing all vertices and edges
+public class GraphAnimationStateChanges {
+    private int[] vertices;         // vertex numbers
+    private int noOfVertices;
+    private int[] edges;            // edge indices in the animated edge list
+    private int noOfEdges;
+
+    public GraphAnimationStateChanges() {
+        this.vertices = new int[4];
+        this.noOfVertices = 0;
+        this.edges = new int[4];
+        this.noOfEdges = 0;
+    }
+
+    public void addVertex(int vertexNo){
+        if(noOfVertices == vertices.length){
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+
+        vertices[noOfVertices++] = vertexNo;
+    }
+
+    public void addEdge(int edgeIndex){
+        if(noOfEdges == edges.length){
+            edges = Arrays.copyOf(edges, edges.length * 2);
+        }
+
+        edges[noOfEdges++] = edgeIndex;
+    }
+
+    // Returns touched vertices and clears them
+    public int[] takeVertices(){
+        int[] touched = Arrays.copyOf(vertices, noOfVertices);
+        noOfVertices = 0;
+        return touched;
+    }
+
+    // Returns touched edges and clears them
+    public int[] takeEdges(){
+        int[] touched = Arrays.copyOf(edges, noOfEdges);
+        noOfEdges = 0;
+        return touched;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+// GraphAnimationStateDelta holds what changed in one step of a graph algorithm
+// either a complete keyframe state, or the packed changes w.r.t. the previous step
+public class GraphAnimationStateDelta {
+    static final int[] EMPTY = new int[0];
+
+    public GraphAnimationState keyframe;                    // complete state, null for delta steps
+    public String state;
+    public String info;
+    public GraphAnimationStateExtra graphAnimationStateExtra; // extra without map and priority queue [ both are delta coded ]
+    public int[] vertexChanges;                             // {vertex number, GAST ordinal, vertex data} triplets
+    public int[] edgeChanges;                               // {edge index, GAST ordinal} pairs
+    public int[] distanceChanges;                           // {vertex number, distance} pairs
+    public boolean clearDistances;                          // distance map is cleared before applying changes
+    public int[] priorityQueueChanges;                      // {heap position, vertex number, distance} triplets
+    public int priorityQueueSize;                           // no. of elements in priority queue after this step
+
+    // Used for keyframe steps
+    public GraphAnimationStateDelta(GraphAnimationState keyframe) {
+        this.keyframe = keyframe;
+        this.state = keyframe.state;
+        this.info = keyframe.info;
+        this.graphAnimationStateExtra = keyframe.graphAnimationStateExtra;
+        this.vertexChanges = EMPTY;
+        this.edgeChanges = EMPTY;
+        this.distanceChanges = EMPTY;
+        this.clearDistances = false;
+        this.priorityQueueChanges = EMPTY;
+        this.priorityQueueSize = keyframe.graphAnimationStateExtra != null
+                ? keyframe.graphAnimationStateExtra.priorityQueueElementStates.size()
+                : 0;
+    }
+
+    // Used for delta steps
+    public GraphAnimationStateDelta(String state, String info, GraphAnimationStateExtra graphAnimationStateExtra,
+                                    int[] vertexChanges, int[] edgeChanges, int[] distanceChanges, boolean clearDistances,
+                                    int[] priorityQueueChanges, int priorityQueueSize) {
+        this.keyframe = null;
+        this.state = state;
+        this.info = info;
+        this.graphAnimationStateExtra = graphAnimationStateExtra;
+        this.vertexChanges = vertexChanges;
+        this.edgeChanges = edgeChanges;
+        this.distanceChanges = distanceChanges;
+        this.clearDistances = clearDistances;
+        this.priorityQueueChanges = priorityQueueChanges;
+        this.priorityQueueSize = priorityQueueSize;
+    }
+
+    public boolean isKeyframe(){
+        return keyframe != null;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphAnimationStateDelta{" +
+                "keyframe=" + isKeyframe() +
+                ", info='" + info + '\'' +
+                ", vertexChanges=" + vertexChanges.length / 3 +
+                ", edgeChanges=" + edgeChanges.length / 2 +
+                ", distanceChanges=" + distanceChanges.length / 2 +
+                ", clearDistances=" + clearDistances +
+                ", priorityQueueChanges=" + priorityQueueChanges.length / 3 +
+                ", priorityQueueSize=" + priorityQueueSize +
+                '}';
+    }
+
+}
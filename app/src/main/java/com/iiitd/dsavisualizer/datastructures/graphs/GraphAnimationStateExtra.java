@@ -1,11 +1,11 @@
 package com.iiitd.dsavisualizer.datastructures.graphs;
 
+import com.iiitd.dsavisualizer.runapp.others.IndexedMinHeap;
+
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.Map;
 import java.util.Stack;
 
 // This class is used to hold extra animation data for an instance of a graph algorithm
@@ -17,6 +17,11 @@ public class GraphAnimationStateExtra {
     public ArrayList<Edge> cycles;                                          // used by Bellmanford's negative cycles
     public ArrayList<PriorityQueueElementState> priorityQueueElementStates; // used by Dijkstra and Prim's
 
+    // Changes w.r.t. the previous state, used instead of map and priority queue when not null
+    public int[] mapChanges;                                                // {vertex number, distance} pairs
+    public int[] priorityQueueChanges;                                      // {heap position, vertex number, distance} triplets
+    public int priorityQueueSize;                                           // no. of elements in priority queue
+
     public GraphAnimationStateExtra() {
         this.queues = new ArrayList<>();
         this.stacks = new ArrayList<>();
@@ -24,6 +29,9 @@ public class GraphAnimationStateExtra {
         this.priorityQueueElementStates = new ArrayList<>();
         this.edges = new ArrayList<>();
         this.cycles = new ArrayList<>();
+        this.mapChanges = null;
+        this.priorityQueueChanges = null;
+        this.priorityQueueSize = 0;
     }
 
     public static GraphAnimationStateExtra create(){
@@ -40,17 +48,29 @@ public class GraphAnimationStateExtra {
         return this;
     }
 
-    public GraphAnimationStateExtra addMapDijkstra(HashMap<Integer, VertexCLRS> oldMap){
-        for (Map.Entry<Integer, VertexCLRS> entry : oldMap.entrySet()) {
-            this.map.put(entry.getKey(), entry.getValue().dijkstraDist);
+    public GraphAnimationStateExtra addMapDijkstra(VertexCLRS[] clrs){
+        for (VertexCLRS vertexCLRS : clrs) {
+            this.map.put(vertexCLRS.data, vertexCLRS.dijkstraDist);
+        }
+
+        return this;
+    }
+
+    // Distances are same as in the previous state, except of vertex changedId [ -1 => no change ]
+    public GraphAnimationStateExtra addMapDijkstraChange(VertexCLRS[] clrs, int changedId){
+        if(changedId < 0){
+            this.mapChanges = new int[0];
+        }
+        else{
+            this.mapChanges = new int[]{clrs[changedId].data, clrs[changedId].dijkstraDist};
         }
 
         return this;
     }
 
-    public GraphAnimationStateExtra addMapBellmanford(HashMap<Integer, VertexCLRS> oldMap){
-        for (Map.Entry<Integer, VertexCLRS> entry : oldMap.entrySet()) {
-            this.map.put(entry.getKey(), entry.getValue().bellmanFordDist);
+    public GraphAnimationStateExtra addMapBellmanford(VertexCLRS[] clrs){
+        for (VertexCLRS vertexCLRS : clrs) {
+            this.map.put(vertexCLRS.data, vertexCLRS.bellmanFordDist);
         }
 
         return this;
@@ -70,20 +90,42 @@ public class GraphAnimationStateExtra {
         return this;
     }
 
-    public GraphAnimationStateExtra addPriorityQueueElementState(HashMap<Integer, VertexCLRS> oldMap){
-        for (Map.Entry<Integer, VertexCLRS> entry : oldMap.entrySet()) {
-            this.priorityQueueElementStates.add(
-                    new PriorityQueueElementState(entry.getKey(), entry.getValue().visited, entry.getValue().dijkstraDist));
-        }
-
-        Collections.sort(priorityQueueElementStates, new Comparator<PriorityQueueElementState>() {
-            @Override
-            public int compare(PriorityQueueElementState o1, PriorityQueueElementState o2) {
-                return Integer.compare(o1.distance, o2.distance);
+    // Records only heap positions written since the previous state, vertices maps heap elements to vertex numbers
+    public GraphAnimationStateExtra addPriorityQueueChanges(IndexedMinHeap priorityQueue, int[] vertices){
+        int count = 0;
+        int[] changes = new int[3 * priorityQueue.getNoOfChanges()];
+        for(int i=0;i<priorityQueue.getNoOfChanges();i++){
+            int heapPosition = priorityQueue.changeAt(i);
+            if(heapPosition < priorityQueue.size()){
+                int element = priorityQueue.elementAt(heapPosition);
+                changes[count++] = heapPosition;
+                changes[count++] = vertices[element];
+                changes[count++] = priorityQueue.getKey(element);
             }
-        });
+        }
+        priorityQueue.clearChanges();
 
+        this.priorityQueueChanges = count == changes.length ? changes : Arrays.copyOf(changes, count);
+        this.priorityQueueSize = priorityQueue.size();
         return this;
     }
 
+    // Lists are shared [ they are never modified once recorded ], map is copied
+    public static GraphAnimationStateExtra getClone(GraphAnimationStateExtra graphAnimationStateExtra){
+        GraphAnimationStateExtra graphAnimationStateExtra1 = new GraphAnimationStateExtra();
+        graphAnimationStateExtra1.queues = graphAnimationStateExtra.queues;
+        graphAnimationStateExtra1.stacks = graphAnimationStateExtra.stacks;
+        graphAnimationStateExtra1.edges = graphAnimationStateExtra.edges;
+        graphAnimationStateExtra1.cycles = graphAnimationStateExtra.cycles;
+        graphAnimationStateExtra1.priorityQueueElementStates = graphAnimationStateExtra.priorityQueueElementStates;
+        graphAnimationStateExtra1.mapChanges = graphAnimationStateExtra.mapChanges;
+        graphAnimationStateExtra1.priorityQueueChanges = graphAnimationStateExtra.priorityQueueChanges;
+        graphAnimationStateExtra1.priorityQueueSize = graphAnimationStateExtra.priorityQueueSize;
+        if(graphAnimationStateExtra.map != null){
+            graphAnimationStateExtra1.map.putAll(graphAnimationStateExtra.map);
+        }
+
+        return graphAnimationStateExtra1;
+    }
+
 }
\ No newline at end of file
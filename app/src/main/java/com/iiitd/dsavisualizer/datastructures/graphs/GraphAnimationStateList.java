@@ -0,0 +1,432 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// GraphAnimationStateList stores animation states of a graph algorithm as keyframes and deltas
+// In between keyframes only changed vertices, edges, distances and priority queue slots are stored,
+// get(index) materializes the complete state
+// A state may carry its own changes [ GraphAnimationState.setChanges, GraphAnimationStateExtra.addMapDijkstraChange,
+// addPriorityQueueChanges ], then only those entries are looked at, else all of them are diffed
+// A keyframe is copied every max(KEYFRAME_INTERVAL, vertices + edges) steps, so its cost is O(1) per step
+// add() and get() are synchronized, as states are added by a background thread while UI thread reads them
+public class GraphAnimationStateList extends AbstractList<GraphAnimationState> {
+    public static final int KEYFRAME_INTERVAL = 16;
+
+    private final ArrayList<GraphAnimationStateDelta> deltas;
+    private int sinceKeyframe;
+
+    // Private copy of the last added state, changes are applied to it and keyframes are copied from it
+    private GraphAnimationState current;
+    private HashMap<Integer, Integer> currentDistances;
+    private ArrayList<PriorityQueueElementState> currentPriorityQueue;
+
+    // Vertices and edges of the last added state [ caller's objects ], used for a quick shape check
+    private HashMap<Integer, Vertex> lastVerticesState;
+    private ArrayList<Edge> lastEdges;
+
+    // Reusable buffers used while diffing
+    private int[] vertexBuffer;
+    private int[] edgeBuffer;
+    private int[] distanceBuffer;
+    private int[] priorityQueueBuffer;
+    private int vertexCount;
+    private int edgeCount;
+    private int distanceCount;
+    private int priorityQueueCount;
+    private boolean clearDistances;
+
+    public GraphAnimationStateList() {
+        this.deltas = new ArrayList<>();
+        this.sinceKeyframe = 0;
+        this.current = null;
+        this.currentDistances = new HashMap<>();
+        this.currentPriorityQueue = new ArrayList<>();
+        this.lastVerticesState = null;
+        this.lastEdges = null;
+        this.vertexBuffer = new int[48];
+        this.edgeBuffer = new int[32];
+        this.distanceBuffer = new int[32];
+        this.priorityQueueBuffer = new int[48];
+    }
+
+    @Override
+    public synchronized boolean add(GraphAnimationState graphAnimationState) {
+        boolean isKeyframe = current == null || !isSameShape(graphAnimationState);
+        if(isKeyframe){
+            current = GraphAnimationState.getClone(graphAnimationState);
+            current.graphAnimationStateExtra = null;
+            vertexCount = 0;
+            edgeCount = 0;
+        }
+        else{
+            updateVertices(graphAnimationState);
+            updateEdges(graphAnimationState);
+        }
+
+        updateDistances(graphAnimationState.graphAnimationStateExtra);
+        updatePriorityQueue(graphAnimationState.graphAnimationStateExtra);
+        lastVerticesState = graphAnimationState.verticesState;
+        lastEdges = graphAnimationState.edges;
+
+        if(isKeyframe || sinceKeyframe >= getKeyframeInterval() - 1){
+            addKeyframe(graphAnimationState);
+        }
+        else{
+            addDelta(graphAnimationState);
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized GraphAnimationState get(int index) {
+        if(index < 0 || index >= deltas.size()){
+            throw new IndexOutOfBoundsException("index = " + index + ", size = " + deltas.size());
+        }
+
+        // Nearest keyframe at or before index
+        int start = index;
+        while (!deltas.get(start).isKeyframe()){
+            start--;
+        }
+
+        GraphAnimationState graphAnimationState = GraphAnimationState.getClone(deltas.get(start).keyframe);
+        if(index == start){
+            graphAnimationState.graphAnimationStateExtra = getExtraClone(deltas.get(start).keyframe.graphAnimationStateExtra);
+            return graphAnimationState;
+        }
+
+        HashMap<Integer, Integer> distances = new HashMap<>();
+        ArrayList<PriorityQueueElementState> priorityQueue = new ArrayList<>();
+        copyExtraState(deltas.get(start).keyframe.graphAnimationStateExtra, distances, priorityQueue);
+
+        for(int i=start+1;i<=index;i++){
+            applyDelta(graphAnimationState, distances, priorityQueue, deltas.get(i));
+        }
+
+        GraphAnimationStateDelta delta = deltas.get(index);
+        graphAnimationState.state = delta.state;
+        graphAnimationState.info = delta.info;
+        graphAnimationState.graphAnimationStateExtra = null;
+        if(delta.graphAnimationStateExtra != null){
+            graphAnimationState.graphAnimationStateExtra = GraphAnimationStateExtra.getClone(delta.graphAnimationStateExtra);
+            graphAnimationState.graphAnimationStateExtra.map = distances;
+            graphAnimationState.graphAnimationStateExtra.priorityQueueElementStates = priorityQueue;
+        }
+
+        return graphAnimationState;
+    }
+
+    @Override
+    public synchronized int size() {
+        return deltas.size();
+    }
+
+    public synchronized int getNoOfKeyframes(){
+        int count = 0;
+        for(GraphAnimationStateDelta delta : deltas){
+            if(delta.isKeyframe())
+                count++;
+        }
+
+        return count;
+    }
+
+    private int getKeyframeInterval(){
+        return Math.max(KEYFRAME_INTERVAL, current.verticesState.size() + current.edges.size());
+    }
+
+    // Keyframe is a copy of current state
+    private void addKeyframe(GraphAnimationState graphAnimationState){
+        GraphAnimationState keyframe = GraphAnimationState.getClone(current);
+        keyframe.state = graphAnimationState.state;
+        keyframe.info = graphAnimationState.info;
+
+        GraphAnimationStateExtra graphAnimationStateExtra = graphAnimationState.graphAnimationStateExtra;
+        if(graphAnimationStateExtra != null){
+            clearChanges(graphAnimationStateExtra);
+            graphAnimationStateExtra.map = currentDistances;
+            graphAnimationStateExtra.priorityQueueElementStates = currentPriorityQueue;
+            keyframe.graphAnimationStateExtra = getExtraClone(graphAnimationStateExtra);
+            clearChanges(graphAnimationStateExtra);
+        }
+
+        deltas.add(new GraphAnimationStateDelta(keyframe));
+        sinceKeyframe = 0;
+    }
+
+    private void addDelta(GraphAnimationState graphAnimationState){
+        // Extra is kept without its map and priority queue, as they are now part of the delta
+        GraphAnimationStateExtra graphAnimationStateExtra = graphAnimationState.graphAnimationStateExtra;
+        if(graphAnimationStateExtra != null){
+            clearChanges(graphAnimationStateExtra);
+        }
+
+        deltas.add(new GraphAnimationStateDelta(
+                graphAnimationState.state,
+                graphAnimationState.info,
+                graphAnimationStateExtra,
+                copy(vertexBuffer, vertexCount),
+                copy(edgeBuffer, edgeCount),
+                copy(distanceBuffer, distanceCount),
+                clearDistances,
+                copy(priorityQueueBuffer, priorityQueueCount),
+                currentPriorityQueue.size()));
+
+        sinceKeyframe++;
+    }
+
+    // Vertices, only the changed ones if they are known
+    private void updateVertices(GraphAnimationState graphAnimationState){
+        vertexCount = 0;
+        if(graphAnimationState.changedVertices != null){
+            for(int key : graphAnimationState.changedVertices){
+                updateVertex(key, graphAnimationState.verticesState.get(key));
+            }
+        }
+        else{
+            for(Map.Entry<Integer, Vertex> entry : graphAnimationState.verticesState.entrySet()){
+                updateVertex(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void updateVertex(int key, Vertex vertex){
+        Vertex old = current.verticesState.get(key);
+        if(old.graphAnimationStateType != vertex.graphAnimationStateType || old.data != vertex.data){
+            vertexBuffer = ensureCapacity(vertexBuffer, vertexCount + 3);
+            vertexBuffer[vertexCount++] = key;
+            vertexBuffer[vertexCount++] = vertex.graphAnimationStateType.ordinal();
+            vertexBuffer[vertexCount++] = vertex.data;
+            old.graphAnimationStateType = vertex.graphAnimationStateType;
+            old.data = vertex.data;
+        }
+    }
+
+    // Edges, only the changed ones if they are known
+    private void updateEdges(GraphAnimationState graphAnimationState){
+        edgeCount = 0;
+        if(graphAnimationState.changedEdges != null){
+            for(int i : graphAnimationState.changedEdges){
+                updateEdge(i, graphAnimationState.edges.get(i));
+            }
+        }
+        else{
+            for(int i=0;i<graphAnimationState.edges.size();i++){
+                updateEdge(i, graphAnimationState.edges.get(i));
+            }
+        }
+    }
+
+    private void updateEdge(int i, Edge edge){
+        Edge old = current.edges.get(i);
+        if(old.graphAnimationStateType != edge.graphAnimationStateType){
+            edgeBuffer = ensureCapacity(edgeBuffer, edgeCount + 2);
+            edgeBuffer[edgeCount++] = i;
+            edgeBuffer[edgeCount++] = edge.graphAnimationStateType.ordinal();
+            old.graphAnimationStateType = edge.graphAnimationStateType;
+        }
+    }
+
+    // Distances, only the changed ones if they are known
+    private void updateDistances(GraphAnimationStateExtra graphAnimationStateExtra){
+        distanceCount = 0;
+        clearDistances = false;
+
+        if(graphAnimationStateExtra != null && graphAnimationStateExtra.mapChanges != null){
+            int[] mapChanges = graphAnimationStateExtra.mapChanges;
+            for(int i=0;i<mapChanges.length;i+=2){
+                updateDistance(mapChanges[i], mapChanges[i+1]);
+            }
+            return;
+        }
+
+        HashMap<Integer, Integer> newDistances = graphAnimationStateExtra != null && graphAnimationStateExtra.map != null
+                ? graphAnimationStateExtra.map
+                : new HashMap<Integer, Integer>();
+
+        clearDistances = !newDistances.keySet().containsAll(currentDistances.keySet());
+        if(clearDistances){
+            currentDistances.clear();
+        }
+
+        for(Map.Entry<Integer, Integer> entry : newDistances.entrySet()){
+            updateDistance(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void updateDistance(int key, int distance){
+        Integer old = currentDistances.get(key);
+        if(old == null || old != distance){
+            distanceBuffer = ensureCapacity(distanceBuffer, distanceCount + 2);
+            distanceBuffer[distanceCount++] = key;
+            distanceBuffer[distanceCount++] = distance;
+            currentDistances.put(key, distance);
+        }
+    }
+
+    // Priority Queue [ heap array layout ], only the changed slots if they are known
+    private void updatePriorityQueue(GraphAnimationStateExtra graphAnimationStateExtra){
+        priorityQueueCount = 0;
+
+        if(graphAnimationStateExtra != null && graphAnimationStateExtra.priorityQueueChanges != null){
+            int[] priorityQueueChanges = graphAnimationStateExtra.priorityQueueChanges;
+            truncate(currentPriorityQueue, graphAnimationStateExtra.priorityQueueSize);
+            for(int i=0;i<priorityQueueChanges.length;i+=3){
+                updatePriorityQueueElement(priorityQueueChanges[i], priorityQueueChanges[i+1], priorityQueueChanges[i+2]);
+            }
+            return;
+        }
+
+        ArrayList<PriorityQueueElementState> newPriorityQueue = graphAnimationStateExtra != null && graphAnimationStateExtra.priorityQueueElementStates != null
+                ? graphAnimationStateExtra.priorityQueueElementStates
+                : new ArrayList<PriorityQueueElementState>();
+
+        truncate(currentPriorityQueue, newPriorityQueue.size());
+        for(int i=0;i<newPriorityQueue.size();i++){
+            PriorityQueueElementState element = newPriorityQueue.get(i);
+            updatePriorityQueueElement(i, element.data, element.distance);
+        }
+    }
+
+    private void updatePriorityQueueElement(int position, int data, int distance){
+        PriorityQueueElementState old = position < currentPriorityQueue.size() ? currentPriorityQueue.get(position) : null;
+        if(old == null || old.data != data || old.distance != distance){
+            priorityQueueBuffer = ensureCapacity(priorityQueueBuffer, priorityQueueCount + 3);
+            priorityQueueBuffer[priorityQueueCount++] = position;
+            priorityQueueBuffer[priorityQueueCount++] = data;
+            priorityQueueBuffer[priorityQueueCount++] = distance;
+            setPriorityQueueElement(currentPriorityQueue, position, data, distance);
+        }
+    }
+
+    private static void clearChanges(GraphAnimationStateExtra graphAnimationStateExtra){
+        graphAnimationStateExtra.map = null;
+        graphAnimationStateExtra.priorityQueueElementStates = null;
+        graphAnimationStateExtra.mapChanges = null;
+        graphAnimationStateExtra.priorityQueueChanges = null;
+    }
+
+    private static void applyDelta(GraphAnimationState graphAnimationState, HashMap<Integer, Integer> distances,
+                                   ArrayList<PriorityQueueElementState> priorityQueue, GraphAnimationStateDelta delta){
+        GraphAnimationStateType[] types = GraphAnimationStateType.values();
+
+        int[] vertexChanges = delta.vertexChanges;
+        for(int i=0;i<vertexChanges.length;i+=3){
+            Vertex vertex = graphAnimationState.verticesState.get(vertexChanges[i]);
+            vertex.graphAnimationStateType = types[vertexChanges[i+1]];
+            vertex.data = vertexChanges[i+2];
+        }
+
+        int[] edgeChanges = delta.edgeChanges;
+        for(int i=0;i<edgeChanges.length;i+=2){
+            graphAnimationState.edges.get(edgeChanges[i]).graphAnimationStateType = types[edgeChanges[i+1]];
+        }
+
+        if(delta.clearDistances){
+            distances.clear();
+        }
+
+        int[] distanceChanges = delta.distanceChanges;
+        for(int i=0;i<distanceChanges.length;i+=2){
+            distances.put(distanceChanges[i], distanceChanges[i+1]);
+        }
+
+        int[] priorityQueueChanges = delta.priorityQueueChanges;
+        for(int i=0;i<priorityQueueChanges.length;i+=3){
+            setPriorityQueueElement(priorityQueue, priorityQueueChanges[i], priorityQueueChanges[i+1], priorityQueueChanges[i+2]);
+        }
+        truncate(priorityQueue, delta.priorityQueueSize);
+    }
+
+    // A delta can only be taken when vertices and edges are same as in the last added state
+    private boolean isSameShape(GraphAnimationState graphAnimationState){
+        if(graphAnimationState.edges.size() != current.edges.size())
+            return false;
+
+        if(graphAnimationState.verticesState.size() != current.verticesState.size())
+            return false;
+
+        // Same vertices and edges as in the last added state
+        if(graphAnimationState.verticesState == lastVerticesState && graphAnimationState.edges == lastEdges)
+            return true;
+
+        for(Integer key : graphAnimationState.verticesState.keySet()){
+            if(!current.verticesState.containsKey(key))
+                return false;
+        }
+
+        return true;
+    }
+
+    // Extra with its own copy of map [ by getClone() ] and priority queue
+    private static GraphAnimationStateExtra getExtraClone(GraphAnimationStateExtra graphAnimationStateExtra){
+        if(graphAnimationStateExtra == null)
+            return null;
+
+        GraphAnimationStateExtra graphAnimationStateExtra1 = GraphAnimationStateExtra.getClone(graphAnimationStateExtra);
+        graphAnimationStateExtra1.priorityQueueElementStates = new ArrayList<>();
+        copyPriorityQueue(graphAnimationStateExtra, graphAnimationStateExtra1.priorityQueueElementStates);
+
+        return graphAnimationStateExtra1;
+    }
+
+    private static void copyExtraState(GraphAnimationStateExtra graphAnimationStateExtra, HashMap<Integer, Integer> distances,
+                                       ArrayList<PriorityQueueElementState> priorityQueue){
+        if(graphAnimationStateExtra == null)
+            return;
+
+        if(graphAnimationStateExtra.map != null){
+            distances.putAll(graphAnimationStateExtra.map);
+        }
+
+        copyPriorityQueue(graphAnimationStateExtra, priorityQueue);
+    }
+
+    private static void copyPriorityQueue(GraphAnimationStateExtra graphAnimationStateExtra, ArrayList<PriorityQueueElementState> priorityQueue){
+        if(graphAnimationStateExtra.priorityQueueElementStates != null){
+            for(PriorityQueueElementState element : graphAnimationStateExtra.priorityQueueElementStates){
+                priorityQueue.add(new PriorityQueueElementState(element.data, element.visited, element.distance));
+            }
+        }
+    }
+
+    private static void setPriorityQueueElement(ArrayList<PriorityQueueElementState> priorityQueue, int position, int data, int distance){
+        if(position < priorityQueue.size()){
+            PriorityQueueElementState element = priorityQueue.get(position);
+            element.data = data;
+            element.distance = distance;
+        }
+        else{
+            while (priorityQueue.size() < position){
+                priorityQueue.add(new PriorityQueueElementState(0, false, 0));
+            }
+            priorityQueue.add(new PriorityQueueElementState(data, false, distance));
+        }
+    }
+
+    private static void truncate(ArrayList<PriorityQueueElementState> priorityQueue, int size){
+        while (priorityQueue.size() > size){
+            priorityQueue.remove(priorityQueue.size() - 1);
+        }
+    }
+
+    private static int[] ensureCapacity(int[] buffer, int capacity){
+        if(buffer.length >= capacity)
+            return buffer;
+
+        return Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+
+    private static int[] copy(int[] buffer, int count){
+        if(count == 0)
+            return GraphAnimationStateDelta.EMPTY;
+
+        return Arrays.copyOf(buffer, count);
+    }
+
+}
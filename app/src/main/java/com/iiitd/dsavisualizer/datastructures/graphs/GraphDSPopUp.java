@@ -343,7 +343,7 @@ public class GraphDSPopUp {
                                 ll_graphds.addView(emptyPriorityQueue);
                             }
                             else {
-                                // Priority Queue elements
+                                // Priority Queue elements [ in heap array order ]
                                 for (PriorityQueueElementState i : graphAnimationStateExtra.priorityQueueElementStates) {
                                     if (!i.visited) {
                                         View myView = inflater.inflate(R.layout.element_graph_ds, null);
@@ -1,33 +1,68 @@
 package com.iiitd.dsavisualizer.datastructures.graphs;
 
-import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
 
 // This class is used by Graph Algorithms for maintaining animation sequences
+// States are stored as keyframes and deltas [ GraphAnimationStateList ], get(index) returns a complete state
+// A sequence can be generated on a background thread while it is being played on the UI thread
 public class GraphSequence {
 
     public GraphAlgorithmType graphAlgorithmType;
-    public int size;
+    public volatile int size;
     public int curSeqNo;
-    public ArrayList<GraphAnimationState> graphAnimationStates;
+    public GraphAnimationStateList graphAnimationStates;
+    public Runnable onFirstState;                 // called on the generating thread when first state is added
+    private volatile boolean completed;
+    private volatile boolean cancelled;
 
     public GraphSequence(GraphAlgorithmType graphAlgorithmType) {
         this.graphAlgorithmType = graphAlgorithmType;
         this.curSeqNo = 0;
         this.size = 0;
-        this.graphAnimationStates = new ArrayList<>();
+        this.graphAnimationStates = new GraphAnimationStateList();
+        this.onFirstState = null;
+        this.completed = false;
+        this.cancelled = false;
     }
 
+    // Throws CancellationException once cancelled, which stops the generating algorithm
     public void addGraphAnimationState(GraphAnimationState graphAnimationState){
+        if(cancelled){
+            throw new CancellationException("graph sequence cancelled");
+        }
+
         graphAnimationStates.add(graphAnimationState);
         size++;
+
+        if(size == 1 && onFirstState != null){
+            onFirstState.run();
+        }
+    }
+
+    public void cancel(){
+        cancelled = true;
+    }
+
+    public boolean isCancelled(){
+        return cancelled;
+    }
+
+    public void setCompleted(){
+        completed = true;
+    }
+
+    // true when no more states will be added
+    public boolean isCompleted(){
+        return completed || cancelled;
     }
 
     @Override
     public String toString() {
-        return "TreeSequence{" +
+        return "GraphSequence{" +
                 "size = " + size +
                 ", curSeqNo = " + curSeqNo +
-                ", graphAnimationStates = " + graphAnimationStates +
+                ", completed = " + completed +
+                ", keyframes = " + graphAnimationStates.getNoOfKeyframes() +
                 '}';
     }
 
@@ -0,0 +1,133 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+// Immutable compressed sparse row (CSR) copy of a Graph, built once when a graph algorithm is run
+// Vertices get dense ids [0, noOfVertices) in vertexMap order
+// Edges of vertex u are edge ids [offsets[u], offsets[u+1]), in edgeListMap order
+// Arrays are public for tight loops in graph algorithms, they must never be modified
+public class GraphSnapshot {
+
+    public final boolean directed;
+    public final boolean weighted;
+    public final int noOfVertices;
+    public final int noOfEdges;
+
+    public final int[] vertices;            // dense id -> vertex number
+    public final int[] rows;                // dense id -> row in graph board
+    public final int[] cols;                // dense id -> col in graph board
+    public final int[] offsets;             // dense id -> first edge id, offsets[noOfVertices] = noOfEdges
+    public final int[] sources;             // edge id -> dense id of src
+    public final int[] targets;             // edge id -> dense id of des
+    public final int[] weights;             // edge id -> weight
+    public final boolean[] firstEdges;      // edge id -> isFirstEdge
+    private final int[] ids;                // vertex number -> dense id, -1 if not present
+
+    public GraphSnapshot(Graph graph) {
+        this.directed = graph.directed;
+        this.weighted = graph.weighted;
+        this.noOfVertices = graph.vertexMap.size();
+
+        this.vertices = new int[noOfVertices];
+        this.rows = new int[noOfVertices];
+        this.cols = new int[noOfVertices];
+
+        int maxVertex = -1;
+        int id = 0;
+        for(Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()){
+            vertices[id] = entry.getKey();
+            rows[id] = entry.getValue().row;
+            cols[id] = entry.getValue().col;
+            maxVertex = Math.max(maxVertex, entry.getKey());
+            id++;
+        }
+
+        this.ids = new int[maxVertex + 1];
+        Arrays.fill(ids, -1);
+        for(int i=0;i<noOfVertices;i++){
+            ids[vertices[i]] = i;
+        }
+
+        int edgeCount = 0;
+        for(ArrayList<Edge> edges : graph.edgeListMap.values()){
+            edgeCount += edges.size();
+        }
+
+        this.noOfEdges = edgeCount;
+        this.offsets = new int[noOfVertices + 1];
+        this.sources = new int[noOfEdges];
+        this.targets = new int[noOfEdges];
+        this.weights = new int[noOfEdges];
+        this.firstEdges = new boolean[noOfEdges];
+
+        int edgeId = 0;
+        for(int u=0;u<noOfVertices;u++){
+            offsets[u] = edgeId;
+            for(Edge edge : graph.edgeListMap.get(vertices[u])){
+                sources[edgeId] = u;
+                targets[edgeId] = ids[edge.des];
+                weights[edgeId] = edge.weight;
+                firstEdges[edgeId] = edge.isFirstEdge;
+                edgeId++;
+            }
+        }
+        offsets[noOfVertices] = edgeId;
+    }
+
+    // Returns dense id of the vertex, -1 if not present
+    public int getId(int vertex){
+        if(vertex < 0 || vertex >= ids.length){
+            return -1;
+        }
+
+        return ids[vertex];
+    }
+
+    // Returns a new Vertex object for the dense id
+    public Vertex getVertex(int id){
+        return new Vertex(vertices[id], rows[id], cols[id]);
+    }
+
+    // Returns a new Edge object for the edge id, Edge.id is set to edgeId
+    public Edge getEdge(int edgeId){
+        Edge edge = new Edge(vertices[sources[edgeId]], vertices[targets[edgeId]], weights[edgeId], firstEdges[edgeId]);
+        edge.id = edgeId;
+
+        return edge;
+    }
+
+    // Returns edge id of (src, des) [ dense ids ], reverse edge is also checked for undirected graphs
+    // -1 if not present, O(degree)
+    public int findEdge(int src, int des){
+        for(int e=offsets[src];e<offsets[src+1];e++){
+            if(targets[e] == des){
+                return e;
+            }
+        }
+
+        // Undirected
+        if(!directed){
+            for(int e=offsets[des];e<offsets[des+1];e++){
+                if(targets[e] == src){
+                    return e;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    // Returns true if contain negative edge
+    public boolean hasNegativeEdges(){
+        for(int e=0;e<noOfEdges;e++){
+            if(weights[e] < 0){
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.iiitd.dsavisualizer.datastructures.graphs;
 
-import android.util.Pair;
+import com.iiitd.dsavisualizer.utility.Pair;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -1,6 +1,6 @@
 package com.iiitd.dsavisualizer.datastructures.graphs;
 
-import com.iiitd.dsavisualizer.utility.UtilUI;
+import com.iiitd.dsavisualizer.utility.Symbols;
 
 // PriorityQueueElementState is used to maintain state of priority queue elements
 public class PriorityQueueElementState {
@@ -16,12 +16,12 @@ public class PriorityQueueElementState {
 
     @Override
     public String toString() {
-        String dist = distance == Integer.MAX_VALUE ? UtilUI.getInfinity() : String.valueOf(distance);
+        String dist = distance == Integer.MAX_VALUE ? Symbols.INFINITY : String.valueOf(distance);
         return data + " " + visited + " " + dist;
     }
 
     public String getDistanceString(){
-        return distance == Integer.MAX_VALUE ? UtilUI.getInfinity() : String.valueOf(distance);
+        return distance == Integer.MAX_VALUE ? Symbols.INFINITY : String.valueOf(distance);
     }
 
     public String getStringText(){
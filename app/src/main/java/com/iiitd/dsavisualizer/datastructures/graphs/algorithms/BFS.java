@@ -2,12 +2,12 @@ package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Edge;
 import com.iiitd.dsavisualizer.datastructures.graphs.EdgePro;
-import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationState;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateExtra;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphTree;
 import com.iiitd.dsavisualizer.datastructures.graphs.Vertex;
 import com.iiitd.dsavisualizer.datastructures.graphs.VertexCLRS;
@@ -19,27 +19,29 @@ import static com.iiitd.dsavisualizer.datastructures.graphs.EdgeClass.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 
 // BFS
 public class BFS {
-    Graph graph;
+    GraphSnapshot graph;
     GraphSequence graphSequence;
     public GraphTree graphTree;
-    HashMap<Integer, VertexCLRS> map;
+    VertexCLRS[] clrs;                             // dense id -> VertexCLRS
+    Vertex[] states;                               // dense id -> vertex state [ same objects as verticesState ]
     HashMap<Integer, Vertex> verticesState;
     LinkedList<Integer> queue ;
     ArrayList<Edge> edges;
+    Edge[] edgesById;                              // edge id -> animated edge
     int currentID;
 
-    public BFS(Graph graph, GraphAlgorithmType graphAlgorithmType){
+    public BFS(GraphSnapshot graph, GraphAlgorithmType graphAlgorithmType){
         this.graph = graph;
         this.graphSequence = new GraphSequence(graphAlgorithmType);
         this.graphTree = new GraphTree(graph.directed, graph.weighted);
-        this.map = new HashMap<>();
+        this.clrs = new VertexCLRS[graph.noOfVertices];
+        this.states = new Vertex[graph.noOfVertices];
         this.verticesState = new HashMap<>();
         this.edges = new ArrayList<>();
+        this.edgesById = new Edge[graph.noOfEdges];
         this.queue = new LinkedList<>();
         this.currentID = 0;
     }
@@ -51,15 +53,17 @@ public class BFS {
             return graphSequence;
 
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.bfsVertexCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.bfsVertexCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
-            edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            edgesById[e] = graph.getEdge(e);
+            edges.add(edgesById[e]);
         }
 
         // Start Animation
@@ -72,8 +76,9 @@ public class BFS {
                                 GraphAnimationStateExtra.create()
                                         .addQueues(queue)));
 
-        Vertex vertex = verticesState.get(source);
-        VertexCLRS startVertexCLRS = map.get(source);
+        int sourceId = graph.getId(source);
+        Vertex vertex = states[sourceId];
+        VertexCLRS startVertexCLRS = clrs[sourceId];
         vertex.setToHighlight();
         queue.add(source);
 
@@ -93,8 +98,9 @@ public class BFS {
 
         while (queue.size() != 0) {
             int u = queue.pop();
-            VertexCLRS srcVertexCLRS = map.get(u);
-            Vertex srcVertex = verticesState.get(u);
+            int uId = graph.getId(u);
+            VertexCLRS srcVertexCLRS = clrs[uId];
+            Vertex srcVertex = states[uId];
             srcVertex.setToHighlight();
 
             // Visit Node
@@ -107,12 +113,13 @@ public class BFS {
                                     GraphAnimationStateExtra.create()
                                             .addQueues(queue)));
 
-            for(Edge curEdge : graph.edgeListMap.get(u)) {
-                int v = curEdge.des;
+            for(int e=graph.offsets[uId];e<graph.offsets[uId+1];e++) {
+                int vId = graph.targets[e];
+                int v = graph.vertices[vId];
 
-                Vertex desVertex = verticesState.get(curEdge.des);
-                VertexCLRS endVertexCLRS = map.get(curEdge.des);
-                Edge edge = edges.get(edges.indexOf(curEdge));
+                Vertex desVertex = states[vId];
+                VertexCLRS endVertexCLRS = clrs[vId];
+                Edge edge = edgesById[e];
                 GraphAnimationStateType edgeGAST = edge.graphAnimationStateType;
                 GraphAnimationStateType desVertexGAST = desVertex.graphAnimationStateType;
                 edge.setToHighlight();
@@ -154,15 +161,15 @@ public class BFS {
                     desVertex.setGAST(desVertexGAST);
                 }
 
-                if (!(map.get(v).bfsDist == map.get(u).bfsDist + 1)){
-                    int src = u;
-                    int des = v;
+                if (!(clrs[vId].bfsDist == clrs[uId].bfsDist + 1)){
+                    int src = uId;
+                    int des = vId;
 
-                    while (map.get(src).bfsDist > 0 && map.get(src).bfsDist > map.get(des).bfsDist) {
-                        src = map.get(src).parent;
+                    while (clrs[src].bfsDist > 0 && clrs[src].bfsDist > clrs[des].bfsDist) {
+                        src = graph.getId(clrs[src].parent);
                     }
-                    while (map.get(des).bfsDist > 0 && map.get(des).bfsDist > map.get(src).bfsDist) {
-                        des = map.get(des).parent;
+                    while (clrs[des].bfsDist > 0 && clrs[des].bfsDist > clrs[src].bfsDist) {
+                        des = graph.getId(clrs[des].parent);
                     }
 
                     // BACK EDGE
@@ -200,27 +207,23 @@ public class BFS {
                                         .addQueues(queue)));
 
         // ALL DONE
-        for(Map.Entry<Integer, VertexCLRS> entry : map.entrySet()){
-            System.out.println(entry.getValue());
-        }
 
         // --------------------- START OF GRAPH TREE ---------------------
-        List<Map.Entry<Integer, VertexCLRS> > list = new LinkedList<>(map.entrySet());
-
         int maxRows = 0;
-        for(Map.Entry<Integer, VertexCLRS> entry : list){
-            maxRows = entry.getValue().bfsDist != Integer.MAX_VALUE ? Math.max(maxRows, entry.getValue().bfsDist) : maxRows;
+        for(VertexCLRS vertexCLRS : clrs){
+            maxRows = vertexCLRS.bfsDist != Integer.MAX_VALUE ? Math.max(maxRows, vertexCLRS.bfsDist) : maxRows;
         }
 
+        @SuppressWarnings({"unchecked", "rawtypes"})
         ArrayList<Integer>[] bfsLayers = new ArrayList[maxRows+1];
 
         for(int i=0;i<maxRows+1;i++){
             bfsLayers[i] = new ArrayList<>();
         }
 
-        for(Map.Entry<Integer, VertexCLRS> entry : list){
-            if(entry.getValue().bfsDist != Integer.MAX_VALUE && entry.getValue().bfsDist >= 0) {
-                bfsLayers[entry.getValue().bfsDist].add(entry.getKey());
+        for(VertexCLRS vertexCLRS : clrs){
+            if(vertexCLRS.bfsDist != Integer.MAX_VALUE && vertexCLRS.bfsDist >= 0) {
+                bfsLayers[vertexCLRS.bfsDist].add(vertexCLRS.data);
             }
         }
 
@@ -271,15 +274,17 @@ public class BFS {
             return graphSequence;
 
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.bfsVertexCCCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.bfsVertexCCCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
-            edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            edgesById[e] = graph.getEdge(e);
+            edges.add(edgesById[e]);
         }
 
         currentID = 0;
@@ -291,9 +296,9 @@ public class BFS {
                         .setVerticesState(verticesState)
                         .addEdges(edges));
 
-        for(Map.Entry<Integer, VertexCLRS> entry : map.entrySet()){
-            if(entry.getValue().connectedID == -1) {
-                bfsCCVisit(entry.getValue().data);
+        for(VertexCLRS vertexCLRS : clrs){
+            if(vertexCLRS.connectedID == -1) {
+                bfsCCVisit(vertexCLRS.data);
                 currentID++;
             }
         }
@@ -314,8 +319,9 @@ public class BFS {
 
         while (queue.size() != 0) {
             int u = queue.pop();
-            VertexCLRS srcVertexCLRS = map.get(u);
-            Vertex srcVertex = verticesState.get(u);
+            int uId = graph.getId(u);
+            VertexCLRS srcVertexCLRS = clrs[uId];
+            Vertex srcVertex = states[uId];
             srcVertex.data = currentID;
             srcVertex.setToDone();
 
@@ -329,11 +335,12 @@ public class BFS {
                             .setVerticesState(verticesState)
                             .addEdges(edges));
 
-            for(Edge curEdge : graph.edgeListMap.get(u)) {
-                int v = curEdge.des;
-                Vertex desVertex = verticesState.get(curEdge.des);
-                VertexCLRS endVertexCLRS = map.get(curEdge.des);
-                Edge edge = edges.get(edges.indexOf(curEdge));
+            for(int e=graph.offsets[uId];e<graph.offsets[uId+1];e++) {
+                int vId = graph.targets[e];
+                int v = graph.vertices[vId];
+                Vertex desVertex = states[vId];
+                VertexCLRS endVertexCLRS = clrs[vId];
+                Edge edge = edgesById[e];
                 GraphAnimationStateType edgeGAST = edge.graphAnimationStateType;
                 GraphAnimationStateType desVertexGAST = desVertex.graphAnimationStateType;
                 edge.setToHighlight();
@@ -1,36 +1,39 @@
 package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Edge;
-import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationState;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateExtra;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.Vertex;
 import com.iiitd.dsavisualizer.datastructures.graphs.VertexCLRS;
 
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
 
 import static com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateType.NONE;
 
 // BellmanFord
 public class BellmanFord {
-    Graph graph;
+    GraphSnapshot graph;
     GraphSequence graphSequence;
-    HashMap<Integer, VertexCLRS> map;
+    VertexCLRS[] clrs;                             // dense id -> VertexCLRS
+    Vertex[] states;                               // dense id -> vertex state [ same objects as verticesState ]
     HashMap<Integer, Vertex> verticesState;
     ArrayList<Edge> edges;
+    Edge[] edgesById;                              // edge id -> animated edge, null for second edges of undirected graph
     ArrayList<Edge> cycles;
 
-    public BellmanFord(Graph graph) {
+    public BellmanFord(GraphSnapshot graph) {
         this.graph = graph;
         this.graphSequence = new GraphSequence(GraphAlgorithmType.BELLMAN_FORD);
-        this.map = new HashMap<>();
+        this.clrs = new VertexCLRS[graph.noOfVertices];
+        this.states = new Vertex[graph.noOfVertices];
         this.verticesState = new HashMap<>();
         this.edges = new ArrayList<>();
+        this.edgesById = new Edge[graph.noOfEdges];
         this.cycles = new ArrayList<>();
     }
 
@@ -41,20 +44,20 @@ public class BellmanFord {
         if (size < 1)
             return graphSequence;
 
-        ArrayList<Edge> allEdges = graph.getAllEdges();
-
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.bellmanfordVertexCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.bellmanfordVertexCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
+        for(int e=0;e<graph.noOfEdges;e++) {
             // Add all edges in case of directed, add only firstedge in case of undirected graph
-            if(graph.directed || edge.isFirstEdge){
-                edges.add(new Edge(edge, NONE));
+            if(graph.directed || graph.firstEdges[e]){
+                edgesById[e] = graph.getEdge(e);
+                edges.add(edgesById[e]);
             }
         }
 
@@ -65,27 +68,24 @@ public class BellmanFord {
                         .setVerticesState(verticesState)
                         .addEdges(edges));
 
-        // Fixing a Source Vertex
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            map.get(entry.getKey()).bellmanFordDist = 0;
-            source = entry.getKey();
-            break;
-        }
+        // Fixing a Source Vertex [ first vertex of the graph ]
+        clrs[0].bellmanFordDist = 0;
+        source = graph.vertices[0];
 
         boolean checkNegativeLoop = true;
 
         // Bellman Ford Algorithm
         for (int i=0;i<size-1;i++) {
             boolean isRelaxed = false;
-            for(Edge curEdge : allEdges) {
-                if (graph.directed || curEdge.isFirstEdge) {
-                    VertexCLRS srcVertexCLRS = map.get(curEdge.src);
-                    VertexCLRS desVertexCLRS = map.get(curEdge.des);
-                    Vertex srcVertex = verticesState.get(curEdge.src);
-                    Vertex desVertex = verticesState.get(curEdge.des);
-                    Edge edge = edges.get(edges.indexOf(curEdge));
-
-                    int tempDistance = srcVertexCLRS.bellmanFordDist + curEdge.weight;
+            for(int e=0;e<graph.noOfEdges;e++) {
+                if (graph.directed || graph.firstEdges[e]) {
+                    VertexCLRS srcVertexCLRS = clrs[graph.sources[e]];
+                    VertexCLRS desVertexCLRS = clrs[graph.targets[e]];
+                    Vertex srcVertex = states[graph.sources[e]];
+                    Vertex desVertex = states[graph.targets[e]];
+                    Edge edge = edgesById[e];
+
+                    int tempDistance = srcVertexCLRS.bellmanFordDist + edge.weight;
                     int otherDistance = desVertexCLRS.bellmanFordDist;
                     String otherDist = String.valueOf(otherDistance);
                     if (otherDistance == Integer.MAX_VALUE) {
@@ -98,22 +98,22 @@ public class BellmanFord {
 
                     String updated = "";
                     if (tempDistance < otherDistance) {
-                        updated = srcVertexCLRS.bellmanFordDist + " + " + curEdge.weight + " < " + otherDist + ", vertex(" + desVertex.data + ") distance updated";
+                        updated = srcVertexCLRS.bellmanFordDist + " + " + edge.weight + " < " + otherDist + ", vertex(" + desVertex.data + ") distance updated";
                     }
                     else {
-                        updated = srcVertexCLRS.bellmanFordDist + " + " + curEdge.weight + " >= " + otherDist + ", continue";
+                        updated = srcVertexCLRS.bellmanFordDist + " + " + edge.weight + " >= " + otherDist + ", continue";
                     }
 
                     // Updating Distance of Edge's des. Vertex
                     graphSequence.addGraphAnimationState(
                             GraphAnimationState.create()
-                                    .setInfo("vertex (" + curEdge.src + "), edge (" + curEdge.src + " ── " + curEdge.des + ")"
+                                    .setInfo("vertex (" + edge.src + "), edge (" + edge.src + " ── " + edge.des + ")"
                                             + "\n" + updated)
                                     .setVerticesState(verticesState)
                                     .addEdges(edges)
                                     .addGraphAnimationStateExtra(
                                             GraphAnimationStateExtra.create()
-                                                    .addMapBellmanford(map)));
+                                                    .addMapBellmanford(clrs)));
 
                     if (tempDistance < otherDistance) {
                         desVertexCLRS.bellmanFordDist = tempDistance;
@@ -137,9 +137,8 @@ public class BellmanFord {
                                 .addEdges(edges)
                                 .addGraphAnimationStateExtra(
                                         GraphAnimationStateExtra.create()
-                                                .addMapBellmanford(map)));
+                                                .addMapBellmanford(clrs)));
 
-                System.out.println("nothing relaxed");
                 checkNegativeLoop = false;
                 break;
             }
@@ -147,15 +146,15 @@ public class BellmanFord {
 
         boolean hasNegativeEdgeLoop = false;
         if(checkNegativeLoop){
-            for(Edge curEdge : allEdges) {
-                if (graph.directed || curEdge.isFirstEdge) {
-                    VertexCLRS srcVertexCLRS = map.get(curEdge.src);
-                    VertexCLRS desVertexCLRS = map.get(curEdge.des);
-                    Vertex srcVertex = verticesState.get(curEdge.src);
-                    Vertex desVertex = verticesState.get(curEdge.des);
-                    Edge edge = edges.get(edges.indexOf(curEdge));
-
-                    int tempDistance = srcVertexCLRS.bellmanFordDist + curEdge.weight;
+            for(int e=0;e<graph.noOfEdges;e++) {
+                if (graph.directed || graph.firstEdges[e]) {
+                    VertexCLRS srcVertexCLRS = clrs[graph.sources[e]];
+                    VertexCLRS desVertexCLRS = clrs[graph.targets[e]];
+                    Vertex srcVertex = states[graph.sources[e]];
+                    Vertex desVertex = states[graph.targets[e]];
+                    Edge edge = edgesById[e];
+
+                    int tempDistance = srcVertexCLRS.bellmanFordDist + edge.weight;
                     int otherDistance = desVertexCLRS.bellmanFordDist;
                     String otherDist = String.valueOf(otherDistance);
                     if (otherDistance == Integer.MAX_VALUE) {
@@ -168,22 +167,22 @@ public class BellmanFord {
 
                     String updated = "";
                     if (tempDistance < otherDistance) {
-                        updated = map.get(curEdge.src).bellmanFordDist + " + " + curEdge.weight + " < " + otherDist + ", vertex(" + desVertex.data + ") distance updated";
+                        updated = srcVertexCLRS.bellmanFordDist + " + " + edge.weight + " < " + otherDist + ", vertex(" + desVertex.data + ") distance updated";
                     }
                     else {
-                        updated = map.get(curEdge.src).bellmanFordDist + " + " + curEdge.weight + " >= " + otherDist + ", continue";
+                        updated = srcVertexCLRS.bellmanFordDist + " + " + edge.weight + " >= " + otherDist + ", continue";
                     }
 
                     // Updating Distance of Edge's des. Vertex
                     graphSequence.addGraphAnimationState(
                             GraphAnimationState.create()
-                                    .setInfo("vertex (" + curEdge.src + "), edge (" + curEdge.src + " ── " + curEdge.des + ")"
+                                    .setInfo("vertex (" + edge.src + "), edge (" + edge.src + " ── " + edge.des + ")"
                                             + "\n" + updated)
                                     .setVerticesState(verticesState)
                                     .addEdges(edges)
                                     .addGraphAnimationStateExtra(
                                             GraphAnimationStateExtra.create()
-                                                    .addMapBellmanford(map)));
+                                                    .addMapBellmanford(clrs)));
 
                     if (tempDistance < otherDistance) {
                         // Updating Distance of Edge's des. Vertex
@@ -195,7 +194,7 @@ public class BellmanFord {
                                         .addEdges(edges)
                                         .addGraphAnimationStateExtra(
                                                 GraphAnimationStateExtra.create()
-                                                        .addMapBellmanford(map)));
+                                                        .addMapBellmanford(clrs)));
 
                         hasNegativeEdgeLoop = true;
                         edge.setToNormal();
@@ -204,18 +203,19 @@ public class BellmanFord {
 
                         // Negative Cycle Detection Path
                         int cycleStartVertex = srcVertexCLRS.data;
-                        int self = srcVertexCLRS.data;
+                        int self = graph.sources[e];
                         int parent = srcVertexCLRS.parent;
                         while (parent >= 0) {
-                            Edge parentEdge = edges.get(edges.indexOf(graph.getEdge(parent, self)));
+                            int parentId = graph.getId(parent);
+                            Edge parentEdge = edgesById[graph.findEdge(parentId, self)];
                             cycles.add(parentEdge);
 
                             if(parent == cycleStartVertex){
                                 break;
                             }
 
-                            self = parent;
-                            parent = map.get(self).parent;
+                            self = parentId;
+                            parent = clrs[self].parent;
                         }
 
                         break;
@@ -254,7 +254,7 @@ public class BellmanFord {
                             .addEdges(edges)
                             .addGraphAnimationStateExtra(
                                     GraphAnimationStateExtra.create()
-                                            .addMapBellmanford(map)
+                                            .addMapBellmanford(clrs)
                                             .addCycle(cycles)));
         }
         else{
@@ -267,15 +267,14 @@ public class BellmanFord {
                             .addEdges(edges)
                             .addGraphAnimationStateExtra(
                                     GraphAnimationStateExtra.create()
-                                            .addMapBellmanford(map)));
-
-            for (Map.Entry<Integer, VertexCLRS> entry : map.entrySet()) {
-                if(entry.getValue().parent >= 0){
-                    int src = entry.getValue().parent;
-                    int des = entry.getValue().data;
-                    Edge edge = edges.get(edges.indexOf(graph.getEdge(src, des)));
-                    Vertex srcVertex = verticesState.get(src);
-                    Vertex desVertex = verticesState.get(des);
+                                            .addMapBellmanford(clrs)));
+
+            for (int i=0;i<size;i++) {
+                if(clrs[i].parent >= 0){
+                    int src = graph.getId(clrs[i].parent);
+                    Edge edge = edgesById[graph.findEdge(src, i)];
+                    Vertex srcVertex = states[src];
+                    Vertex desVertex = states[i];
                     srcVertex.setToDone();
                     desVertex.setToDone();
                     edge.setToDone();
@@ -291,15 +290,11 @@ public class BellmanFord {
                         .addEdges(edges)
                         .addGraphAnimationStateExtra(
                                 GraphAnimationStateExtra.create()
-                                        .addMapBellmanford(map)
+                                        .addMapBellmanford(clrs)
                                         .addCycle(cycles)));
 
 
         // ALL DONE
-        for (Map.Entry<Integer, VertexCLRS> entry : map.entrySet()) {
-            System.out.println(entry.getValue());
-        }
-
         return graphSequence;
     }
 
@@ -2,12 +2,12 @@ package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Edge;
 import com.iiitd.dsavisualizer.datastructures.graphs.EdgePro;
-import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationState;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateExtra;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphTree;
 import com.iiitd.dsavisualizer.datastructures.graphs.Vertex;
 import com.iiitd.dsavisualizer.datastructures.graphs.VertexCLRS;
@@ -17,33 +17,36 @@ import static com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateT
 import static com.iiitd.dsavisualizer.datastructures.graphs.VertexVisitState.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Stack;
 
 // DFS
 public class DFS {
-    Graph graph;
+    GraphSnapshot graph;
     GraphSequence graphSequence;
     int time;
-    HashMap<Integer, VertexCLRS> map;
+    VertexCLRS[] clrs;                             // dense id -> VertexCLRS
+    Vertex[] states;                               // dense id -> vertex state [ same objects as verticesState ]
     public GraphTree graphTree;
     Stack<Integer> stack;
     HashMap<Integer, Vertex> verticesState;
     ArrayList<Edge> edges;
+    Edge[] edgesById;                              // edge id -> animated edge
     int currentID;
 
-    public DFS(Graph graph, GraphAlgorithmType graphAlgorithmType){
+    public DFS(GraphSnapshot graph, GraphAlgorithmType graphAlgorithmType){
         this.graph = graph;
         this.graphSequence = new GraphSequence(graphAlgorithmType);
         this.graphTree = new GraphTree(graph.directed, graph.weighted);
-        this.map = new HashMap<>();
+        this.clrs = new VertexCLRS[graph.noOfVertices];
+        this.states = new Vertex[graph.noOfVertices];
         this.verticesState = new HashMap<>();
         this.edges = new ArrayList<>();
+        this.edgesById = new Edge[graph.noOfEdges];
         this.stack = new Stack<>();
         this.time = 0;
         this.currentID = 0;
@@ -56,15 +59,17 @@ public class DFS {
             return graphSequence;
 
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.dfsVertexCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.dfsVertexCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
-            edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            edgesById[e] = graph.getEdge(e);
+            edges.add(edgesById[e]);
         }
 
         time = 0;
@@ -79,7 +84,8 @@ public class DFS {
                                 GraphAnimationStateExtra.create()
                                         .addStacks(stack)));
 
-        Vertex vertex = verticesState.get(source);
+        int sourceId = graph.getId(source);
+        Vertex vertex = states[sourceId];
         stack.push(source);
         vertex.setToHighlight();
 
@@ -95,7 +101,7 @@ public class DFS {
 
         vertex.setToNormal();
 
-        dfsVisit(source);
+        dfsVisit(sourceId);
 
         // End Animation
         graphSequence.addGraphAnimationState(
@@ -108,36 +114,33 @@ public class DFS {
                                         .addStacks(stack)));
 
         // ALL DONE
-        for(Map.Entry<Integer, VertexCLRS> entry : map.entrySet()){
-            System.out.println(entry.getValue());
-        }
 
         // --------------------- START OF GRAPH TREE ---------------------
-        List<Map.Entry<Integer, VertexCLRS> > list = new LinkedList<>(map.entrySet());
+        List<VertexCLRS> list = new ArrayList<>(Arrays.asList(clrs));
 
         // Sort the list by their finish times
-        Collections.sort(list, new Comparator<Map.Entry<Integer, VertexCLRS> >() {
-            public int compare(Map.Entry<Integer, VertexCLRS> o1,
-                               Map.Entry<Integer, VertexCLRS> o2)
+        Collections.sort(list, new Comparator<VertexCLRS>() {
+            public int compare(VertexCLRS o1, VertexCLRS o2)
             {
-                return o2.getValue().finishTime - o1.getValue().finishTime;
+                return o2.finishTime - o1.finishTime;
             }
         });
 
         int maxRows = 0;
-        for(Map.Entry<Integer, VertexCLRS> entry : list){
-            maxRows = entry.getValue().finishTime >= 0 ? Math.max(maxRows, entry.getValue().dfsDepth) : maxRows;
+        for(VertexCLRS vertexCLRS : list){
+            maxRows = vertexCLRS.finishTime >= 0 ? Math.max(maxRows, vertexCLRS.dfsDepth) : maxRows;
         }
 
+        @SuppressWarnings({"unchecked", "rawtypes"})
         ArrayList<Integer>[] dfsLayers = new ArrayList[maxRows+1];
 
         for(int i=0;i<maxRows+1;i++){
             dfsLayers[i] = new ArrayList<>();
         }
 
-        for(Map.Entry<Integer, VertexCLRS> entry : list){
-            if(entry.getValue().finishTime >= 0) {
-                dfsLayers[entry.getValue().dfsDepth].add(entry.getKey());
+        for(VertexCLRS vertexCLRS : list){
+            if(vertexCLRS.finishTime >= 0) {
+                dfsLayers[vertexCLRS.dfsDepth].add(vertexCLRS.data);
             }
         }
 
@@ -181,9 +184,10 @@ public class DFS {
         return graphSequence;
     }
 
-    private void dfsVisit(int u) {// u = src, v = des
-        VertexCLRS srcVertexCLRS = map.get(u);
-        Vertex srcVertex = verticesState.get(u);
+    private void dfsVisit(int uId) {// u = src, v = des [ uId is the dense id of u ]
+        int u = graph.vertices[uId];
+        VertexCLRS srcVertexCLRS = clrs[uId];
+        Vertex srcVertex = states[uId];
         srcVertex.setToHighlight();
 
         // Visit Node
@@ -201,18 +205,19 @@ public class DFS {
         srcVertexCLRS.color = GRAY;
 
         if(srcVertexCLRS.parent != -1){
-            srcVertexCLRS.dfsDepth = map.get(srcVertexCLRS.parent).dfsDepth + 1;
+            srcVertexCLRS.dfsDepth = clrs[graph.getId(srcVertexCLRS.parent)].dfsDepth + 1;
         }
         else {
             srcVertexCLRS.dfsDepth = 0;
         }
 
-        for(Edge curEdge : graph.edgeListMap.get(u)) {
-            int v = curEdge.des;
+        for(int e=graph.offsets[uId];e<graph.offsets[uId+1];e++) {
+            int vId = graph.targets[e];
+            int v = graph.vertices[vId];
 
-            Vertex desVertex = verticesState.get(curEdge.des);
-            VertexCLRS endVertexCLRS = map.get(curEdge.des);
-            Edge edge = edges.get(edges.indexOf(curEdge));
+            Vertex desVertex = states[vId];
+            VertexCLRS endVertexCLRS = clrs[vId];
+            Edge edge = edgesById[e];
             GraphAnimationStateType edgeGAST = edge.graphAnimationStateType;
             GraphAnimationStateType desVertexGAST = desVertex.graphAnimationStateType;
             edge.setToHighlight();
@@ -222,14 +227,14 @@ public class DFS {
             if(endVertexCLRS.color != WHITE) {
                 if (endVertexCLRS.color == BLACK) {
                     if (srcVertexCLRS.startTime < endVertexCLRS.startTime) {
-                        graphTree.addEdge(new EdgePro(curEdge, FORWARD));
+                        graphTree.addEdge(new EdgePro(edge, FORWARD));
                     }
                     else {
-                        graphTree.addEdge(new EdgePro(curEdge, CROSS));
+                        graphTree.addEdge(new EdgePro(edge, CROSS));
                     }
                 }
                 else if (endVertexCLRS.color == GRAY) {
-                    graphTree.addEdge(new EdgePro(curEdge, BACK));
+                    graphTree.addEdge(new EdgePro(edge, BACK));
                 }
 
                 graphSequence.addGraphAnimationState(
@@ -246,7 +251,7 @@ public class DFS {
             }
             // White
             else if (endVertexCLRS.color == WHITE) {
-                graphTree.addEdge(new EdgePro(curEdge, TREE));
+                graphTree.addEdge(new EdgePro(edge, TREE));
                 endVertexCLRS.parent = u;
                 stack.push(v);
 
@@ -261,7 +266,7 @@ public class DFS {
 
                 desVertex.setGAST(desVertexGAST);
 
-                dfsVisit(v);
+                dfsVisit(vId);
             }
         }
 
@@ -273,9 +278,8 @@ public class DFS {
         stack.pop();
 
         int parent = srcVertexCLRS.parent;
-        int self = srcVertexCLRS.data;
         if(parent != -1){
-            Edge parentEdge = edges.get(edges.indexOf(graph.getEdge(parent, self)));
+            Edge parentEdge = edgesById[graph.findEdge(graph.getId(parent), uId)];
             parentEdge.setToDone();
         }
 
@@ -298,15 +302,17 @@ public class DFS {
             return graphSequence;
 
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.dfsVertexCCCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.dfsVertexCCCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
-            edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            edgesById[e] = graph.getEdge(e);
+            edges.add(edgesById[e]);
         }
 
         currentID = 0;
@@ -318,9 +324,9 @@ public class DFS {
                         .setVerticesState(verticesState)
                         .addEdges(edges));
 
-        for(Map.Entry<Integer, VertexCLRS> entry : map.entrySet()){
-            if(entry.getValue().connectedID == -1) {
-                dfsCCVisit(entry.getValue().data);
+        for(int i=0;i<size;i++){
+            if(clrs[i].connectedID == -1) {
+                dfsCCVisit(i);
                 currentID++;
             }
         }
@@ -336,9 +342,10 @@ public class DFS {
         return graphSequence;
     }
 
-    private void dfsCCVisit(int u) {// u = src, v = des
-        VertexCLRS srcVertexCLRS = map.get(u);
-        Vertex srcVertex = verticesState.get(u);
+    private void dfsCCVisit(int uId) {// u = src, v = des [ uId is the dense id of u ]
+        int u = graph.vertices[uId];
+        VertexCLRS srcVertexCLRS = clrs[uId];
+        Vertex srcVertex = states[uId];
         srcVertex.setToHighlight();
 
         if(srcVertexCLRS.connectedID != -1)
@@ -357,18 +364,19 @@ public class DFS {
                         .addEdges(edges));
 
 
-        for (Edge curEdge : graph.edgeListMap.get(u)) {
-            int v = curEdge.des;
-            Vertex desVertex = verticesState.get(curEdge.des);
-            VertexCLRS endVertexCLRS = map.get(curEdge.des);
-            Edge edge = edges.get(edges.indexOf(curEdge));
+        for(int e=graph.offsets[uId];e<graph.offsets[uId+1];e++) {
+            int vId = graph.targets[e];
+            int v = graph.vertices[vId];
+            Vertex desVertex = states[vId];
+            VertexCLRS endVertexCLRS = clrs[vId];
+            Edge edge = edgesById[e];
             GraphAnimationStateType edgeGAST = edge.graphAnimationStateType;
             GraphAnimationStateType desVertexGAST = desVertex.graphAnimationStateType;
             edge.setToHighlight();
             desVertex.setToHighlight();
 
             // Non-White
-            if (map.get(v).color != WHITE) {
+            if (endVertexCLRS.color != WHITE) {
                 graphSequence.addGraphAnimationState(
                         GraphAnimationState.create()
                                 .setInfo("vertex (" + v + ") already visited, continue")
@@ -379,7 +387,7 @@ public class DFS {
                 desVertex.setGAST(desVertexGAST);
             }
             // White
-            else if (map.get(v).color == WHITE) {
+            else if (endVertexCLRS.color == WHITE) {
                 graphTree.addEdge(new EdgePro(edge, TREE));
                 endVertexCLRS.parent = u;
                 graphSequence.addGraphAnimationState(
@@ -390,14 +398,13 @@ public class DFS {
 
                 desVertex.setGAST(desVertexGAST);
 
-                dfsCCVisit(v);
+                dfsCCVisit(vId);
             }
         }
 
         int parent = srcVertexCLRS.parent;
-        int self = u;
         if(parent != -1){
-            Edge parentEdge = edges.get(edges.indexOf(graph.getEdge(parent, self)));
+            Edge parentEdge = edgesById[graph.findEdge(graph.getId(parent), uId)];
             parentEdge.setToDone();
         }
 
@@ -1,6 +1,8 @@
 package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
@@ -9,11 +11,19 @@ import static com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType.*
 
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphDSPopUp;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphTree;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphTreePopUp;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 // GraphAlgorithm manages all graph algorithms and their respective popUps, graphSequence and graphTree
+// graphSequences are generated on a background thread and can be played while they are still growing
 public class GraphAlgorithm {
     public GraphAlgorithmType graphAlgorithmType;
     public Graph graph;
@@ -26,6 +36,18 @@ public class GraphAlgorithm {
 
     public static GraphAlgorithm graphAlgorithm;
 
+    // Single background thread used for generating graphSequences
+    private static final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private Future<?> future;
+
+    // Callbacks for a graphSequence generated in background, called on the UI thread
+    public interface OnGraphSequenceListener {
+        void onFirstState();
+        void onCompleted();
+        void onFailed(Throwable throwable);
+    }
+
     // returns a NULL instance
     public static GraphAlgorithm getInstance(Context context, View parent){
         if(graphAlgorithm == null) {
@@ -67,6 +89,7 @@ public class GraphAlgorithm {
     }
 
     public void reset(){
+        cancel();
         this.graphAlgorithmType = NULL;
         this.graphSequence = null;
         this.graphTree = null;
@@ -83,97 +106,225 @@ public class GraphAlgorithm {
 
     }
 
-    public boolean runAlgo(Graph graph, GraphAlgorithmType graphAlgorithmType, int vertexNumber){
+    // Stops the background generation of the current graphSequence, states generated so far are kept
+    public void cancel(){
+        if(this.graphSequence != null){
+            this.graphSequence.cancel();
+        }
+
+        if(this.future != null){
+            this.future.cancel(false);
+            this.future = null;
+        }
+    }
+
+    // The graphSequence is generated on a background thread, on an immutable CSR snapshot of the graph
+    // listener is called on the UI thread once the first state is available and once generation completes or fails
+    public boolean runAlgo(Graph graph, final GraphAlgorithmType graphAlgorithmType, final int vertexNumber,
+                           final OnGraphSequenceListener listener){
 
         reset();
         this.graphAlgorithmType = graphAlgorithmType;
 
+        final GraphSnapshot graphSnapshot = new GraphSnapshot(graph);
+        final GraphSequence graphSequence;
+        final Callable<GraphTree> generator;
+
         switch (graphAlgorithmType){
             case BFS: {
-                BFS bfs = new BFS(graph, BFS);
-                this.graphSequence = bfs.bfs(vertexNumber);
-                this.graphTree = bfs.graphTree;
+                final BFS bfs = new BFS(graphSnapshot, BFS);
+                graphSequence = bfs.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        bfs.bfs(vertexNumber);
+                        return bfs.graphTree;
+                    }
+                };
 
-                this.graphTreePopUp.create("BFS Tree", graphAlgorithm.graphTree);
-                this.graphTreePopUp.show();
                 this.graphTreeDSPopUp.create("Queue", GraphAlgorithmType.BFS);
-                if(graphSequence.graphAnimationStates.size() > 0) {
-                    graphTreeDSPopUp.update(graphSequence.graphAnimationStates.get(0).graphAnimationStateExtra);
-                }
                 graphTreeDSPopUp.show();
                 this.isGraphTreePopUpUsed = true;
                 this.isGraphTreeDSPopUpUsed = true;
             }
                 break;
             case BFS_CC: {
-                BFS bfs = new BFS(graph, BFS_CC);
-                this.graphSequence = bfs.bfsCC();
+                final BFS bfs = new BFS(graphSnapshot, BFS_CC);
+                graphSequence = bfs.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        bfs.bfsCC();
+                        return null;
+                    }
+                };
             }
                 break;
             case DFS: {
-                DFS dfs = new DFS(graph, DFS);
-                this.graphSequence = dfs.dfs(vertexNumber);
-                this.graphTree = dfs.graphTree;
+                final DFS dfs = new DFS(graphSnapshot, DFS);
+                graphSequence = dfs.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        dfs.dfs(vertexNumber);
+                        return dfs.graphTree;
+                    }
+                };
 
-                this.graphTreePopUp.create("DFS Tree", graphAlgorithm.graphTree);
-                this.graphTreePopUp.show();
                 this.graphTreeDSPopUp.create("Stack", GraphAlgorithmType.DFS);
-                if(graphSequence.graphAnimationStates.size() > 0) {
-                    graphTreeDSPopUp.update(graphSequence.graphAnimationStates.get(0).graphAnimationStateExtra);
-                }
                 this.graphTreeDSPopUp.show();
                 this.isGraphTreePopUpUsed = true;
                 this.isGraphTreeDSPopUpUsed = true;
             }
                 break;
             case DFS_CC: {
-                DFS dfs = new DFS(graph, DFS_CC);
-                this.graphSequence = dfs.dfsCC();
+                final DFS dfs = new DFS(graphSnapshot, DFS_CC);
+                graphSequence = dfs.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        dfs.dfsCC();
+                        return null;
+                    }
+                };
             }
                 break;
             case DIJKSTRA:{
-                Dijkstra dijkstra = new Dijkstra(graph);
-                this.graphSequence = dijkstra.dijkstra(vertexNumber);
+                final Dijkstra dijkstra = new Dijkstra(graphSnapshot);
+                graphSequence = dijkstra.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        dijkstra.dijkstra(vertexNumber);
+                        return null;
+                    }
+                };
+
                 this.graphTreeDSPopUp.create("Priority Queue", DIJKSTRA);
-                if(graphSequence.graphAnimationStates.size() > 0) {
-                    graphTreeDSPopUp.update(graphSequence.graphAnimationStates.get(0).graphAnimationStateExtra);
-                }
                 graphTreeDSPopUp.show();
                 this.isGraphTreePopUpUsed = false;
                 this.isGraphTreeDSPopUpUsed = true;
             }
                 break;
             case BELLMAN_FORD:{
-                BellmanFord bellmanFord = new BellmanFord(graph);
-                this.graphSequence = bellmanFord.bellmanford();
+                final BellmanFord bellmanFord = new BellmanFord(graphSnapshot);
+                graphSequence = bellmanFord.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        bellmanFord.bellmanford();
+                        return null;
+                    }
+                };
             }
                 break;
             case KRUSKALS: {
-                Kruskals kruskals = new Kruskals(graph);
-                this.graphSequence = kruskals.kruskals();
+                final Kruskals kruskals = new Kruskals(graphSnapshot);
+                graphSequence = kruskals.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        kruskals.kruskals();
+                        return null;
+                    }
+                };
+
                 this.graphTreeDSPopUp.create("Edges", KRUSKALS);
-                if(graphSequence.graphAnimationStates.size() > 0) {
-                    graphTreeDSPopUp.update(graphSequence.graphAnimationStates.get(0).graphAnimationStateExtra);
-                }
                 graphTreeDSPopUp.show();
                 this.isGraphTreePopUpUsed = false;
                 this.isGraphTreeDSPopUpUsed = true;
             }
                 break;
             case PRIMS:{
-                Prims prims = new Prims(graph);
-                this.graphSequence = prims.prims();
+                final Prims prims = new Prims(graphSnapshot);
+                graphSequence = prims.graphSequence;
+                generator = new Callable<GraphTree>() {
+                    @Override
+                    public GraphTree call() {
+                        prims.prims();
+                        return null;
+                    }
+                };
+
                 this.graphTreeDSPopUp.create("Priority Queue", DIJKSTRA);
-                if(graphSequence.graphAnimationStates.size() > 0) {
-                    graphTreeDSPopUp.update(graphSequence.graphAnimationStates.get(0).graphAnimationStateExtra);
-                }
                 graphTreeDSPopUp.show();
                 this.isGraphTreePopUpUsed = false;
                 this.isGraphTreeDSPopUpUsed = true;
             }
                 break;
+            default:
+                return false;
         }
 
+        this.graphSequence = graphSequence;
+
+        graphSequence.onFirstState = new Runnable() {
+            @Override
+            public void run() {
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        // Ignore callbacks of an older, already replaced graphSequence
+                        if(GraphAlgorithm.this.graphSequence == graphSequence && listener != null){
+                            listener.onFirstState();
+                        }
+                    }
+                });
+            }
+        };
+
+        this.future = executorService.submit(new Runnable() {
+            @Override
+            public void run() {
+                final GraphTree graphTree;
+                try {
+                    graphTree = generator.call();
+                }
+                catch (CancellationException e) {
+                    return;
+                }
+                catch (final Throwable throwable) {
+                    graphSequence.cancel();
+                    handler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            if(GraphAlgorithm.this.graphSequence != graphSequence){
+                                return;
+                            }
+
+                            if(listener != null){
+                                listener.onFailed(throwable);
+                            }
+                        }
+                    });
+                    return;
+                }
+
+                graphSequence.setCompleted();
+
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if(GraphAlgorithm.this.graphSequence != graphSequence){
+                            return;
+                        }
+
+                        // BFS/DFS Tree is available only after the complete run
+                        if(graphTree != null){
+                            GraphAlgorithm.this.graphTree = graphTree;
+                            String title = graphAlgorithmType == GraphAlgorithmType.BFS ? "BFS Tree" : "DFS Tree";
+                            graphTreePopUp.create(title, graphTree);
+                            graphTreePopUp.show();
+                        }
+
+                        if(listener != null){
+                            listener.onCompleted();
+                        }
+                    }
+                });
+            }
+        });
+
         return true;
     }
 
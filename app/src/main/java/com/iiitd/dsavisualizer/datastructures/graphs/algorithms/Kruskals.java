@@ -1,37 +1,37 @@
 package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Edge;
-import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationState;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateExtra;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.Vertex;
-import com.iiitd.dsavisualizer.datastructures.graphs.VertexCLRS;
 import com.iiitd.dsavisualizer.runapp.others.DisjointSet;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Map;
 
 import static com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateType.*;
 
 // Kruskal's
 public class Kruskals {
-    Graph graph;
+    GraphSnapshot graph;
     GraphSequence graphSequence;
-    HashMap<Integer, VertexCLRS> map;
+    Vertex[] states;                               // dense id -> vertex state [ same objects as verticesState ]
     HashMap<Integer, Vertex> verticesState;
     ArrayList<Edge> edges;
+    Edge[] edgesById;                              // edge id -> animated edge, null for second edges
 
-    public Kruskals(Graph graph) {
+    public Kruskals(GraphSnapshot graph) {
         this.graph = graph;
         this.graphSequence = new GraphSequence(GraphAlgorithmType.KRUSKALS);
-        this.map = new HashMap<>();
+        this.states = new Vertex[graph.noOfVertices];
         this.verticesState = new HashMap<>();
         this.edges = new ArrayList<>();
+        this.edgesById = new Edge[graph.noOfEdges];
     }
 
     public GraphSequence kruskals() {
@@ -40,20 +40,22 @@ public class Kruskals {
         if (size < 1)
             return graphSequence;
 
-        ArrayList<Edge> allEdgesBothWays = graph.getAllEdges();
         ArrayList<Edge> allEdges = new ArrayList<>();
         DisjointSet ds = new DisjointSet();
 
         // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            ds.addSingleSet(entry.getKey());
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            ds.addSingleSet(vertex.data);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
         }
 
         // Add all edges
-        for(Edge edge : allEdgesBothWays) {
-            if(edge.isFirstEdge) {
-                edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            if(graph.firstEdges[e]) {
+                edgesById[e] = graph.getEdge(e);
+                edges.add(edgesById[e]);
             }
         }
 
@@ -99,9 +101,9 @@ public class Kruskals {
             if(curEdge.isFirstEdge) {
                 int first = curEdge.src;
                 int second = curEdge.des;
-                Vertex srcVertex = verticesState.get(curEdge.src);
-                Vertex desVertex = verticesState.get(curEdge.des);
-                Edge edge = edges.get(edges.indexOf(curEdge));
+                Vertex srcVertex = states[graph.sources[curEdge.id]];
+                Vertex desVertex = states[graph.targets[curEdge.id]];
+                Edge edge = edgesById[curEdge.id];
                 edge.setToHighlight();
 
                 if (ds.findSet(first) != ds.findSet(second)) {
@@ -1,37 +1,47 @@
 package com.iiitd.dsavisualizer.datastructures.graphs.algorithms;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.Edge;
-import com.iiitd.dsavisualizer.datastructures.graphs.Graph;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAlgorithmType;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationState;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateChanges;
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateExtra;
 import static com.iiitd.dsavisualizer.datastructures.graphs.GraphAnimationStateType.*;
 
 import com.iiitd.dsavisualizer.datastructures.graphs.GraphSequence;
+import com.iiitd.dsavisualizer.datastructures.graphs.GraphSnapshot;
 import com.iiitd.dsavisualizer.datastructures.graphs.Vertex;
 import com.iiitd.dsavisualizer.datastructures.graphs.VertexCLRS;
-import com.iiitd.dsavisualizer.utility.UtilUI;
+import com.iiitd.dsavisualizer.runapp.others.IndexedMinHeap;
+import com.iiitd.dsavisualizer.utility.Symbols;
 
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
 
 // Prim's
 public class Prims {
-    Graph graph;
+    GraphSnapshot graph;
     GraphSequence graphSequence;
-    HashMap<Integer, VertexCLRS> map;
+    VertexCLRS[] clrs;                             // dense id -> VertexCLRS
+    Vertex[] states;                               // dense id -> vertex state [ same objects as verticesState ]
     HashMap<Integer, Vertex> verticesState;
     ArrayList<Edge> edges;
-    String infinity = UtilUI.getInfinity();
+    Edge[] edgesById;                              // edge id -> animated edge
+    IndexedMinHeap priorityQueue;                  // heap elements are dense ids
+    GraphAnimationStateChanges changes;            // vertices and edges touched since last state
+    int updatedId;                                 // dense id whose distance changed since last state, -1 => none
+    String infinity = Symbols.INFINITY;
     
-    public Prims(Graph graph) {
+    public Prims(GraphSnapshot graph) {
         this.graph = graph;
         this.graphSequence = new GraphSequence(GraphAlgorithmType.PRIMS);
-        this.map = new HashMap<>();
+        this.clrs = new VertexCLRS[graph.noOfVertices];
+        this.states = new Vertex[graph.noOfVertices];
         this.verticesState = new HashMap<>();
         this.edges = new ArrayList<>();
+        this.edgesById = new Edge[graph.noOfEdges];
+        this.changes = new GraphAnimationStateChanges();
+        this.updatedId = -1;
     }
 
     public GraphSequence prims() {
@@ -41,16 +51,20 @@ public class Prims {
         if (size < 1)
             return graphSequence;
 
-        // Add all vertices
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            VertexCLRS vertexCLRS = VertexCLRS.dijkstraVertexCLRS(entry.getValue());
-            map.put(entry.getKey(), vertexCLRS);
-            verticesState.put(entry.getKey(), new Vertex(entry.getValue(), NONE));
+        // Add all vertices, every vertex starts in the priority queue with distance infinity
+        priorityQueue = new IndexedMinHeap(size);
+        for (int i=0;i<size;i++) {
+            Vertex vertex = graph.getVertex(i);
+            clrs[i] = VertexCLRS.dijkstraVertexCLRS(vertex);
+            states[i] = new Vertex(vertex, NONE);
+            verticesState.put(vertex.data, states[i]);
+            priorityQueue.insert(i, clrs[i].dijkstraDist);
         }
 
         // Add all edges
-        for(Edge edge : graph.getAllEdges()) {
-            edges.add(new Edge(edge, NONE));
+        for(int e=0;e<graph.noOfEdges;e++) {
+            edgesById[e] = graph.getEdge(e);
+            edges.add(edgesById[e]);
         }
 
         // Start Animation
@@ -61,57 +75,53 @@ public class Prims {
                         .addEdges(edges)
                         .addGraphAnimationStateExtra(
                                 GraphAnimationStateExtra.create()
-                                        .addPriorityQueueElementState(map)));
+                                        .addPriorityQueueChanges(priorityQueue, graph.vertices)));
 
-        // Fixing a Source Vertex
-        for (Map.Entry<Integer, Vertex> entry : graph.vertexMap.entrySet()) {
-            map.get(entry.getKey()).dijkstraDist = 0;
-            source = entry.getKey();
-            break;
-        }
+        // Fixing a Source Vertex [ first vertex of the graph ]
+        clrs[0].dijkstraDist = 0;
+        source = graph.vertices[0];
+        priorityQueue.decreaseKey(0, 0);
 
         // Picking a start Vertex from Graph
         graphSequence.addGraphAnimationState(
                 GraphAnimationState.create()
-                        .setInfo("source vertex " + UtilUI.getLeftArrow() + " " + source + " selected")
+                        .setInfo("source vertex " + Symbols.LEFT_ARROW + " " + source + " selected")
                         .setVerticesState(verticesState)
                         .addEdges(edges)
                         .addGraphAnimationStateExtra(
                                 GraphAnimationStateExtra.create()
-                                        .addPriorityQueueElementState(map)));
+                                        .addPriorityQueueChanges(priorityQueue, graph.vertices)));
 
         // Setting initial distances
         graphSequence.addGraphAnimationState(
                 GraphAnimationState.create()
-                        .setInfo("all vertices distance " + UtilUI.getLeftArrow() + infinity
-                                + "\n" + "source vertex (" + source + ") distance " + UtilUI.getLeftArrow() + " 0")
+                        .setInfo("all vertices distance " + Symbols.LEFT_ARROW + infinity
+                                + "\n" + "source vertex (" + source + ") distance " + Symbols.LEFT_ARROW + " 0")
                         .setVerticesState(verticesState)
                         .addEdges(edges)
                         .addGraphAnimationStateExtra(
                                 GraphAnimationStateExtra.create()
-                                .addMapDijkstra(map)
-                                        .addPriorityQueueElementState(map)));
+                                .addMapDijkstra(clrs)
+                                        .addPriorityQueueChanges(priorityQueue, graph.vertices)));
 
         // Prim's Algorithm
-        for (int i = 0; i < size; i++) {
-            // Heap Like Operations Simulated
-            int vertexNo = findMinDistanceIndex();
-            // if no vertex is returned, skip this iteration
-            if(vertexNo < 0){
-                continue;
-            }
+        while (!priorityQueue.isEmpty()) {
+            // Extract Min from Priority Queue
+            int vertexId = priorityQueue.extractMin();
+            int vertexNo = graph.vertices[vertexId];
 
             // Vertex Added to MST
-            Vertex srcVertex = verticesState.get(vertexNo);
+            Vertex srcVertex = states[vertexId];
             srcVertex.setToDone();
-            VertexCLRS startVertexCLRS = map.get(vertexNo);
+            changes.addVertex(vertexNo);
+            VertexCLRS startVertexCLRS = clrs[vertexId];
 
-            int self = map.get(vertexNo).data;
-            int parent = map.get(vertexNo).parent;
+            int parent = startVertexCLRS.parent;
             // Parent Edge fixed for MST
             if (parent >= 0 ) {
-                Edge parentEdge = edges.get(edges.indexOf(graph.getEdge(parent, self)));
-                parentEdge.setToDone();
+                int parentEdgeId = graph.findEdge(graph.getId(parent), vertexId);
+                edgesById[parentEdgeId].setToDone();
+                changes.addEdge(parentEdgeId);
             }
 
             // Selecting Min. Value vertex not in MST
@@ -121,55 +131,68 @@ public class Prims {
                                     + "\n" + "vertex (" + vertexNo + ") selected to MST")
                             .setVerticesState(verticesState)
                             .addEdges(edges)
+                            .setChanges(changes)
                             .addGraphAnimationStateExtra(
                                     GraphAnimationStateExtra.create()
-                                            .addMapDijkstra(map)
-                                            .addPriorityQueueElementState(map)));
+                                            .addMapDijkstraChange(clrs, updatedId)
+                                            .addPriorityQueueChanges(priorityQueue, graph.vertices)));
+            updatedId = -1;
 
             startVertexCLRS.visited = true;
-            for (Edge curEdge : graph.edgeListMap.get(vertexNo)) {
-                Vertex desVertex = verticesState.get(curEdge.des);
-                VertexCLRS endVertexCLRS = map.get(curEdge.des);
+            for (int e=graph.offsets[vertexId];e<graph.offsets[vertexId+1];e++) {
+                int desId = graph.targets[e];
+                int des = graph.vertices[desId];
+                int weight = graph.weights[e];
+                Vertex desVertex = states[desId];
+                VertexCLRS endVertexCLRS = clrs[desId];
 
                 if (!endVertexCLRS.visited) {
-                    int tempDistance = curEdge.weight;
+                    int tempDistance = weight;
                     int otherDistance = endVertexCLRS.dijkstraDist;
                     String otherDist = String.valueOf(otherDistance);
                     if(otherDistance == Integer.MAX_VALUE){
                         otherDist = DecimalFormatSymbols.getInstance().getInfinity();
                     }
 
-                    Edge edge = edges.get(edges.indexOf(curEdge));
+                    Edge edge = edgesById[e];
                     edge.setToHighlight();
                     desVertex.setToHighlight();
+                    changes.addEdge(e);
+                    changes.addVertex(des);
 
                     String updated = "";
                     if (tempDistance < otherDistance) {
-                        updated = curEdge.weight + " < " + otherDist + ", vertex(" + desVertex.data  + ") distance updated";
+                        updated = weight + " < " + otherDist + ", vertex(" + desVertex.data  + ") distance updated";
                     }
                     else {
-                        updated = curEdge.weight + " >= " + otherDist + ", continue";
+                        updated = weight + " >= " + otherDist + ", continue";
                     }
 
                     // Updating Distance of Edge's des. Vertex
                     graphSequence.addGraphAnimationState(
                             GraphAnimationState.create()
-                                    .setInfo("vertex (" + vertexNo + "), edge (" + vertexNo + " ── " + curEdge.des + ")"
+                                    .setInfo("vertex (" + vertexNo + "), edge (" + vertexNo + " ── " + des + ")"
                                             + "\n" + updated)
                                     .setVerticesState(verticesState)
                                     .addEdges(edges)
+                                    .setChanges(changes)
                                     .addGraphAnimationStateExtra(
                                             GraphAnimationStateExtra.create()
-                                                    .addMapDijkstra(map)
-                                                    .addPriorityQueueElementState(map)));
+                                                    .addMapDijkstraChange(clrs, updatedId)
+                                                    .addPriorityQueueChanges(priorityQueue, graph.vertices)));
+                    updatedId = -1;
 
                     if (tempDistance < otherDistance) {
                         endVertexCLRS.dijkstraDist = tempDistance;
                         endVertexCLRS.parent = startVertexCLRS.data;
+                        priorityQueue.decreaseKey(desId, tempDistance);
+                        updatedId = desId;
                     }
 
                     edge.setToNormal();
                     desVertex.setToNormal();
+                    changes.addEdge(e);
+                    changes.addVertex(des);
                 }
             }
         }
@@ -180,30 +203,14 @@ public class Prims {
                         .setInfo("prim() completed")
                         .setVerticesState(verticesState)
                         .addEdges(edges)
+                        .setChanges(changes)
                         .addGraphAnimationStateExtra(GraphAnimationStateExtra.create()
-                                .addMapDijkstra(map)
-                                .addPriorityQueueElementState(map)));
+                                .addMapDijkstraChange(clrs, updatedId)
+                                .addPriorityQueueChanges(priorityQueue, graph.vertices)));
+        updatedId = -1;
 
         // ALL DONE
-        for (Map.Entry<Integer, VertexCLRS> entry : map.entrySet()) {
-            System.out.println(entry.getValue());
-        }
-
         return graphSequence;
     }
 
-    // Finding the minimum distance
-    private int findMinDistanceIndex() {
-        long minDistance = Long.MAX_VALUE;
-        int minDistanceVertex = -1;
-        for (Map.Entry<Integer, VertexCLRS> entry : map.entrySet()) {
-            if (!entry.getValue().visited && entry.getValue().dijkstraDist < minDistance) {
-                minDistance = entry.getValue().dijkstraDist;
-                minDistanceVertex = entry.getKey();
-            }
-        }
-
-        return minDistanceVertex;
-    }
-
 }
\ No newline at end of file
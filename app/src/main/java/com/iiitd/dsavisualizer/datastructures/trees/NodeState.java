@@ -1,11 +0,0 @@
-package com.iiitd.dsavisualizer.datastructures.trees;
-
-// Enum class
-// Used by Trees for knowing the state of the node
-public enum NodeState {
-    EMPTY,
-    ARROW_HIDDEN,
-    ARROW_SHOWN,
-    ELEMENT_HIDDEN,
-    ELEMENT_SHOWN
-}
\ No newline at end of file
@@ -3,15 +3,18 @@ package com.iiitd.dsavisualizer.datastructures.trees;
 import java.util.ArrayList;
 
 // This class is used to hold complete animation data for an instance of a tree algorithm
+// States which change the structure of the tree hold a snapshot of the tree after the change
 public class TreeAnimationState {
     public TreeAnimationStateType state;
     public String info;
     public ArrayList<TreeElementAnimationData> elementAnimationData;
+    public TreeSnapshot snapshot;           // null => structure of the tree is unchanged
 
     public TreeAnimationState(TreeAnimationStateType state, String info) {
         this.state = state;
         this.info = info;
         this.elementAnimationData = new ArrayList<>();
+        this.snapshot = null;
     }
 
     public void add(TreeElementAnimationData... treeElementAnimationDatas){
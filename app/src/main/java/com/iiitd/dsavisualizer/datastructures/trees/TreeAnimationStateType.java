@@ -3,7 +3,6 @@ package com.iiitd.dsavisualizer.datastructures.trees;
 // ENUM Class
 // Used in Tree Animation for knowing the type of animation type
 public enum TreeAnimationStateType {
-    NO_SPACE,                 // NS
     NOT_FOUND,                // NF
     FOUND,                    // F
     ORDER_TRAVERSAL,          // P
@@ -13,7 +12,13 @@ public enum TreeAnimationStateType {
     DELETE_DECREASE,          // C
     DELETE_NO_CHILD,          // 1
     COPY_AND_MOVE,            // CM
-    MOVE_BACK,                // MB
+    LAYOUT,                   // L, nodes move to their places in the snapshot
     ROTATION,                 // R
+    RECOLOR,                  // RC, colors of nodes change, the snapshot holds the new colors
+    BUILD,                    // B, whole tree is replaced by the snapshot
+    SPLIT,                    // SP, full page is split in two, B+ tree
+    MERGE,                    // M, page is merged with its sibling, B+ tree
+    BORROW,                   // BR, page takes a key from its sibling, B+ tree
+    RANGE_SCAN,               // RS, keys of a leaf page are in the range, B+ tree
     NULL                      // N
-}
\ No newline at end of file
+}
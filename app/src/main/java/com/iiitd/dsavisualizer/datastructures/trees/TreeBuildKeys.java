@@ -0,0 +1,55 @@
+package com.iiitd.dsavisualizer.datastructures.trees;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Distinct keys in ascending order with the count of every key, input of BST.build and AVL.build
+// Sorted input is used as it is in O(n), unsorted input is sorted first in O(n log(n))
+public class TreeBuildKeys {
+
+    public final int size;          // distinct keys
+    public final int[] keys;
+    public final int[] counts;
+
+    private TreeBuildKeys(int size, int[] keys, int[] counts) {
+        this.size = size;
+        this.keys = keys;
+        this.counts = counts;
+    }
+
+    public static TreeBuildKeys of(List<Integer> input){
+        int n = input.size();
+        int[] sorted = new int[n];
+        boolean isSorted = true;
+        int i = 0;
+        for(Integer key : input){
+            sorted[i] = key;
+            if(i > 0 && sorted[i - 1] > sorted[i]){
+                isSorted = false;
+            }
+            i++;
+        }
+
+        if(!isSorted){
+            Arrays.sort(sorted);
+        }
+
+        // Equal keys are next to each other, they are merged into a single key with its count
+        int[] keys = new int[n];
+        int[] counts = new int[n];
+        int size = 0;
+        for(i=0;i<n;i++){
+            if(size > 0 && keys[size - 1] == sorted[i]){
+                counts[size - 1]++;
+            }
+            else{
+                keys[size] = sorted[i];
+                counts[size] = 1;
+                size++;
+            }
+        }
+
+        return new TreeBuildKeys(size, keys, counts);
+    }
+
+}
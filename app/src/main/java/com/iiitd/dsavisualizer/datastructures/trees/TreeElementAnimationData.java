@@ -1,43 +1,27 @@
 package com.iiitd.dsavisualizer.datastructures.trees;
 
-import android.util.Pair;
-
 // This class is used to hold animation data for single state of a tree algorithm
+// Nodes are referred to by their TreeLayoutNode id
 public class TreeElementAnimationData {
     public int data;
     public int count;
-    public int elementIndex;
-    public int newElementIndex;
-    public int row;
-    public int col;
+    public int id;
+    public int newId;
     public String info;
 
-    public TreeElementAnimationData(int data, int count, int elementIndex) {
+    public TreeElementAnimationData(int data, int count, int id) {
         this.data = data;
         this.count = count;
-        this.elementIndex = elementIndex;
-        if(elementIndex != -1) {
-            Pair<Integer, Integer> pair = TreeLayout.map.get(elementIndex);
-            this.row = pair.first;
-            this.col = pair.second;
-        }
+        this.id = id;
+        this.newId = -1;
     }
 
-    public TreeElementAnimationData(int data, int count, int elementIndex, int newElementIndex) {
+    // data and count of node id are moved to node newId
+    public TreeElementAnimationData(int data, int count, int id, int newId) {
         this.data = data;
         this.count = count;
-        this.elementIndex = elementIndex;
-        this.newElementIndex = newElementIndex;
-        if(elementIndex != -1) {
-            Pair<Integer, Integer> pair = TreeLayout.map.get(elementIndex);
-            this.row = pair.first;
-            this.col = pair.second;
-        }
-    }
-
-    public TreeElementAnimationData(int row, int col) {
-        this.row = row;
-        this.col = col;
+        this.id = id;
+        this.newId = newId;
     }
 
     @Override
@@ -45,11 +29,9 @@ public class TreeElementAnimationData {
         return "TreeAnimationState{" +
                 "data=" + data +
                 ", count=" + count +
-                ", elementIndex=" + elementIndex +
-                ", newElementIndex=" + newElementIndex +
-                ", row=" + row +
-                ", col=" + col +
+                ", id=" + id +
+                ", newId=" + newId +
                 ", info='" + info + '\'' +
                 '}';
     }
-}
\ No newline at end of file
+}
@@ -1,164 +1,212 @@
 package com.iiitd.dsavisualizer.datastructures.trees;
 
-import android.util.Pair;
-
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-
-import static com.iiitd.dsavisualizer.datastructures.trees.NodeType.ARROW;
-import static com.iiitd.dsavisualizer.datastructures.trees.NodeType.ELEMENT;
-import static com.iiitd.dsavisualizer.datastructures.trees.NodeType.EMPTY;
 
-// Used by Trees
-//HARDCODED INFORMATION, Handle with care
+// TreeLayout computes node coordinates of binary trees of any depth, Reingold-Tilford style
+// Subtrees are laid out bottom up, siblings are placed as close as their contours allow and
+// the parent is centered above its children, so a tree of n nodes is laid out in O(n)
+// Contours are linked lists which share their tails with the contours of the children,
+// and are kept in TreeLayoutData of every node, so after an insert, delete or rotation only the
+// subtrees whose children changed are laid out again, all other subtrees are reused as they are
+// x is in units, nodes of a level are at least MIN_SEPARATION units apart, y is the depth of a node
 public class TreeLayout {
+    public static final int MIN_SEPARATION = 2;
+
+    private static final Contour LEAF = new Contour(0, null);
+
+    // A single level of a contour, dx is x of this level relative to the previous level
+    // The first level is the root of the subtree, with dx = 0
+    static final class Contour {
+        final int dx;
+        final Contour next;
+
+        Contour(int dx, Contour next) {
+            this.dx = dx;
+            this.next = next;
+        }
+    }
+
+    // Lays out the tree and returns positions of all its nodes, root = null => empty snapshot
+    public static TreeSnapshot layout(TreeLayoutNode root){
+        ArrayList<TreeLayoutNode> nodes = new ArrayList<>();
+        ArrayList<TreeLayoutNode> stack = new ArrayList<>();
+        if(root != null){
+            stack.add(root);
+        }
+
+        // Pre order, iterative so degenerate trees don't overflow the stack
+        while(stack.size() > 0){
+            TreeLayoutNode node = stack.remove(stack.size() - 1);
+            nodes.add(node);
+            if(node.getRight() != null){
+                stack.add(node.getRight());
+            }
+            if(node.getLeft() != null){
+                stack.add(node.getLeft());
+            }
+        }
+
+        // Children are after their parent in pre order, so they are laid out first
+        for(int i=nodes.size()-1;i>=0;i--){
+            layoutSubtree(nodes.get(i));
+        }
+
+        return getSnapshot(nodes);
+    }
+
+    // Lays out the subtree of node from the layouts of its children, if any of them changed
+    private static void layoutSubtree(TreeLayoutNode node){
+        TreeLayoutData data = node.getLayoutData();
+        TreeLayoutNode left = node.getLeft();
+        TreeLayoutNode right = node.getRight();
+        int leftLayoutNo = left == null ? 0 : left.getLayoutData().layoutNo;
+        int rightLayoutNo = right == null ? 0 : right.getLayoutData().layoutNo;
+
+        if(data.layoutNo > 0 && data.left == left && data.right == right
+                && data.leftLayoutNo == leftLayoutNo && data.rightLayoutNo == rightLayoutNo){
+            return;
+        }
+
+        if(left == null && right == null){
+            data.leftContour = LEAF;
+            data.rightContour = LEAF;
+            data.childOffset = 0;
+            data.height = 1;
+        }
+        else if(right == null){
+            TreeLayoutData leftData = left.getLayoutData();
+            data.childOffset = MIN_SEPARATION / 2;
+            data.leftContour = new Contour(0, new Contour(-data.childOffset, leftData.leftContour.next));
+            data.rightContour = new Contour(0, new Contour(-data.childOffset, leftData.rightContour.next));
+            data.height = leftData.height + 1;
+        }
+        else if(left == null){
+            TreeLayoutData rightData = right.getLayoutData();
+            data.childOffset = MIN_SEPARATION / 2;
+            data.leftContour = new Contour(0, new Contour(data.childOffset, rightData.leftContour.next));
+            data.rightContour = new Contour(0, new Contour(data.childOffset, rightData.rightContour.next));
+            data.height = rightData.height + 1;
+        }
+        else{
+            TreeLayoutData leftData = left.getLayoutData();
+            TreeLayoutData rightData = right.getLayoutData();
+            data.childOffset = (getSeparation(leftData.rightContour, rightData.leftContour) + 1) / 2;
+            data.leftContour = merge(leftData.leftContour, leftData.height, -data.childOffset,
+                    rightData.leftContour, rightData.height, data.childOffset);
+            data.rightContour = merge(rightData.rightContour, rightData.height, data.childOffset,
+                    leftData.rightContour, leftData.height, -data.childOffset);
+            data.height = Math.max(leftData.height, rightData.height) + 1;
+        }
+
+        data.left = left;
+        data.right = right;
+        data.leftLayoutNo = leftLayoutNo;
+        data.rightLayoutNo = rightLayoutNo;
+        data.layoutNo++;
+    }
+
+    // Distance between the roots of two subtrees placed next to each other, both roots at the same level
+    // Only the levels both subtrees have are compared, O(height of the shorter subtree)
+    private static int getSeparation(Contour rightContour, Contour leftContour){
+        int separation = MIN_SEPARATION;
+        int rightX = 0;
+        int leftX = 0;
+        while (rightContour != null && leftContour != null){
+            rightX += rightContour.dx;
+            leftX += leftContour.dx;
+            separation = Math.max(separation, rightX - leftX + MIN_SEPARATION);
+            rightContour = rightContour.next;
+            leftContour = leftContour.next;
+        }
+
+        return separation;
+    }
+
+    // Contour of a parent on the side of its outer child, its inner child is at the other side
+    // Below the levels of the outer child, the contour continues with the deeper levels of the inner child
+    // The tail of the deeper child is shared, only the levels of the shorter outer child are copied
+    private static Contour merge(Contour outer, int outerHeight, int outerX, Contour inner, int innerHeight, int innerX){
+        if(outerHeight >= innerHeight){
+            return new Contour(0, new Contour(outerX, outer.next));
+        }
+
+        int[] dxs = new int[outerHeight];
+        int x = 0;
+        for(int i=0;i<outerHeight;i++){
+            dxs[i] = i == 0 ? outerX : outer.dx;
+            x += dxs[i];
+            outer = outer.next;
+        }
+
+        // Level outerHeight of the inner child
+        int innerLevelX = innerX;
+        for(int i=0;i<outerHeight;i++){
+            inner = inner.next;
+            innerLevelX += inner.dx;
+        }
+
+        Contour contour = new Contour(innerLevelX - x, inner.next);
+        for(int i=outerHeight-1;i>=0;i--){
+            contour = new Contour(dxs[i], contour);
+        }
+
+        return new Contour(0, contour);
+    }
+
+    // Absolute positions of laid out nodes, nodes are in pre order
+    private static TreeSnapshot getSnapshot(ArrayList<TreeLayoutNode> nodes){
+        int size = nodes.size();
+        TreeSnapshot snapshot = new TreeSnapshot(size);
+        if(size == 0){
+            return snapshot;
+        }
+
+        int[] stack = new int[size];
+        int top = 0;
+        int minX = 0;
+        int maxX = 0;
+        for(int i=0;i<size;i++){
+            TreeLayoutNode node = nodes.get(i);
+            snapshot.ids[i] = node.getId();
+            snapshot.keys[i] = node.getKey();
+            snapshot.counts[i] = node.getCount();
+            snapshot.colors[i] = node.getColor();
+
+            // Ancestors of node are on the stack, its parent is the deepest one which is not yet done
+            while (top > 0 && !isChild(nodes.get(stack[top - 1]), node)){
+                top--;
+            }
+
+            if(top == 0){
+                snapshot.parents[i] = -1;
+                snapshot.xs[i] = 0;
+                snapshot.depths[i] = 0;
+            }
+            else{
+                int parent = stack[top - 1];
+                TreeLayoutNode parentNode = nodes.get(parent);
+                int childOffset = parentNode.getLayoutData().childOffset;
+                snapshot.parents[i] = parent;
+                snapshot.xs[i] = snapshot.xs[parent] + (parentNode.getLeft() == node ? -childOffset : childOffset);
+                snapshot.depths[i] = snapshot.depths[parent] + 1;
+            }
+
+            stack[top++] = i;
+            minX = Math.min(minX, snapshot.xs[i]);
+            maxX = Math.max(maxX, snapshot.xs[i]);
+            snapshot.height = Math.max(snapshot.height, snapshot.depths[i] + 1);
+        }
+
+        for(int i=0;i<size;i++){
+            snapshot.xs[i] -= minX;
+        }
+        snapshot.width = maxX - minX;
+
+        return snapshot;
+    }
 
-    public static final int baseIndex = 8;
-    public static final int baseLevel = 4;
-    public static ArrayList<List<TreeLayoutElement>> treeLayout = new ArrayList<>();
-    public static HashMap<Integer, Pair<Integer, Integer>> map = new HashMap<>();
-
-    static {
-        //Row 0
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(7, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(7, EMPTY)));
-
-        //Row 1
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(4, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(4, ARROW),
-                new TreeLayoutElement(3, EMPTY)));
-
-        //Row 2
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(7, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(3, EMPTY)));
-
-        //Row 3
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(2, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(2, ARROW),
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(2, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(2, ARROW),
-                new TreeLayoutElement(1, EMPTY)));
-
-        //Row 4
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(3, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY)));
-
-        //Row 5
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ARROW)));
-
-        //Row 6
-        treeLayout.add(Arrays.asList(
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT),
-                new TreeLayoutElement(1, EMPTY),
-                new TreeLayoutElement(1, ELEMENT)));
-
-        // Element Index(1-Indexed), Pair<Row, Column>
-        map.put(8, new Pair<>(0, 1));
-        map.put(4, new Pair<>(2, 1));
-        map.put(12, new Pair<>(2, 3));
-        map.put(2, new Pair<>(4, 1));
-        map.put(6, new Pair<>(4, 3));
-        map.put(10, new Pair<>(4, 5));
-        map.put(14, new Pair<>(4, 7));
-        map.put(1, new Pair<>(6, 0));
-        map.put(3, new Pair<>(6, 2));
-        map.put(5, new Pair<>(6, 4));
-        map.put(7, new Pair<>(6, 6));
-        map.put(9, new Pair<>(6, 8));
-        map.put(11, new Pair<>(6, 10));
-        map.put(13, new Pair<>(6, 12));
-        map.put(15, new Pair<>(6, 14));
+    private static boolean isChild(TreeLayoutNode parent, TreeLayoutNode node){
+        return parent.getLeft() == node || parent.getRight() == node;
     }
 
-    // 0 is redundant and -1 == no child
-    public static Pair<Integer, Integer>[] childs = new Pair[]{
-        new Pair(0,0),
-        new Pair(-1,-1),
-        new Pair(1,3),
-        new Pair(-1,-1),
-        new Pair(2,6),
-        new Pair(-1,-1),
-        new Pair(5,7),
-        new Pair(-1,-1),
-        new Pair(4,12),
-        new Pair(-1,-1),
-        new Pair(9,11),
-        new Pair(-1,-1),
-        new Pair(10,14),
-        new Pair(-1,-1),
-        new Pair(13,15),
-        new Pair(-1,-1)
-    };
-
-    // 0 is redundant, -1 = no parent(root)
-    public static int[] parents = new int[]{
-            0,
-            2,
-            4,
-            2,
-            8,
-            6,
-            4,
-            6,
-            -1,
-            10,
-            12,
-            10,
-            8,
-            14,
-            12,
-            14
-    };
-
-}
\ No newline at end of file
+}
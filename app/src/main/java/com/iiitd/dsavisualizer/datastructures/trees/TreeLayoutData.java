@@ -1,76 +1,31 @@
 package com.iiitd.dsavisualizer.datastructures.trees;
 
-import android.content.Context;
-import android.util.Pair;
-import android.view.View;
-import android.widget.TableRow;
-
-import java.util.ArrayList;
-import java.util.List;
-
-// TreeLayoutData contains data about all elements in tree view and also maintains tableRows
+// TreeLayoutData holds the layout of the subtree of a single node, relative to the node
+// It is reused by TreeLayout as long as the children of the node and their layouts are unchanged
 public class TreeLayoutData {
 
-    Context context;
-    ArrayList<List<TreeLayoutElement>> treeLayout;
-    ArrayList<TableRow> tableRows;
-
-    public TreeLayoutData(Context context, ArrayList<List<TreeLayoutElement>> treeLayout, ArrayList<TableRow> tableRows) {
-        this.context = context;
-        this.treeLayout = treeLayout;
-        this.tableRows = tableRows;
-    }
-
-    public void hideElement(int index){
-        Pair<Integer, Integer> curPair = TreeLayout.map.get(index);
-        int row = curPair.first;
-        int col = curPair.second;
-        View view = tableRows.get(row).getChildAt(col);
-        TreeLayoutElement layoutElement = treeLayout.get(row).get(col);
-        layoutElement.state = NodeState.ELEMENT_HIDDEN;
-        view.setVisibility(View.INVISIBLE);
-
-        int parent = TreeLayout.parents[index];
-        if(parent > 0 ){
-            View arrow = tableRows.get(row-1).getChildAt(col);
-            TreeLayoutElement arrowElement = treeLayout.get(row-1).get(col);
-
-            if(layoutElement.state == NodeState.ELEMENT_HIDDEN){
-                arrow.setVisibility(View.INVISIBLE);
-                arrowElement.state = NodeState.ARROW_HIDDEN;
-            }
-            else{
-                arrow.setVisibility(View.VISIBLE);
-                arrowElement.state = NodeState.ARROW_SHOWN;
-            }
-        }
-
-    }
-
-    public void showElement(int index){
-        Pair<Integer, Integer> curPair = TreeLayout.map.get(index);
-        int row = curPair.first;
-        int col = curPair.second;
-        View view = tableRows.get(row).getChildAt(col);
-        TreeLayoutElement layoutElement = treeLayout.get(row).get(col);
-        layoutElement.state = NodeState.ELEMENT_SHOWN;
-        view.setVisibility(View.VISIBLE);
-
-        int parent = TreeLayout.parents[index];
-        if(parent > 0 ){
-            View arrow = tableRows.get(row-1).getChildAt(col);
-            TreeLayoutElement arrowElement = treeLayout.get(row-1).get(col);
-
-            if(layoutElement.state == NodeState.ELEMENT_SHOWN){
-                arrow.setVisibility(View.VISIBLE);
-                arrowElement.state = NodeState.ARROW_SHOWN;
-            }
-            else{
-                arrow.setVisibility(View.INVISIBLE);
-                arrowElement.state = NodeState.ARROW_HIDDEN;
-            }
-        }
-
+    TreeLayout.Contour leftContour;     // leftmost node of every level of the subtree
+    TreeLayout.Contour rightContour;    // rightmost node of every level of the subtree
+    int childOffset;                    // left child is at -childOffset, right child at +childOffset
+    int height;                         // levels of the subtree
+    int layoutNo;                       // incremented on every layout of the subtree, 0 => never laid out
+
+    // Children and their layoutNo when the subtree was laid out
+    TreeLayoutNode left;
+    TreeLayoutNode right;
+    int leftLayoutNo;
+    int rightLayoutNo;
+
+    public TreeLayoutData() {
+        this.leftContour = null;
+        this.rightContour = null;
+        this.childOffset = 0;
+        this.height = 0;
+        this.layoutNo = 0;
+        this.left = null;
+        this.right = null;
+        this.leftLayoutNo = 0;
+        this.rightLayoutNo = 0;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.iiitd.dsavisualizer.datastructures.trees;
+
+// Node of a binary tree laid out by TreeLayout, implemented by BSTNode and AVLNode
+public interface TreeLayoutNode {
+    int COLOR_NONE = 0;         // nodes of trees without colors, BST and AVL
+    int COLOR_RED = 1;
+    int COLOR_BLACK = 2;
+
+    // Stable for the lifetime of the node, TreeView follows a node between snapshots by its id
+    int getId();
+
+    int getKey();
+
+    int getCount();
+
+    // One of the COLOR constants
+    int getColor();
+
+    TreeLayoutNode getLeft();
+
+    TreeLayoutNode getRight();
+
+    // Layout of the subtree of the node, kept by TreeLayout between layouts
+    TreeLayoutData getLayoutData();
+
+}
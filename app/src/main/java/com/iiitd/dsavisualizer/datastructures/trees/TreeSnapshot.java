@@ -0,0 +1,40 @@
+package com.iiitd.dsavisualizer.datastructures.trees;
+
+// Positions of all nodes of a tree at a single step, produced by TreeLayout and drawn by TreeView
+// Nodes are in pre order, so the parent of a node is always before it
+public class TreeSnapshot {
+
+    public final int size;
+    public final int[] ids;
+    public final int[] keys;
+    public final int[] counts;
+    public final int[] colors;          // TreeLayoutNode COLOR constants
+    public final int[] xs;              // units, leftmost node is at 0
+    public final int[] depths;          // root is at 0
+    public final int[] parents;         // index of the parent, -1 => root
+    public int width;                   // units between the leftmost and the rightmost node
+    public int height;                  // levels
+
+    public TreeSnapshot(int size) {
+        this.size = size;
+        this.ids = new int[size];
+        this.keys = new int[size];
+        this.counts = new int[size];
+        this.colors = new int[size];
+        this.xs = new int[size];
+        this.depths = new int[size];
+        this.parents = new int[size];
+        this.width = 0;
+        this.height = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TreeSnapshot{" +
+                "size = " + size +
+                ", width = " + width +
+                ", height = " + height +
+                '}';
+    }
+
+}
@@ -0,0 +1,500 @@
+package com.iiitd.dsavisualizer.datastructures.trees;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.SystemClock;
+import android.util.AttributeSet;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
+import android.view.View;
+
+import androidx.core.content.ContextCompat;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+// TreeView draws TreeSnapshots of BST, AVL and RBT on a canvas, so trees of any size and depth fit in a single view
+// Pinch zooms, drag pans and double tap fits the tree to the view again, while fitted every snapshot is fitted too
+// A new snapshot moves nodes from their current places to their new places, new nodes grow and removed nodes fade out
+// Labels of nodes are not drawn when they are too small to read, nodes outside the view are not drawn at all
+public class TreeView extends View {
+    public static final int EFFECT_SEARCH = 0;      // ring around the node, replaces swing()
+    public static final int EFFECT_FLASH = 1;       // node blinks, replaces flash()
+    public static final int EFFECT_BOUNCE = 2;      // node grows and shrinks back, replaces bounceIn()
+
+    private static final float NODE_RADIUS = 0.8f;  // units, nodes of a level are at least TreeLayout.MIN_SEPARATION units apart
+    private static final float LEVEL_HEIGHT = 2.5f; // units between levels
+    private static final float MARGIN = 1;          // units around the tree
+    private static final float UNIT = 24;           // dp per unit at scale 1
+    private static final float MIN_SCALE = 0.01f;
+    private static final float MAX_SCALE = 4;
+    private static final float MAX_FIT_SCALE = 1.5f;
+    private static final float MIN_LABEL_SIZE = 6;  // dp
+
+    private final float unit;                       // px per unit at scale 1
+    private final float minLabelSize;               // px
+    private final Paint nodePaint;
+    private final Paint redNodePaint;               // red nodes of a red-black tree
+    private final Paint blackNodePaint;             // black nodes of a red-black tree
+    private final Paint edgePaint;
+    private final Paint effectPaint;
+    private final Paint labelPaint;
+    private final ScaleGestureDetector scaleGestureDetector;
+    private final GestureDetector gestureDetector;
+    private OnNodeClickListener onNodeClickListener;
+
+    // Current snapshot, keys and counts are copied as labels change without a new snapshot
+    private TreeSnapshot snapshot;
+    private final HashMap<Integer, Integer> indexes;    // id -> index in snapshot
+    private int[] keys;
+    private int[] counts;
+    private float[] fromX;                          // units, place of every node when the snapshot was set
+    private float[] fromY;
+    private boolean[] isNew;
+
+    // Nodes of the previous snapshot which are not in the current one, faded out at their last place
+    private int[] removedKeys;
+    private int[] removedColors;
+    private float[] removedX;
+    private float[] removedY;
+
+    private long moveStart;                         // SystemClock.uptimeMillis()
+    private long moveDuration;
+    private float fromScale;
+    private float fromTranslateX;
+    private float fromTranslateY;
+
+    private final HashMap<Integer, long[]> effects; // id -> {type, start, duration}
+
+    // Label moved from node ghostFrom to node ghostTo, set on ghostTo once it arrives
+    private int ghostFrom;
+    private int ghostTo;
+    private int ghostKey;
+    private int ghostCount;
+    private long ghostStart;
+    private long ghostDuration;
+
+    private float scale;
+    private float translateX;                       // px
+    private float translateY;
+    private boolean isFitted;                       // false once the user zooms or pans
+
+    private float[] edges;                          // px, {x0, y0, x1, y1, ...}
+
+    public interface OnNodeClickListener {
+        // x, y are the position of the node in the view
+        void onNodeClick(int key, int count, float x, float y);
+    }
+
+    public TreeView(Context context) {
+        this(context, null);
+    }
+
+    public TreeView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        float density = context.getResources().getDisplayMetrics().density;
+        this.unit = UNIT * density;
+        this.minLabelSize = MIN_LABEL_SIZE * density;
+
+        this.nodePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.nodePaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.base));
+        this.redNodePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.redNodePaint.setColor(ContextCompat.getColor(context, R.color.rbt_red));
+        this.blackNodePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.blackNodePaint.setColor(ContextCompat.getColor(context, R.color.rbt_black));
+        this.edgePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.edgePaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.medium));
+        this.edgePaint.setStrokeWidth(2 * density);
+        this.effectPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.effectPaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.opp));
+        this.effectPaint.setStyle(Paint.Style.STROKE);
+        this.effectPaint.setStrokeWidth(2 * density);
+        this.labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.labelPaint.setColor(Color.WHITE);
+        this.labelPaint.setTextAlign(Paint.Align.CENTER);
+        this.labelPaint.setFakeBoldText(true);
+
+        this.indexes = new HashMap<>();
+        this.effects = new HashMap<>();
+        this.ghostFrom = -1;
+        this.ghostTo = -1;
+        this.scale = 1;
+        this.translateX = 0;
+        this.translateY = 0;
+        this.isFitted = true;
+        this.edges = new float[0];
+        setSnapshot(new TreeSnapshot(0), 0);
+
+        this.scaleGestureDetector = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+                zoom(detector.getScaleFactor(), detector.getFocusX(), detector.getFocusY());
+                return true;
+            }
+        });
+
+        this.gestureDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                return true;
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+                isFitted = false;
+                translateX -= distanceX;
+                translateY -= distanceY;
+                finishViewportMove();
+                invalidate();
+                return true;
+            }
+
+            @Override
+            public boolean onDoubleTap(MotionEvent e) {
+                isFitted = true;
+                fit();
+                finishViewportMove();
+                invalidate();
+                return true;
+            }
+
+            @Override
+            public boolean onSingleTapConfirmed(MotionEvent e) {
+                click(e.getX(), e.getY());
+                return true;
+            }
+        });
+    }
+
+    public void setOnNodeClickListener(OnNodeClickListener onNodeClickListener){
+        this.onNodeClickListener = onNodeClickListener;
+    }
+
+    // Moves nodes to their places in snapshot over duration ms, duration = 0 => nodes are moved directly
+    public void setSnapshot(TreeSnapshot snapshot, long duration){
+        finishGhost();
+        long now = SystemClock.uptimeMillis();
+        float fraction = getMoveFraction(now);
+
+        int size = snapshot.size;
+        float[] fromX = new float[size];
+        float[] fromY = new float[size];
+        boolean[] isNew = new boolean[size];
+        boolean[] isKept = new boolean[this.snapshot == null ? 0 : this.snapshot.size];
+        for(int i=0;i<size;i++){
+            Integer index = indexes.get(snapshot.ids[i]);
+            if(index != null){
+                isKept[index] = true;
+                fromX[i] = getX(index, fraction);
+                fromY[i] = getY(index, fraction);
+            }
+            else{
+                // New nodes grow out of their parent
+                int parent = snapshot.parents[i];
+                isNew[i] = true;
+                fromX[i] = parent == -1 ? snapshot.xs[i] : fromX[parent];
+                fromY[i] = parent == -1 ? snapshot.depths[i] * LEVEL_HEIGHT : fromY[parent];
+            }
+        }
+
+        int noOfRemoved = 0;
+        for(boolean kept : isKept){
+            if(!kept)
+                noOfRemoved++;
+        }
+        removedKeys = new int[noOfRemoved];
+        removedColors = new int[noOfRemoved];
+        removedX = new float[noOfRemoved];
+        removedY = new float[noOfRemoved];
+        for(int i=0, j=0;i<isKept.length;i++){
+            if(!isKept[i]){
+                removedKeys[j] = keys[i];
+                removedColors[j] = this.snapshot.colors[i];
+                removedX[j] = getX(i, fraction);
+                removedY[j] = getY(i, fraction);
+                j++;
+            }
+        }
+
+        this.snapshot = snapshot;
+        this.keys = snapshot.keys.clone();
+        this.counts = snapshot.counts.clone();
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.isNew = isNew;
+        this.indexes.clear();
+        for(int i=0;i<size;i++){
+            indexes.put(snapshot.ids[i], i);
+        }
+        effects.keySet().retainAll(indexes.keySet());
+        if(edges.length < 4 * size){
+            edges = new float[4 * size];
+        }
+
+        // Viewport moves on from where it is in the current frame
+        fromScale += (scale - fromScale) * fraction;
+        fromTranslateX += (translateX - fromTranslateX) * fraction;
+        fromTranslateY += (translateY - fromTranslateY) * fraction;
+        scale = fromScale;
+        translateX = fromTranslateX;
+        translateY = fromTranslateY;
+        moveStart = now;
+        moveDuration = duration;
+        if(isFitted){
+            fit();
+        }
+
+        invalidate();
+    }
+
+    // Changes the label of node id, without moving any node
+    public void setNode(int id, int key, int count){
+        Integer index = indexes.get(id);
+        if(index == null)
+            return;
+
+        keys[index] = key;
+        counts[index] = count;
+        invalidate();
+    }
+
+    // Highlights node id for duration ms, type is one of the EFFECT constants
+    public void highlight(int id, int type, long duration){
+        if(!indexes.containsKey(id))
+            return;
+
+        effects.put(id, new long[]{type, SystemClock.uptimeMillis(), Math.max(1, duration)});
+        invalidate();
+    }
+
+    // Moves key and count from node from to node to, then sets them as the label of node to
+    public void moveLabel(int from, int to, int key, int count, long duration){
+        finishGhost();
+        if(!indexes.containsKey(from) || !indexes.containsKey(to)){
+            setNode(to, key, count);
+            return;
+        }
+
+        ghostFrom = from;
+        ghostTo = to;
+        ghostKey = key;
+        ghostCount = count;
+        ghostStart = SystemClock.uptimeMillis();
+        ghostDuration = Math.max(1, duration);
+        invalidate();
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        boolean handled = scaleGestureDetector.onTouchEvent(event);
+        handled = gestureDetector.onTouchEvent(event) || handled;
+        return handled || super.onTouchEvent(event);
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        if(isFitted){
+            fit();
+            finishViewportMove();
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        long now = SystemClock.uptimeMillis();
+        float fraction = getMoveFraction(now);
+        boolean isAnimating = fraction < 1;
+
+        // px per unit and translation of the current frame
+        float curUnit = (fromScale + (scale - fromScale) * fraction) * unit;
+        float curTranslateX = fromTranslateX + (translateX - fromTranslateX) * fraction;
+        float curTranslateY = fromTranslateY + (translateY - fromTranslateY) * fraction;
+        float radius = NODE_RADIUS * curUnit;
+
+        Iterator<long[]> iterator = effects.values().iterator();
+        while (iterator.hasNext()){
+            long[] effect = iterator.next();
+            if(now >= effect[1] + effect[2]){
+                iterator.remove();
+            }
+        }
+
+        int noOfEdges = 0;
+        for(int i=0;i<snapshot.size;i++){
+            int parent = snapshot.parents[i];
+            if(parent != -1){
+                edges[noOfEdges++] = curTranslateX + getX(parent, fraction) * curUnit;
+                edges[noOfEdges++] = curTranslateY + getY(parent, fraction) * curUnit;
+                edges[noOfEdges++] = curTranslateX + getX(i, fraction) * curUnit;
+                edges[noOfEdges++] = curTranslateY + getY(i, fraction) * curUnit;
+            }
+        }
+        canvas.drawLines(edges, 0, noOfEdges, edgePaint);
+
+        boolean isLabeled = radius >= minLabelSize;
+        labelPaint.setTextSize(radius * 0.9f);
+
+        if(isAnimating){
+            for(int i=0;i<removedKeys.length;i++){
+                drawNode(canvas, curTranslateX + removedX[i] * curUnit, curTranslateY + removedY[i] * curUnit,
+                        radius, (int) (255 * (1 - fraction)), removedKeys[i], 1, removedColors[i], isLabeled);
+            }
+        }
+
+        for(int i=0;i<snapshot.size;i++){
+            float x = curTranslateX + getX(i, fraction) * curUnit;
+            float y = curTranslateY + getY(i, fraction) * curUnit;
+            if(x < -radius || x > getWidth() + radius || y < -radius || y > getHeight() + radius)
+                continue;
+
+            float nodeRadius = isNew[i] ? radius * fraction : radius;
+            int alpha = 255;
+            long[] effect = effects.get(snapshot.ids[i]);
+            float effectFraction = effect == null ? 0 : (float) (now - effect[1]) / effect[2];
+            if(effect != null && effect[0] == EFFECT_FLASH){
+                alpha = (int) (255 * Math.abs(Math.cos(2 * Math.PI * effectFraction)));
+            }
+            else if(effect != null && effect[0] == EFFECT_BOUNCE){
+                nodeRadius *= 1 + 0.3f * (float) Math.sin(Math.PI * effectFraction);
+            }
+
+            drawNode(canvas, x, y, nodeRadius, alpha, keys[i], counts[i], snapshot.colors[i], isLabeled && ghostTo != snapshot.ids[i]);
+
+            if(effect != null && effect[0] == EFFECT_SEARCH){
+                effectPaint.setAlpha((int) (255 * (1 - effectFraction)));
+                canvas.drawCircle(x, y, radius * (1.1f + 0.3f * effectFraction), effectPaint);
+            }
+        }
+
+        if(ghostTo != -1){
+            Integer from = indexes.get(ghostFrom);
+            Integer to = indexes.get(ghostTo);
+            float ghostFraction = (float) (now - ghostStart) / ghostDuration;
+            if(from == null || to == null || ghostFraction >= 1){
+                finishGhost();
+            }
+            else{
+                float t = interpolate(ghostFraction);
+                float x = getX(from, fraction) + (getX(to, fraction) - getX(from, fraction)) * t;
+                float y = getY(from, fraction) + (getY(to, fraction) - getY(from, fraction)) * t;
+                drawNode(canvas, curTranslateX + x * curUnit, curTranslateY + y * curUnit, radius, 255, ghostKey, ghostCount, snapshot.colors[to], isLabeled);
+                isAnimating = true;
+            }
+        }
+
+        if(isAnimating || effects.size() > 0){
+            postInvalidateOnAnimation();
+        }
+    }
+
+    // Count is drawn under the key only if it is more than 1, radius is in px, color is a TreeLayoutNode COLOR constant
+    private void drawNode(Canvas canvas, float x, float y, float radius, int alpha, int key, int count, int color, boolean isLabeled){
+        Paint paint = color == TreeLayoutNode.COLOR_RED ? redNodePaint : color == TreeLayoutNode.COLOR_BLACK ? blackNodePaint : nodePaint;
+        paint.setAlpha(alpha);
+        canvas.drawCircle(x, y, radius, paint);
+        if(!isLabeled || radius < minLabelSize)
+            return;
+
+        labelPaint.setAlpha(alpha);
+        float textSize = labelPaint.getTextSize();
+        if(count > 1){
+            canvas.drawText(String.valueOf(key), x, y, labelPaint);
+            labelPaint.setTextSize(textSize * 0.6f);
+            canvas.drawText(String.valueOf(count), x, y + textSize * 0.7f, labelPaint);
+            labelPaint.setTextSize(textSize);
+        }
+        else{
+            canvas.drawText(String.valueOf(key), x, y + textSize * 0.35f, labelPaint);
+        }
+    }
+
+    private void finishGhost(){
+        if(ghostTo != -1){
+            int to = ghostTo;
+            ghostFrom = -1;
+            ghostTo = -1;
+            setNode(to, ghostKey, ghostCount);
+        }
+    }
+
+    // Fits the whole tree in the view, small trees are not scaled beyond MAX_FIT_SCALE
+    private void fit(){
+        if(getWidth() == 0 || getHeight() == 0)
+            return;
+
+        float width = (snapshot.width + 2 * MARGIN) * unit;
+        float height = ((Math.max(1, snapshot.height) - 1) * LEVEL_HEIGHT + 2 * MARGIN) * unit;
+        scale = Math.max(MIN_SCALE, Math.min(MAX_FIT_SCALE, Math.min(getWidth() / width, getHeight() / height)));
+        translateX = (getWidth() - width * scale) / 2 + MARGIN * unit * scale;
+        translateY = MARGIN * unit * scale;
+    }
+
+    // Zooms by factor around focusX, focusY
+    private void zoom(float factor, float focusX, float focusY){
+        isFitted = false;
+        float newScale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale * factor));
+        factor = newScale / scale;
+        translateX = focusX - (focusX - translateX) * factor;
+        translateY = focusY - (focusY - translateY) * factor;
+        scale = newScale;
+        finishViewportMove();
+        invalidate();
+    }
+
+    // Viewport jumps to its target, nodes keep moving
+    private void finishViewportMove(){
+        fromScale = scale;
+        fromTranslateX = translateX;
+        fromTranslateY = translateY;
+    }
+
+    // Calls onNodeClickListener with the node under x, y
+    private void click(float x, float y){
+        if(onNodeClickListener == null)
+            return;
+
+        float unitsX = (x - translateX) / (scale * unit);
+        float unitsY = (y - translateY) / (scale * unit);
+        for(int i=0;i<snapshot.size;i++){
+            float dx = snapshot.xs[i] - unitsX;
+            float dy = snapshot.depths[i] * LEVEL_HEIGHT - unitsY;
+            if(dx * dx + dy * dy <= NODE_RADIUS * NODE_RADIUS){
+                onNodeClickListener.onNodeClick(keys[i], counts[i],
+                        translateX + snapshot.xs[i] * unit * scale,
+                        translateY + snapshot.depths[i] * LEVEL_HEIGHT * unit * scale);
+                return;
+            }
+        }
+    }
+
+    private float getMoveFraction(long now){
+        if(moveDuration <= 0 || now >= moveStart + moveDuration)
+            return 1;
+
+        return interpolate((float) (now - moveStart) / moveDuration);
+    }
+
+    // Accelerates and decelerates
+    private static float interpolate(float fraction){
+        return (float) (1 - Math.cos(Math.PI * fraction)) / 2;
+    }
+
+    private float getX(int index, float fraction){
+        return fromX[index] + (snapshot.xs[index] - fromX[index]) * fraction;
+    }
+
+    private float getY(int index, float fraction){
+        return fromY[index] + (snapshot.depths[index] * LEVEL_HEIGHT - fromY[index]) * fraction;
+    }
+
+}
@@ -1,29 +1,67 @@
 package com.iiitd.dsavisualizer.datastructures.trees.avl;
 
-import android.util.Pair;
-
 import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeBuildKeys;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeLayout;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeSequence;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSnapshot;
 import static com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType.*;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.List;
 
 // AVL Backend
+// Nodes are referred to by their ids in animation states, the tree has no depth limit
+// States which change the structure of the tree get a TreeLayout snapshot once the changed subtree is linked back,
+// so every relink of a child during insert and delete is followed by flush()
+// Insert and delete are iterative, the nodes above the current node are kept in path and rebalanced bottom up
 public class AVL {
 
     private AVLNode root;
-    private final int baseIndex = TreeLayout.baseIndex;
-    private final int baseLevel = TreeLayout.baseLevel;
+    private int noOfNodesCreated;               // id of the next node
     public TreeSequence treeSequence;
     private ArrayList<TreeAnimationState> treeAnimationStates;
+    private TreeAnimationState pendingState;    // structural state waiting for its snapshot
+    public int noOfRotations;                   // rotations of the last insert or delete, a double rotation is 2
+    public int totalRotations;                  // rotations since the tree was created
+    public int noOfVisits;                      // nodes visited by the last insert, delete or search
+    public int totalVisits;                     // nodes visited since the tree was created
+    private final ArrayList<AVLNode> path;      // nodes from root to the parent of the current node, also traversals
 
     public AVL() {
         root = null;
+        noOfNodesCreated = 0;
         treeSequence = new TreeSequence();
+        pendingState = null;
+        noOfRotations = 0;
+        totalRotations = 0;
+        noOfVisits = 0;
+        totalVisits = 0;
+        path = new ArrayList<>();
+    }
+
+    // Current layout of the tree
+    public TreeSnapshot getSnapshot(){
+        return TreeLayout.layout(root);
+    }
+
+    // state changes the structure of the tree, its snapshot is taken by flush()
+    private void addPendingState(TreeAnimationState treeAnimationState){
+        if(pendingState != null){
+            throw new IllegalStateException("Snapshot of the previous structural state is not taken");
+        }
+
+        treeAnimationStates.add(treeAnimationState);
+        pendingState = treeAnimationState;
+    }
+
+    // Takes the snapshot of the pending state, called once root is linked to the changed subtree
+    private void flush(){
+        if(pendingState != null){
+            pendingState.snapshot = TreeLayout.layout(root);
+            pendingState = null;
+        }
     }
 
     private int height(AVLNode avlNode) {
@@ -38,287 +76,285 @@ public class AVL {
         return (a > b) ? a : b;
     }
 
+    // Every node is counted as a page read, when the tree is compared with BPlusTree
+    private void visit() {
+        noOfVisits++;
+        totalVisits++;
+    }
+
     public void search(int key) {
         treeAnimationStates = new ArrayList<>();
-        _search(root, key, baseIndex, baseLevel);
+        noOfVisits = 0;
+        _search(root, key);
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void  _search(AVLNode avlNode, int key, int index, int level){
+    private void  _search(AVLNode avlNode, int key){
         if (avlNode == null) {
-            System.out.println("NULL Node, Not found");
             TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, AVLInfo.getNotFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(-1,-1));
             treeAnimationStates.add(treeAnimationState);
             return;
         }
+        visit();
 
         if (key < avlNode.key) {
-            System.out.println("LESS KEY = " + avlNode.key);
             TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
             treeAnimationStates.add(treeAnimationState);
-            _search(avlNode.left, key, index - level, level / 2);
+            _search(avlNode.left, key);
         }
         else if (key > avlNode.key) {
-            System.out.println("More KEY = " + avlNode.key);
             TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
             treeAnimationStates.add(treeAnimationState);
-            _search(avlNode.right, key, index + level, level / 2);
+            _search(avlNode.right, key);
         }
         else{
             TreeAnimationState treeAnimationState = new TreeAnimationState(FOUND, AVLInfo.getFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
             treeAnimationStates.add(treeAnimationState);
         }
 
     }
 
-    public ArrayList<TreeAnimationState> insert(int key) {
+    // Replaces the tree with a balanced tree of keys in O(n), unsorted keys are sorted first
+    // The middle key of every range becomes the root of its subtree, equal keys become a single node with their count
+    // Emits a single BUILD state with the snapshot of the new tree, instead of the states of n inserts
+    public ArrayList<TreeAnimationState> build(List<Integer> keys){
         treeAnimationStates = new ArrayList<>();
-        root = _insert(root, key, baseIndex, baseLevel);
+        TreeBuildKeys treeBuildKeys = TreeBuildKeys.of(keys);
+        addPendingState(new TreeAnimationState(BUILD, AVLInfo.getBuildString(keys.size(), treeBuildKeys.size)));
+        root = _build(treeBuildKeys, 0, treeBuildKeys.size - 1);
+        flush();
         treeSequence = new TreeSequence(treeAnimationStates);
         return treeAnimationStates;
     }
 
-    private AVLNode _insert(AVLNode avlNode, int key, int index, int level) {
-        if (avlNode == null) {
-            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, AVLInfo.getInsertString(key, 1));
-            treeAnimationState.add(new TreeElementAnimationData(key, 1, index));
-            treeAnimationStates.add(treeAnimationState);
-            return new AVLNode(key);
+    // Recursion depth is log(n), as both halves of a range differ in size by at most 1
+    private AVLNode _build(TreeBuildKeys treeBuildKeys, int lo, int hi){
+        if(lo > hi){
+            return null;
         }
 
-        if (key == avlNode.key){
-            avlNode.count++;
-            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, AVLInfo.getInsertString(key, avlNode.count));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            return avlNode;
-        }
+        int mid = (lo + hi) >>> 1;
+        AVLNode avlNode = new AVLNode(noOfNodesCreated++, treeBuildKeys.keys[mid]);
+        avlNode.count = treeBuildKeys.counts[mid];
+        avlNode.left = _build(treeBuildKeys, lo, mid - 1);
+        avlNode.right = _build(treeBuildKeys, mid + 1, hi);
+        avlNode.height = max(height(avlNode.left), height(avlNode.right)) + 1;
 
-        if(level == 0){
-            treeAnimationStates.clear();
-            TreeAnimationState treeAnimationState = new TreeAnimationState(NO_SPACE, AVLInfo.getNoSpaceString());
-            treeAnimationState.add(new TreeElementAnimationData(-1, -1, -1));
+        return avlNode;
+    }
+
+    public ArrayList<TreeAnimationState> insert(int key) {
+        treeAnimationStates = new ArrayList<>();
+        noOfRotations = 0;
+        noOfVisits = 0;
+        _insert(key);
+        flush();
+        treeSequence = new TreeSequence(treeAnimationStates);
+        return treeAnimationStates;
+    }
+
+    // Goes down from root keeping the path, links the new node, then goes back up the path
+    // updating heights and rotating, in the same order the recursive insert returned
+    private void _insert(int key) {
+        path.clear();
+        AVLNode avlNode = root;
+        while (avlNode != null) {
+            visit();
+
+            if (key == avlNode.key){
+                avlNode.count++;
+                TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, AVLInfo.getInsertString(key, avlNode.count));
+                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
+                treeAnimationStates.add(treeAnimationState);
+                return;
+            }
+
+            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
+            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
             treeAnimationStates.add(treeAnimationState);
-            return avlNode;
-        }
 
-        TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
-        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-        treeAnimationStates.add(treeAnimationState);
+            path.add(avlNode);
+            avlNode = key < avlNode.key ? avlNode.left : avlNode.right;
+        }
 
-        if (key < avlNode.key) {
-            avlNode.left = _insert(avlNode.left, key, index - level, level / 2);
+        AVLNode newNode = new AVLNode(noOfNodesCreated++, key);
+        TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, AVLInfo.getInsertString(key, 1));
+        treeAnimationState.add(new TreeElementAnimationData(key, 1, newNode.id));
+        addPendingState(treeAnimationState);
+        if (path.size() == 0) {
+            root = newNode;
+            return;
         }
-        else if (key > avlNode.key) {
-            avlNode.right = _insert(avlNode.right, key, index + level, level / 2);
+        if (key < path.get(path.size() - 1).key) {
+            path.get(path.size() - 1).left = newNode;
         }
+        else {
+            path.get(path.size() - 1).right = newNode;
+        }
+
+        for (int i=path.size()-1;i>=0;i--) {
+            avlNode = path.get(i);
+            flush();
 
-        avlNode.height = 1 + max(height(avlNode.left), height(avlNode.right));
+            avlNode.height = 1 + max(height(avlNode.left), height(avlNode.right));
 
-        int diff = 0;
-        diff = height(avlNode.left) - height(avlNode.right);
+            int diff = 0;
+            diff = height(avlNode.left) - height(avlNode.right);
 
-        System.out.println("diff = " + diff);
-        return rotate(avlNode, key, diff, index, level);
+            replaceChild(i, avlNode, rotate(avlNode, key, diff));
+        }
+    }
+
+    // Links newChild in place of oldChild, under path.get(level - 1), level = 0 => newChild is root
+    private void replaceChild(int level, AVLNode oldChild, AVLNode newChild) {
+        if (level == 0) {
+            root = newChild;
+            return;
+        }
+
+        AVLNode parent = path.get(level - 1);
+        if (parent.left == oldChild) {
+            parent.left = newChild;
+        }
+        else {
+            parent.right = newChild;
+        }
     }
 
     public void delete(int key){
         treeAnimationStates = new ArrayList<>();
-        root = _delete(root, key, baseIndex, baseLevel);
+        noOfRotations = 0;
+        noOfVisits = 0;
+        _delete(key);
+        flush();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private AVLNode _delete(AVLNode avlNode, int key, int index, int level){
-        AVLNode ret = null;
-        if (avlNode == null) {
-            System.out.println("NULL Node, Not found");
-            TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, AVLInfo.getNotFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(-1,-1));
-            treeAnimationStates.add(treeAnimationState);
-            return avlNode;
-        }
-
-        if (key < avlNode.key) {
-            System.out.println("LESS KEY = " + avlNode.key);
+    // Goes down from root keeping the path, a node with 2 children takes the key of its successor and
+    // the successor is deleted from the right subtree by going on down the same path
+    // Then goes back up the path updating heights and rotating, in the same order the recursive delete returned
+    private void _delete(int key){
+        path.clear();
+        AVLNode avlNode = root;
+        AVLNode ret;
+        while (true) {
+            if (avlNode == null) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, AVLInfo.getNotFoundString(key));
+                treeAnimationStates.add(treeAnimationState);
+                return;
+            }
+            visit();
 
-            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            avlNode.left = _delete(avlNode.left, key, index - level, level / 2);
-            ret = avlNode;
-        }
-        else if (key > avlNode.key) {
-            System.out.println("More KEY = " + avlNode.key);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            avlNode.right = _delete(avlNode.right, key, index + level, level / 2);
-            ret = avlNode;
-        }
-        else{
-            if (avlNode.count > 1){
+            if (key < avlNode.key) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
+                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
+                treeAnimationStates.add(treeAnimationState);
+                path.add(avlNode);
+                avlNode = avlNode.left;
+            }
+            else if (key > avlNode.key) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getSearchString(key, avlNode.key));
+                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
+                treeAnimationStates.add(treeAnimationState);
+                path.add(avlNode);
+                avlNode = avlNode.right;
+            }
+            else if (avlNode.count > 1){
                 avlNode.count--;
                 TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_DECREASE, AVLInfo.getDeleteString(key, avlNode.count));
-                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
                 treeAnimationStates.add(treeAnimationState);
-                System.out.println("Count decreased = " + avlNode.key + " : " + avlNode.count);
-                return avlNode;
+                return;
             }
-
-            System.out.println(avlNode.key +"  ---===== " + avlNode.count);
-
-            if (avlNode.left == null && avlNode.right == null){
-                System.out.println("Simple delete");
+            else if (avlNode.left == null && avlNode.right == null){
                 TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_NO_CHILD, AVLInfo.getDeleteString(key, 1));
-                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-                treeAnimationStates.add(treeAnimationState);
+                treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
+                addPendingState(treeAnimationState);
                 ret = null;
+                break;
             }
-            else if(avlNode.left == null && avlNode.right != null){
-                System.out.println("Right copy");
+            else if(avlNode.left == null){
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_1_CHILD, AVLInfo.getDeleteString(key, 1));
-                TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, AVLInfo.getRightSubtreeString());
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, AVLInfo.getRightSubtreeString());
-                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-
-                AVLNode temp = avlNode.right;
-                Queue<AVLNode> queue = new LinkedList<>();
-                Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-                System.out.println("in = " + (index+level));
-                queue.add(temp);
-                queue2.add(new Pair(index+level, index));
-
-                while(queue.size() > 0 ) {
-                    AVLNode node = queue.remove();
-                    Pair<Integer, Integer> pair = queue2.remove();
-                    int currentIndex = pair.first;
-                    int parentIndex = pair.second;
-                    System.out.println(node.key + " | " + pair);
-                    step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                    step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                    if (node.left != null) {
-                        queue.add(node.left);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                    }
-                    if (node.right != null) {
-                        queue.add(node.right);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                    }
-                }
+                TreeAnimationState step2 = new TreeAnimationState(LAYOUT, AVLInfo.getRightSubtreeString());
+                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
 
                 treeAnimationStates.add(step1);
-                treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
+                addPendingState(step2);
 
                 ret = avlNode.right;
+                break;
             }
-            else if(avlNode.left != null && avlNode.right == null){
-                System.out.println("Left copy");
+            else if(avlNode.right == null){
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_1_CHILD, AVLInfo.getDeleteString(key, 1));
-                TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, AVLInfo.getLeftSubtreeString());
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, AVLInfo.getLeftSubtreeString());
-                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-
-                AVLNode temp = avlNode.left;
-                Queue<AVLNode> queue = new LinkedList<>();
-                Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-                System.out.println("in = " + (index-level));
-                queue.add(temp);
-                queue2.add(new Pair(index-level, index));
-
-                while(queue.size() > 0 ){
-                    AVLNode node = queue.remove();
-                    Pair<Integer, Integer> pair = queue2.remove();
-                    int currentIndex = pair.first;
-                    int parentIndex = pair.second;
-                    System.out.println(node.key + " | " + pair);
-                    step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                    step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                    if(node.left != null){
-                        queue.add(node.left);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                    }
-                    if(node.right != null){
-                        queue.add(node.right);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                    }
-                }
+                TreeAnimationState step2 = new TreeAnimationState(LAYOUT, AVLInfo.getLeftSubtreeString());
+                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
 
                 treeAnimationStates.add(step1);
-                treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
+                addPendingState(step2);
 
                 ret = avlNode.left;
+                break;
             }
-            else if(avlNode.left != null && avlNode.right != null){
-                System.out.println("Right min element");
+            else{
                 AVLNode current = avlNode.right;
-                System.out.println("index == " + index);
-                int curIndex = index+level;
-                int curLevel = level;
 
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_NO_CHILD, AVLInfo.getDeleteString(key, 1));
 
-                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+                step1.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
                 treeAnimationStates.add(step1);
 
                 while (current.left != null) {
+                    visit();
                     TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getFindSuccessorString(key));
-                    treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, curIndex));
+                    treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
                     current = current.left;
-                    curLevel /= 2;
-                    curIndex = curIndex - curLevel;
                     treeAnimationStates.add(treeAnimationState);
                 }
                 TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, AVLInfo.getFoundSuccessorString(key, current.key));
-                treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, curIndex));
+                treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
                 treeAnimationStates.add(treeAnimationState);
 
                 AVLNode temp = current;
 
                 TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, AVLInfo.getMoveUpString(temp.key, avlNode.key));
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, AVLInfo.getMoveUpString(temp.key, avlNode.key));
-
-                step2.add(new TreeElementAnimationData(temp.key, temp.count, curIndex, index));
-                step3.add(new TreeElementAnimationData(temp.key, temp.count, curIndex, index));
-
+                step2.add(new TreeElementAnimationData(temp.key, temp.count, temp.id, avlNode.id));
                 treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
 
-                System.out.println("IN = " + index + " | lev = " + level);
                 avlNode.key = temp.key;
                 avlNode.count = temp.count;
                 temp.count = 1;
-                avlNode.right = _delete(avlNode.right, temp.key, index + level, level / 2);
 
-                ret = avlNode;
+                // Successor is deleted from the right subtree, it has no left child
+                key = temp.key;
+                path.add(avlNode);
+                avlNode = avlNode.right;
             }
         }
 
-        if (ret == null) {
-            return null;
+        // Node at path.size() is replaced by ret, every node of the path is then rebalanced bottom up
+        if (ret != null) {
+            ret.height = max(height(ret.left), height(ret.right)) + 1;
+            ret = rotateDel(ret, height(ret.left) - height(ret.right));
         }
+        replaceChild(path.size(), avlNode, ret);
+
+        for (int i=path.size()-1;i>=0;i--) {
+            avlNode = path.get(i);
+            flush();
 
-        ret.height = max(height(ret.left), height(ret.right)) + 1;
+            avlNode.height = max(height(avlNode.left), height(avlNode.right)) + 1;
 
-        int diff;
-        diff = height(ret.left) - height(ret.right);
+            int diff;
+            diff = height(avlNode.left) - height(avlNode.right);
 
-        return rotateDel(ret, diff, index, level);
+            replaceChild(i, avlNode, rotateDel(avlNode, diff));
+        }
     }
 
-    private AVLNode rotateDel(AVLNode avlNode, int diff, int index, int level) {
-        System.out.println("in = " + index + " | lev = " + level);
+    private AVLNode rotateDel(AVLNode avlNode, int diff) {
 
         if(diff == 2 || diff == -2) {
             TreeAnimationState treeAnimationState = new TreeAnimationState(NULL, "BF = " + diff + " of " + avlNode.key);
@@ -327,47 +363,38 @@ public class AVL {
             // Node deleted from Right Subtree, diff = +2
             if (diff == 2) {
                 int bf = height(avlNode.left.left) - height(avlNode.left.right);
-                System.out.println("BF ===================== " + bf);
                 if (bf == 1) {
-                    System.out.println("Left Left");
-                    return rightRotate(avlNode, index, level);
+                    return rightRotate(avlNode);
                 } else if (bf == -1) {
-                    System.out.println("Left Right");
-                    avlNode.left = leftRotate(avlNode.left, index - level, level / 2);
-                    return rightRotate(avlNode, index, level);
+                    avlNode.left = leftRotate(avlNode.left);
+                    flush();
+                    return rightRotate(avlNode);
                 } else if (bf == 0) {
-                    System.out.println("Left Left");
-                    return rightRotate(avlNode, index, level);
+                    return rightRotate(avlNode);
                 }
             }
 
             // Node deleted from Left Subtree, diff = -2
             if (diff == -2) {
                 int bf = height(avlNode.right.left) - height(avlNode.right.right);
-                System.out.println("BF ===================== " + bf);
                 if (bf == -1) {
-                    System.out.println("Right Right");
-                    return leftRotate(avlNode, index, level);
+                    return leftRotate(avlNode);
                 } else if (bf == 1) {
-                    System.out.println("Right Left");
-                    avlNode.right = rightRotate(avlNode.right, index + level, level / 2);
-                    return leftRotate(avlNode, index, level);
+                    avlNode.right = rightRotate(avlNode.right);
+                    flush();
+                    return leftRotate(avlNode);
                 } else if (bf == 0) {
-                    System.out.println("Right Right");
-                    return leftRotate(avlNode, index, level);
+                    return leftRotate(avlNode);
                 }
             }
         }
 
-        System.out.println("no rotation needed :p");
         return avlNode;
     }
 
-    private AVLNode rotate(AVLNode avlNode, int key, int diff, int index, int level) {
-        System.out.println("in = " + index + " | lev = " + level);
+    private AVLNode rotate(AVLNode avlNode, int key, int diff) {
 
         if(diff >= -1 && diff <= 1){
-            System.out.println("no rotation needed :p");
             return avlNode;
         }
 
@@ -376,181 +403,41 @@ public class AVL {
 
         //LL
         if (diff > 1 && key < avlNode.left.key) {
-            System.out.println("Left Left");
-            return rightRotate(avlNode, index, level);
+            return rightRotate(avlNode);
         }
 
         // RR
         if (diff < -1 && key > avlNode.right.key) {
-            System.out.println("Right Right");
-            return leftRotate(avlNode, index, level);
+            return leftRotate(avlNode);
         }
 
         // LR
         if (diff > 1 && key > avlNode.left.key) {
-            System.out.println("Left Right");
-            avlNode.left = leftRotate(avlNode.left, index - level, level/2);
-            return rightRotate(avlNode, index, level);
+            avlNode.left = leftRotate(avlNode.left);
+            flush();
+            return rightRotate(avlNode);
         }
 
         // RL
         if (diff < -1 && key < avlNode.right.key) {
-            System.out.println("Right Left");
-            avlNode.right = rightRotate(avlNode.right, index + level, level/2);
-            return leftRotate(avlNode, index, level);
+            avlNode.right = rightRotate(avlNode.right);
+            flush();
+            return leftRotate(avlNode);
         }
 
-        System.out.println("no rotation needed :p");
         return avlNode;
     }
 
-    private AVLNode rightRotate(AVLNode avlNode, int index, int level) {
+    private AVLNode rightRotate(AVLNode avlNode) {
         AVLNode left = avlNode.left;
         AVLNode temp = left.right;
 
-        System.out.println("rotation needed at index = " + index + " | level = " + level);
-        // l = left
-        // a = node where rotation needed
-        // ls = left subtree of "l"
-        // rs = right subtree of "a"
-        // ts = right subtree of "l"
-
-        int index_a = index;
-        int index_l = TreeLayout.childs[index_a].first;
-        int index_rs = TreeLayout.childs[index_a].second;
-        int index_ts = TreeLayout.childs[index_l].second;
-
-        int new_index_a = TreeLayout.childs[index_a].second;
-        int new_index_l = TreeLayout.parents[index_l];
-
         TreeAnimationState treeAnimationState = new TreeAnimationState(ROTATION, AVLInfo.getRightRotateString(avlNode.key));
-        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
         treeAnimationStates.add(treeAnimationState);
 
-        System.out.println("a  | " + index_a + " -> " + new_index_a);
-        System.out.println("l  | " + index_l + " -> " + new_index_l);
-
-        TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, AVLInfo.getRightRotateString(avlNode.key));
-        TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, AVLInfo.getRightRotateString(avlNode.key));
-
-        // a
-        step2.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index_a, new_index_a));
-        step3.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index_a, new_index_a));
-
-        // l
-        step2.add(new TreeElementAnimationData(left.key, left.count, index_l, new_index_l));
-        step3.add(new TreeElementAnimationData(left.key, left.count, index_l, new_index_l));
-
-        // ls
-        if(left.left != null) {
-            int level1 = level / (2);
-            int index1 = index_l;
-
-            AVLNode temp1 = left.left;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index1-level1));
-            queue.add(temp1);
-            queue2.add(new Pair(index1-level1, index1));
-
-            while(queue.size() > 0 ){
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = pair.second;
-                System.out.println(node.key + " | " + pair);
-                step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                if(node.left != null){
-                    queue.add(node.left);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                }
-                if(node.right != null){
-                    queue.add(node.right);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                }
-            }
-
-        }
-
-        // rs
-        if(avlNode.right != null) {
-            int level2 = level/2;
-            int index2 = index_rs;
-
-            AVLNode temp2 = avlNode.right;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index2+level2));
-            queue.add(temp2);
-            queue2.add(new Pair(index2+level2, index2));
-
-            while(queue.size() > 0 ) {
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = pair.second;
-                System.out.println(node);
-                System.out.println(pair);
-                System.out.println(node.key + " | " + pair);
-                step2.add(new TreeElementAnimationData(node.key, node.count, parentIndex, currentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, parentIndex, currentIndex));
-
-                if (node.left != null) {
-                    queue.add(node.left);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                }
-                if (node.right != null) {
-                    queue.add(node.right);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                }
-            }
-
-        }
-
-        // ts
-        if(temp != null) {
-            int level3 = level/(2*2);
-            int index3 = index_ts;
-
-            int add = index_ts == 3 ? 2 : index_ts == 6 ? 4 : -1;
-            System.out.println("add   " + add);
-            AVLNode temp3 = temp;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index3));
-            queue.add(temp3);
-            queue2.add(new Pair<>(index3, level3));
-
-            while(queue.size() > 0 ) {
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = currentIndex + add;
-                step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                if (node.left != null) {
-                    queue.add(node.left);
-                    queue2.add(new Pair<>(currentIndex - level3, level3/2));
-
-                }
-                if (node.right != null) {
-                    queue.add(node.right);
-                    queue2.add(new Pair<>(currentIndex + level3, level3/2));
-                }
-            }
-
-        }
-
-        treeAnimationStates.add(step2);
-        treeAnimationStates.add(step3);
+        noOfRotations++;
+        totalRotations++;
 
         // Perform rotation
         left.right = avlNode;
@@ -560,156 +447,22 @@ public class AVL {
         avlNode.height = max(height(avlNode.left), height(avlNode.right)) + 1;
         left.height = max(height(left.left), height(left.right)) + 1;
 
+        // Nodes move once left is linked in place of avlNode
+        addPendingState(new TreeAnimationState(LAYOUT, AVLInfo.getRightRotateString(avlNode.key)));
+
         return left;
     }
 
-    private AVLNode leftRotate(AVLNode avlNode, int index, int level) {
+    private AVLNode leftRotate(AVLNode avlNode) {
         AVLNode right = avlNode.right;
         AVLNode temp = right.left;
 
-        System.out.println("rotation needed at index = " + index + " | level = " + level);
-        // r = right
-        // a = node where rotation needed
-        // ls = left subtree of "a"
-        // rs = right subtree of "r"
-        // ts = right subtree of "r"
-
-        int index_a = index;
-        int index_r = TreeLayout.childs[index_a].second;
-        int index_ls = TreeLayout.childs[index_a].first;
-        int index_ts = TreeLayout.childs[index_r].first;
-
-        int new_index_a = TreeLayout.childs[index_a].first;
-        int new_index_r = TreeLayout.parents[index_r];
-
         TreeAnimationState treeAnimationState = new TreeAnimationState(ROTATION, AVLInfo.getLeftRotateString(avlNode.key));
-        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
+        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
         treeAnimationStates.add(treeAnimationState);
 
-        System.out.println("a  | " + index_a + " -> " + new_index_a);
-        System.out.println("l  | " + index_r + " -> " + new_index_r);
-
-        TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, AVLInfo.getLeftRotateString(avlNode.key));
-        TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, AVLInfo.getLeftRotateString(avlNode.key));
-
-        // a
-        step2.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index_a, new_index_a));
-        step3.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index_a, new_index_a));
-
-        // r
-        step2.add(new TreeElementAnimationData(right.key, right.count, index_r, new_index_r));
-        step3.add(new TreeElementAnimationData(right.key, right.count, index_r, new_index_r));
-
-        // ls
-        if(avlNode.left != null) {
-            int level2 = level/2;
-            int index2 = index_ls;
-
-            AVLNode temp2 = avlNode.left;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index2-level2));
-            queue.add(temp2);
-            queue2.add(new Pair(index2-level2, index2));
-
-            while(queue.size() > 0 ) {
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = pair.second;
-                System.out.println(node);
-                System.out.println(pair);
-                System.out.println(node.key + " | " + pair);
-                step2.add(new TreeElementAnimationData(node.key, node.count, parentIndex, currentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, parentIndex, currentIndex));
-
-                if (node.left != null) {
-                    queue.add(node.left);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                }
-                if (node.right != null) {
-                    queue.add(node.right);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                }
-            }
-
-        }
-
-        // rs
-        if(right.right != null) {
-            int level1 = level / (2);
-            int index1 = index_r;
-
-            AVLNode temp1 = right.right;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index1+level1));
-            queue.add(temp1);
-            queue2.add(new Pair(index1+level1, index1));
-
-            while(queue.size() > 0 ){
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = pair.second;
-                System.out.println(node.key + " | " + pair);
-                step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                if(node.left != null){
-                    queue.add(node.left);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                }
-                if(node.right != null){
-                    queue.add(node.right);
-                    queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                }
-            }
-
-        }
-
-        // ts
-        if(temp != null) {
-            int level3 = level/(2*2);
-            int index3 = index_ts;
-
-            int add = index_ts == 13 ? 2 : index_ts == 10 ? 4 : -1;
-            System.out.println("add   " + add);
-            AVLNode temp3 = temp;
-            Queue<AVLNode> queue = new LinkedList<>();
-            Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-            System.out.println("in = " + (index3));
-            queue.add(temp3);
-            queue2.add(new Pair<>(index3, level3));
-
-            while(queue.size() > 0 ) {
-                AVLNode node = queue.remove();
-                Pair<Integer, Integer> pair = queue2.remove();
-                int currentIndex = pair.first;
-                int parentIndex = currentIndex - add;
-                step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                if (node.left != null) {
-                    queue.add(node.left);
-                    queue2.add(new Pair<>(currentIndex - level3, level3/2));
-
-                }
-                if (node.right != null) {
-                    queue.add(node.right);
-                    queue2.add(new Pair<>(currentIndex + level3, level3/2));
-                }
-            }
-
-        }
-
-        treeAnimationStates.add(step2);
-        treeAnimationStates.add(step3);
+        noOfRotations++;
+        totalRotations++;
 
         // Perform rotation
         right.left = avlNode;
@@ -719,61 +472,92 @@ public class AVL {
         avlNode.height = max(height(avlNode.left), height(avlNode.right)) + 1;
         right.height = max(height(right.left), height(right.right)) + 1;
 
+        // Nodes move once right is linked in place of avlNode
+        addPendingState(new TreeAnimationState(LAYOUT, AVLInfo.getLeftRotateString(avlNode.key)));
+
         return right;
     }
 
     public void inorder(){
         treeAnimationStates = new ArrayList<>();
-        _inorder(root, baseIndex, baseLevel);
+        _inorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _inorder(AVLNode avlNode, int index, int level){
-        System.out.println("inorder");
-        if (avlNode != null){
-            _inorder(avlNode.left, index - level, level / 2);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, AVLInfo.getOrderTraversalString("In"));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(avlNode.key + "(" + avlNode.count + ") ");
-            _inorder(avlNode.right, index + level, level / 2);
+    // Left subtrees are pushed on path until their leftmost node, which is visited next
+    private void _inorder(){
+        path.clear();
+        AVLNode avlNode = root;
+        while (avlNode != null || path.size() > 0){
+            while (avlNode != null){
+                path.add(avlNode);
+                avlNode = avlNode.left;
+            }
+
+            avlNode = path.remove(path.size() - 1);
+            addOrderTraversalState(avlNode, "In");
+            avlNode = avlNode.right;
         }
     }
 
     public void preorder(){
         treeAnimationStates = new ArrayList<>();
-        _preorder(root, baseIndex, baseLevel);
+        _preorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _preorder(AVLNode avlNode, int index, int level){
-        System.out.println("preorder");
-        if (avlNode != null){
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, AVLInfo.getOrderTraversalString("Pre"));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(avlNode.key + "(" + avlNode.count + ") ");
-            _preorder(avlNode.left, index - level, level / 2);
-            _preorder(avlNode.right, index + level, level / 2);
+    // Right child is pushed before the left child, so the left subtree is visited first
+    private void _preorder(){
+        path.clear();
+        if(root != null){
+            path.add(root);
+        }
+
+        while (path.size() > 0){
+            AVLNode avlNode = path.remove(path.size() - 1);
+            addOrderTraversalState(avlNode, "Pre");
+            if(avlNode.right != null){
+                path.add(avlNode.right);
+            }
+            if(avlNode.left != null){
+                path.add(avlNode.left);
+            }
         }
     }
 
     public void postorder(){
         treeAnimationStates = new ArrayList<>();
-        _postorder(root, baseIndex, baseLevel);
+        _postorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _postorder(AVLNode avlNode, int index, int level){
-        System.out.println("postorder");
-        if (avlNode != null){
-            _postorder(avlNode.left, index - level, level / 2);
-            _postorder(avlNode.right, index + level, level / 2);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, AVLInfo.getOrderTraversalString("Post"));
-            treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(avlNode.key + "(" + avlNode.count + ") ");
+    // A node on path is visited once its right subtree is done, last is the previously visited node
+    private void _postorder(){
+        path.clear();
+        AVLNode avlNode = root;
+        AVLNode last = null;
+        while (avlNode != null || path.size() > 0){
+            while (avlNode != null){
+                path.add(avlNode);
+                avlNode = avlNode.left;
+            }
+
+            AVLNode top = path.get(path.size() - 1);
+            if(top.right != null && top.right != last){
+                avlNode = top.right;
+            }
+            else{
+                path.remove(path.size() - 1);
+                addOrderTraversalState(top, "Post");
+                last = top;
+            }
         }
     }
 
-}
\ No newline at end of file
+    private void addOrderTraversalState(AVLNode avlNode, String order){
+        TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, AVLInfo.getOrderTraversalString(order));
+        treeAnimationState.add(new TreeElementAnimationData(avlNode.key, avlNode.count, avlNode.id));
+        treeAnimationStates.add(treeAnimationState);
+    }
+
+}
@@ -1,14 +1,11 @@
 package com.iiitd.dsavisualizer.datastructures.trees.avl;
 
 import android.app.Dialog;
-import android.content.Context;
 import android.content.DialogInterface;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.os.Bundle;
-import android.util.Pair;
 import android.view.Gravity;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.Window;
 import android.view.WindowManager;
@@ -17,8 +14,6 @@ import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.SeekBar;
-import android.widget.TableLayout;
-import android.widget.TableRow;
 import android.widget.TextView;
 import android.widget.Toast;
 
@@ -27,26 +22,20 @@ import androidx.constraintlayout.widget.ConstraintLayout;
 import androidx.core.view.GravityCompat;
 import androidx.drawerlayout.widget.DrawerLayout;
 
-import com.github.florent37.viewanimator.AnimationListener;
-import com.github.florent37.viewanimator.ViewAnimator;
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.datastructures.trees.NodeState;
-import com.iiitd.dsavisualizer.datastructures.trees.NodeType;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayout;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutData;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutElement;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeView;
+import com.iiitd.dsavisualizer.datastructures.trees.bplustree.BPlusTreeActivity;
 import com.iiitd.dsavisualizer.datastructures.trees.bst.BSTActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.rbt.RBTActivity;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
 
 // AVL FrontEnd
 public class AVLActivity extends BaseActivity {
@@ -79,17 +68,13 @@ public class AVLActivity extends BaseActivity {
     ConstraintLayout cl_home;
     ConstraintLayout cl_bst;
     ConstraintLayout cl_avl;
+    ConstraintLayout cl_rbt;
+    ConstraintLayout cl_bplus;
 
-    TableLayout tableLayout;
-    ArrayList<TableRow> tableRows = new ArrayList<>();
-    ArrayList<ArrayList<Pair<Integer, Integer>>> tableRowsCoordinates = new ArrayList<>();
-
-    ArrayList<List<TreeLayoutElement>> treeLayout = TreeLayout.treeLayout;
+    TreeView treeView;
     AVL avl;
-    TreeLayoutData treeLayoutData;
 
     Random random = new Random();
-    Timer timer = null;
     boolean isAnimating = false;
     int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
     int animDuration = AppSettings.DEFAULT_ANIM_DURATION;
@@ -135,6 +120,8 @@ public class AVLActivity extends BaseActivity {
         cl_home = v_menu_left.findViewById(R.id.cl_home);
         cl_bst = v_menu_left.findViewById(R.id.cl_bst);
         cl_avl = v_menu_left.findViewById(R.id.cl_avl);
+        cl_rbt = v_menu_left.findViewById(R.id.cl_rbt);
+        cl_bplus = v_menu_left.findViewById(R.id.cl_bplus);
 
         initOnBoarding();
         initViews();
@@ -145,9 +132,10 @@ public class AVLActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                animStepDuration = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                animStepDuration = PlaybackEngine.getStepDuration(seekBar.getProgress());
                 animDuration = animStepDuration/2;
+                playbackEngine.setStepDuration(animStepDuration);
             }
 
             @Override
@@ -175,10 +163,7 @@ public class AVLActivity extends BaseActivity {
                 ImageButton btn_close = view.findViewById(R.id.btn_close);
 
                 if(avl != null) {
-                    if(timer != null){
-                        timer.cancel();
-                        timer = null;
-                    }
+                    playbackEngine.stop();
                 }
 
                 tv_name.setText(AVLStats.name);
@@ -261,7 +246,7 @@ public class AVLActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("INSERT", data);
+                startPlayback("INSERT", data);
             }
         });
 
@@ -278,7 +263,7 @@ public class AVLActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("SEARCH", data);
+                startPlayback("SEARCH", data);
             }
         });
 
@@ -295,28 +280,28 @@ public class AVLActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("DELETE", data);
+                startPlayback("DELETE", data);
             }
         });
 
         btn_inorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("INORDER", -1);
+                startPlayback("INORDER", -1);
             }
         });
 
         btn_preorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("PREORDER", -1);
+                startPlayback("PREORDER", -1);
             }
         });
 
         btn_postorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("POSTORDER", -1);
+                startPlayback("POSTORDER", -1);
             }
         });
 
@@ -352,83 +337,23 @@ public class AVLActivity extends BaseActivity {
 
     private void createExampleTree(List<Integer> tree) {
         closeDrawer(2);
-        // Clear the Tree
-        clearTree();
-
-        ArrayList<ArrayList<TreeAnimationState>> list = new ArrayList<>();
-
-        for(Integer data : tree){
-            list.add(avl.insert(data));
-        }
-
-        for(ArrayList<TreeAnimationState> insert : list){
-            for(TreeAnimationState treeAnimationState : insert) {
-                for(TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                    if (treeElementAnimationData.elementIndex != -1) {
-                        int first = treeElementAnimationData.row;
-                        int second = treeElementAnimationData.col;
-                        View view = tableRows.get(first).getChildAt(second);
-                        view.setVisibility(View.VISIBLE);
-
-                        TextView value = view.findViewById(R.id.tv_elementvalue);
-                        TextView count = view.findViewById(R.id.tv_elementcount);
-
-                        int data = treeElementAnimationData.data;
-                        int count1 = treeElementAnimationData.count;
-                        TreeLayoutElement layoutElement = treeLayout.get(first).get(second);
-
-                        value.setText(String.valueOf(data));
-                        count.setText(String.valueOf(count1));
-
-                        if (layoutElement.state == NodeState.ELEMENT_HIDDEN) {
-                            value.setText(String.valueOf(data));
-                            count.setText(String.valueOf(count1));
-                            tableRows.get(first).getChildAt(second).setVisibility(View.VISIBLE);
-                            treeLayout.get(first).get(second).state = NodeState.ELEMENT_SHOWN;
-                            ViewAnimator.animate(view).bounceIn().duration(animDuration).start();
-                        }
-                        else if (layoutElement.state == NodeState.ELEMENT_SHOWN) {
-                            System.out.println("Shown");
-                            ViewAnimator.animate(view).flash().duration(animDuration).start();
-                        }
 
-                        if (first > 0) {
-                            View view1 = tableRows.get(first - 1).getChildAt(second);
-                            view1.setVisibility(View.VISIBLE);
-                            TreeLayoutElement layoutElement1 = treeLayout.get(first - 1).get(second);
-                            if (layoutElement1.state == NodeState.ARROW_HIDDEN) {
-                                tableRows.get(first - 1).getChildAt(second).setVisibility(View.VISIBLE);
-                                treeLayout.get(first - 1).get(second).state = NodeState.ARROW_SHOWN;
-                                ViewAnimator.animate(view1).bounceIn().duration(animDuration).start();
-                            }
-                            else if (layoutElement1.state == NodeState.ARROW_SHOWN) {
-                                System.out.println("Shown");
-                                ViewAnimator.animate(view1).flash().duration(animDuration).start();
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        // The example replaces the current tree, its single BUILD state holds the final tree
+        TreeAnimationState treeAnimationState = avl.build(tree).get(0);
+        UtilUI.setText(tv_info, treeAnimationState.info);
+        treeView.setSnapshot(treeAnimationState.snapshot, animDuration);
     }
 
     private void clearTree() {
         avl = new AVL();
-        treeLayout = TreeLayout.treeLayout;
-        for(TableRow tableRow : tableRows){
-            for(int i=0;i<tableRow.getChildCount();i++){
-                tableRow.getChildAt(i).setVisibility(View.INVISIBLE);
-            }
-        }
-
-        treeLayoutData = new TreeLayoutData(context, treeLayout, tableRows);
+        treeView.setSnapshot(avl.getSnapshot(), 0);
     }
 
-    private void startTimer(String operation, int data){
+    private void startPlayback(String operation, int data){
         closeDrawer(0);
         disableUI();
 
-        if(timer == null) {
+        if(!playbackEngine.isRunning()) {
             switch (operation) {
                 case "INSERT":
                     avl.insert(data);
@@ -450,14 +375,21 @@ public class AVLActivity extends BaseActivity {
                     break;
             }
 
+            // task() stops the playbackEngine after the last step
             final int animDurationTemp = this.animDuration;
-            timer = new Timer();
-            timer.schedule(new TimerTask() {
+            playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
                 @Override
-                public void run() {
-                        task(animDurationTemp);
+                public boolean onStep() {
+                    task(animDurationTemp);
+                    return true;
                 }
-            }, animStepDuration, animStepDuration);
+
+                @Override
+                public void onFrame() {}
+
+                @Override
+                public void onStop() {}
+            });
 
         }
     }
@@ -465,7 +397,6 @@ public class AVLActivity extends BaseActivity {
     private void task(final int animDurationTemp) {
         if (avl != null) {
             final int curSeqNo = avl.treeSequence.curSeqNo;
-            System.out.println("SEQ = "  + curSeqNo);
             avl.treeSequence.forward();
 
             runOnUiThread(new Runnable() {
@@ -473,254 +404,72 @@ public class AVLActivity extends BaseActivity {
                 public void run() {
                     if(curSeqNo < avl.treeSequence.size) {
                         TreeAnimationState treeAnimationState = avl.treeSequence.treeAnimationStates.get(curSeqNo);
-                        System.out.println(treeAnimationState);
                         UtilUI.setText(tv_info, avl.treeSequence.treeAnimationStates.get(curSeqNo).info);
 
+                        // Nodes move to their places in the new layout, removed nodes fade out
+                        if(treeAnimationState.snapshot != null){
+                            treeView.setSnapshot(treeAnimationState.snapshot, animDurationTemp);
+                        }
+
                         switch (treeAnimationState.state) {
-                            case NO_SPACE: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Toast.makeText(context, "No space in tree :(", Toast.LENGTH_SHORT).show();
-                                    System.out.println("No space in tree :(");
-                                }
-                                break;
-                            }
                             case NOT_FOUND: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
-                                    System.out.println("Element not found :(");
-                                }
+                                Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
                                 break;
                             }
-                            case FOUND: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        ViewAnimator.animate(currentView1).duration(animDurationTemp).flash().start();
-                                    }
-                                }
-                                break;
-                            }
-                            case ORDER_TRAVERSAL: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
+                            case FOUND:
+                            case ORDER_TRAVERSAL:
+                            case DELETE_1_CHILD:
+                            case DELETE_NO_CHILD: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
                                 }
                                 break;
                             }
                             case SEARCH: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).swing().start();
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        ViewAnimator.animate(currentView1).duration(animDurationTemp).swing().start();
-                                    }
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_SEARCH, animDurationTemp);
                                 }
                                 break;
                             }
                             case INSERT: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        TreeLayoutElement layoutElement = treeLayout.get(curPair.first - 1).get(curPair.second);
-                                        if (layoutElement.state == NodeState.ARROW_HIDDEN) {
-                                            layoutElement.state = NodeState.ARROW_SHOWN;
-                                            ViewAnimator.animate(currentView1).duration(animDurationTemp).bounceIn().start();
-                                        } else if (layoutElement.state == NodeState.ARROW_SHOWN) {
-                                            ViewAnimator.animate(currentView1).duration(animDurationTemp).bounceIn().start();
-                                        }
-                                    }
-
-                                    treeLayoutData.showElement(treeElementAnimationData.elementIndex);
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).bounceIn().start();
-                                }
-                                break;
-                            }
-                            case DELETE_1_CHILD: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    System.out.println("DEL");
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start()
-                                            .onStop(new AnimationListener.Stop() {
-                                                @Override
-                                                public void onStop() {
-                                                    treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                                }
-                                            });
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_BOUNCE, animDurationTemp);
                                 }
                                 break;
                             }
                             case DELETE_DECREASE: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
-                                }
-                                break;
-                            }
-                            case DELETE_NO_CHILD: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start().onStop(new AnimationListener.Stop() {
-                                        @Override
-                                        public void onStop() {
-                                            treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                        }
-                                    });
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
                                 }
                                 break;
                             }
                             case COPY_AND_MOVE: {
-                                ArrayList<Integer> visibleViews = new ArrayList<>();
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    visibleViews.add(treeElementAnimationData.newElementIndex);
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.moveLabel(treeElementAnimationData.id, treeElementAnimationData.newId,
+                                            treeElementAnimationData.data, treeElementAnimationData.count, animDurationTemp);
                                 }
-
-                                System.out.println(visibleViews);
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    System.out.println("Copy move");
-                                    System.out.println(treeElementAnimationData);
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    Pair<Integer, Integer> nextPair = TreeLayout.map.get(treeElementAnimationData.newElementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    final View nextView = tableRows.get(nextPair.first).getChildAt(nextPair.second);
-                                    TreeLayoutElement nextElement = treeLayout.get(nextPair.first).get(nextPair.second);
-
-                                treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-
-                                    TextView value = nextView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = nextView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    nextView.setVisibility(View.VISIBLE);
-                                    nextElement.state = NodeState.ELEMENT_SHOWN;
-
-                                    float nextX = tableRowsCoordinates.get(nextPair.first).get(nextPair.second).first;
-                                    float nextY = tableRowsCoordinates.get(nextPair.first).get(nextPair.second).second;
-
-                                    float curX = tableRowsCoordinates.get(curPair.first).get(curPair.second).first;
-                                    float curY = tableRowsCoordinates.get(curPair.first).get(curPair.second).second;
-
-                                    float X = curX - nextX;
-                                    float Y = curY - nextY;
-
-                                    nextView.animate().setDuration(0).translationX(X).start();
-                                    nextView.animate().setDuration(0).translationY(Y).start();
-                                }
-
-                                for (Integer i : visibleViews) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(i);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    currentView.setVisibility(View.VISIBLE);
-                                }
-
                                 break;
                             }
-                            case MOVE_BACK: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    System.out.println("move back");
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    Pair<Integer, Integer> nextPair = TreeLayout.map.get(treeElementAnimationData.newElementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    final View nextView = tableRows.get(nextPair.first).getChildAt(nextPair.second);
-                                    TreeLayoutElement curElement = treeLayout.get(curPair.first).get(curPair.second);
-                                    TreeLayoutElement nextElement = treeLayout.get(nextPair.first).get(nextPair.second);
-                                    treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                    currentView.setVisibility(View.INVISIBLE);
-                                    curElement.state = NodeState.ELEMENT_HIDDEN;
-
-                                    TextView value = nextView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = nextView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-                                    nextView.setVisibility(View.VISIBLE);
-                                    nextElement.state = NodeState.ELEMENT_SHOWN;
-
-                                    ViewAnimator.animate(nextView)
-                                            .duration(animDurationTemp)
-                                            .translationX(0)
-                                            .translationY(0)
-                                            .start()
-                                            .onStop(new AnimationListener.Stop() {
-                                                @Override
-                                                public void onStop() {
-                                                    treeLayoutData.showElement(treeElementAnimationData.newElementIndex);
-                                                }
-                                            });
-                                }
+                            case LAYOUT:
+                            case BUILD:
+                                // Only the new layout, already set from the snapshot
                                 break;
-                            }
                             case ROTATION: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    View viewById = currentView.findViewById(R.id.fl_main);
-
-                                    ViewAnimator.animate(viewById).duration(animDurationTemp).flash().start();
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
                                 }
                                 break;
                             }
-                            case NULL: {
-                                System.out.println("Null Case");
+                            case NULL:
                                 break;
-                            }
                             default:
-                                System.out.println("DEFAULT SWITCH IN TASK -__-");
                                 Toast.makeText(context, "DEFAULT SWITCH IN TASK -__-", Toast.LENGTH_SHORT).show();
                         }
                     }
                     else{
                         UtilUI.setText(tv_info, "Done");
-                        System.out.println("Canceled");
                         runOnUiThread(new Runnable() {
                             @Override
                             public void run() {
@@ -729,8 +478,7 @@ public class AVLActivity extends BaseActivity {
                             }
                         });
 
-                        timer.cancel();
-                        timer = null;
+                        playbackEngine.stop();
                     }
                 }
             });
@@ -739,31 +487,6 @@ public class AVLActivity extends BaseActivity {
 
     }
 
-    // Not used, Resets All Tree Views to Default Positions
-    private void reset(){
-        int row = 0;
-        for(TableRow tableRow : tableRows){
-            int old = 0;
-            for(int i=0;i<tableRow.getChildCount();i++){
-                int weight = treeLayout.get(row).get(i).weight;
-                float v = ((float) tableRow.getWidth() / 15) * old;
-                tableRow.getChildAt(i).setX(v);
-                tableRow.getChildAt(i).setY(0);
-                NodeState state = treeLayout.get(row).get(i).state;
-                if(state == NodeState.ELEMENT_SHOWN){
-                    tableRow.getChildAt(i).setVisibility(View.VISIBLE);
-                }
-                else{
-                    tableRow.getChildAt(i).setVisibility(View.INVISIBLE);
-                }
-
-                old += weight;
-            }
-            row++;
-        }
-
-    }
-
     @Override
     protected void initPseudoCode() {}
 
@@ -771,106 +494,47 @@ public class AVLActivity extends BaseActivity {
     protected void initViews() {
         avl = new AVL();
 
-        tableLayout = new TableLayout(context);
-        tableLayout.setClipChildren(false);
-        tableLayout.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
-        ll_anim.addView(tableLayout);
-
-        tableLayout.post(new Runnable() {
+        treeView = new TreeView(context);
+        treeView.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
+        treeView.setOnNodeClickListener(new TreeView.OnNodeClickListener() {
             @Override
-            public void run() {
-                final int height = tableLayout.getHeight() / TreeLayout.treeLayout.size();
-
-                final LayoutInflater layoutInflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-
-                int row = 0;
-                int col = 0;
-                for(List<TreeLayoutElement> treeLayout : treeLayout){
-                    final TableRow tableRow = new TableRow(context);
-                    col = 0;
-                    for(final TreeLayoutElement layoutElement : treeLayout){
-                        final View treeNodeView = UtilUI.getTreeNodeView(context, layoutInflater, layoutElement, height, row, col);
-                        final int finalRow = row;
-                        treeNodeView.setOnClickListener(new View.OnClickListener() {
-                            @Override
-                            public void onClick(View v) {
-                                System.out.println("Clicked");
-                                if(layoutElement.type == NodeType.ELEMENT) {
-
-                                    System.out.println(v.getX() + " | " + v.getY());
-                                    View myView = layoutInflater.inflate(R.layout.layout_node_popup, null);
-                                    TextView value = myView.findViewById(R.id.tv_node_value);
-                                    TextView count = myView.findViewById(R.id.tv_node_count);
-                                    TextView name = myView.findViewById(R.id.tv_node_name);
-
-                                    TextView valueR = treeNodeView.findViewById(R.id.tv_elementvalue);
-                                    TextView countR = treeNodeView.findViewById(R.id.tv_elementcount);
-
-                                    name.setText("AVL Node");
-                                    value.setText(valueR.getText().toString().trim());
-                                    count.setText(countR.getText().toString().trim());
-
-                                    final Dialog dialog = new Dialog(context);
-
-                                    ImageButton btn_bst_close = myView.findViewById(R.id.btn_bst_close);
-
-                                    btn_bst_close.setOnClickListener(new View.OnClickListener() {
-                                        @Override
-                                        public void onClick(View v) {
-                                            dialog.dismiss();
-                                        }
-                                    });
-
-                                    // Setting dialogView
-                                    Window window = dialog.getWindow();
-                                    window.setGravity(Gravity.TOP | Gravity.LEFT);
-                                    WindowManager.LayoutParams wmlp = dialog.getWindow().getAttributes();
-                                    wmlp.x = (int) v.getX();
-                                    wmlp.y = height * finalRow;
-                                    window.setAttributes(wmlp);
-                                    dialog.setContentView(myView);
-                                    dialog.show();
-                                }
-                            }
-                        });
+            public void onNodeClick(int key, int count, float x, float y) {
+                View myView = getLayoutInflater().inflate(R.layout.layout_node_popup, null);
+                TextView value = myView.findViewById(R.id.tv_node_value);
+                TextView tv_count = myView.findViewById(R.id.tv_node_count);
+                TextView name = myView.findViewById(R.id.tv_node_name);
 
-                        tableRow.addView(treeNodeView);
-                        col++;
-                    }
+                name.setText("AVL Node");
+                value.setText(String.valueOf(key));
+                tv_count.setText(String.valueOf(count));
 
-                    tableRows.add(tableRow);
-                    tableLayout.addView(tableRow);
-                    row++;
-                }
+                final Dialog dialog = new Dialog(context);
+
+                ImageButton btn_bst_close = myView.findViewById(R.id.btn_bst_close);
 
-                tableLayout.postDelayed(new Runnable() {
+                btn_bst_close.setOnClickListener(new View.OnClickListener() {
                     @Override
-                    public void run() {
-                        int rowF = 0;
-                        for(TableRow tableRow : tableRows){
-                            System.out.println(tableRow);
-                            final int finalRow = rowF;
-                            ArrayList<Pair<Integer, Integer>> tableRowCoordinate = new ArrayList<>();
-                            for(int i=0;i<tableRow.getChildCount();i++){
-                                View childAt = tableRow.getChildAt(i);
-                                tableRowCoordinate.add(new Pair<>((int)childAt.getX(), height * finalRow));
-                            }
-                            tableRowsCoordinates.add(tableRowCoordinate);
-                            rowF++;
-                            System.out.println();
-                        }
+                    public void onClick(View v) {
+                        dialog.dismiss();
                     }
-                },50);
+                });
 
+                Window window = dialog.getWindow();
+                window.setGravity(Gravity.TOP | Gravity.LEFT);
+                WindowManager.LayoutParams layoutParams = dialog.getWindow().getAttributes();
+                layoutParams.x = (int) x;
+                layoutParams.y = (int) y;
+                window.setAttributes(layoutParams);
 
-                for(ArrayList<Pair<Integer, Integer>> a : tableRowsCoordinates){
-                    for(Pair<Integer, Integer> p :  a){
-                        System.out.print(p);
-                    }
-                    System.out.println();
-                }
+                dialog.setContentView(myView);
+                dialog.show();
+            }
+        });
+        ll_anim.addView(treeView);
 
-                treeLayoutData = new TreeLayoutData(context, treeLayout, tableRows);
+        ll_anim.post(new Runnable() {
+            @Override
+            public void run() {
                 dl_main.openDrawer(GravityCompat.END);
             }
         });
@@ -898,6 +562,22 @@ public class AVLActivity extends BaseActivity {
             }
         });
 
+        cl_rbt.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, RBTActivity.class);
+            }
+        });
+
+        cl_bplus.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, BPlusTreeActivity.class);
+            }
+        });
+
         cl_home.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -912,10 +592,7 @@ public class AVLActivity extends BaseActivity {
         if(isAnimating)
             return;
 
-        if(timer != null) {
-            timer.cancel();
-            timer = null;
-        }
+        playbackEngine.stop();
 
         View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
 
@@ -947,7 +624,6 @@ public class AVLActivity extends BaseActivity {
         dialog.setOnDismissListener(new DialogInterface.OnDismissListener() {
             @Override
             public void onDismiss(DialogInterface dialog) {
-                System.out.println("Dismissed");
                 btn_menu.setEnabled(true);
                 btn_nav.setEnabled(true);
                 btn_info.setEnabled(true);
@@ -10,6 +10,10 @@ public class AVLInfo {
     public static final List<Integer> tree2 = Arrays.asList(60, 40, 80, 20, 50);
     public static final List<Integer> tree3 = Arrays.asList(50, 30, 80, 60, 100);
 
+    public static String getBuildString(int noOfKeys, int noOfNodes){
+        return "building balanced tree of " + noOfKeys + " keys, " + noOfNodes + " nodes";
+    }
+
     public static String getInsertString(int key, int count){
         return count == 1 ? "inserting : " + key : "increasing count of " + key + " -> " + count;
     }
@@ -26,10 +30,6 @@ public class AVLInfo {
         return "node : " + key + " found in tree";
     }
 
-    public static String getNoSpaceString(){
-        return "no space in tree :(";
-    }
-
     public static String getMoveUpString(int key, int oldKey){
         return "move successor " + key + " of " + oldKey + " up";
     }
@@ -1,20 +1,62 @@
 package com.iiitd.dsavisualizer.datastructures.trees.avl;
 
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutData;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutNode;
+
 // AVLNode used by AVL
-public class AVLNode {
+public class AVLNode implements TreeLayoutNode {
 
+    final int id;
     int key;
     int count;
     int height;
     AVLNode left;
     AVLNode right;
+    final TreeLayoutData layoutData;
 
-    AVLNode(int key) {
+    AVLNode(int id, int key) {
+        this.id = id;
         this.key = key;
         this.count = 1;
         this.height = 1;
         this.left = null;
         this.right = null;
+        this.layoutData = new TreeLayoutData();
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int getKey() {
+        return key;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getColor() {
+        return COLOR_NONE;
+    }
+
+    @Override
+    public TreeLayoutNode getLeft() {
+        return left;
+    }
+
+    @Override
+    public TreeLayoutNode getRight() {
+        return right;
+    }
+
+    @Override
+    public TreeLayoutData getLayoutData() {
+        return layoutData;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType;
+
+// TreeAnimationState of a BPlusTree, it highlights a page or some of its slots instead of nodes
+// States which change pages hold a snapshot of all pages after the change
+public class BPlusAnimationState extends TreeAnimationState {
+    public BPlusSnapshot pageSnapshot;      // null => pages are unchanged
+    public int pageId;                      // -1 => no page is highlighted
+    public int fromSlot;                    // slots fromSlot to toSlot of the page are highlighted, -1 => whole page
+    public int toSlot;
+
+    public BPlusAnimationState(TreeAnimationStateType state, String info) {
+        super(state, info);
+        this.pageSnapshot = null;
+        this.pageId = -1;
+        this.fromSlot = -1;
+        this.toSlot = -1;
+    }
+
+    public void highlight(int pageId, int fromSlot, int toSlot){
+        this.pageId = pageId;
+        this.fromSlot = fromSlot;
+        this.toSlot = toSlot;
+    }
+
+}
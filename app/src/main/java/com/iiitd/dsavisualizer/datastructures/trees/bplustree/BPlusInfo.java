@@ -0,0 +1,81 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import java.util.Arrays;
+import java.util.List;
+
+//HARDCODED INFORMATION, Handle with care
+public class BPlusInfo {
+
+    public static final List<Integer> tree1 = Arrays.asList(10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130, 140, 150);
+    public static final List<Integer> tree2 = Arrays.asList(50, 20, 80, 10, 35, 65, 95, 5, 15, 25, 45, 60, 75, 90, 99);
+    public static final List<Integer> tree3 = Arrays.asList(150, 140, 130, 120, 110, 100, 90, 80, 70, 60, 50, 40, 30, 20, 10);
+
+    public static String getBuildString(int noOfKeys, int noOfPages){
+        return "bulk loading " + noOfKeys + " keys into " + noOfPages + " pages";
+    }
+
+    public static String getInsertString(int key, int count){
+        return count == 1 ? "inserting " + key + " into leaf page" : "increasing count of " + key + " -> " + count;
+    }
+
+    public static String getDeleteString(int key, int count){
+        return count == 1 ? "deleting " + key + " from leaf page" : "decreasing count of " + key + " -> " + count;
+    }
+
+    public static String getNotFoundString(int key){
+        return "key : " + key + " not found in tree";
+    }
+
+    public static String getFoundString(int key){
+        return "key : " + key + " found in leaf page";
+    }
+
+    public static String getSearchString(int key, int childIndex){
+        return "key " + key + " is in child " + childIndex + " of page";
+    }
+
+    public static String getSplitString(int separator){
+        return "page is full, split it, " + separator + " goes up to parent";
+    }
+
+    public static String getNewRootString(){
+        return "root page is split, tree grows a level";
+    }
+
+    public static String getBorrowString(int key){
+        return "page is under filled, borrow " + key + " from sibling";
+    }
+
+    public static String getMergeString(int separator){
+        return "page is under filled, merge with sibling, separator " + separator + " is removed";
+    }
+
+    public static String getRootRemovedString(){
+        return "root page has a single child, tree shrinks a level";
+    }
+
+    public static String getEmptyTreeString(){
+        return "last key is deleted, tree is empty";
+    }
+
+    public static String getRangeScanString(int from, int to){
+        return "keys " + from + " to " + to + " of leaf page are in range";
+    }
+
+    public static String getNextLeafString(){
+        return "following link to next leaf page";
+    }
+
+    public static String getRangeFoundString(int from, int to, int noOfKeys){
+        return noOfKeys + " keys in range " + from + " to " + to;
+    }
+
+    public static String getRangeNotFoundString(int from, int to){
+        return "no keys in range " + from + " to " + to;
+    }
+
+    public static String getIOString(int noOfReads, int noOfWrites, int noOfHits, int noOfMisses){
+        return "page reads : " + noOfReads + ", writes : " + noOfWrites + ", cache hits : " + noOfHits + ", misses : " + noOfMisses;
+    }
+
+}
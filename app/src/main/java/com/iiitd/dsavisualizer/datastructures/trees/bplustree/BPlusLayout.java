@@ -0,0 +1,101 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import java.util.ArrayList;
+
+// BPlusLayout computes page coordinates of a BPlusTree
+// All leaves of a B+ tree are at the same level, so leaf pages are placed next to each other left to right
+// and every internal page is centered above its first and last child, pages of a level never overlap
+// Every page is as wide as maxKeys slots, so the fill of a page is visible
+public class BPlusLayout {
+    public static final float SLOT_WIDTH = 1.6f;    // units
+    public static final float PAGE_GAP = 0.8f;      // units between leaf pages
+
+    // Lays out the tree and returns positions of all its pages, root = null => empty snapshot
+    public static BPlusSnapshot layout(BPlusNode root, int maxKeys){
+        ArrayList<BPlusNode> nodes = new ArrayList<>();
+        ArrayList<Integer> parents = new ArrayList<>();
+        ArrayList<Integer> childIndexes = new ArrayList<>();
+        ArrayList<BPlusNode> stack = new ArrayList<>();
+        ArrayList<Integer> parentStack = new ArrayList<>();
+        ArrayList<Integer> childIndexStack = new ArrayList<>();
+        if(root != null){
+            stack.add(root);
+            parentStack.add(-1);
+            childIndexStack.add(0);
+        }
+
+        // Pre order, leaves are visited left to right
+        while(stack.size() > 0){
+            BPlusNode node = stack.remove(stack.size() - 1);
+            int index = nodes.size();
+            nodes.add(node);
+            parents.add(parentStack.remove(parentStack.size() - 1));
+            childIndexes.add(childIndexStack.remove(childIndexStack.size() - 1));
+            if(!node.isLeaf){
+                for(int i=node.children.size()-1;i>=0;i--){
+                    stack.add(node.children.get(i));
+                    parentStack.add(index);
+                    childIndexStack.add(i);
+                }
+            }
+        }
+
+        int size = nodes.size();
+        BPlusSnapshot snapshot = new BPlusSnapshot(size, maxKeys);
+        float pageWidth = maxKeys * SLOT_WIDTH;
+        int[] firstChild = new int[size];
+        int[] lastChild = new int[size];
+        int noOfLeaves = 0;
+        int lastLeaf = -1;
+        for(int i=0;i<size;i++){
+            BPlusNode node = nodes.get(i);
+            int parent = parents.get(i);
+            snapshot.ids[i] = node.id;
+            snapshot.isLeaf[i] = node.isLeaf;
+            snapshot.parents[i] = parent;
+            snapshot.childIndexes[i] = childIndexes.get(i);
+            snapshot.depths[i] = parent == -1 ? 0 : snapshot.depths[parent] + 1;
+            snapshot.nexts[i] = -1;
+            snapshot.keys[i] = toArray(node.keys);
+            snapshot.counts[i] = node.isLeaf ? toArray(node.counts) : null;
+            snapshot.height = Math.max(snapshot.height, snapshot.depths[i] + 1);
+
+            if(parent != -1){
+                if(childIndexes.get(i) == 0){
+                    firstChild[parent] = i;
+                }
+                lastChild[parent] = i;
+            }
+
+            if(node.isLeaf){
+                snapshot.xs[i] = noOfLeaves * (pageWidth + PAGE_GAP);
+                if(lastLeaf != -1){
+                    snapshot.nexts[lastLeaf] = i;
+                }
+                lastLeaf = i;
+                noOfLeaves++;
+            }
+        }
+
+        // Children are after their parent in pre order, so they are placed first
+        for(int i=size-1;i>=0;i--){
+            if(!snapshot.isLeaf[i]){
+                snapshot.xs[i] = (snapshot.xs[firstChild[i]] + snapshot.xs[lastChild[i]]) / 2;
+            }
+        }
+
+        snapshot.width = noOfLeaves == 0 ? 0 : noOfLeaves * pageWidth + (noOfLeaves - 1) * PAGE_GAP;
+
+        return snapshot;
+    }
+
+    private static int[] toArray(ArrayList<Integer> list){
+        int[] array = new int[list.size()];
+        for(int i=0;i<array.length;i++){
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
+
+}
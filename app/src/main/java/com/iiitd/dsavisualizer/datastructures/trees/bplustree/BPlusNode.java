@@ -0,0 +1,26 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import java.util.ArrayList;
+
+// BPlusNode used by BPlusTree, a single page of the tree
+// Leaf pages hold the keys with their counts and are linked left to right for range scans,
+// internal pages hold separator keys, child i has the keys k with keys[i - 1] <= k < keys[i]
+public class BPlusNode {
+
+    final int id;                           // page id, stable for the lifetime of the page
+    final boolean isLeaf;
+    final ArrayList<Integer> keys;
+    final ArrayList<Integer> counts;        // leaf pages only
+    final ArrayList<BPlusNode> children;    // internal pages only
+    BPlusNode next;                         // next leaf page, leaf pages only
+
+    BPlusNode(int id, boolean isLeaf) {
+        this.id = id;
+        this.isLeaf = isLeaf;
+        this.keys = new ArrayList<>();
+        this.counts = isLeaf ? new ArrayList<Integer>() : null;
+        this.children = isLeaf ? null : new ArrayList<BPlusNode>();
+        this.next = null;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+// Pages of a BPlusTree at a single step, produced by BPlusLayout and drawn by BPlusView
+// Pages are in pre order, so the parent of a page is always before it
+public class BPlusSnapshot {
+
+    public final int size;                  // pages
+    public final int maxKeys;               // slots of every page
+    public final int[] ids;
+    public final int[][] keys;
+    public final int[][] counts;            // leaf pages only, null for internal pages
+    public final boolean[] isLeaf;
+    public final float[] xs;                // units, left edge of the page, leftmost page is at 0
+    public final int[] depths;              // root is at 0
+    public final int[] parents;             // index of the parent, -1 => root
+    public final int[] childIndexes;        // page is child childIndexes[i] of its parent
+    public final int[] nexts;               // index of the next leaf page, -1 => last leaf or internal page
+    public float width;                     // units between the left edge of the leftmost and the right edge of the rightmost page
+    public int height;                      // levels
+
+    public BPlusSnapshot(int size, int maxKeys) {
+        this.size = size;
+        this.maxKeys = maxKeys;
+        this.ids = new int[size];
+        this.keys = new int[size][];
+        this.counts = new int[size][];
+        this.isLeaf = new boolean[size];
+        this.xs = new float[size];
+        this.depths = new int[size];
+        this.parents = new int[size];
+        this.childIndexes = new int[size];
+        this.nexts = new int[size];
+        this.width = 0;
+        this.height = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BPlusSnapshot{" +
+                "size = " + size +
+                ", width = " + width +
+                ", height = " + height +
+                '}';
+    }
+
+}
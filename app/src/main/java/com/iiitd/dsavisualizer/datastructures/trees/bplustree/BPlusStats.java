@@ -0,0 +1,17 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import android.text.Html;
+import android.text.Spanned;
+
+// Used for B+ Tree time/space complexities, m is the fan out
+public class BPlusStats {
+    static final String name = "B+ Tree";
+    static final Spanned worst_insert = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned best_insert = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned worst_search = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned best_search = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned worst_delete = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned best_delete = Html.fromHtml("log<sub>m</sub>(n)");
+    static final Spanned space = Html.fromHtml("N, no of keys in tree");
+    static final Spanned traversals = Html.fromHtml("N, range scans follow leaf pages");
+}
@@ -0,0 +1,499 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeBuildKeys;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSequence;
+import static com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// B+ Tree Backend
+// Every page has at most fanOut - 1 keys and internal pages at most fanOut children, all pages except the root are
+// at least half full. Pages are referred to by their ids in animation states, states which change pages get a snapshot
+// Operations go down the tree keeping the path in a buffer, splits and merges walk back up the same path
+// Every page used by an operation goes through the BufferPool, which counts page reads, writes, hits and misses
+public class BPlusTree {
+    public static final int MIN_FAN_OUT = 3;
+
+    public final int fanOut;
+    private final int maxKeys;
+    private final int minLeafKeys;              // of leaf pages other than the root
+    private final int minInternalKeys;          // of internal pages other than the root
+    private BPlusNode root;
+    private int noOfPagesCreated;               // id of the next page
+    public final BufferPool bufferPool;
+    public TreeSequence treeSequence;
+    private ArrayList<TreeAnimationState> treeAnimationStates;
+    public int noOfVisits;                      // pages visited by the last operation
+    public int totalVisits;                     // pages visited since the tree was created
+
+    // Path of the current operation, path.get(i) is the parent of path.get(i + 1) or of the leaf
+    private final ArrayList<BPlusNode> path;
+    private final ArrayList<Integer> childIndexes;  // index of the next page of the path among the children of path.get(i)
+
+    public BPlusTree(int fanOut, int noOfFrames) {
+        if(fanOut < MIN_FAN_OUT){
+            throw new IllegalArgumentException("Fan out of a B+ tree is at least " + MIN_FAN_OUT);
+        }
+
+        this.fanOut = fanOut;
+        this.maxKeys = fanOut - 1;
+        this.minLeafKeys = (maxKeys + 1) / 2;
+        this.minInternalKeys = (fanOut + 1) / 2 - 1;
+        this.root = null;
+        this.noOfPagesCreated = 0;
+        this.bufferPool = new BufferPool(noOfFrames);
+        this.treeSequence = new TreeSequence();
+        this.noOfVisits = 0;
+        this.totalVisits = 0;
+        this.path = new ArrayList<>();
+        this.childIndexes = new ArrayList<>();
+    }
+
+    // Current layout of the tree
+    public BPlusSnapshot getSnapshot(){
+        return BPlusLayout.layout(root, maxKeys);
+    }
+
+    private void startOperation(){
+        treeAnimationStates = new ArrayList<>();
+        bufferPool.startOperation();
+        noOfVisits = 0;
+        path.clear();
+        childIndexes.clear();
+    }
+
+    // Dirty pages are written back, the last state shows the page I/O of the operation
+    private void endOperation(){
+        bufferPool.flush();
+        treeAnimationStates.add(new BPlusAnimationState(NULL, BPlusInfo.getIOString(bufferPool.noOfReads,
+                bufferPool.noOfWrites, bufferPool.noOfHits, bufferPool.noOfMisses)));
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    private void visit(BPlusNode page){
+        noOfVisits++;
+        totalVisits++;
+        bufferPool.fetch(page.id);
+    }
+
+    private BPlusNode newPage(boolean isLeaf){
+        BPlusNode page = new BPlusNode(noOfPagesCreated++, isLeaf);
+        bufferPool.allocate(page.id);
+        return page;
+    }
+
+    private BPlusAnimationState addState(TreeAnimationStateType type, String info, int pageId, int fromSlot, int toSlot){
+        BPlusAnimationState bPlusAnimationState = new BPlusAnimationState(type, info);
+        bPlusAnimationState.highlight(pageId, fromSlot, toSlot);
+        treeAnimationStates.add(bPlusAnimationState);
+        return bPlusAnimationState;
+    }
+
+    // state changes pages, its snapshot is the tree as it is now
+    private void addSnapshotState(TreeAnimationStateType type, String info, int pageId, int fromSlot, int toSlot){
+        addState(type, info, pageId, fromSlot, toSlot).pageSnapshot = BPlusLayout.layout(root, maxKeys);
+    }
+
+    // Index of the child of an internal page which has key, keys equal to a separator are in its right child
+    private static int getChildIndex(BPlusNode page, int key){
+        int lo = 0;
+        int hi = page.keys.size();
+        while (lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if(page.keys.get(mid) <= key){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    // Index of the first key of a page which is >= key
+    private static int getSlot(BPlusNode page, int key){
+        int lo = 0;
+        int hi = page.keys.size();
+        while (lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if(page.keys.get(mid) < key){
+                lo = mid + 1;
+            }
+            else{
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    // Goes down from the root to the leaf page which has key, internal pages are kept in path
+    private BPlusNode findLeaf(int key){
+        BPlusNode page = root;
+        visit(page);
+        while (!page.isLeaf){
+            int childIndex = getChildIndex(page, key);
+            addState(SEARCH, BPlusInfo.getSearchString(key, childIndex), page.id, -1, -1);
+            path.add(page);
+            childIndexes.add(childIndex);
+            page = page.children.get(childIndex);
+            visit(page);
+        }
+
+        return page;
+    }
+
+    // Replaces the tree with pages bulk loaded from keys, unsorted keys are sorted first
+    // Keys are spread evenly over the least number of leaf pages, then every level is built the same way from the
+    // level below it, so the tree is built bottom up in O(n) with a single write of every page and no reads
+    public ArrayList<TreeAnimationState> build(List<Integer> keys){
+        startOperation();
+        TreeBuildKeys treeBuildKeys = TreeBuildKeys.of(keys);
+        for(BPlusNode page : getPages()){
+            bufferPool.free(page.id);
+        }
+
+        int firstPageId = noOfPagesCreated;
+
+        // Leaf level, the smallest key of every page is its separator in the level above
+        ArrayList<BPlusNode> level = new ArrayList<>();
+        ArrayList<Integer> minKeys = new ArrayList<>();
+        int noOfPages = (treeBuildKeys.size + maxKeys - 1) / maxKeys;
+        BPlusNode previous = null;
+        for(int i=0;i<noOfPages;i++){
+            BPlusNode page = newPage(true);
+            for(int j=getGroupStart(treeBuildKeys.size, noOfPages, i);j<getGroupStart(treeBuildKeys.size, noOfPages, i + 1);j++){
+                page.keys.add(treeBuildKeys.keys[j]);
+                page.counts.add(treeBuildKeys.counts[j]);
+            }
+            if(previous != null){
+                previous.next = page;
+            }
+            previous = page;
+            level.add(page);
+            minKeys.add(page.keys.get(0));
+        }
+
+        while (level.size() > 1){
+            ArrayList<BPlusNode> parents = new ArrayList<>();
+            ArrayList<Integer> parentMinKeys = new ArrayList<>();
+            noOfPages = (level.size() + fanOut - 1) / fanOut;
+            for(int i=0;i<noOfPages;i++){
+                BPlusNode page = newPage(false);
+                int start = getGroupStart(level.size(), noOfPages, i);
+                for(int j=start;j<getGroupStart(level.size(), noOfPages, i + 1);j++){
+                    if(j > start){
+                        page.keys.add(minKeys.get(j));
+                    }
+                    page.children.add(level.get(j));
+                }
+                parents.add(page);
+                parentMinKeys.add(minKeys.get(start));
+            }
+            level = parents;
+            minKeys = parentMinKeys;
+        }
+
+        root = level.size() == 0 ? null : level.get(0);
+        addSnapshotState(BUILD, BPlusInfo.getBuildString(keys.size(), noOfPagesCreated - firstPageId), -1, -1, -1);
+        endOperation();
+        return treeAnimationStates;
+    }
+
+    // n items spread over noOfGroups groups, sizes of groups differ by at most 1
+    private static int getGroupStart(int n, int noOfGroups, int group){
+        return (int) ((long) n * group / noOfGroups);
+    }
+
+    public ArrayList<TreeAnimationState> insert(int key){
+        startOperation();
+        if(root == null){
+            root = newPage(true);
+        }
+
+        BPlusNode leaf = findLeaf(key);
+        int slot = getSlot(leaf, key);
+        if(slot < leaf.keys.size() && leaf.keys.get(slot) == key){
+            leaf.counts.set(slot, leaf.counts.get(slot) + 1);
+            bufferPool.write(leaf.id);
+            addSnapshotState(INSERT, BPlusInfo.getInsertString(key, leaf.counts.get(slot)), leaf.id, slot, slot);
+        }
+        else{
+            leaf.keys.add(slot, key);
+            leaf.counts.add(slot, 1);
+            bufferPool.write(leaf.id);
+            addSnapshotState(INSERT, BPlusInfo.getInsertString(key, 1), leaf.id, slot, slot);
+            split(leaf);
+        }
+
+        endOperation();
+        return treeAnimationStates;
+    }
+
+    // Splits page while it has more than maxKeys keys, walking up the path, the root is split into a new root
+    private void split(BPlusNode page){
+        int level = path.size() - 1;
+        while (page.keys.size() > maxKeys){
+            BPlusNode right = newPage(page.isLeaf);
+            int separator;
+            if(page.isLeaf){
+                // Left page keeps the larger half, the first key of the right page is copied up
+                int mid = (page.keys.size() + 1) / 2;
+                right.keys.addAll(page.keys.subList(mid, page.keys.size()));
+                right.counts.addAll(page.counts.subList(mid, page.counts.size()));
+                page.keys.subList(mid, page.keys.size()).clear();
+                page.counts.subList(mid, page.counts.size()).clear();
+                right.next = page.next;
+                page.next = right;
+                separator = right.keys.get(0);
+            }
+            else{
+                // Middle key moves up, it is in neither page
+                int mid = page.keys.size() / 2;
+                separator = page.keys.get(mid);
+                right.keys.addAll(page.keys.subList(mid + 1, page.keys.size()));
+                right.children.addAll(page.children.subList(mid + 1, page.children.size()));
+                page.keys.subList(mid, page.keys.size()).clear();
+                page.children.subList(mid + 1, page.children.size()).clear();
+            }
+            bufferPool.write(page.id);
+
+            BPlusNode parent;
+            int childIndex;
+            String info;
+            if(level < 0){
+                parent = newPage(false);
+                parent.children.add(page);
+                root = parent;
+                childIndex = 0;
+                info = BPlusInfo.getNewRootString();
+            }
+            else{
+                parent = path.get(level);
+                childIndex = childIndexes.get(level);
+                info = BPlusInfo.getSplitString(separator);
+            }
+
+            parent.keys.add(childIndex, separator);
+            parent.children.add(childIndex + 1, right);
+            bufferPool.write(parent.id);
+            addSnapshotState(SPLIT, info, parent.id, childIndex, childIndex);
+
+            page = parent;
+            level--;
+        }
+    }
+
+    public void delete(int key){
+        startOperation();
+        if(root == null){
+            addState(NOT_FOUND, BPlusInfo.getNotFoundString(key), -1, -1, -1);
+            endOperation();
+            return;
+        }
+
+        BPlusNode leaf = findLeaf(key);
+        int slot = getSlot(leaf, key);
+        if(slot == leaf.keys.size() || leaf.keys.get(slot) != key){
+            addState(NOT_FOUND, BPlusInfo.getNotFoundString(key), leaf.id, -1, -1);
+        }
+        else if(leaf.counts.get(slot) > 1){
+            leaf.counts.set(slot, leaf.counts.get(slot) - 1);
+            bufferPool.write(leaf.id);
+            addSnapshotState(DELETE_DECREASE, BPlusInfo.getDeleteString(key, leaf.counts.get(slot)), leaf.id, slot, slot);
+        }
+        else{
+            addState(DELETE_NO_CHILD, BPlusInfo.getDeleteString(key, 1), leaf.id, slot, slot);
+            leaf.keys.remove(slot);
+            leaf.counts.remove(slot);
+            bufferPool.write(leaf.id);
+            addSnapshotState(LAYOUT, BPlusInfo.getDeleteString(key, 1), leaf.id, -1, -1);
+            rebalance(leaf);
+        }
+
+        endOperation();
+    }
+
+    // Fixes under filled pages walking up the path, a page borrows a key from a sibling which has more than
+    // the minimum, otherwise it is merged with a sibling and its parent may become under filled in turn
+    private void rebalance(BPlusNode page){
+        int level = path.size() - 1;
+        while (level >= 0 && page.keys.size() < (page.isLeaf ? minLeafKeys : minInternalKeys)){
+            BPlusNode parent = path.get(level);
+            int childIndex = childIndexes.get(level);
+            int minKeys = page.isLeaf ? minLeafKeys : minInternalKeys;
+            BPlusNode left = childIndex > 0 ? parent.children.get(childIndex - 1) : null;
+            BPlusNode right = childIndex < parent.children.size() - 1 ? parent.children.get(childIndex + 1) : null;
+            if(left != null){
+                visit(left);
+            }
+
+            if(left != null && left.keys.size() > minKeys){
+                int key;
+                if(page.isLeaf){
+                    key = left.keys.remove(left.keys.size() - 1);
+                    page.keys.add(0, key);
+                    page.counts.add(0, left.counts.remove(left.counts.size() - 1));
+                    parent.keys.set(childIndex - 1, key);
+                }
+                else{
+                    key = left.keys.remove(left.keys.size() - 1);
+                    page.keys.add(0, parent.keys.get(childIndex - 1));
+                    page.children.add(0, left.children.remove(left.children.size() - 1));
+                    parent.keys.set(childIndex - 1, key);
+                }
+                bufferPool.write(left.id);
+                bufferPool.write(page.id);
+                bufferPool.write(parent.id);
+                addSnapshotState(BORROW, BPlusInfo.getBorrowString(key), page.id, 0, 0);
+                return;
+            }
+
+            if(right != null){
+                visit(right);
+            }
+
+            if(right != null && right.keys.size() > minKeys){
+                int key;
+                if(page.isLeaf){
+                    key = right.keys.remove(0);
+                    page.keys.add(key);
+                    page.counts.add(right.counts.remove(0));
+                    parent.keys.set(childIndex, right.keys.get(0));
+                }
+                else{
+                    key = right.keys.remove(0);
+                    page.keys.add(parent.keys.get(childIndex));
+                    page.children.add(right.children.remove(0));
+                    parent.keys.set(childIndex, key);
+                }
+                bufferPool.write(right.id);
+                bufferPool.write(page.id);
+                bufferPool.write(parent.id);
+                addSnapshotState(BORROW, BPlusInfo.getBorrowString(key), page.id, page.keys.size() - 1, page.keys.size() - 1);
+                return;
+            }
+
+            // Right page of the pair is merged into the left page
+            BPlusNode leftPage = left != null ? left : page;
+            BPlusNode rightPage = left != null ? page : right;
+            int separatorIndex = left != null ? childIndex - 1 : childIndex;
+            int separator = parent.keys.get(separatorIndex);
+            if(page.isLeaf){
+                leftPage.keys.addAll(rightPage.keys);
+                leftPage.counts.addAll(rightPage.counts);
+                leftPage.next = rightPage.next;
+            }
+            else{
+                leftPage.keys.add(separator);
+                leftPage.keys.addAll(rightPage.keys);
+                leftPage.children.addAll(rightPage.children);
+            }
+            parent.keys.remove(separatorIndex);
+            parent.children.remove(separatorIndex + 1);
+            bufferPool.free(rightPage.id);
+            bufferPool.write(leftPage.id);
+            bufferPool.write(parent.id);
+            addSnapshotState(MERGE, BPlusInfo.getMergeString(separator), leftPage.id, -1, -1);
+
+            page = parent;
+            level--;
+        }
+
+        if(!root.isLeaf && root.keys.size() == 0){
+            bufferPool.free(root.id);
+            root = root.children.get(0);
+            addSnapshotState(LAYOUT, BPlusInfo.getRootRemovedString(), root.id, -1, -1);
+        }
+        else if(root.isLeaf && root.keys.size() == 0){
+            bufferPool.free(root.id);
+            root = null;
+            addSnapshotState(LAYOUT, BPlusInfo.getEmptyTreeString(), -1, -1, -1);
+        }
+    }
+
+    public void search(int key){
+        startOperation();
+        if(root == null){
+            addState(NOT_FOUND, BPlusInfo.getNotFoundString(key), -1, -1, -1);
+            endOperation();
+            return;
+        }
+
+        BPlusNode leaf = findLeaf(key);
+        int slot = getSlot(leaf, key);
+        if(slot < leaf.keys.size() && leaf.keys.get(slot) == key){
+            addState(FOUND, BPlusInfo.getFoundString(key), leaf.id, slot, slot);
+        }
+        else{
+            addState(NOT_FOUND, BPlusInfo.getNotFoundString(key), leaf.id, -1, -1);
+        }
+
+        endOperation();
+    }
+
+    // Finds the leaf page of from, then follows the links between leaf pages until a key is more than to
+    public void rangeScan(int from, int to){
+        startOperation();
+        if(from > to){
+            int temp = from;
+            from = to;
+            to = temp;
+        }
+
+        int noOfKeys = 0;
+        BPlusNode leaf = root == null ? null : findLeaf(from);
+        while (leaf != null){
+            int fromSlot = getSlot(leaf, from);
+            int toSlot = fromSlot;
+            while (toSlot < leaf.keys.size() && leaf.keys.get(toSlot) <= to){
+                noOfKeys += leaf.counts.get(toSlot);
+                toSlot++;
+            }
+
+            if(toSlot > fromSlot){
+                addState(RANGE_SCAN, BPlusInfo.getRangeScanString(leaf.keys.get(fromSlot), leaf.keys.get(toSlot - 1)),
+                        leaf.id, fromSlot, toSlot - 1);
+            }
+
+            // A key after the range is in this page, or there are no more pages
+            if(toSlot < leaf.keys.size() || leaf.next == null){
+                break;
+            }
+
+            leaf = leaf.next;
+            addState(SEARCH, BPlusInfo.getNextLeafString(), leaf.id, -1, -1);
+            visit(leaf);
+        }
+
+        if(noOfKeys > 0){
+            addState(FOUND, BPlusInfo.getRangeFoundString(from, to, noOfKeys), -1, -1, -1);
+        }
+        else{
+            addState(NOT_FOUND, BPlusInfo.getRangeNotFoundString(from, to), -1, -1, -1);
+        }
+
+        endOperation();
+    }
+
+    // All pages of the tree, pre order
+    private ArrayList<BPlusNode> getPages(){
+        ArrayList<BPlusNode> pages = new ArrayList<>();
+        if(root != null){
+            pages.add(root);
+        }
+
+        for(int i=0;i<pages.size();i++){
+            if(!pages.get(i).isLeaf){
+                pages.addAll(pages.get(i).children);
+            }
+        }
+
+        return pages;
+    }
+
+}
@@ -0,0 +1,767 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import android.app.Dialog;
+import android.content.DialogInterface;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.os.Bundle;
+import android.util.Pair;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.ImageButton;
+import android.widget.LinearLayout;
+import android.widget.SeekBar;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.widget.TooltipCompat;
+import androidx.constraintlayout.widget.ConstraintLayout;
+import androidx.core.view.GravityCompat;
+import androidx.drawerlayout.widget.DrawerLayout;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.constants.AppSettings;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.avl.AVL;
+import com.iiitd.dsavisualizer.datastructures.trees.avl.AVLActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.bst.BSTActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.rbt.RBTActivity;
+import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// B+ Tree FrontEnd
+// Fan out and buffer pool frames are set from the controls, changing either replays history on a new tree
+// Compare replays history on a new BPlusTree and a new AVL and shows pages visited and page I/O of both
+public class BPlusTreeActivity extends BaseActivity {
+
+    LinearLayout ll_anim;
+    ImageButton btn_nav;
+    ImageButton btn_menu;
+    ImageButton btn_info;
+    SeekBar sb_animspeed;
+    TextView tv_info;
+
+    ImageButton btn_closemenu;
+    ImageButton btn_helpmenu;
+    ImageButton btn_insertrandom;
+    SeekBar sb_fanout;
+    SeekBar sb_bufferpool;
+    TextView tv_fanout;
+    TextView tv_bufferpool;
+    Button btn_insert;
+    Button btn_search;
+    Button btn_delete;
+    Button btn_rangescan;
+    Button btn_cleartree;
+    Button btn_example1;
+    Button btn_example2;
+    Button btn_example3;
+    Button btn_compare;
+    EditText et_insert;
+    EditText et_search;
+    EditText et_delete;
+    EditText et_rangefrom;
+    EditText et_rangeto;
+
+    ImageButton btn_closenav;
+    ConstraintLayout cl_home;
+    ConstraintLayout cl_bst;
+    ConstraintLayout cl_avl;
+    ConstraintLayout cl_rbt;
+    ConstraintLayout cl_bplus;
+
+    BPlusView bPlusView;
+    BPlusTree bPlusTree;
+    List<Integer> buildKeys;                        // keys of the last example, null => tree was built by history only
+    ArrayList<Pair<String, Integer>> history;       // operation, key of every insert, delete and search after buildKeys
+
+    Random random = new Random();
+    boolean isAnimating = false;
+    int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
+    int animDuration = AppSettings.DEFAULT_ANIM_DURATION;
+    final int LAYOUT_MAIN = R.layout.activity_tree;
+    final int LAYOUT_LEFT = R.layout.navigation_tree;
+    final int LAYOUT_RIGHT = R.layout.controls_bplustree;
+    final String ONBOARDING_KEY =  AppSettings.TREE_KEY;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        configure(LAYOUT_MAIN, LAYOUT_LEFT, LAYOUT_RIGHT, ONBOARDING_KEY);
+        super.onCreate(savedInstanceState);
+
+        v_main = vs_main.inflate();
+        v_menu_right = vs_menu_right.inflate();
+        v_menu_left = vs_menu_left.inflate();
+
+        ll_anim = v_main.findViewById(R.id.ll_anim);
+        sb_animspeed = v_main.findViewById(R.id.sb_animspeed);
+        btn_menu = v_main.findViewById(R.id.btn_menu);
+        btn_info = v_main.findViewById(R.id.btn_info);
+        btn_nav = v_main.findViewById(R.id.btn_nav);
+        tv_info = v_main.findViewById(R.id.tv_info);
+
+        btn_closemenu = v_menu_right.findViewById(R.id.btn_closemenu);
+        btn_helpmenu = v_menu_right.findViewById(R.id.btn_helpmenu);
+        sb_fanout = v_menu_right.findViewById(R.id.sb_fanout);
+        sb_bufferpool = v_menu_right.findViewById(R.id.sb_bufferpool);
+        tv_fanout = v_menu_right.findViewById(R.id.tv_fanout);
+        tv_bufferpool = v_menu_right.findViewById(R.id.tv_bufferpool);
+        btn_insert = v_menu_right.findViewById(R.id.btn_insert);
+        btn_insertrandom = v_menu_right.findViewById(R.id.btn_insertrandom);
+        btn_search = v_menu_right.findViewById(R.id.btn_search);
+        btn_delete = v_menu_right.findViewById(R.id.btn_delete);
+        btn_rangescan = v_menu_right.findViewById(R.id.btn_rangescan);
+        btn_cleartree = v_menu_right.findViewById(R.id.btn_cleartree);
+        btn_example1 = v_menu_right.findViewById(R.id.btn_example1);
+        btn_example2 = v_menu_right.findViewById(R.id.btn_example2);
+        btn_example3 = v_menu_right.findViewById(R.id.btn_example3);
+        btn_compare = v_menu_right.findViewById(R.id.btn_compare);
+        et_insert = v_menu_right.findViewById(R.id.et_insert);
+        et_search = v_menu_right.findViewById(R.id.et_search);
+        et_delete = v_menu_right.findViewById(R.id.et_delete);
+        et_rangefrom = v_menu_right.findViewById(R.id.et_rangefrom);
+        et_rangeto = v_menu_right.findViewById(R.id.et_rangeto);
+
+        btn_closenav = v_menu_left.findViewById(R.id.btn_closenav);
+        cl_home = v_menu_left.findViewById(R.id.cl_home);
+        cl_bst = v_menu_left.findViewById(R.id.cl_bst);
+        cl_avl = v_menu_left.findViewById(R.id.cl_avl);
+        cl_rbt = v_menu_left.findViewById(R.id.cl_rbt);
+        cl_bplus = v_menu_left.findViewById(R.id.cl_bplus);
+
+        tv_fanout.setText(String.valueOf(getFanOut()));
+        tv_bufferpool.setText(String.valueOf(getNoOfFrames()));
+
+        initOnBoarding();
+        initViews();
+        initNavigation();
+        initToolTipTexts();
+
+        // Auto Animation Speed
+        sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                // 2500ms to 1ms
+                animStepDuration = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                animDuration = animStepDuration/2;
+                playbackEngine.setStepDuration(animStepDuration);
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+
+        });
+
+        // Fan Out, MIN_FAN_OUT to MIN_FAN_OUT + max
+        sb_fanout.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                tv_fanout.setText(String.valueOf(getFanOut()));
+                if(fromUser){
+                    rebuildTree();
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+
+        });
+
+        // Buffer Pool Frames, 1 to 1 + max
+        sb_bufferpool.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                tv_bufferpool.setText(String.valueOf(getNoOfFrames()));
+                if(fromUser){
+                    rebuildTree();
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+
+        });
+
+        // Info Button
+        btn_info.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                View view = getLayoutInflater().inflate(R.layout.layout_trees_info, null);
+                TextView tv_name = view.findViewById(R.id.tv_name);
+                TextView tv_worst_insert = view.findViewById(R.id.tv_worst_insert);
+                TextView tv_best_insert = view.findViewById(R.id.tv_best_insert);
+                TextView tv_worst_search = view.findViewById(R.id.tv_worst_search);
+                TextView tv_best_search  = view.findViewById(R.id.tv_best_search);
+                TextView tv_worst_delete = view.findViewById(R.id.tv_worst_delete);
+                TextView tv_best_delete = view.findViewById(R.id.tv_best_delete);
+                TextView tv_traversals = view.findViewById(R.id.tv_traversals);
+                TextView tv_space = view.findViewById(R.id.tv_space);
+                ImageButton btn_close = view.findViewById(R.id.btn_close);
+
+                if(bPlusTree != null) {
+                    playbackEngine.stop();
+                }
+
+                tv_name.setText(BPlusStats.name);
+                UtilUI.setTextInBigONotation(tv_worst_insert, BPlusStats.worst_insert);
+                UtilUI.setTextInBigONotation(tv_best_insert, BPlusStats.best_insert);
+                UtilUI.setTextInBigONotation(tv_worst_search, BPlusStats.worst_search);
+                UtilUI.setTextInBigONotation(tv_best_search, BPlusStats.best_search);
+                UtilUI.setTextInBigONotation(tv_worst_delete, BPlusStats.worst_delete);
+                UtilUI.setTextInBigONotation(tv_best_delete, BPlusStats.best_delete);
+                tv_traversals.setText(BPlusStats.traversals);
+                tv_space.setText(BPlusStats.space);
+
+                final Dialog dialog = new Dialog(context);
+                dialog.setContentView(view);
+                dialog.show();
+
+                btn_close.setOnClickListener(new View.OnClickListener() {
+                    @Override
+                    public void onClick(View v) {
+                        dialog.dismiss();
+                    }
+                });
+            }
+        });
+
+        btn_nav.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                openDrawer(1);
+            }
+        });
+
+        btn_closenav.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(1);
+            }
+        });
+
+        btn_menu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                openDrawer(2);
+            }
+        });
+
+        btn_closemenu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(2);
+            }
+        });
+
+        btn_helpmenu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                showOnBoarding();
+            }
+        });
+
+        btn_insertrandom.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                int data = random.nextInt(100);
+                et_insert.setText(String.valueOf(data));
+                et_insert.setError(null);
+            }
+        });
+
+        btn_insert.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_insert.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_insert.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("INSERT", data, -1);
+            }
+        });
+
+        btn_search.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_search.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_search.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("SEARCH", data, -1);
+            }
+        });
+
+        btn_delete.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_delete.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_delete.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("DELETE", data, -1);
+            }
+        });
+
+        btn_rangescan.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String from = et_rangefrom.getText().toString();
+                String to = et_rangeto.getText().toString();
+                if(from.isEmpty()){
+                    et_rangefrom.setError("Cant be empty");
+                    return;
+                }
+                if(to.isEmpty()){
+                    et_rangeto.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("RANGE_SCAN", Integer.parseInt(from.trim()), Integer.parseInt(to.trim()));
+            }
+        });
+
+        btn_cleartree.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                clearTree();
+            }
+        });
+
+        btn_example1.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(BPlusInfo.tree1);
+            }
+        });
+
+        btn_example2.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(BPlusInfo.tree2);
+            }
+        });
+
+        btn_example3.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(BPlusInfo.tree3);
+            }
+        });
+
+        btn_compare.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                showComparison();
+            }
+        });
+
+    }
+
+    private int getFanOut(){
+        return sb_fanout.getProgress() + BPlusTree.MIN_FAN_OUT;
+    }
+
+    private int getNoOfFrames(){
+        return sb_bufferpool.getProgress() + 1;
+    }
+
+    private void createExampleTree(List<Integer> tree) {
+        closeDrawer(2);
+
+        // The example replaces the current tree, its BUILD state holds the final tree
+        TreeAnimationState treeAnimationState = bPlusTree.build(tree).get(0);
+        UtilUI.setText(tv_info, treeAnimationState.info);
+        bPlusView.setSnapshot(((BPlusAnimationState) treeAnimationState).pageSnapshot, animDuration);
+
+        buildKeys = tree;
+        history.clear();
+    }
+
+    private void clearTree() {
+        bPlusTree = new BPlusTree(getFanOut(), getNoOfFrames());
+        buildKeys = null;
+        history.clear();
+        bPlusView.setSnapshot(bPlusTree.getSnapshot(), 0);
+    }
+
+    // New tree with the current fan out and buffer pool, the same keys are loaded without animation
+    private void rebuildTree() {
+        bPlusTree = replay(new BPlusTree(getFanOut(), getNoOfFrames()), null);
+        bPlusView.setSnapshot(bPlusTree.getSnapshot(), animDuration);
+        UtilUI.setText(tv_info, "fan out : " + bPlusTree.fanOut + ", buffer pool frames : " + bPlusTree.bufferPool.noOfFrames);
+    }
+
+    // Loads buildKeys and replays history on bPlusTree and avl, avl = null => bPlusTree only
+    private BPlusTree replay(BPlusTree bPlusTree, AVL avl){
+        if(buildKeys != null){
+            bPlusTree.build(buildKeys);
+            if(avl != null){
+                avl.build(buildKeys);
+            }
+        }
+
+        for(Pair<String, Integer> operation : history){
+            switch (operation.first) {
+                case "INSERT":
+                    bPlusTree.insert(operation.second);
+                    if(avl != null){
+                        avl.insert(operation.second);
+                    }
+                    break;
+                case "DELETE":
+                    bPlusTree.delete(operation.second);
+                    if(avl != null){
+                        avl.delete(operation.second);
+                    }
+                    break;
+                case "SEARCH":
+                    bPlusTree.search(operation.second);
+                    if(avl != null){
+                        avl.search(operation.second);
+                    }
+                    break;
+            }
+        }
+
+        return bPlusTree;
+    }
+
+    // Replays history on a new BPlusTree and a new AVL, so both trees get the same keys in the same order
+    // Every AVL node is taken as a page without a buffer pool, so every node visit is a page read
+    private void showComparison() {
+        BPlusTree bPlusReplay = new BPlusTree(getFanOut(), getNoOfFrames());
+        AVL avlReplay = new AVL();
+        replay(bPlusReplay, avlReplay);
+
+        View view = getLayoutInflater().inflate(R.layout.layout_bplus_compare, null);
+        TextView tv_bplus_operations = view.findViewById(R.id.tv_bplus_operations);
+        TextView tv_avl_operations = view.findViewById(R.id.tv_avl_operations);
+        TextView tv_bplus_visits = view.findViewById(R.id.tv_bplus_visits);
+        TextView tv_avl_visits = view.findViewById(R.id.tv_avl_visits);
+        TextView tv_bplus_reads = view.findViewById(R.id.tv_bplus_reads);
+        TextView tv_avl_reads = view.findViewById(R.id.tv_avl_reads);
+        TextView tv_bplus_writes = view.findViewById(R.id.tv_bplus_writes);
+        TextView tv_avl_writes = view.findViewById(R.id.tv_avl_writes);
+        TextView tv_bplus_hits = view.findViewById(R.id.tv_bplus_hits);
+        TextView tv_avl_hits = view.findViewById(R.id.tv_avl_hits);
+        TextView tv_bplus_height = view.findViewById(R.id.tv_bplus_height);
+        TextView tv_avl_height = view.findViewById(R.id.tv_avl_height);
+        ImageButton btn_close = view.findViewById(R.id.btn_close);
+
+        tv_bplus_operations.setText(String.valueOf(history.size()));
+        tv_avl_operations.setText(String.valueOf(history.size()));
+        tv_bplus_visits.setText(String.valueOf(bPlusReplay.totalVisits));
+        tv_avl_visits.setText(String.valueOf(avlReplay.totalVisits));
+        tv_bplus_reads.setText(String.valueOf(bPlusReplay.bufferPool.totalReads));
+        tv_avl_reads.setText(String.valueOf(avlReplay.totalVisits));
+        tv_bplus_writes.setText(String.valueOf(bPlusReplay.bufferPool.totalWrites));
+        tv_avl_writes.setText("-");
+        tv_bplus_hits.setText(String.valueOf(bPlusReplay.bufferPool.totalHits));
+        tv_avl_hits.setText("-");
+        tv_bplus_height.setText(String.valueOf(bPlusReplay.getSnapshot().height));
+        tv_avl_height.setText(String.valueOf(avlReplay.getSnapshot().height));
+
+        final Dialog dialog = new Dialog(context);
+        dialog.setContentView(view);
+        dialog.show();
+
+        btn_close.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                dialog.dismiss();
+            }
+        });
+    }
+
+    private void startPlayback(String operation, int data, int data2){
+        closeDrawer(0);
+        disableUI();
+
+        if(!playbackEngine.isRunning()) {
+            switch (operation) {
+                case "INSERT":
+                    bPlusTree.insert(data);
+                    history.add(new Pair<>(operation, data));
+                    break;
+                case "DELETE":
+                    bPlusTree.delete(data);
+                    history.add(new Pair<>(operation, data));
+                    break;
+                case "SEARCH":
+                    bPlusTree.search(data);
+                    history.add(new Pair<>(operation, data));
+                    break;
+                case "RANGE_SCAN":
+                    bPlusTree.rangeScan(data, data2);
+                    break;
+            }
+
+            // task() stops the playbackEngine after the last step
+            final int animDurationTemp = this.animDuration;
+            playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
+                @Override
+                public boolean onStep() {
+                    task(animDurationTemp);
+                    return true;
+                }
+
+                @Override
+                public void onFrame() {}
+
+                @Override
+                public void onStop() {}
+            });
+
+        }
+    }
+
+    private void task(final int animDurationTemp) {
+        if (bPlusTree != null) {
+            final int curSeqNo = bPlusTree.treeSequence.curSeqNo;
+            bPlusTree.treeSequence.forward();
+
+            runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    if(curSeqNo < bPlusTree.treeSequence.size) {
+                        BPlusAnimationState bPlusAnimationState = (BPlusAnimationState) bPlusTree.treeSequence.treeAnimationStates.get(curSeqNo);
+                        UtilUI.setText(tv_info, bPlusAnimationState.info);
+
+                        // Pages move to their places in the new layout, removed pages fade out
+                        if(bPlusAnimationState.pageSnapshot != null){
+                            bPlusView.setSnapshot(bPlusAnimationState.pageSnapshot, animDurationTemp);
+                        }
+
+                        switch (bPlusAnimationState.state) {
+                            case NOT_FOUND: {
+                                Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
+                                break;
+                            }
+                            case FOUND:
+                            case INSERT:
+                            case DELETE_DECREASE:
+                            case DELETE_NO_CHILD:
+                            case SPLIT:
+                            case MERGE:
+                            case BORROW:
+                            case RANGE_SCAN: {
+                                bPlusView.highlight(bPlusAnimationState.pageId, bPlusAnimationState.fromSlot,
+                                        bPlusAnimationState.toSlot, BPlusView.EFFECT_FLASH, animDurationTemp);
+                                break;
+                            }
+                            case SEARCH: {
+                                bPlusView.highlight(bPlusAnimationState.pageId, -1, -1, BPlusView.EFFECT_SEARCH, animDurationTemp);
+                                break;
+                            }
+                            case LAYOUT:
+                            case BUILD:
+                                // Only the new layout, already set from the snapshot
+                                break;
+                            case NULL:
+                                break;
+                            default:
+                                Toast.makeText(context, "DEFAULT SWITCH IN TASK -__-", Toast.LENGTH_SHORT).show();
+                        }
+                    }
+                    else{
+                        UtilUI.setText(tv_info, "Done");
+                        runOnUiThread(new Runnable() {
+                            @Override
+                            public void run() {
+                                enableUI();
+                                Toast.makeText(context, "DONE", Toast.LENGTH_SHORT).show();
+                            }
+                        });
+
+                        playbackEngine.stop();
+                    }
+                }
+            });
+
+        }
+
+    }
+
+    @Override
+    protected void initPseudoCode() {}
+
+    @Override
+    protected void initViews() {
+        bPlusTree = new BPlusTree(getFanOut(), getNoOfFrames());
+        buildKeys = null;
+        history = new ArrayList<>();
+
+        bPlusView = new BPlusView(context);
+        bPlusView.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
+        ll_anim.addView(bPlusView);
+
+        ll_anim.post(new Runnable() {
+            @Override
+            public void run() {
+                dl_main.openDrawer(GravityCompat.END);
+            }
+        });
+
+    }
+
+    @Override
+    protected void initNavigation() {
+        int color = UtilUI.getCurrentThemeColor(context, R.attr.shade);
+
+        cl_bplus.setBackgroundColor(color);
+
+        cl_bst.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, BSTActivity.class);
+            }
+        });
+
+        cl_avl.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, AVLActivity.class);
+            }
+        });
+
+        cl_rbt.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, RBTActivity.class);
+            }
+        });
+
+        cl_bplus.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(1);
+            }
+        });
+
+        cl_home.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+            }
+        });
+
+    }
+
+    @Override
+    protected void back(){
+        if(isAnimating)
+            return;
+
+        playbackEngine.stop();
+
+        View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
+
+        Button btn_cancel = view.findViewById(R.id.btn_cancel);
+        Button btn_yes = view.findViewById(R.id.btn_yes);
+
+        final Dialog dialog = new Dialog(context);
+        dialog.setContentView(view);
+        dialog.getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
+        dialog.show();
+
+        btn_cancel.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                btn_menu.setEnabled(true);
+                dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+                dialog.dismiss();
+            }
+        });
+
+        btn_yes.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                dialog.dismiss();
+                finishAfterTransition();
+            }
+        });
+
+        dialog.setOnDismissListener(new DialogInterface.OnDismissListener() {
+            @Override
+            public void onDismiss(DialogInterface dialog) {
+                btn_menu.setEnabled(true);
+                btn_nav.setEnabled(true);
+                btn_info.setEnabled(true);
+                dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+            }
+        });
+
+    }
+
+    @Override
+    protected void disableUI() {
+        isAnimating = true;
+        dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_LOCKED_CLOSED);
+        btn_menu.setEnabled(false);
+        btn_nav.setEnabled(false);
+        btn_info.setEnabled(false);
+    }
+
+    @Override
+    protected void enableUI() {
+        isAnimating = false;
+        btn_menu.setEnabled(true);
+        btn_nav.setEnabled(true);
+        btn_info.setEnabled(true);
+        dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+    }
+
+    @Override
+    protected void initToolTipTexts(){
+        TooltipCompat.setTooltipText(btn_info, "Info");
+        TooltipCompat.setTooltipText(btn_menu, "Controls Menu");
+        TooltipCompat.setTooltipText(btn_nav, "Navigation Menu");
+        TooltipCompat.setTooltipText(tv_info, "Current Animation Info");
+
+        // Right Menu
+        TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
+        TooltipCompat.setTooltipText(btn_helpmenu, "Show Help");
+        TooltipCompat.setTooltipText(btn_insertrandom, "Random Number");
+        TooltipCompat.setTooltipText(btn_rangescan, "Keys from first to second number");
+
+        // Left Menu
+        TooltipCompat.setTooltipText(btn_closenav, "Close Navigation");
+    }
+
+}
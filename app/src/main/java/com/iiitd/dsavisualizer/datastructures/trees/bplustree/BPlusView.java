@@ -0,0 +1,412 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.SystemClock;
+import android.util.AttributeSet;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
+import android.view.View;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.HashMap;
+import java.util.Iterator;
+
+// BPlusView draws BPlusSnapshots on a canvas, every page is a row of maxKeys slots and leaf pages are linked by arrows
+// Viewport works like TreeView, pinch zooms, drag pans and double tap fits the tree to the view again
+// A new snapshot moves pages from their current places to their new places, new pages grow and removed pages fade out
+public class BPlusView extends View {
+    public static final int EFFECT_SEARCH = 0;      // outline around the page
+    public static final int EFFECT_FLASH = 1;       // slots of the page blink
+
+    private static final float PAGE_HEIGHT = 1.2f;  // units
+    private static final float LEVEL_HEIGHT = 3;    // units between the tops of levels
+    private static final float MARGIN = 1;          // units around the tree
+    private static final float UNIT = 24;           // dp per unit at scale 1
+    private static final float MIN_SCALE = 0.01f;
+    private static final float MAX_SCALE = 4;
+    private static final float MAX_FIT_SCALE = 1.5f;
+    private static final float MIN_LABEL_SIZE = 5;  // dp
+
+    private final float unit;                       // px per unit at scale 1
+    private final float minLabelSize;               // px
+    private final Paint pagePaint;
+    private final Paint emptySlotPaint;
+    private final Paint edgePaint;
+    private final Paint effectPaint;
+    private final Paint flashPaint;
+    private final Paint labelPaint;
+    private final ScaleGestureDetector scaleGestureDetector;
+    private final GestureDetector gestureDetector;
+
+    private BPlusSnapshot snapshot;
+    private final HashMap<Integer, Integer> indexes;    // page id -> index in snapshot
+    private float[] fromX;                          // units, place of every page when the snapshot was set
+    private float[] fromY;
+    private boolean[] isNew;
+
+    // Pages of the previous snapshot which are not in the current one, faded out at their last place
+    private int[][] removedKeys;
+    private float[] removedX;
+    private float[] removedY;
+
+    private long moveStart;                         // SystemClock.uptimeMillis()
+    private long moveDuration;
+    private float fromScale;
+    private float fromTranslateX;
+    private float fromTranslateY;
+
+    private final HashMap<Integer, long[]> effects; // page id -> {type, start, duration, fromSlot, toSlot}
+
+    private float scale;
+    private float translateX;                       // px
+    private float translateY;
+    private boolean isFitted;                       // false once the user zooms or pans
+
+    public BPlusView(Context context) {
+        this(context, null);
+    }
+
+    public BPlusView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        float density = context.getResources().getDisplayMetrics().density;
+        this.unit = UNIT * density;
+        this.minLabelSize = MIN_LABEL_SIZE * density;
+
+        this.pagePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.pagePaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.base));
+        this.emptySlotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.emptySlotPaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.medium));
+        this.edgePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.edgePaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.medium));
+        this.edgePaint.setStrokeWidth(2 * density);
+        this.effectPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.effectPaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.opp));
+        this.effectPaint.setStyle(Paint.Style.STROKE);
+        this.effectPaint.setStrokeWidth(2 * density);
+        this.flashPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.flashPaint.setColor(UtilUI.getCurrentThemeColor(context, R.attr.opp));
+        this.labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.labelPaint.setColor(Color.WHITE);
+        this.labelPaint.setTextAlign(Paint.Align.CENTER);
+        this.labelPaint.setFakeBoldText(true);
+
+        this.indexes = new HashMap<>();
+        this.effects = new HashMap<>();
+        this.scale = 1;
+        this.translateX = 0;
+        this.translateY = 0;
+        this.isFitted = true;
+        setSnapshot(new BPlusSnapshot(0, 1), 0);
+
+        this.scaleGestureDetector = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+                zoom(detector.getScaleFactor(), detector.getFocusX(), detector.getFocusY());
+                return true;
+            }
+        });
+
+        this.gestureDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                return true;
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+                isFitted = false;
+                translateX -= distanceX;
+                translateY -= distanceY;
+                finishViewportMove();
+                invalidate();
+                return true;
+            }
+
+            @Override
+            public boolean onDoubleTap(MotionEvent e) {
+                isFitted = true;
+                fit();
+                finishViewportMove();
+                invalidate();
+                return true;
+            }
+        });
+    }
+
+    // Moves pages to their places in snapshot over duration ms, duration = 0 => pages are moved directly
+    public void setSnapshot(BPlusSnapshot snapshot, long duration){
+        long now = SystemClock.uptimeMillis();
+        float fraction = getMoveFraction(now);
+
+        int size = snapshot.size;
+        float[] fromX = new float[size];
+        float[] fromY = new float[size];
+        boolean[] isNew = new boolean[size];
+        boolean[] isKept = new boolean[this.snapshot == null ? 0 : this.snapshot.size];
+        for(int i=0;i<size;i++){
+            Integer index = indexes.get(snapshot.ids[i]);
+            if(index != null){
+                isKept[index] = true;
+                fromX[i] = getX(index, fraction);
+                fromY[i] = getY(index, fraction);
+            }
+            else{
+                isNew[i] = true;
+                fromX[i] = snapshot.xs[i];
+                fromY[i] = snapshot.depths[i] * LEVEL_HEIGHT;
+            }
+        }
+
+        int noOfRemoved = 0;
+        for(boolean kept : isKept){
+            if(!kept)
+                noOfRemoved++;
+        }
+        removedKeys = new int[noOfRemoved][];
+        removedX = new float[noOfRemoved];
+        removedY = new float[noOfRemoved];
+        for(int i=0, j=0;i<isKept.length;i++){
+            if(!isKept[i]){
+                removedKeys[j] = this.snapshot.keys[i];
+                removedX[j] = getX(i, fraction);
+                removedY[j] = getY(i, fraction);
+                j++;
+            }
+        }
+
+        this.snapshot = snapshot;
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.isNew = isNew;
+        this.indexes.clear();
+        for(int i=0;i<size;i++){
+            indexes.put(snapshot.ids[i], i);
+        }
+        effects.keySet().retainAll(indexes.keySet());
+
+        // Viewport moves on from where it is in the current frame
+        fromScale += (scale - fromScale) * fraction;
+        fromTranslateX += (translateX - fromTranslateX) * fraction;
+        fromTranslateY += (translateY - fromTranslateY) * fraction;
+        scale = fromScale;
+        translateX = fromTranslateX;
+        translateY = fromTranslateY;
+        moveStart = now;
+        moveDuration = duration;
+        if(isFitted){
+            fit();
+        }
+
+        invalidate();
+    }
+
+    // Highlights slots fromSlot to toSlot of page id for duration ms, fromSlot = -1 => whole page
+    // type is one of the EFFECT constants
+    public void highlight(int id, int fromSlot, int toSlot, int type, long duration){
+        if(!indexes.containsKey(id))
+            return;
+
+        effects.put(id, new long[]{type, SystemClock.uptimeMillis(), Math.max(1, duration), fromSlot, toSlot});
+        invalidate();
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        boolean handled = scaleGestureDetector.onTouchEvent(event);
+        handled = gestureDetector.onTouchEvent(event) || handled;
+        return handled || super.onTouchEvent(event);
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        if(isFitted){
+            fit();
+            finishViewportMove();
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        long now = SystemClock.uptimeMillis();
+        float fraction = getMoveFraction(now);
+        boolean isAnimating = fraction < 1;
+
+        // px per unit and translation of the current frame
+        float curUnit = (fromScale + (scale - fromScale) * fraction) * unit;
+        float curTranslateX = fromTranslateX + (translateX - fromTranslateX) * fraction;
+        float curTranslateY = fromTranslateY + (translateY - fromTranslateY) * fraction;
+        float slotWidth = BPlusLayout.SLOT_WIDTH * curUnit;
+        float pageWidth = snapshot.maxKeys * slotWidth;
+        float pageHeight = PAGE_HEIGHT * curUnit;
+
+        Iterator<long[]> iterator = effects.values().iterator();
+        while (iterator.hasNext()){
+            long[] effect = iterator.next();
+            if(now >= effect[1] + effect[2]){
+                iterator.remove();
+            }
+        }
+
+        // Edge from the boundary of slots of the parent to the top of the child, leaf links from page to page
+        for(int i=0;i<snapshot.size;i++){
+            float x = curTranslateX + getX(i, fraction) * curUnit;
+            float y = curTranslateY + getY(i, fraction) * curUnit;
+            int parent = snapshot.parents[i];
+            if(parent != -1){
+                canvas.drawLine(curTranslateX + getX(parent, fraction) * curUnit + snapshot.childIndexes[i] * slotWidth,
+                        curTranslateY + getY(parent, fraction) * curUnit + pageHeight,
+                        x + pageWidth / 2, y, edgePaint);
+            }
+
+            int next = snapshot.nexts[i];
+            if(next != -1){
+                float toX = curTranslateX + getX(next, fraction) * curUnit;
+                float midY = y + pageHeight / 2;
+                float arrow = pageHeight / 4;
+                canvas.drawLine(x + pageWidth, midY, toX, midY, edgePaint);
+                canvas.drawLine(toX, midY, toX - arrow, midY - arrow, edgePaint);
+                canvas.drawLine(toX, midY, toX - arrow, midY + arrow, edgePaint);
+            }
+        }
+
+        boolean isLabeled = pageHeight >= 2 * minLabelSize;
+        labelPaint.setTextSize(pageHeight * 0.45f);
+
+        if(isAnimating){
+            for(int i=0;i<removedKeys.length;i++){
+                drawPage(canvas, curTranslateX + removedX[i] * curUnit, curTranslateY + removedY[i] * curUnit,
+                        slotWidth, pageHeight, 1, (int) (255 * (1 - fraction)), removedKeys[i], null, isLabeled);
+            }
+        }
+
+        for(int i=0;i<snapshot.size;i++){
+            float x = curTranslateX + getX(i, fraction) * curUnit;
+            float y = curTranslateY + getY(i, fraction) * curUnit;
+            if(x + pageWidth < 0 || x > getWidth() || y + pageHeight < 0 || y > getHeight())
+                continue;
+
+            drawPage(canvas, x, y, slotWidth, pageHeight, isNew[i] ? fraction : 1, 255,
+                    snapshot.keys[i], snapshot.counts[i], isLabeled);
+
+            long[] effect = effects.get(snapshot.ids[i]);
+            if(effect == null)
+                continue;
+
+            float effectFraction = (float) (now - effect[1]) / effect[2];
+            float fromX = effect[3] == -1 ? x : x + effect[3] * slotWidth;
+            float toX = effect[3] == -1 ? x + pageWidth : x + (effect[4] + 1) * slotWidth;
+            if(effect[0] == EFFECT_FLASH){
+                flashPaint.setAlpha((int) (160 * Math.abs(Math.sin(2 * Math.PI * effectFraction))));
+                canvas.drawRect(fromX, y, toX, y + pageHeight, flashPaint);
+            }
+            else if(effect[0] == EFFECT_SEARCH){
+                float grow = pageHeight * 0.2f * effectFraction;
+                effectPaint.setAlpha((int) (255 * (1 - effectFraction)));
+                canvas.drawRect(fromX - grow, y - grow, toX + grow, y + pageHeight + grow, effectPaint);
+            }
+        }
+
+        if(isAnimating || effects.size() > 0){
+            postInvalidateOnAnimation();
+        }
+    }
+
+    // Page of snapshot.maxKeys slots with its top left corner at x, y, growth scales the page around its center
+    // Counts are drawn under the keys only if they are more than 1, counts = null => internal page
+    private void drawPage(Canvas canvas, float x, float y, float slotWidth, float pageHeight, float growth, int alpha,
+                          int[] keys, int[] counts, boolean isLabeled){
+        float pageWidth = snapshot.maxKeys * slotWidth;
+        float centerX = x + pageWidth / 2;
+        float centerY = y + pageHeight / 2;
+        slotWidth *= growth;
+        pageHeight *= growth;
+        x = centerX - snapshot.maxKeys * slotWidth / 2;
+        y = centerY - pageHeight / 2;
+        float gap = slotWidth * 0.05f;
+
+        pagePaint.setAlpha(alpha);
+        emptySlotPaint.setAlpha(alpha / 2);
+        labelPaint.setAlpha(alpha);
+        float textSize = labelPaint.getTextSize();
+        for(int slot=0;slot<snapshot.maxKeys;slot++){
+            float left = x + slot * slotWidth;
+            canvas.drawRect(left + gap, y, left + slotWidth - gap, y + pageHeight,
+                    slot < keys.length ? pagePaint : emptySlotPaint);
+            if(!isLabeled || growth < 1 || slot >= keys.length)
+                continue;
+
+            float slotX = left + slotWidth / 2;
+            if(counts != null && counts[slot] > 1){
+                canvas.drawText(String.valueOf(keys[slot]), slotX, centerY, labelPaint);
+                labelPaint.setTextSize(textSize * 0.6f);
+                canvas.drawText(String.valueOf(counts[slot]), slotX, centerY + textSize * 0.7f, labelPaint);
+                labelPaint.setTextSize(textSize);
+            }
+            else{
+                canvas.drawText(String.valueOf(keys[slot]), slotX, centerY + textSize * 0.35f, labelPaint);
+            }
+        }
+    }
+
+    // Fits the whole tree in the view, small trees are not scaled beyond MAX_FIT_SCALE
+    private void fit(){
+        if(getWidth() == 0 || getHeight() == 0)
+            return;
+
+        float width = (snapshot.width + 2 * MARGIN) * unit;
+        float height = ((Math.max(1, snapshot.height) - 1) * LEVEL_HEIGHT + PAGE_HEIGHT + 2 * MARGIN) * unit;
+        scale = Math.max(MIN_SCALE, Math.min(MAX_FIT_SCALE, Math.min(getWidth() / width, getHeight() / height)));
+        translateX = (getWidth() - width * scale) / 2 + MARGIN * unit * scale;
+        translateY = MARGIN * unit * scale;
+    }
+
+    // Zooms by factor around focusX, focusY
+    private void zoom(float factor, float focusX, float focusY){
+        isFitted = false;
+        float newScale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale * factor));
+        factor = newScale / scale;
+        translateX = focusX - (focusX - translateX) * factor;
+        translateY = focusY - (focusY - translateY) * factor;
+        scale = newScale;
+        finishViewportMove();
+        invalidate();
+    }
+
+    // Viewport jumps to its target, pages keep moving
+    private void finishViewportMove(){
+        fromScale = scale;
+        fromTranslateX = translateX;
+        fromTranslateY = translateY;
+    }
+
+    private float getMoveFraction(long now){
+        if(moveDuration <= 0 || now >= moveStart + moveDuration)
+            return 1;
+
+        return interpolate((float) (now - moveStart) / moveDuration);
+    }
+
+    // Accelerates and decelerates
+    private static float interpolate(float fraction){
+        return (float) (1 - Math.cos(Math.PI * fraction)) / 2;
+    }
+
+    private float getX(int index, float fraction){
+        return fromX[index] + (snapshot.xs[index] - fromX[index]) * fraction;
+    }
+
+    private float getY(int index, float fraction){
+        return fromY[index] + (snapshot.depths[index] * LEVEL_HEIGHT - fromY[index]) * fraction;
+    }
+
+}
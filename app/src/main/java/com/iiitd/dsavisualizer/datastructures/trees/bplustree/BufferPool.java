@@ -0,0 +1,115 @@
+package com.iiitd.dsavisualizer.datastructures.trees.bplustree;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Simulated buffer pool of a BPlusTree, no page data is kept, only which pages are in memory
+// A page which is not in the pool is read from disk, once all frames are full the least recently used page is evicted
+// Changed pages are dirty, they are written to disk when evicted or when the operation ends with flush()
+public class BufferPool {
+
+    public final int noOfFrames;
+    private final LinkedHashMap<Integer, Boolean> frames;   // page id -> dirty, least recently used first
+
+    // Counters of the current operation, reset by startOperation()
+    public int noOfReads;
+    public int noOfWrites;
+    public int noOfHits;
+    public int noOfMisses;
+
+    // Counters since the pool was created
+    public int totalReads;
+    public int totalWrites;
+    public int totalHits;
+    public int totalMisses;
+
+    public BufferPool(int noOfFrames) {
+        if(noOfFrames < 1){
+            throw new IllegalArgumentException("Buffer pool needs at least 1 frame");
+        }
+
+        this.noOfFrames = noOfFrames;
+        this.frames = new LinkedHashMap<>(16, 0.75f, true);
+        this.noOfReads = 0;
+        this.noOfWrites = 0;
+        this.noOfHits = 0;
+        this.noOfMisses = 0;
+        this.totalReads = 0;
+        this.totalWrites = 0;
+        this.totalHits = 0;
+        this.totalMisses = 0;
+    }
+
+    public void startOperation(){
+        noOfReads = 0;
+        noOfWrites = 0;
+        noOfHits = 0;
+        noOfMisses = 0;
+    }
+
+    // Page is used by the operation, returns true if it was already in the pool
+    public boolean fetch(int pageId){
+        if(frames.get(pageId) != null){
+            noOfHits++;
+            totalHits++;
+            return true;
+        }
+
+        noOfMisses++;
+        totalMisses++;
+        noOfReads++;
+        totalReads++;
+        put(pageId, false);
+        return false;
+    }
+
+    // Page is changed by the operation
+    public void write(int pageId){
+        if(frames.get(pageId) == null){
+            fetch(pageId);
+        }
+
+        frames.put(pageId, true);
+    }
+
+    // New page, it is created in the pool without a read
+    public void allocate(int pageId){
+        put(pageId, true);
+    }
+
+    // Page is no longer part of the tree, it is dropped without a write
+    public void free(int pageId){
+        frames.remove(pageId);
+    }
+
+    // Writes all dirty pages, pages stay in the pool
+    public void flush(){
+        for(Map.Entry<Integer, Boolean> frame : frames.entrySet()){
+            if(frame.getValue()){
+                noOfWrites++;
+                totalWrites++;
+                frame.setValue(false);
+            }
+        }
+    }
+
+    public int getNoOfPages(){
+        return frames.size();
+    }
+
+    private void put(int pageId, boolean isDirty){
+        if(frames.size() >= noOfFrames){
+            Iterator<Map.Entry<Integer, Boolean>> iterator = frames.entrySet().iterator();
+            Map.Entry<Integer, Boolean> eldest = iterator.next();
+            if(eldest.getValue()){
+                noOfWrites++;
+                totalWrites++;
+            }
+            iterator.remove();
+        }
+
+        frames.put(pageId, isDirty);
+    }
+
+}
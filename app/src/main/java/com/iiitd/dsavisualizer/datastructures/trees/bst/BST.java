@@ -1,342 +1,448 @@
 package com.iiitd.dsavisualizer.datastructures.trees.bst;
 
-import android.util.Pair;
-
 import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeBuildKeys;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeLayout;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeSequence;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSnapshot;
 import static com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType.*;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
+import java.util.List;
 
 // BST Backend
+// Nodes are referred to by their ids in animation states, the tree has no depth limit
+// States which change the structure of the tree get a TreeLayout snapshot once the changed subtree is linked back
+// Operations are iterative and keep the nodes above the current node in path, so degenerate trees of sorted keys
+// don't overflow the stack
 public class BST {
 
     private BSTNode root;
-    private final int baseIndex = TreeLayout.baseIndex;
-    private final int baseLevel = TreeLayout.baseLevel;
+    private int noOfNodesCreated;               // id of the next node
     public TreeSequence treeSequence;
     private ArrayList<TreeAnimationState> treeAnimationStates;
+    private TreeAnimationState pendingState;    // structural state waiting for its snapshot
+    private final ArrayList<BSTNode> path;      // nodes from root to the parent of the current node, delete and traversals
+    private BSTNode maxNode;                    // node with the largest key, null => not known, used by insertSilently()
 
     public BST() {
         root = null;
+        noOfNodesCreated = 0;
         treeSequence = new TreeSequence();
+        pendingState = null;
+        path = new ArrayList<>();
+        maxNode = null;
     }
 
-    public ArrayList<TreeAnimationState> insert(int key){
+    // Current layout of the tree
+    public TreeSnapshot getSnapshot(){
+        return TreeLayout.layout(root);
+    }
+
+    // state changes the structure of the tree, its snapshot is taken by flush()
+    private void addPendingState(TreeAnimationState treeAnimationState){
+        if(pendingState != null){
+            throw new IllegalStateException("Snapshot of the previous structural state is not taken");
+        }
+
+        treeAnimationStates.add(treeAnimationState);
+        pendingState = treeAnimationState;
+    }
+
+    // Takes the snapshot of the pending state, called once root is linked to the changed subtree
+    private void flush(){
+        if(pendingState != null){
+            pendingState.snapshot = TreeLayout.layout(root);
+            pendingState = null;
+        }
+    }
+
+    // Replaces the tree with a balanced tree of keys in O(n), unsorted keys are sorted first
+    // The middle key of every range becomes the root of its subtree, equal keys become a single node with their count
+    // Emits a single BUILD state with the snapshot of the new tree, instead of the states of n inserts
+    public ArrayList<TreeAnimationState> build(List<Integer> keys){
         treeAnimationStates = new ArrayList<>();
-        root = _insert(root, key, baseIndex, baseLevel);
+        maxNode = null;
+        TreeBuildKeys treeBuildKeys = TreeBuildKeys.of(keys);
+        addPendingState(new TreeAnimationState(BUILD, BSTInfo.getBuildString(keys.size(), treeBuildKeys.size)));
+        root = _build(treeBuildKeys, 0, treeBuildKeys.size - 1);
+        flush();
         treeSequence = new TreeSequence(treeAnimationStates);
         return treeAnimationStates;
     }
 
-    private BSTNode _insert(BSTNode bstNode, int key, int index, int level){
-        if (bstNode == null){
-            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, BSTInfo.getInsertString(key, 1));
-            treeAnimationState.add(new TreeElementAnimationData(key, 1, index));
-            treeAnimationStates.add(treeAnimationState);
-            return new BSTNode(key);
+    // Recursion depth is log(n), as both halves of a range differ in size by at most 1
+    private BSTNode _build(TreeBuildKeys treeBuildKeys, int lo, int hi){
+        if(lo > hi){
+            return null;
         }
 
-        if (key == bstNode.key){
-            bstNode.count++;
-            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, BSTInfo.getInsertString(key, bstNode.count));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            return bstNode;
+        int mid = (lo + hi) >>> 1;
+        BSTNode bstNode = new BSTNode(noOfNodesCreated++, treeBuildKeys.keys[mid]);
+        bstNode.count = treeBuildKeys.counts[mid];
+        bstNode.left = _build(treeBuildKeys, lo, mid - 1);
+        bstNode.right = _build(treeBuildKeys, mid + 1, hi);
+
+        return bstNode;
+    }
+
+    public ArrayList<TreeAnimationState> insert(int key){
+        treeAnimationStates = new ArrayList<>();
+        maxNode = null;
+        _insert(key, true);
+        flush();
+        treeSequence = new TreeSequence(treeAnimationStates);
+        return treeAnimationStates;
+    }
+
+    // Inserts key without animation states or snapshots, used by stress mode to build large trees fast
+    // A key larger than all others is linked right of maxNode directly, which is where going down from root ends,
+    // so sorted keys take O(1) each instead of a walk down the whole right spine
+    public void insertSilently(int key){
+        if(maxNode == null && root != null){
+            maxNode = root;
+            while (maxNode.right != null){
+                maxNode = maxNode.right;
+            }
         }
 
-        if(level == 0){
-            treeAnimationStates.clear();
-            TreeAnimationState treeAnimationState = new TreeAnimationState(NO_SPACE, BSTInfo.getNoSpaceString());
-            treeAnimationState.add(new TreeElementAnimationData(-1, -1, -1));
-            treeAnimationStates.add(treeAnimationState);
-            return bstNode;
+        if(maxNode != null && key > maxNode.key){
+            maxNode.right = new BSTNode(noOfNodesCreated++, key);
+            maxNode = maxNode.right;
+            return;
         }
 
-        TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
-        treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-        treeAnimationStates.add(treeAnimationState);
+        // Smaller or equal keys don't change maxNode
+        _insert(key, false);
+    }
 
-        if (key < bstNode.key) {
-            bstNode.left = _insert(bstNode.left, key, index - level, level / 2);
+    // Goes down from root keeping only the parent, which is all an insert relinks
+    private void _insert(int key, boolean isRecording){
+        BSTNode parent = null;
+        BSTNode bstNode = root;
+        while (bstNode != null){
+            if (key == bstNode.key){
+                bstNode.count++;
+                if(isRecording){
+                    TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, BSTInfo.getInsertString(key, bstNode.count));
+                    treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+                    treeAnimationStates.add(treeAnimationState);
+                }
+                return;
+            }
+
+            if(isRecording){
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
+                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+                treeAnimationStates.add(treeAnimationState);
+            }
+
+            parent = bstNode;
+            bstNode = key < bstNode.key ? bstNode.left : bstNode.right;
         }
-        else {
-            bstNode.right = _insert(bstNode.right, key, index + level, level / 2);
+
+        BSTNode newNode = new BSTNode(noOfNodesCreated++, key);
+        if(parent == null){
+            root = newNode;
+        }
+        else if(key < parent.key){
+            parent.left = newNode;
+        }
+        else{
+            parent.right = newNode;
         }
 
-        return bstNode;
+        if(isRecording){
+            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, BSTInfo.getInsertString(key, 1));
+            treeAnimationState.add(new TreeElementAnimationData(key, 1, newNode.id));
+            addPendingState(treeAnimationState);
+        }
+    }
+
+    // Last node of the path, null => path is empty and the current node is root
+    private BSTNode getParent(){
+        return path.size() == 0 ? null : path.get(path.size() - 1);
+    }
+
+    // Links newChild in place of oldChild, under the last node of the path
+    private void replaceChild(BSTNode oldChild, BSTNode newChild){
+        BSTNode parent = getParent();
+        if(parent == null){
+            root = newChild;
+        }
+        else if(parent.left == oldChild){
+            parent.left = newChild;
+        }
+        else{
+            parent.right = newChild;
+        }
     }
 
     public void delete(int key){
         treeAnimationStates = new ArrayList<>();
-        root = _delete(root, key, baseIndex, baseLevel);
+        maxNode = null;
+        _delete(key);
+        flush();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private BSTNode _delete(BSTNode bstNode, int key, int index, int level){
-        if (bstNode == null) {
-            System.out.println("NULL Node, Not found");
-            TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, BSTInfo.getNotFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(-1,-1));
-            treeAnimationStates.add(treeAnimationState);
-            return bstNode;
-        }
+    // Goes down from root keeping the path, a node with 2 children takes the key of its successor,
+    // then the successor is deleted from the right subtree by going on down the same path
+    private void _delete(int key){
+        path.clear();
+        BSTNode bstNode = root;
+        while (true){
+            if (bstNode == null) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, BSTInfo.getNotFoundString(key));
+                treeAnimationStates.add(treeAnimationState);
+                return;
+            }
 
-        if (key < bstNode.key) {
-            System.out.println("LESS KEY = " + bstNode.key);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            bstNode.left = _delete(bstNode.left, key, index - level, level / 2);
-        }
-        else if (key > bstNode.key) {
-            System.out.println("More KEY = " + bstNode.key);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            bstNode.right = _delete(bstNode.right, key, index + level, level / 2);
-        }
-        else{
-            if (bstNode.count > 1){
+            if (key < bstNode.key) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
+                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+                treeAnimationStates.add(treeAnimationState);
+                path.add(bstNode);
+                bstNode = bstNode.left;
+            }
+            else if (key > bstNode.key) {
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
+                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+                treeAnimationStates.add(treeAnimationState);
+                path.add(bstNode);
+                bstNode = bstNode.right;
+            }
+            else if (bstNode.count > 1){
                 bstNode.count--;
                 TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_DECREASE, BSTInfo.getDeleteString(key, bstNode.count));
-                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
+                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
                 treeAnimationStates.add(treeAnimationState);
-                System.out.println("Count decreased = " + bstNode.key + " : " + bstNode.count);
-                return bstNode;
+                return;
             }
-
-            System.out.println(bstNode.key +"  ---===== " + bstNode.count);
-
-            if (bstNode.left == null && bstNode.right == null){
-                System.out.println("Simple delete");
+            else if (bstNode.left == null && bstNode.right == null){
                 TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_NO_CHILD, BSTInfo.getDeleteString(key, 1));
-                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-                treeAnimationStates.add(treeAnimationState);
-                return null;
+                treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+                addPendingState(treeAnimationState);
+                replaceChild(bstNode, null);
+                return;
             }
-            else if(bstNode.left == null && bstNode.right != null){
-                System.out.println("Right copy");
+            else if(bstNode.left == null){
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_1_CHILD, BSTInfo.getDeleteString(key, 1));
-                TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, BSTInfo.getRightSubtreeString());
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, BSTInfo.getRightSubtreeString());
-                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-
-                BSTNode temp = bstNode.right;
-                Queue<BSTNode> queue = new LinkedList<>();
-                Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-                System.out.println("in = " + (index+level));
-                queue.add(temp);
-                queue2.add(new Pair(index+level, index));
-
-                while(queue.size() > 0 ) {
-                    BSTNode node = queue.remove();
-                    Pair<Integer, Integer> pair = queue2.remove();
-                    int currentIndex = pair.first;
-                    int parentIndex = pair.second;
-                    System.out.println(node.key + " | " + pair);
-                    step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                    step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                    if (node.left != null) {
-                        queue.add(node.left);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                    }
-                    if (node.right != null) {
-                        queue.add(node.right);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                    }
-                }
+                TreeAnimationState step2 = new TreeAnimationState(LAYOUT, BSTInfo.getRightSubtreeString());
+                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
 
                 treeAnimationStates.add(step1);
-                treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
+                addPendingState(step2);
 
-                return bstNode.right;
+                replaceChild(bstNode, bstNode.right);
+                return;
             }
-            else if(bstNode.left != null && bstNode.right == null){
-                System.out.println("Left copy");
+            else if(bstNode.right == null){
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_1_CHILD, BSTInfo.getDeleteString(key, 1));
-                TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, BSTInfo.getLeftSubtreeString());
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, BSTInfo.getLeftSubtreeString());
-                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-
-                BSTNode temp = bstNode.left;
-                Queue<BSTNode> queue = new LinkedList<>();
-                Queue<Pair<Integer, Integer>> queue2 = new LinkedList<>();
-
-                System.out.println("in = " + (index-level));
-                queue.add(temp);
-                queue2.add(new Pair(index-level, index));
-
-                while(queue.size() > 0 ){
-                    BSTNode node = queue.remove();
-                    Pair<Integer, Integer> pair = queue2.remove();
-                    int currentIndex = pair.first;
-                    int parentIndex = pair.second;
-                    System.out.println(node.key + " | " + pair);
-                    step2.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-                    step3.add(new TreeElementAnimationData(node.key, node.count, currentIndex, parentIndex));
-
-                    if(node.left != null){
-                        queue.add(node.left);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].first, TreeLayout.childs[parentIndex].first));
-
-                    }
-                    if(node.right != null){
-                        queue.add(node.right);
-                        queue2.add(new Pair(TreeLayout.childs[currentIndex].second, TreeLayout.childs[parentIndex].second));
-                    }
-                }
+                TreeAnimationState step2 = new TreeAnimationState(LAYOUT, BSTInfo.getLeftSubtreeString());
+                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
 
                 treeAnimationStates.add(step1);
-                treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
+                addPendingState(step2);
 
-                return bstNode.left;
+                replaceChild(bstNode, bstNode.left);
+                return;
             }
-            else if(bstNode.left != null && bstNode.right != null){
-                System.out.println("Right min element");
+            else{
                 BSTNode current = bstNode.right;
-                System.out.println("index == " + index);
-                int curIndex = index+level;
-                int curLevel = level;
 
                 TreeAnimationState step1 = new TreeAnimationState(DELETE_NO_CHILD, BSTInfo.getDeleteString(key, 1));
 
-                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
+                step1.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
                 treeAnimationStates.add(step1);
 
                 while (current.left != null) {
                     TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getFindSuccessorString(key));
-                    treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, curIndex));
+                    treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
                     current = current.left;
-                    curLevel /= 2;
-                    curIndex = curIndex - curLevel;
                     treeAnimationStates.add(treeAnimationState);
                 }
                 TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getFoundSuccessorString(key, current.key));
-                treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, curIndex));
+                treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
                 treeAnimationStates.add(treeAnimationState);
 
                 BSTNode temp = current;
 
                 TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, BSTInfo.getMoveUpString(temp.key, bstNode.key));
-                TreeAnimationState step3 = new TreeAnimationState(MOVE_BACK, BSTInfo.getMoveUpString(temp.key, bstNode.key));
-
-                step2.add(new TreeElementAnimationData(temp.key, temp.count, curIndex, index));
-                step3.add(new TreeElementAnimationData(temp.key, temp.count, curIndex, index));
-
+                step2.add(new TreeElementAnimationData(temp.key, temp.count, temp.id, bstNode.id));
                 treeAnimationStates.add(step2);
-                treeAnimationStates.add(step3);
 
-                System.out.println("IN = " + index + " | lev = " + level);
                 bstNode.key = temp.key;
                 bstNode.count = temp.count;
                 temp.count = 1;
-                bstNode.right = _delete(bstNode.right, temp.key, index + level, level / 2);
 
+                // Successor is deleted from the right subtree, it has no left child
+                key = temp.key;
+                path.add(bstNode);
+                bstNode = bstNode.right;
             }
         }
-
-        return bstNode;
     }
 
     public void search(int key){
         treeAnimationStates = new ArrayList<>();
-        _search(root, key, baseIndex, baseLevel);
+        _search(key);
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void  _search(BSTNode bstNode, int key, int index, int level){
-        if (bstNode == null) {
-            System.out.println("NULL Node, Not found");
-            TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, BSTInfo.getNotFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(-1,-1));
-            treeAnimationStates.add(treeAnimationState);
-            return;
-        }
-
-        if (key < bstNode.key) {
-            System.out.println("LESS KEY = " + bstNode.key);
+    private void _search(int key){
+        BSTNode bstNode = root;
+        while (bstNode != null && key != bstNode.key){
             TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
+            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
             treeAnimationStates.add(treeAnimationState);
-            _search(bstNode.left, key, index - level, level / 2);
+            bstNode = key < bstNode.key ? bstNode.left : bstNode.right;
         }
-        else if (key > bstNode.key) {
-            System.out.println("More KEY = " + bstNode.key);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, BSTInfo.getSearchString(key, bstNode.key));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
+
+        if (bstNode == null) {
+            TreeAnimationState treeAnimationState = new TreeAnimationState(NOT_FOUND, BSTInfo.getNotFoundString(key));
             treeAnimationStates.add(treeAnimationState);
-            _search(bstNode.right, key, index + level, level / 2);
         }
         else{
             TreeAnimationState treeAnimationState = new TreeAnimationState(FOUND, BSTInfo.getFoundString(key));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
+            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
             treeAnimationStates.add(treeAnimationState);
         }
 
     }
 
+    // Levels of the tree, root is at level 1
+    public int getHeight(){
+        return (int) getDepthStats()[0];
+    }
+
+    // Average number of nodes a search visits to find a key of the tree, every distinct key is searched once
+    public double getAverageSearchDepth(){
+        long[] depthStats = getDepthStats();
+        return depthStats[2] == 0 ? 0 : (double) depthStats[1] / depthStats[2];
+    }
+
+    // { max depth, sum of depths, no of nodes }, root is at depth 1
+    // Preorder with plain array stacks, a degenerate tree of the stress test is as deep as its number of keys
+    private long[] getDepthStats(){
+        long maxDepth = 0;
+        long totalDepth = 0;
+        long noOfNodes = 0;
+        BSTNode[] stack = new BSTNode[16];
+        int[] depths = new int[16];
+        int top = 0;
+        if(root != null){
+            stack[top] = root;
+            depths[top++] = 1;
+        }
+
+        while (top > 0){
+            BSTNode bstNode = stack[--top];
+            int depth = depths[top];
+            stack[top] = null;
+            maxDepth = Math.max(maxDepth, depth);
+            totalDepth += depth;
+            noOfNodes++;
+
+            if(top + 2 > stack.length){
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+                depths = Arrays.copyOf(depths, 2 * depths.length);
+            }
+            if(bstNode.left != null){
+                stack[top] = bstNode.left;
+                depths[top++] = depth + 1;
+            }
+            if(bstNode.right != null){
+                stack[top] = bstNode.right;
+                depths[top++] = depth + 1;
+            }
+        }
+
+        return new long[]{maxDepth, totalDepth, noOfNodes};
+    }
+
     public void inorder(){
         treeAnimationStates = new ArrayList<>();
-        _inorder(root, baseIndex, baseLevel);
+        _inorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _inorder(BSTNode bstNode, int index, int level){
-        System.out.println("inorder");
-        if (bstNode != null){
-            _inorder(bstNode.left, index - level, level / 2);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, BSTInfo.getOrderTraversalString("In"));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(bstNode.key + "(" + bstNode.count + ") ");
-            _inorder(bstNode.right, index + level, level / 2);
+    // Left subtrees are pushed on path until their leftmost node, which is visited next
+    private void _inorder(){
+        path.clear();
+        BSTNode bstNode = root;
+        while (bstNode != null || path.size() > 0){
+            while (bstNode != null){
+                path.add(bstNode);
+                bstNode = bstNode.left;
+            }
+
+            bstNode = path.remove(path.size() - 1);
+            addOrderTraversalState(bstNode, "In");
+            bstNode = bstNode.right;
         }
     }
 
     public void preorder(){
         treeAnimationStates = new ArrayList<>();
-        _preorder(root, baseIndex, baseLevel);
+        _preorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _preorder(BSTNode bstNode, int index, int level){
-        System.out.println("preorder");
-        if (bstNode != null){
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, BSTInfo.getOrderTraversalString("Pre"));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(bstNode.key + "(" + bstNode.count + ") ");
-            _preorder(bstNode.left, index - level, level / 2);
-            _preorder(bstNode.right, index + level, level / 2);
+    // Right child is pushed before the left child, so the left subtree is visited first
+    private void _preorder(){
+        path.clear();
+        if(root != null){
+            path.add(root);
+        }
+
+        while (path.size() > 0){
+            BSTNode bstNode = path.remove(path.size() - 1);
+            addOrderTraversalState(bstNode, "Pre");
+            if(bstNode.right != null){
+                path.add(bstNode.right);
+            }
+            if(bstNode.left != null){
+                path.add(bstNode.left);
+            }
         }
     }
 
     public void postorder(){
         treeAnimationStates = new ArrayList<>();
-        _postorder(root, baseIndex, baseLevel);
+        _postorder();
         treeSequence = new TreeSequence(treeAnimationStates);
     }
 
-    private void _postorder(BSTNode bstNode, int index, int level){
-        System.out.println("postorder");
-        if (bstNode != null){
-            _postorder(bstNode.left, index - level, level / 2);
-            _postorder(bstNode.right, index + level, level / 2);
-            TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, BSTInfo.getOrderTraversalString("Post"));
-            treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, index));
-            treeAnimationStates.add(treeAnimationState);
-            System.out.print(bstNode.key + "(" + bstNode.count + ") ");
+    // A node on path is visited once its right subtree is done, last is the previously visited node
+    private void _postorder(){
+        path.clear();
+        BSTNode bstNode = root;
+        BSTNode last = null;
+        while (bstNode != null || path.size() > 0){
+            while (bstNode != null){
+                path.add(bstNode);
+                bstNode = bstNode.left;
+            }
+
+            BSTNode top = path.get(path.size() - 1);
+            if(top.right != null && top.right != last){
+                bstNode = top.right;
+            }
+            else{
+                path.remove(path.size() - 1);
+                addOrderTraversalState(top, "Post");
+                last = top;
+            }
         }
     }
 
-}
\ No newline at end of file
+    private void addOrderTraversalState(BSTNode bstNode, String order){
+        TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, BSTInfo.getOrderTraversalString(order));
+        treeAnimationState.add(new TreeElementAnimationData(bstNode.key, bstNode.count, bstNode.id));
+        treeAnimationStates.add(treeAnimationState);
+    }
+
+}
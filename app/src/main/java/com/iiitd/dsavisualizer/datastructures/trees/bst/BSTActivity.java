@@ -1,14 +1,11 @@
 package com.iiitd.dsavisualizer.datastructures.trees.bst;
 
 import android.app.Dialog;
-import android.content.Context;
 import android.content.DialogInterface;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.os.Bundle;
-import android.util.Pair;
 import android.view.Gravity;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.Window;
 import android.view.WindowManager;
@@ -17,8 +14,6 @@ import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.SeekBar;
-import android.widget.TableLayout;
-import android.widget.TableRow;
 import android.widget.TextView;
 import android.widget.Toast;
 
@@ -27,26 +22,23 @@ import androidx.constraintlayout.widget.ConstraintLayout;
 import androidx.core.view.GravityCompat;
 import androidx.drawerlayout.widget.DrawerLayout;
 
-import com.github.florent37.viewanimator.AnimationListener;
-import com.github.florent37.viewanimator.ViewAnimator;
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.datastructures.trees.NodeState;
-import com.iiitd.dsavisualizer.datastructures.trees.NodeType;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
 import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayout;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutData;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutElement;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSnapshot;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeView;
 import com.iiitd.dsavisualizer.datastructures.trees.avl.AVLActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.bplustree.BPlusTreeActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.rbt.RBTActivity;
 import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // BST FrontEnd
 public class BSTActivity extends BaseActivity {
@@ -68,6 +60,7 @@ public class BSTActivity extends BaseActivity {
     Button btn_preorder;
     Button btn_postorder;
     Button btn_cleartree;
+    Button btn_stress;
     Button btn_example1;
     Button btn_example2;
     Button btn_example3;
@@ -79,16 +72,14 @@ public class BSTActivity extends BaseActivity {
     ConstraintLayout cl_home;
     ConstraintLayout cl_bst;
     ConstraintLayout cl_avl;
+    ConstraintLayout cl_rbt;
+    ConstraintLayout cl_bplus;
 
-    TableLayout tableLayout;
-    ArrayList<TableRow> tableRows = new ArrayList<>();
-
-    ArrayList<List<TreeLayoutElement>> treeLayout = TreeLayout.treeLayout;
+    TreeView treeView;
     BST bst;
-    TreeLayoutData treeLayoutData;
+    ExecutorService executorService;            // stress test runs off the UI thread
 
     Random random = new Random();
-    Timer timer = null;
     boolean isAnimating = false;
     int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
     int animDuration = AppSettings.DEFAULT_ANIM_DURATION;
@@ -96,6 +87,8 @@ public class BSTActivity extends BaseActivity {
     final int LAYOUT_LEFT = R.layout.navigation_tree;
     final int LAYOUT_RIGHT = R.layout.controls_bst;
     final String ONBOARDING_KEY =  AppSettings.TREE_KEY;
+    final int STRESS_NO_OF_KEYS = 100000;
+    final int STRESS_PROGRESS_INTERVAL = 1000;  // keys between progress updates
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -123,6 +116,7 @@ public class BSTActivity extends BaseActivity {
         btn_preorder = v_menu_right.findViewById(R.id.btn_preorder);
         btn_postorder = v_menu_right.findViewById(R.id.btn_postorder);
         btn_cleartree = v_menu_right.findViewById(R.id.btn_cleartree);
+        btn_stress = v_menu_right.findViewById(R.id.btn_stress);
         btn_example1 = v_menu_right.findViewById(R.id.btn_example1);
         btn_example2 = v_menu_right.findViewById(R.id.btn_example2);
         btn_example3 = v_menu_right.findViewById(R.id.btn_example3);
@@ -134,6 +128,8 @@ public class BSTActivity extends BaseActivity {
         cl_home = v_menu_left.findViewById(R.id.cl_home);
         cl_bst = v_menu_left.findViewById(R.id.cl_bst);
         cl_avl = v_menu_left.findViewById(R.id.cl_avl);
+        cl_rbt = v_menu_left.findViewById(R.id.cl_rbt);
+        cl_bplus = v_menu_left.findViewById(R.id.cl_bplus);
 
         initOnBoarding();
         initViews();
@@ -144,9 +140,10 @@ public class BSTActivity extends BaseActivity {
         sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
             @Override
             public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
-                // 2500ms to 500ms
-                animStepDuration = (2000 - seekBar.getProgress() * 20) + 500;
+                // 2500ms to 1ms
+                animStepDuration = PlaybackEngine.getStepDuration(seekBar.getProgress());
                 animDuration = animStepDuration/2;
+                playbackEngine.setStepDuration(animStepDuration);
             }
 
             @Override
@@ -174,10 +171,7 @@ public class BSTActivity extends BaseActivity {
                 ImageButton btn_close = view.findViewById(R.id.btn_close);
 
                 if(bst != null) {
-                    if(timer != null){
-                        timer.cancel();
-                        timer = null;
-                    }
+                    playbackEngine.stop();
                 }
 
                 tv_name.setText(BSTStats.name);
@@ -260,7 +254,7 @@ public class BSTActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("INSERT", data);
+                startPlayback("INSERT", data);
             }
         });
 
@@ -277,7 +271,7 @@ public class BSTActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("SEARCH", data);
+                startPlayback("SEARCH", data);
             }
         });
 
@@ -294,28 +288,28 @@ public class BSTActivity extends BaseActivity {
                     return;
                 }
 
-                startTimer("DELETE", data);
+                startPlayback("DELETE", data);
             }
         });
 
         btn_inorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("INORDER", -1);
+                startPlayback("INORDER", -1);
             }
         });
 
         btn_preorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("PREORDER", -1);
+                startPlayback("PREORDER", -1);
             }
         });
 
         btn_postorder.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                startTimer("POSTORDER", -1);
+                startPlayback("POSTORDER", -1);
             }
         });
 
@@ -326,6 +320,13 @@ public class BSTActivity extends BaseActivity {
             }
         });
 
+        btn_stress.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                runStressTest();
+            }
+        });
+
         btn_example1.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -351,83 +352,68 @@ public class BSTActivity extends BaseActivity {
 
     private void createExampleTree(List<Integer> tree) {
         closeDrawer(2);
-        // Clear the Tree
-        clearTree();
 
-        ArrayList<ArrayList<TreeAnimationState>> list = new ArrayList<>();
+        // The example replaces the current tree, its single BUILD state holds the final tree
+        TreeAnimationState treeAnimationState = bst.build(tree).get(0);
+        UtilUI.setText(tv_info, treeAnimationState.info);
+        treeView.setSnapshot(treeAnimationState.snapshot, animDuration);
+    }
 
-        for(Integer data : tree){
-            list.add(bst.insert(data));
-        }
+    private void clearTree() {
+        bst = new BST();
+        treeView.setSnapshot(bst.getSnapshot(), 0);
+    }
 
-        for(ArrayList<TreeAnimationState> insert : list){
-            for(TreeAnimationState treeAnimationState : insert) {
-                for(TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                    if (treeElementAnimationData.elementIndex != -1) {
-                        int first = treeElementAnimationData.row;
-                        int second = treeElementAnimationData.col;
-                        View view = tableRows.get(first).getChildAt(second);
-                        view.setVisibility(View.VISIBLE);
-
-                        TextView value = view.findViewById(R.id.tv_elementvalue);
-                        TextView count = view.findViewById(R.id.tv_elementcount);
-
-                        int data = treeElementAnimationData.data;
-                        int count1 = treeElementAnimationData.count;
-                        TreeLayoutElement layoutElement = treeLayout.get(first).get(second);
-
-                        value.setText(String.valueOf(data));
-                        count.setText(String.valueOf(count1));
-
-                        if (layoutElement.state == NodeState.ELEMENT_HIDDEN) {
-                            value.setText(String.valueOf(data));
-                            count.setText(String.valueOf(count1));
-                            tableRows.get(first).getChildAt(second).setVisibility(View.VISIBLE);
-                            treeLayout.get(first).get(second).state = NodeState.ELEMENT_SHOWN;
-                            ViewAnimator.animate(view).bounceIn().duration(animDuration).start();
-                        }
-                        else if (layoutElement.state == NodeState.ELEMENT_SHOWN) {
-                            System.out.println("Shown");
-                            ViewAnimator.animate(view).flash().duration(animDuration).start();
-                        }
+    // Inserts STRESS_NO_OF_KEYS sorted keys into a new BST without animation, every key goes right of all others,
+    // so the tree is a single path as deep as the number of keys, then shows its height and average search depth
+    // Height, average search depth and layout walk the whole path, so the test runs off the UI thread and reports its progress
+    private void runStressTest() {
+        closeDrawer(2);
+        disableUI();
+        UtilUI.setText(tv_info, BSTInfo.getStressString(0, STRESS_NO_OF_KEYS));
 
-                        if (first > 0) {
-                            View view1 = tableRows.get(first - 1).getChildAt(second);
-                            view1.setVisibility(View.VISIBLE);
-                            TreeLayoutElement layoutElement1 = treeLayout.get(first - 1).get(second);
-                            if (layoutElement1.state == NodeState.ARROW_HIDDEN) {
-                                tableRows.get(first - 1).getChildAt(second).setVisibility(View.VISIBLE);
-                                treeLayout.get(first - 1).get(second).state = NodeState.ARROW_SHOWN;
-                                ViewAnimator.animate(view1).bounceIn().duration(animDuration).start();
-                            }
-                            else if (layoutElement1.state == NodeState.ARROW_SHOWN) {
-                                System.out.println("Shown");
-                                ViewAnimator.animate(view1).flash().duration(animDuration).start();
+        executorService.submit(new Runnable() {
+            @Override
+            public void run() {
+                final BST stressBST = new BST();
+                for(int i=0;i<STRESS_NO_OF_KEYS;i++){
+                    stressBST.insertSilently(i);
+                    if((i + 1) % STRESS_PROGRESS_INTERVAL == 0){
+                        if(Thread.currentThread().isInterrupted())
+                            return;
+
+                        final int noOfKeys = i + 1;
+                        runOnUiThread(new Runnable() {
+                            @Override
+                            public void run() {
+                                UtilUI.setText(tv_info, BSTInfo.getStressString(noOfKeys, STRESS_NO_OF_KEYS));
                             }
-                        }
+                        });
                     }
                 }
-            }
-        }
-    }
 
-    private void clearTree() {
-        bst = new BST();
-        treeLayout = TreeLayout.treeLayout;
-        for(TableRow tableRow : tableRows){
-            for(int i=0;i<tableRow.getChildCount();i++){
-                tableRow.getChildAt(i).setVisibility(View.INVISIBLE);
-            }
-        }
+                final int height = stressBST.getHeight();
+                final double averageSearchDepth = stressBST.getAverageSearchDepth();
+                final TreeSnapshot treeSnapshot = stressBST.getSnapshot();
 
-        treeLayoutData = new TreeLayoutData(context, treeLayout, tableRows);
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        bst = stressBST;
+                        treeView.setSnapshot(treeSnapshot, 0);
+                        UtilUI.setText(tv_info, BSTInfo.getStressResultString(STRESS_NO_OF_KEYS, height, averageSearchDepth));
+                        enableUI();
+                    }
+                });
+            }
+        });
     }
 
-    private void startTimer(String operation, int data){
+    private void startPlayback(String operation, int data){
         closeDrawer(0);
         disableUI();
 
-        if(timer == null) {
+        if(!playbackEngine.isRunning()) {
             switch (operation) {
                 case "INSERT":
                     bst.insert(data);
@@ -449,14 +435,21 @@ public class BSTActivity extends BaseActivity {
                     break;
             }
 
+            // task() stops the playbackEngine after the last step
             final int animDurationTemp = this.animDuration;
-            timer = new Timer();
-            timer.schedule(new TimerTask() {
+            playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
                 @Override
-                public void run() {
-                        task(animDurationTemp);
+                public boolean onStep() {
+                    task(animDurationTemp);
+                    return true;
                 }
-            }, animStepDuration, animStepDuration);
+
+                @Override
+                public void onFrame() {}
+
+                @Override
+                public void onStop() {}
+            });
 
         }
     }
@@ -464,7 +457,6 @@ public class BSTActivity extends BaseActivity {
     private void task(final int animDurationTemp) {
         if (bst != null) {
             final int curSeqNo = bst.treeSequence.curSeqNo;
-            System.out.println("SEQ = "  + curSeqNo);
             bst.treeSequence.forward();
 
             runOnUiThread(new Runnable() {
@@ -472,227 +464,64 @@ public class BSTActivity extends BaseActivity {
                 public void run() {
                     if(curSeqNo < bst.treeSequence.size) {
                         TreeAnimationState treeAnimationState = bst.treeSequence.treeAnimationStates.get(curSeqNo);
-                        System.out.println(treeAnimationState);
                         UtilUI.setText(tv_info, bst.treeSequence.treeAnimationStates.get(curSeqNo).info);
 
+                        // Nodes move to their places in the new layout, removed nodes fade out
+                        if(treeAnimationState.snapshot != null){
+                            treeView.setSnapshot(treeAnimationState.snapshot, animDurationTemp);
+                        }
+
                         switch (treeAnimationState.state) {
-                            case NO_SPACE: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Toast.makeText(context, "No space in tree :(", Toast.LENGTH_SHORT).show();
-                                    System.out.println("No space in tree :(");
-                                }
-                                break;
-                            }
                             case NOT_FOUND: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
-                                    System.out.println("Element not found :(");
-                                }
-                                break;
-                            }
-                            case FOUND: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        ViewAnimator.animate(currentView1).duration(animDurationTemp).flash().start();
-                                    }
-                                }
+                                Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
                                 break;
                             }
-                            case ORDER_TRAVERSAL: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
+                            case FOUND:
+                            case ORDER_TRAVERSAL:
+                            case DELETE_1_CHILD:
+                            case DELETE_NO_CHILD: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
                                 }
                                 break;
                             }
                             case SEARCH: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).swing().start();
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        ViewAnimator.animate(currentView1).duration(animDurationTemp).swing().start();
-                                    }
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_SEARCH, animDurationTemp);
                                 }
                                 break;
                             }
                             case INSERT: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    if (curPair.first > 0) {
-                                        final View currentView1 = tableRows.get(curPair.first - 1).getChildAt(curPair.second);
-                                        TreeLayoutElement layoutElement = treeLayout.get(curPair.first - 1).get(curPair.second);
-                                        if (layoutElement.state == NodeState.ARROW_HIDDEN) {
-                                            layoutElement.state = NodeState.ARROW_SHOWN;
-                                            ViewAnimator.animate(currentView1).duration(animDurationTemp).bounceIn().start();
-                                        } else if (layoutElement.state == NodeState.ARROW_SHOWN) {
-                                            ViewAnimator.animate(currentView1).duration(animDurationTemp).bounceIn().start();
-                                        }
-                                    }
-
-                                    treeLayoutData.showElement(treeElementAnimationData.elementIndex);
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).bounceIn().start();
-                                }
-                                break;
-                            }
-                            case DELETE_1_CHILD: {
-                                System.out.println("DEL");
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start()
-                                            .onStop(new AnimationListener.Stop() {
-                                                @Override
-                                                public void onStop() {
-                                                    treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                                }
-                                            });
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_BOUNCE, animDurationTemp);
                                 }
                                 break;
                             }
                             case DELETE_DECREASE: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    TextView value = currentView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = currentView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start();
-                                }
-                                break;
-                            }
-                            case DELETE_NO_CHILD: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-
-                                    ViewAnimator.animate(currentView).duration(animDurationTemp).flash().start().onStop(new AnimationListener.Stop() {
-                                        @Override
-                                        public void onStop() {
-                                            treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                        }
-                                    });
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
                                 }
                                 break;
                             }
                             case COPY_AND_MOVE: {
-                                System.out.println("Copy move");
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    System.out.println(treeElementAnimationData);
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    Pair<Integer, Integer> nextPair = TreeLayout.map.get(treeElementAnimationData.newElementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    final View nextView = tableRows.get(nextPair.first).getChildAt(nextPair.second);
-                                    TreeLayoutElement nextElement = treeLayout.get(nextPair.first).get(nextPair.second);
-
-                                    treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-
-                                    TextView value = nextView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = nextView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-
-                                    nextView.setVisibility(View.VISIBLE);
-                                    nextElement.state = NodeState.ELEMENT_SHOWN;
-
-                                    float nextX = nextView.getX();
-                                    float nextY = tableRows.get(nextPair.first).getY();
-
-                                    float curX = currentView.getX();
-                                    float curY = tableRows.get(curPair.first).getY();
-
-                                    float X = curX - nextX;
-                                    float Y = curY - nextY;
-
-                                    nextView.animate().setDuration(0).translationX(X).start();
-                                    nextView.animate().setDuration(0).translationY(Y).start();
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.moveLabel(treeElementAnimationData.id, treeElementAnimationData.newId,
+                                            treeElementAnimationData.data, treeElementAnimationData.count, animDurationTemp);
                                 }
                                 break;
                             }
-                            case MOVE_BACK: {
-                                for (final TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
-                                    System.out.println("move back");
-                                    Pair<Integer, Integer> curPair = TreeLayout.map.get(treeElementAnimationData.elementIndex);
-                                    Pair<Integer, Integer> nextPair = TreeLayout.map.get(treeElementAnimationData.newElementIndex);
-                                    final View currentView = tableRows.get(curPair.first).getChildAt(curPair.second);
-                                    final View nextView = tableRows.get(nextPair.first).getChildAt(nextPair.second);
-                                    TreeLayoutElement curElement = treeLayout.get(curPair.first).get(curPair.second);
-                                    TreeLayoutElement nextElement = treeLayout.get(nextPair.first).get(nextPair.second);
-                                    treeLayoutData.hideElement(treeElementAnimationData.elementIndex);
-                                    currentView.setVisibility(View.INVISIBLE);
-                                    curElement.state = NodeState.ELEMENT_HIDDEN;
-
-                                    TextView value = nextView.findViewById(R.id.tv_elementvalue);
-                                    TextView count = nextView.findViewById(R.id.tv_elementcount);
-
-                                    value.setText(String.valueOf(treeElementAnimationData.data));
-                                    count.setText(String.valueOf(treeElementAnimationData.count));
-                                    nextView.setVisibility(View.VISIBLE);
-                                    nextElement.state = NodeState.ELEMENT_SHOWN;
-
-                                    ViewAnimator.animate(nextView)
-                                            .duration(animDurationTemp)
-                                            .translationX(0)
-                                            .translationY(0)
-                                            .start()
-                                            .onStop(new AnimationListener.Stop() {
-                                                @Override
-                                                public void onStop() {
-                                                    treeLayoutData.showElement(treeElementAnimationData.newElementIndex);
-                                                }
-                                            });
-                                }
+                            case LAYOUT:
+                            case BUILD:
+                                // Only the new layout, already set from the snapshot
                                 break;
-                            }
                             default:
-                                System.out.println("DEFAULT SWITCH IN TASK -__-");
                                 Toast.makeText(context, "DEFAULT SWITCH IN TASK -__-", Toast.LENGTH_SHORT).show();
                         }
                     }
                     else{
                         UtilUI.setText(tv_info, "Done");
-                        System.out.println("Canceled");
                         runOnUiThread(new Runnable() {
                             @Override
                             public void run() {
@@ -701,8 +530,7 @@ public class BSTActivity extends BaseActivity {
                             }
                         });
 
-                        timer.cancel();
-                        timer = null;
+                        playbackEngine.stop();
                     }
                 }
             });
@@ -711,29 +539,11 @@ public class BSTActivity extends BaseActivity {
 
     }
 
-    // Not used, Reset All Tree Views to Default Positions
-    private void reset(){
-        int row = 0;
-        for(TableRow tableRow : tableRows){
-            int old = 0;
-            for(int i=0;i<tableRow.getChildCount();i++){
-                int weight = treeLayout.get(row).get(i).weight;
-                float v = ((float) tableRow.getWidth() / 15) * old;
-                tableRow.getChildAt(i).setX(v);
-                tableRow.getChildAt(i).setY(0);
-                NodeState state = treeLayout.get(row).get(i).state;
-                if(state == NodeState.ELEMENT_SHOWN){
-                    tableRow.getChildAt(i).setVisibility(View.VISIBLE);
-                }
-                else{
-                    tableRow.getChildAt(i).setVisibility(View.INVISIBLE);
-                }
-
-                old += weight;
-            }
-            row++;
-        }
+    @Override
+    protected void onDestroy() {
+        executorService.shutdownNow();
 
+        super.onDestroy();
     }
 
     @Override
@@ -742,80 +552,49 @@ public class BSTActivity extends BaseActivity {
     @Override
     protected void initViews() {
         bst = new BST();
+        executorService = Executors.newSingleThreadExecutor();
 
-        tableLayout = new TableLayout(context);
-        tableLayout.setClipChildren(false);
-        tableLayout.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
-        ll_anim.addView(tableLayout);
-
-        tableLayout.post(new Runnable() {
+        treeView = new TreeView(context);
+        treeView.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
+        treeView.setOnNodeClickListener(new TreeView.OnNodeClickListener() {
             @Override
-            public void run() {
-                final int height = tableLayout.getHeight() / TreeLayout.treeLayout.size();
-
-                final LayoutInflater layoutInflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-
-                int row = 0;
-                int col = 0;
-                for(List<TreeLayoutElement> treeLayout : treeLayout){
-                    TableRow tableRow = new TableRow(context);
-                    col = 0;
-                    for(final TreeLayoutElement layoutElement : treeLayout){
-                        final View treeNodeView = UtilUI.getTreeNodeView(context, layoutInflater, layoutElement, height, row, col);
-                        final int finalRow = row;
-                        treeNodeView.setOnClickListener(new View.OnClickListener() {
-                            @Override
-                            public void onClick(View v) {
-                                System.out.println("Clicked");
-                                if(layoutElement.type == NodeType.ELEMENT) {
-
-                                    System.out.println(v.getX() + " | " + v.getY());
-                                    View myView = layoutInflater.inflate(R.layout.layout_node_popup, null);
-                                    TextView value = myView.findViewById(R.id.tv_node_value);
-                                    TextView count = myView.findViewById(R.id.tv_node_count);
-                                    TextView name = myView.findViewById(R.id.tv_node_name);
-
-                                    TextView valueR = treeNodeView.findViewById(R.id.tv_elementvalue);
-                                    TextView countR = treeNodeView.findViewById(R.id.tv_elementcount);
-
-                                    name.setText("BST Node");
-                                    value.setText(valueR.getText().toString().trim());
-                                    count.setText(countR.getText().toString().trim());
-
-                                    final Dialog dialog = new Dialog(context);
-
-                                    ImageButton btn_bst_close = myView.findViewById(R.id.btn_bst_close);
-
-                                    btn_bst_close.setOnClickListener(new View.OnClickListener() {
-                                        @Override
-                                        public void onClick(View v) {
-                                            dialog.dismiss();
-                                        }
-                                    });
-
-                                    Window window = dialog.getWindow();
-                                    window.setGravity(Gravity.TOP | Gravity.LEFT);
-                                    WindowManager.LayoutParams layoutParams = dialog.getWindow().getAttributes();
-                                    layoutParams.x = (int) v.getX();
-                                    layoutParams.y = height * finalRow;
-                                    window.setAttributes(layoutParams);
-
-                                    dialog.setContentView(myView);
-                                    dialog.show();
-                                }
-                            }
-                        });
+            public void onNodeClick(int key, int count, float x, float y) {
+                View myView = getLayoutInflater().inflate(R.layout.layout_node_popup, null);
+                TextView value = myView.findViewById(R.id.tv_node_value);
+                TextView tv_count = myView.findViewById(R.id.tv_node_count);
+                TextView name = myView.findViewById(R.id.tv_node_name);
+
+                name.setText("BST Node");
+                value.setText(String.valueOf(key));
+                tv_count.setText(String.valueOf(count));
+
+                final Dialog dialog = new Dialog(context);
 
-                        tableRow.addView(treeNodeView);
-                        col++;
+                ImageButton btn_bst_close = myView.findViewById(R.id.btn_bst_close);
+
+                btn_bst_close.setOnClickListener(new View.OnClickListener() {
+                    @Override
+                    public void onClick(View v) {
+                        dialog.dismiss();
                     }
+                });
 
-                    tableRows.add(tableRow);
-                    tableLayout.addView(tableRow);
-                    row++;
-                }
+                Window window = dialog.getWindow();
+                window.setGravity(Gravity.TOP | Gravity.LEFT);
+                WindowManager.LayoutParams layoutParams = dialog.getWindow().getAttributes();
+                layoutParams.x = (int) x;
+                layoutParams.y = (int) y;
+                window.setAttributes(layoutParams);
 
-                treeLayoutData = new TreeLayoutData(context, treeLayout, tableRows);
+                dialog.setContentView(myView);
+                dialog.show();
+            }
+        });
+        ll_anim.addView(treeView);
+
+        ll_anim.post(new Runnable() {
+            @Override
+            public void run() {
                 dl_main.openDrawer(GravityCompat.END);
             }
         });
@@ -843,6 +622,22 @@ public class BSTActivity extends BaseActivity {
             }
         });
 
+        cl_rbt.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, RBTActivity.class);
+            }
+        });
+
+        cl_bplus.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, BPlusTreeActivity.class);
+            }
+        });
+
         cl_home.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -857,10 +652,7 @@ public class BSTActivity extends BaseActivity {
         if(isAnimating)
             return;
 
-        if(timer != null) {
-            timer.cancel();
-            timer = null;
-        }
+        playbackEngine.stop();
 
         View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
 
@@ -892,7 +684,6 @@ public class BSTActivity extends BaseActivity {
         dialog.setOnDismissListener(new DialogInterface.OnDismissListener() {
             @Override
             public void onDismiss(DialogInterface dialog) {
-                System.out.println("Dismissed");
                 btn_menu.setEnabled(true);
                 btn_nav.setEnabled(true);
                 btn_info.setEnabled(true);
@@ -930,6 +721,7 @@ public class BSTActivity extends BaseActivity {
         TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
         TooltipCompat.setTooltipText(btn_helpmenu, "Show Help");
         TooltipCompat.setTooltipText(btn_insertrandom, "Random Number");
+        TooltipCompat.setTooltipText(btn_stress, "Insert 100k sorted keys into a new tree");
 
         // Left Menu
         TooltipCompat.setTooltipText(btn_closenav, "Close Navigation");
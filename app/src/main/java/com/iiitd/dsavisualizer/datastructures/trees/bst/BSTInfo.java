@@ -10,6 +10,18 @@ public class BSTInfo {
     public static final List<Integer> tree2 = Arrays.asList(100, 150, 120, 200, 220, 110, 130);
     public static final List<Integer> tree3 = Arrays.asList(50, 40, 100, 30, 45, 10, 35, 65);
 
+    public static String getBuildString(int noOfKeys, int noOfNodes){
+        return "building balanced tree of " + noOfKeys + " keys, " + noOfNodes + " nodes";
+    }
+
+    public static String getStressString(int noOfKeys, int totalKeys){
+        return "stress test, inserted " + noOfKeys + " of " + totalKeys + " sorted keys";
+    }
+
+    public static String getStressResultString(int noOfKeys, int height, double averageSearchDepth){
+        return noOfKeys + " sorted keys, height : " + height + ", average search depth : " + String.format("%.1f", averageSearchDepth);
+    }
+
     public static String getInsertString(int key, int count){
         return count == 1 ? "inserting : " + key : "increasing count of " + key + " -> " + count;
     }
@@ -26,10 +38,6 @@ public class BSTInfo {
         return "node : " + key + " found in tree";
     }
 
-    public static String getNoSpaceString(){
-        return "no space in tree :(";
-    }
-
     public static String getMoveUpString(int key, int oldKey){
         return "move successor " + key + " of " + oldKey + " up";
     }
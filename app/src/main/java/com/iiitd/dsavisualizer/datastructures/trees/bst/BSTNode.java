@@ -1,18 +1,60 @@
 package com.iiitd.dsavisualizer.datastructures.trees.bst;
 
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutData;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutNode;
+
 // BSTNode used by BST
-public class BSTNode {
+public class BSTNode implements TreeLayoutNode {
 
+    final int id;
     int key;
     int count;
     BSTNode left;
     BSTNode right;
+    final TreeLayoutData layoutData;
 
-    public BSTNode(int key) {
+    public BSTNode(int id, int key) {
+        this.id = id;
         this.key = key;
         this.count = 1;
         this.left = null;
         this.right = null;
+        this.layoutData = new TreeLayoutData();
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int getKey() {
+        return key;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getColor() {
+        return COLOR_NONE;
+    }
+
+    @Override
+    public TreeLayoutNode getLeft() {
+        return left;
+    }
+
+    @Override
+    public TreeLayoutNode getRight() {
+        return right;
+    }
+
+    @Override
+    public TreeLayoutData getLayoutData() {
+        return layoutData;
     }
 
-}
\ No newline at end of file
+}
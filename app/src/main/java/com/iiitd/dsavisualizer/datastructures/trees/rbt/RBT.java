@@ -0,0 +1,541 @@
+package com.iiitd.dsavisualizer.datastructures.trees.rbt;
+
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeBuildKeys;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayout;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSequence;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeSnapshot;
+import static com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationStateType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// RBT Backend, Red Black Tree
+// Nodes keep their parent, so insert, delete and their fix ups walk up the tree without recursion
+// The tree is linked at every step, so structural and recolor states take their TreeLayout snapshot right away
+// Rotations and recolors of every insert and delete are counted, to be compared with AVL for the same keys
+public class RBT {
+
+    private RBTNode root;
+    private int noOfNodesCreated;               // id of the next node
+    public TreeSequence treeSequence;
+    private ArrayList<TreeAnimationState> treeAnimationStates;
+    private TreeAnimationState recolorState;    // recolors of the current fix up step, shown as a single state
+    public int noOfRotations;                   // rotations of the last insert or delete
+    public int noOfRecolors;                    // nodes which changed color in the last insert or delete
+    public int totalRotations;                  // since the tree was created
+    public int totalRecolors;
+
+    public RBT() {
+        root = null;
+        noOfNodesCreated = 0;
+        treeSequence = new TreeSequence();
+        recolorState = null;
+        noOfRotations = 0;
+        noOfRecolors = 0;
+        totalRotations = 0;
+        totalRecolors = 0;
+    }
+
+    // Current layout of the tree
+    public TreeSnapshot getSnapshot(){
+        return TreeLayout.layout(root);
+    }
+
+    // state changes the structure or the colors of the tree, its snapshot is the tree as it is now
+    private void addSnapshotState(TreeAnimationState treeAnimationState){
+        treeAnimationState.snapshot = TreeLayout.layout(root);
+        treeAnimationStates.add(treeAnimationState);
+    }
+
+    // Starts a recolor step, nodes changed by setRed are added to it and shown together by endRecolor()
+    private void startRecolor(String info){
+        if(recolorState != null){
+            throw new IllegalStateException("Previous recolor step is not ended");
+        }
+
+        recolorState = new TreeAnimationState(RECOLOR, info);
+    }
+
+    private void setRed(RBTNode rbtNode, boolean isRed){
+        if(recolorState == null){
+            throw new IllegalStateException("Recolor outside of a recolor step");
+        }
+
+        if(rbtNode == null || rbtNode.isRed == isRed){
+            return;
+        }
+
+        rbtNode.isRed = isRed;
+        noOfRecolors++;
+        totalRecolors++;
+        recolorState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+    }
+
+    private void endRecolor(){
+        if(recolorState.elementAnimationData.size() > 0){
+            addSnapshotState(recolorState);
+        }
+
+        recolorState = null;
+    }
+
+    // null children are black leaves
+    private boolean isRed(RBTNode rbtNode){
+        return rbtNode != null && rbtNode.isRed;
+    }
+
+    // Replaces the tree with a balanced tree of keys in O(n), unsorted keys are sorted first
+    // All levels are black except the deepest one, which is red unless it is the root,
+    // so every path from the root to a null child has the same number of black nodes
+    public ArrayList<TreeAnimationState> build(List<Integer> keys){
+        treeAnimationStates = new ArrayList<>();
+        TreeBuildKeys treeBuildKeys = TreeBuildKeys.of(keys);
+        int maxDepth = treeBuildKeys.size == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(treeBuildKeys.size);
+        root = _build(treeBuildKeys, 0, treeBuildKeys.size - 1, 0, maxDepth);
+        if(root != null){
+            root.parent = null;
+        }
+        addSnapshotState(new TreeAnimationState(BUILD, RBTInfo.getBuildString(keys.size(), treeBuildKeys.size)));
+        treeSequence = new TreeSequence(treeAnimationStates);
+        return treeAnimationStates;
+    }
+
+    // Both halves of a range differ in size by at most 1, so the deepest level is floor(log(n))
+    private RBTNode _build(TreeBuildKeys treeBuildKeys, int lo, int hi, int depth, int maxDepth){
+        if(lo > hi){
+            return null;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        RBTNode rbtNode = new RBTNode(noOfNodesCreated++, treeBuildKeys.keys[mid]);
+        rbtNode.count = treeBuildKeys.counts[mid];
+        rbtNode.isRed = depth == maxDepth && depth > 0;
+        rbtNode.left = _build(treeBuildKeys, lo, mid - 1, depth + 1, maxDepth);
+        rbtNode.right = _build(treeBuildKeys, mid + 1, hi, depth + 1, maxDepth);
+        if(rbtNode.left != null){
+            rbtNode.left.parent = rbtNode;
+        }
+        if(rbtNode.right != null){
+            rbtNode.right.parent = rbtNode;
+        }
+
+        return rbtNode;
+    }
+
+    public ArrayList<TreeAnimationState> insert(int key){
+        treeAnimationStates = new ArrayList<>();
+        noOfRotations = 0;
+        noOfRecolors = 0;
+
+        RBTNode parent = null;
+        RBTNode current = root;
+        while (current != null && current.key != key){
+            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, RBTInfo.getSearchString(key, current.key));
+            treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
+            treeAnimationStates.add(treeAnimationState);
+            parent = current;
+            current = key < current.key ? current.left : current.right;
+        }
+
+        if(current != null){
+            current.count++;
+            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, RBTInfo.getInsertString(key, current.count));
+            treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
+            treeAnimationStates.add(treeAnimationState);
+        }
+        else{
+            RBTNode newNode = new RBTNode(noOfNodesCreated++, key);
+            newNode.parent = parent;
+            if(parent == null){
+                root = newNode;
+            }
+            else if(key < parent.key){
+                parent.left = newNode;
+            }
+            else{
+                parent.right = newNode;
+            }
+
+            TreeAnimationState treeAnimationState = new TreeAnimationState(INSERT, RBTInfo.getInsertString(key, 1));
+            treeAnimationState.add(new TreeElementAnimationData(key, 1, newNode.id));
+            addSnapshotState(treeAnimationState);
+
+            insertFixUp(newNode);
+            treeAnimationStates.add(new TreeAnimationState(NULL, RBTInfo.getOperationStatsString(noOfRotations, noOfRecolors)));
+        }
+
+        treeSequence = new TreeSequence(treeAnimationStates);
+        return treeAnimationStates;
+    }
+
+    // rbtNode is red, walks up while its parent is red too
+    private void insertFixUp(RBTNode rbtNode){
+        while (isRed(rbtNode.parent)){
+            RBTNode parent = rbtNode.parent;
+            RBTNode grandParent = parent.parent;        // parent is red, so it is not the root
+            boolean isLeft = parent == grandParent.left;
+            RBTNode uncle = isLeft ? grandParent.right : grandParent.left;
+
+            TreeAnimationState treeAnimationState = new TreeAnimationState(NULL, RBTInfo.getRedParentString(rbtNode.key, parent.key));
+            treeAnimationStates.add(treeAnimationState);
+
+            if(isRed(uncle)){
+                startRecolor(RBTInfo.getRedUncleString(uncle.key));
+                setRed(parent, false);
+                setRed(uncle, false);
+                setRed(grandParent, true);
+                endRecolor();
+                rbtNode = grandParent;
+                continue;
+            }
+
+            // Inner child is rotated to the outside first
+            if(isLeft && rbtNode == parent.right){
+                leftRotate(parent);
+                rbtNode = parent;
+                parent = rbtNode.parent;
+            }
+            else if(!isLeft && rbtNode == parent.left){
+                rightRotate(parent);
+                rbtNode = parent;
+                parent = rbtNode.parent;
+            }
+
+            startRecolor(RBTInfo.getBlackUncleString(grandParent.key));
+            setRed(parent, false);
+            setRed(grandParent, true);
+            endRecolor();
+
+            if(isLeft){
+                rightRotate(grandParent);
+            }
+            else{
+                leftRotate(grandParent);
+            }
+        }
+
+        startRecolor(RBTInfo.getRootString(root.key));
+        setRed(root, false);
+        endRecolor();
+    }
+
+    public void delete(int key){
+        treeAnimationStates = new ArrayList<>();
+        noOfRotations = 0;
+        noOfRecolors = 0;
+
+        RBTNode rbtNode = root;
+        while (rbtNode != null && rbtNode.key != key){
+            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, RBTInfo.getSearchString(key, rbtNode.key));
+            treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            treeAnimationStates.add(treeAnimationState);
+            rbtNode = key < rbtNode.key ? rbtNode.left : rbtNode.right;
+        }
+
+        if(rbtNode == null){
+            treeAnimationStates.add(new TreeAnimationState(NOT_FOUND, RBTInfo.getNotFoundString(key)));
+        }
+        else if(rbtNode.count > 1){
+            rbtNode.count--;
+            TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_DECREASE, RBTInfo.getDeleteString(key, rbtNode.count));
+            treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            treeAnimationStates.add(treeAnimationState);
+        }
+        else{
+            if(rbtNode.left != null && rbtNode.right != null){
+                TreeAnimationState step1 = new TreeAnimationState(DELETE_NO_CHILD, RBTInfo.getDeleteString(key, 1));
+                step1.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+                treeAnimationStates.add(step1);
+
+                RBTNode current = rbtNode.right;
+                while (current.left != null) {
+                    TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, RBTInfo.getFindSuccessorString(key));
+                    treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
+                    treeAnimationStates.add(treeAnimationState);
+                    current = current.left;
+                }
+                TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, RBTInfo.getFoundSuccessorString(key, current.key));
+                treeAnimationState.add(new TreeElementAnimationData(current.key, current.count, current.id));
+                treeAnimationStates.add(treeAnimationState);
+
+                TreeAnimationState step2 = new TreeAnimationState(COPY_AND_MOVE, RBTInfo.getMoveUpString(current.key, rbtNode.key));
+                step2.add(new TreeElementAnimationData(current.key, current.count, current.id, rbtNode.id));
+                treeAnimationStates.add(step2);
+
+                // The successor has no left child, its node is removed in place of rbtNode
+                rbtNode.key = current.key;
+                rbtNode.count = current.count;
+                rbtNode = current;
+            }
+
+            remove(rbtNode);
+            treeAnimationStates.add(new TreeAnimationState(NULL, RBTInfo.getOperationStatsString(noOfRotations, noOfRecolors)));
+        }
+
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    // Removes rbtNode, which has at most 1 child, removing a black node leaves a double black in its place
+    private void remove(RBTNode rbtNode){
+        RBTNode child = rbtNode.left != null ? rbtNode.left : rbtNode.right;
+        RBTNode parent = rbtNode.parent;
+
+        if(child == null){
+            replace(rbtNode, null);
+            TreeAnimationState treeAnimationState = new TreeAnimationState(DELETE_NO_CHILD, RBTInfo.getDeleteString(rbtNode.key, 1));
+            treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            addSnapshotState(treeAnimationState);
+        }
+        else{
+            TreeAnimationState step1 = new TreeAnimationState(DELETE_1_CHILD, RBTInfo.getDeleteString(rbtNode.key, 1));
+            step1.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            treeAnimationStates.add(step1);
+            replace(rbtNode, child);
+            addSnapshotState(new TreeAnimationState(LAYOUT, RBTInfo.getChildUpString(rbtNode.key)));
+        }
+
+        if(!rbtNode.isRed){
+            deleteFixUp(child, parent);
+        }
+    }
+
+    // rbtNode is double black, it may be null, so its parent is passed along
+    private void deleteFixUp(RBTNode rbtNode, RBTNode parent){
+        while (rbtNode != root && !isRed(rbtNode)){
+            // rbtNode is not the root, so parent is not null, and the sibling has a black height of at least 1
+            boolean isLeft = rbtNode == parent.left;
+            RBTNode sibling = isLeft ? parent.right : parent.left;
+
+            TreeAnimationState treeAnimationState = new TreeAnimationState(NULL, RBTInfo.getDoubleBlackString(parent.key));
+            treeAnimationStates.add(treeAnimationState);
+
+            if(isRed(sibling)){
+                startRecolor(RBTInfo.getRedSiblingString(sibling.key));
+                setRed(sibling, false);
+                setRed(parent, true);
+                endRecolor();
+                if(isLeft){
+                    leftRotate(parent);
+                }
+                else{
+                    rightRotate(parent);
+                }
+                sibling = isLeft ? parent.right : parent.left;
+            }
+
+            RBTNode nearNephew = isLeft ? sibling.left : sibling.right;
+            RBTNode farNephew = isLeft ? sibling.right : sibling.left;
+            if(!isRed(nearNephew) && !isRed(farNephew)){
+                startRecolor(RBTInfo.getBlackNephewsString(sibling.key));
+                setRed(sibling, true);
+                endRecolor();
+                rbtNode = parent;
+                parent = rbtNode.parent;
+                continue;
+            }
+
+            if(!isRed(farNephew)){
+                startRecolor(RBTInfo.getRedNearNephewString(nearNephew.key));
+                setRed(nearNephew, false);
+                setRed(sibling, true);
+                endRecolor();
+                if(isLeft){
+                    rightRotate(sibling);
+                }
+                else{
+                    leftRotate(sibling);
+                }
+                sibling = isLeft ? parent.right : parent.left;
+                farNephew = isLeft ? sibling.right : sibling.left;
+            }
+
+            startRecolor(RBTInfo.getRedFarNephewString(farNephew.key));
+            setRed(sibling, parent.isRed);
+            setRed(parent, false);
+            setRed(farNephew, false);
+            endRecolor();
+            if(isLeft){
+                leftRotate(parent);
+            }
+            else{
+                rightRotate(parent);
+            }
+            rbtNode = root;
+            parent = null;
+        }
+
+        if(rbtNode != null){
+            startRecolor(RBTInfo.getBlackString(rbtNode.key));
+            setRed(rbtNode, false);
+            endRecolor();
+        }
+    }
+
+    // Links child in place of rbtNode under the parent of rbtNode
+    private void replace(RBTNode rbtNode, RBTNode child){
+        if(child != null){
+            child.parent = rbtNode.parent;
+        }
+
+        if(rbtNode.parent == null){
+            root = child;
+        }
+        else if(rbtNode == rbtNode.parent.left){
+            rbtNode.parent.left = child;
+        }
+        else{
+            rbtNode.parent.right = child;
+        }
+    }
+
+    private void rightRotate(RBTNode rbtNode) {
+        RBTNode left = rbtNode.left;
+
+        TreeAnimationState treeAnimationState = new TreeAnimationState(ROTATION, RBTInfo.getRightRotateString(rbtNode.key));
+        treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+        treeAnimationStates.add(treeAnimationState);
+
+        noOfRotations++;
+        totalRotations++;
+
+        // Perform rotation
+        rbtNode.left = left.right;
+        if(left.right != null){
+            left.right.parent = rbtNode;
+        }
+        replace(rbtNode, left);
+        left.right = rbtNode;
+        rbtNode.parent = left;
+
+        addSnapshotState(new TreeAnimationState(LAYOUT, RBTInfo.getRightRotateString(rbtNode.key)));
+    }
+
+    private void leftRotate(RBTNode rbtNode) {
+        RBTNode right = rbtNode.right;
+
+        TreeAnimationState treeAnimationState = new TreeAnimationState(ROTATION, RBTInfo.getLeftRotateString(rbtNode.key));
+        treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+        treeAnimationStates.add(treeAnimationState);
+
+        noOfRotations++;
+        totalRotations++;
+
+        // Perform rotation
+        rbtNode.right = right.left;
+        if(right.left != null){
+            right.left.parent = rbtNode;
+        }
+        replace(rbtNode, right);
+        right.left = rbtNode;
+        rbtNode.parent = right;
+
+        addSnapshotState(new TreeAnimationState(LAYOUT, RBTInfo.getLeftRotateString(rbtNode.key)));
+    }
+
+    public void search(int key){
+        treeAnimationStates = new ArrayList<>();
+        RBTNode rbtNode = root;
+        while (rbtNode != null && rbtNode.key != key){
+            TreeAnimationState treeAnimationState = new TreeAnimationState(SEARCH, RBTInfo.getSearchString(key, rbtNode.key));
+            treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            treeAnimationStates.add(treeAnimationState);
+            rbtNode = key < rbtNode.key ? rbtNode.left : rbtNode.right;
+        }
+
+        if(rbtNode == null){
+            treeAnimationStates.add(new TreeAnimationState(NOT_FOUND, RBTInfo.getNotFoundString(key)));
+        }
+        else{
+            TreeAnimationState treeAnimationState = new TreeAnimationState(FOUND, RBTInfo.getFoundString(key));
+            treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+            treeAnimationStates.add(treeAnimationState);
+        }
+
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    public void inorder(){
+        treeAnimationStates = new ArrayList<>();
+        _inorder();
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    // Left subtrees are pushed on stack until their leftmost node, which is visited next
+    private void _inorder(){
+        ArrayList<RBTNode> stack = new ArrayList<>();
+        RBTNode rbtNode = root;
+        while (rbtNode != null || stack.size() > 0){
+            while (rbtNode != null){
+                stack.add(rbtNode);
+                rbtNode = rbtNode.left;
+            }
+
+            rbtNode = stack.remove(stack.size() - 1);
+            addOrderTraversalState(rbtNode, "In");
+            rbtNode = rbtNode.right;
+        }
+    }
+
+    public void preorder(){
+        treeAnimationStates = new ArrayList<>();
+        _preorder();
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    // Right child is pushed before the left child, so the left subtree is visited first
+    private void _preorder(){
+        ArrayList<RBTNode> stack = new ArrayList<>();
+        if(root != null){
+            stack.add(root);
+        }
+
+        while (stack.size() > 0){
+            RBTNode rbtNode = stack.remove(stack.size() - 1);
+            addOrderTraversalState(rbtNode, "Pre");
+            if(rbtNode.right != null){
+                stack.add(rbtNode.right);
+            }
+            if(rbtNode.left != null){
+                stack.add(rbtNode.left);
+            }
+        }
+    }
+
+    public void postorder(){
+        treeAnimationStates = new ArrayList<>();
+        _postorder();
+        treeSequence = new TreeSequence(treeAnimationStates);
+    }
+
+    // A node on stack is visited once its right subtree is done, last is the previously visited node
+    private void _postorder(){
+        ArrayList<RBTNode> stack = new ArrayList<>();
+        RBTNode rbtNode = root;
+        RBTNode last = null;
+        while (rbtNode != null || stack.size() > 0){
+            while (rbtNode != null){
+                stack.add(rbtNode);
+                rbtNode = rbtNode.left;
+            }
+
+            RBTNode top = stack.get(stack.size() - 1);
+            if(top.right != null && top.right != last){
+                rbtNode = top.right;
+            }
+            else{
+                stack.remove(stack.size() - 1);
+                addOrderTraversalState(top, "Post");
+                last = top;
+            }
+        }
+    }
+
+    private void addOrderTraversalState(RBTNode rbtNode, String order){
+        TreeAnimationState treeAnimationState = new TreeAnimationState(ORDER_TRAVERSAL, RBTInfo.getOrderTraversalString(order));
+        treeAnimationState.add(new TreeElementAnimationData(rbtNode.key, rbtNode.count, rbtNode.id));
+        treeAnimationStates.add(treeAnimationState);
+    }
+
+}
@@ -0,0 +1,743 @@
+package com.iiitd.dsavisualizer.datastructures.trees.rbt;
+
+import android.app.Dialog;
+import android.content.DialogInterface;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.os.Bundle;
+import android.util.Pair;
+import android.view.Gravity;
+import android.view.View;
+import android.view.Window;
+import android.view.WindowManager;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.ImageButton;
+import android.widget.LinearLayout;
+import android.widget.SeekBar;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.widget.TooltipCompat;
+import androidx.constraintlayout.widget.ConstraintLayout;
+import androidx.core.view.GravityCompat;
+import androidx.drawerlayout.widget.DrawerLayout;
+
+import com.iiitd.dsavisualizer.R;
+import com.iiitd.dsavisualizer.constants.AppSettings;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeAnimationState;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeElementAnimationData;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeView;
+import com.iiitd.dsavisualizer.datastructures.trees.avl.AVL;
+import com.iiitd.dsavisualizer.datastructures.trees.avl.AVLActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.bplustree.BPlusTreeActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.bst.BSTActivity;
+import com.iiitd.dsavisualizer.runapp.activities.BaseActivity;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
+import com.iiitd.dsavisualizer.utility.UtilUI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// RBT FrontEnd
+// Inserts and deletes are kept in history, Compare replays them on a new RBT and a new AVL and shows their stats
+public class RBTActivity extends BaseActivity {
+
+    LinearLayout ll_anim;
+    ImageButton btn_nav;
+    ImageButton btn_menu;
+    ImageButton btn_info;
+    SeekBar sb_animspeed;
+    TextView tv_info;
+
+    ImageButton btn_closemenu;
+    ImageButton btn_helpmenu;
+    ImageButton btn_insertrandom;
+    Button btn_insert;
+    Button btn_search;
+    Button btn_delete;
+    Button btn_inorder;
+    Button btn_preorder;
+    Button btn_postorder;
+    Button btn_cleartree;
+    Button btn_example1;
+    Button btn_example2;
+    Button btn_example3;
+    Button btn_compare;
+    EditText et_insert;
+    EditText et_search;
+    EditText et_delete;
+
+    ImageButton btn_closenav;
+    ConstraintLayout cl_home;
+    ConstraintLayout cl_bst;
+    ConstraintLayout cl_avl;
+    ConstraintLayout cl_rbt;
+    ConstraintLayout cl_bplus;
+
+    TreeView treeView;
+    RBT rbt;
+    ArrayList<Pair<String, Integer>> history;     // operation, key of every insert and delete on rbt
+
+    Random random = new Random();
+    boolean isAnimating = false;
+    int animStepDuration = AppSettings.DEFAULT_ANIM_SPEED;
+    int animDuration = AppSettings.DEFAULT_ANIM_DURATION;
+    final int LAYOUT_MAIN = R.layout.activity_tree;
+    final int LAYOUT_LEFT = R.layout.navigation_tree;
+    final int LAYOUT_RIGHT = R.layout.controls_rbt;
+    final String ONBOARDING_KEY =  AppSettings.TREE_KEY;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        configure(LAYOUT_MAIN, LAYOUT_LEFT, LAYOUT_RIGHT, ONBOARDING_KEY);
+        super.onCreate(savedInstanceState);
+
+        v_main = vs_main.inflate();
+        v_menu_right = vs_menu_right.inflate();
+        v_menu_left = vs_menu_left.inflate();
+
+        ll_anim = v_main.findViewById(R.id.ll_anim);
+        sb_animspeed = v_main.findViewById(R.id.sb_animspeed);
+        btn_menu = v_main.findViewById(R.id.btn_menu);
+        btn_info = v_main.findViewById(R.id.btn_info);
+        btn_nav = v_main.findViewById(R.id.btn_nav);
+        tv_info = v_main.findViewById(R.id.tv_info);
+
+        btn_closemenu = v_menu_right.findViewById(R.id.btn_closemenu);
+        btn_helpmenu = v_menu_right.findViewById(R.id.btn_helpmenu);
+        btn_insert = v_menu_right.findViewById(R.id.btn_insert);
+        btn_insertrandom = v_menu_right.findViewById(R.id.btn_insertrandom);
+        btn_search = v_menu_right.findViewById(R.id.btn_search);
+        btn_delete = v_menu_right.findViewById(R.id.btn_delete);
+        btn_inorder = v_menu_right.findViewById(R.id.btn_inorder);
+        btn_preorder = v_menu_right.findViewById(R.id.btn_preorder);
+        btn_postorder = v_menu_right.findViewById(R.id.btn_postorder);
+        btn_cleartree = v_menu_right.findViewById(R.id.btn_cleartree);
+        btn_example1 = v_menu_right.findViewById(R.id.btn_example1);
+        btn_example2 = v_menu_right.findViewById(R.id.btn_example2);
+        btn_example3 = v_menu_right.findViewById(R.id.btn_example3);
+        btn_compare = v_menu_right.findViewById(R.id.btn_compare);
+        et_insert = v_menu_right.findViewById(R.id.et_insert);
+        et_search = v_menu_right.findViewById(R.id.et_search);
+        et_delete = v_menu_right.findViewById(R.id.et_delete);
+
+        btn_closenav = v_menu_left.findViewById(R.id.btn_closenav);
+        cl_home = v_menu_left.findViewById(R.id.cl_home);
+        cl_bst = v_menu_left.findViewById(R.id.cl_bst);
+        cl_avl = v_menu_left.findViewById(R.id.cl_avl);
+        cl_rbt = v_menu_left.findViewById(R.id.cl_rbt);
+        cl_bplus = v_menu_left.findViewById(R.id.cl_bplus);
+
+        initOnBoarding();
+        initViews();
+        initNavigation();
+        initToolTipTexts();
+
+        // Auto Animation Speed
+        sb_animspeed.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                // 2500ms to 1ms
+                animStepDuration = PlaybackEngine.getStepDuration(seekBar.getProgress());
+                animDuration = animStepDuration/2;
+                playbackEngine.setStepDuration(animStepDuration);
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+
+        });
+
+        // Info Button
+        btn_info.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                View view = getLayoutInflater().inflate(R.layout.layout_trees_info, null);
+                TextView tv_name = view.findViewById(R.id.tv_name);
+                TextView tv_worst_insert = view.findViewById(R.id.tv_worst_insert);
+                TextView tv_best_insert = view.findViewById(R.id.tv_best_insert);
+                TextView tv_worst_search = view.findViewById(R.id.tv_worst_search);
+                TextView tv_best_search  = view.findViewById(R.id.tv_best_search);
+                TextView tv_worst_delete = view.findViewById(R.id.tv_worst_delete);
+                TextView tv_best_delete = view.findViewById(R.id.tv_best_delete);
+                TextView tv_traversals = view.findViewById(R.id.tv_traversals);
+                TextView tv_space = view.findViewById(R.id.tv_space);
+                ImageButton btn_close = view.findViewById(R.id.btn_close);
+
+                if(rbt != null) {
+                    playbackEngine.stop();
+                }
+
+                tv_name.setText(RBTStats.name);
+                UtilUI.setTextInBigONotation(tv_worst_insert, RBTStats.worst_insert);
+                UtilUI.setTextInBigONotation(tv_best_insert, RBTStats.best_insert);
+                UtilUI.setTextInBigONotation(tv_worst_search, RBTStats.worst_search);
+                UtilUI.setTextInBigONotation(tv_best_search, RBTStats.best_search);
+                UtilUI.setTextInBigONotation(tv_worst_delete, RBTStats.worst_delete);
+                UtilUI.setTextInBigONotation(tv_best_delete, RBTStats.best_delete);
+                tv_traversals.setText(RBTStats.traversals);
+                tv_space.setText(RBTStats.space);
+
+                final Dialog dialog = new Dialog(context);
+                dialog.setContentView(view);
+                dialog.show();
+
+                btn_close.setOnClickListener(new View.OnClickListener() {
+                    @Override
+                    public void onClick(View v) {
+                        dialog.dismiss();
+                    }
+                });
+            }
+        });
+
+        btn_nav.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                openDrawer(1);
+            }
+        });
+
+        btn_closenav.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(1);
+            }
+        });
+
+        btn_menu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                openDrawer(2);
+            }
+        });
+
+        btn_closemenu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(2);
+            }
+        });
+
+        btn_helpmenu.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                showOnBoarding();
+            }
+        });
+
+        btn_insertrandom.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                int data = random.nextInt(100);
+                et_insert.setText(String.valueOf(data));
+                et_insert.setError(null);
+            }
+        });
+
+        btn_insert.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_insert.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_insert.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("INSERT", data);
+            }
+        });
+
+        btn_search.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_search.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_search.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("SEARCH", data);
+            }
+        });
+
+        btn_delete.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                String s = et_delete.getText().toString();
+                int data;
+                if(!s.isEmpty()){
+                    data = Integer.parseInt(s.trim());
+                }
+                else{
+                    et_delete.setError("Cant be empty");
+                    return;
+                }
+
+                startPlayback("DELETE", data);
+            }
+        });
+
+        btn_inorder.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                startPlayback("INORDER", -1);
+            }
+        });
+
+        btn_preorder.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                startPlayback("PREORDER", -1);
+            }
+        });
+
+        btn_postorder.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                startPlayback("POSTORDER", -1);
+            }
+        });
+
+        btn_cleartree.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                clearTree();
+            }
+        });
+
+        btn_example1.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(RBTInfo.tree1);
+            }
+        });
+
+        btn_example2.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(RBTInfo.tree2);
+            }
+        });
+
+        btn_example3.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                createExampleTree(RBTInfo.tree3);
+            }
+        });
+
+        btn_compare.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                showComparison();
+            }
+        });
+
+    }
+
+    private void createExampleTree(List<Integer> tree) {
+        closeDrawer(2);
+
+        // The example replaces the current tree, its single BUILD state holds the final tree
+        // Compare inserts the keys of the example one by one, in the order they are listed
+        TreeAnimationState treeAnimationState = rbt.build(tree).get(0);
+        UtilUI.setText(tv_info, treeAnimationState.info);
+        treeView.setSnapshot(treeAnimationState.snapshot, animDuration);
+
+        history.clear();
+        for(Integer data : tree){
+            history.add(new Pair<>("INSERT", data));
+        }
+    }
+
+    private void clearTree() {
+        rbt = new RBT();
+        history.clear();
+        treeView.setSnapshot(rbt.getSnapshot(), 0);
+    }
+
+    // Replays history on a new RBT and a new AVL, so both trees get the same keys in the same order
+    private void showComparison() {
+        RBT rbtReplay = new RBT();
+        AVL avlReplay = new AVL();
+        for(Pair<String, Integer> operation : history){
+            if(operation.first.equals("INSERT")){
+                rbtReplay.insert(operation.second);
+                avlReplay.insert(operation.second);
+            }
+            else{
+                rbtReplay.delete(operation.second);
+                avlReplay.delete(operation.second);
+            }
+        }
+
+        View view = getLayoutInflater().inflate(R.layout.layout_trees_compare, null);
+        TextView tv_rbt_operations = view.findViewById(R.id.tv_rbt_operations);
+        TextView tv_avl_operations = view.findViewById(R.id.tv_avl_operations);
+        TextView tv_rbt_rotations = view.findViewById(R.id.tv_rbt_rotations);
+        TextView tv_avl_rotations = view.findViewById(R.id.tv_avl_rotations);
+        TextView tv_rbt_recolors = view.findViewById(R.id.tv_rbt_recolors);
+        TextView tv_avl_recolors = view.findViewById(R.id.tv_avl_recolors);
+        TextView tv_rbt_height = view.findViewById(R.id.tv_rbt_height);
+        TextView tv_avl_height = view.findViewById(R.id.tv_avl_height);
+        ImageButton btn_close = view.findViewById(R.id.btn_close);
+
+        // AVL keeps heights instead of colors, so it has no recolors
+        tv_rbt_operations.setText(String.valueOf(history.size()));
+        tv_avl_operations.setText(String.valueOf(history.size()));
+        tv_rbt_rotations.setText(String.valueOf(rbtReplay.totalRotations));
+        tv_avl_rotations.setText(String.valueOf(avlReplay.totalRotations));
+        tv_rbt_recolors.setText(String.valueOf(rbtReplay.totalRecolors));
+        tv_avl_recolors.setText("-");
+        tv_rbt_height.setText(String.valueOf(rbtReplay.getSnapshot().height));
+        tv_avl_height.setText(String.valueOf(avlReplay.getSnapshot().height));
+
+        final Dialog dialog = new Dialog(context);
+        dialog.setContentView(view);
+        dialog.show();
+
+        btn_close.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                dialog.dismiss();
+            }
+        });
+    }
+
+    private void startPlayback(String operation, int data){
+        closeDrawer(0);
+        disableUI();
+
+        if(!playbackEngine.isRunning()) {
+            switch (operation) {
+                case "INSERT":
+                    rbt.insert(data);
+                    history.add(new Pair<>(operation, data));
+                    break;
+                case "DELETE":
+                    rbt.delete(data);
+                    history.add(new Pair<>(operation, data));
+                    break;
+                case "SEARCH":
+                    rbt.search(data);
+                    break;
+                case "INORDER":
+                    rbt.inorder();
+                    break;
+                case "PREORDER":
+                    rbt.preorder();
+                    break;
+                case "POSTORDER":
+                    rbt.postorder();
+                    break;
+            }
+
+            // task() stops the playbackEngine after the last step
+            final int animDurationTemp = this.animDuration;
+            playbackEngine.start(animStepDuration, new PlaybackEngine.OnPlaybackListener() {
+                @Override
+                public boolean onStep() {
+                    task(animDurationTemp);
+                    return true;
+                }
+
+                @Override
+                public void onFrame() {}
+
+                @Override
+                public void onStop() {}
+            });
+
+        }
+    }
+
+    private void task(final int animDurationTemp) {
+        if (rbt != null) {
+            final int curSeqNo = rbt.treeSequence.curSeqNo;
+            rbt.treeSequence.forward();
+
+            runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    if(curSeqNo < rbt.treeSequence.size) {
+                        TreeAnimationState treeAnimationState = rbt.treeSequence.treeAnimationStates.get(curSeqNo);
+                        UtilUI.setText(tv_info, rbt.treeSequence.treeAnimationStates.get(curSeqNo).info);
+
+                        // Nodes move to their places in the new layout, removed nodes fade out
+                        if(treeAnimationState.snapshot != null){
+                            treeView.setSnapshot(treeAnimationState.snapshot, animDurationTemp);
+                        }
+
+                        switch (treeAnimationState.state) {
+                            case NOT_FOUND: {
+                                Toast.makeText(context, "Element not found :(", Toast.LENGTH_SHORT).show();
+                                break;
+                            }
+                            case FOUND:
+                            case ORDER_TRAVERSAL:
+                            case DELETE_1_CHILD:
+                            case DELETE_NO_CHILD: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case SEARCH: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_SEARCH, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case INSERT: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_BOUNCE, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case DELETE_DECREASE: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.setNode(treeElementAnimationData.id, treeElementAnimationData.data, treeElementAnimationData.count);
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case COPY_AND_MOVE: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.moveLabel(treeElementAnimationData.id, treeElementAnimationData.newId,
+                                            treeElementAnimationData.data, treeElementAnimationData.count, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case LAYOUT:
+                            case BUILD:
+                                // Only the new layout, already set from the snapshot
+                                break;
+                            case RECOLOR:
+                            case ROTATION: {
+                                for (TreeElementAnimationData treeElementAnimationData : treeAnimationState.elementAnimationData) {
+                                    treeView.highlight(treeElementAnimationData.id, TreeView.EFFECT_FLASH, animDurationTemp);
+                                }
+                                break;
+                            }
+                            case NULL:
+                                break;
+                            default:
+                                Toast.makeText(context, "DEFAULT SWITCH IN TASK -__-", Toast.LENGTH_SHORT).show();
+                        }
+                    }
+                    else{
+                        UtilUI.setText(tv_info, "Done");
+                        runOnUiThread(new Runnable() {
+                            @Override
+                            public void run() {
+                                enableUI();
+                                Toast.makeText(context, "DONE", Toast.LENGTH_SHORT).show();
+                            }
+                        });
+
+                        playbackEngine.stop();
+                    }
+                }
+            });
+
+        }
+
+    }
+
+    @Override
+    protected void initPseudoCode() {}
+
+    @Override
+    protected void initViews() {
+        rbt = new RBT();
+        history = new ArrayList<>();
+
+        treeView = new TreeView(context);
+        treeView.setLayoutParams(new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT));
+        treeView.setOnNodeClickListener(new TreeView.OnNodeClickListener() {
+            @Override
+            public void onNodeClick(int key, int count, float x, float y) {
+                View myView = getLayoutInflater().inflate(R.layout.layout_node_popup, null);
+                TextView value = myView.findViewById(R.id.tv_node_value);
+                TextView tv_count = myView.findViewById(R.id.tv_node_count);
+                TextView name = myView.findViewById(R.id.tv_node_name);
+
+                name.setText("RBT Node");
+                value.setText(String.valueOf(key));
+                tv_count.setText(String.valueOf(count));
+
+                final Dialog dialog = new Dialog(context);
+
+                ImageButton btn_bst_close = myView.findViewById(R.id.btn_bst_close);
+
+                btn_bst_close.setOnClickListener(new View.OnClickListener() {
+                    @Override
+                    public void onClick(View v) {
+                        dialog.dismiss();
+                    }
+                });
+
+                Window window = dialog.getWindow();
+                window.setGravity(Gravity.TOP | Gravity.LEFT);
+                WindowManager.LayoutParams layoutParams = dialog.getWindow().getAttributes();
+                layoutParams.x = (int) x;
+                layoutParams.y = (int) y;
+                window.setAttributes(layoutParams);
+
+                dialog.setContentView(myView);
+                dialog.show();
+            }
+        });
+        ll_anim.addView(treeView);
+
+        ll_anim.post(new Runnable() {
+            @Override
+            public void run() {
+                dl_main.openDrawer(GravityCompat.END);
+            }
+        });
+
+    }
+
+    @Override
+    protected void initNavigation() {
+        int color = UtilUI.getCurrentThemeColor(context, R.attr.shade);
+
+        cl_rbt.setBackgroundColor(color);
+
+        cl_bst.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, BSTActivity.class);
+            }
+        });
+
+        cl_avl.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, AVLActivity.class);
+            }
+        });
+
+        cl_rbt.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                closeDrawer(1);
+            }
+        });
+
+        cl_bplus.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+                UtilUI.startActivity(context, BPlusTreeActivity.class);
+            }
+        });
+
+        cl_home.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                finishAfterTransition();
+            }
+        });
+
+    }
+
+    @Override
+    protected void back(){
+        if(isAnimating)
+            return;
+
+        playbackEngine.stop();
+
+        View view = getLayoutInflater().inflate(R.layout.layout_back_confirmation, null);
+
+        Button btn_cancel = view.findViewById(R.id.btn_cancel);
+        Button btn_yes = view.findViewById(R.id.btn_yes);
+
+        final Dialog dialog = new Dialog(context);
+        dialog.setContentView(view);
+        dialog.getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
+        dialog.show();
+
+        btn_cancel.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                btn_menu.setEnabled(true);
+                dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+                dialog.dismiss();
+            }
+        });
+
+        btn_yes.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                dialog.dismiss();
+                finishAfterTransition();
+            }
+        });
+
+        dialog.setOnDismissListener(new DialogInterface.OnDismissListener() {
+            @Override
+            public void onDismiss(DialogInterface dialog) {
+                btn_menu.setEnabled(true);
+                btn_nav.setEnabled(true);
+                btn_info.setEnabled(true);
+                dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+            }
+        });
+
+    }
+
+    @Override
+    protected void disableUI() {
+        isAnimating = true;
+        dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_LOCKED_CLOSED);
+        btn_menu.setEnabled(false);
+        btn_nav.setEnabled(false);
+        btn_info.setEnabled(false);
+    }
+
+    @Override
+    protected void enableUI() {
+        isAnimating = false;
+        btn_menu.setEnabled(true);
+        btn_nav.setEnabled(true);
+        btn_info.setEnabled(true);
+        dl_main.setDrawerLockMode(DrawerLayout.LOCK_MODE_UNLOCKED);
+    }
+
+    @Override
+    protected void initToolTipTexts(){
+        TooltipCompat.setTooltipText(btn_info, "Info");
+        TooltipCompat.setTooltipText(btn_menu, "Controls Menu");
+        TooltipCompat.setTooltipText(btn_nav, "Navigation Menu");
+        TooltipCompat.setTooltipText(tv_info, "Current Animation Info");
+
+        // Right Menu
+        TooltipCompat.setTooltipText(btn_closemenu, "Close Controls");
+        TooltipCompat.setTooltipText(btn_helpmenu, "Show Help");
+        TooltipCompat.setTooltipText(btn_insertrandom, "Random Number");
+
+        // Left Menu
+        TooltipCompat.setTooltipText(btn_closenav, "Close Navigation");
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.iiitd.dsavisualizer.datastructures.trees.rbt;
+
+import java.util.Arrays;
+import java.util.List;
+
+//HARDCODED INFORMATION, Handle with care
+public class RBTInfo {
+
+    public static final List<Integer> tree1 = Arrays.asList(10, 20, 30, 40, 50, 60, 70, 80);
+    public static final List<Integer> tree2 = Arrays.asList(50, 30, 70, 20, 40, 60, 80, 10, 25, 35, 45);
+    public static final List<Integer> tree3 = Arrays.asList(100, 90, 80, 70, 60, 50, 40, 30, 20, 10);
+
+    public static String getBuildString(int noOfKeys, int noOfNodes){
+        return "building balanced tree of " + noOfKeys + " keys, " + noOfNodes + " nodes, deepest level red";
+    }
+
+    public static String getInsertString(int key, int count){
+        return count == 1 ? "inserting red node : " + key : "increasing count of " + key + " -> " + count;
+    }
+
+    public static String getDeleteString(int key, int count){
+        return count == 1 ? "deleting : " + key : "decreasing count of " + key + " -> " + count;
+    }
+
+    public static String getNotFoundString(int key){
+        return "node : " + key + " not found in tree";
+    }
+
+    public static String getFoundString(int key){
+        return "node : " + key + " found in tree";
+    }
+
+    public static String getMoveUpString(int key, int oldKey){
+        return "move successor " + key + " of " + oldKey + " up";
+    }
+
+    public static String getOrderTraversalString(String type){
+        return type + " order traversal";
+    }
+
+    public static String getChildUpString(int key){
+        return "move child of " + key + " up";
+    }
+
+    public static String getFindSuccessorString(int key){
+        return "finding successor of " + key + " in right subtree";
+    }
+
+    public static String getFoundSuccessorString(int key, int foundKey){
+        return "successor of " + key + " is " + foundKey + " in right subtree";
+    }
+
+    public static String getSearchString(int key, int curKey){
+        if(key < curKey){
+            return key + " < " + curKey + ", recurse on left subtree";
+        }
+        else {
+            return key + " > " + curKey + ", recurse on right subtree";
+        }
+    }
+
+    public static String getRedParentString(int key, int parentKey){
+        return "parent " + parentKey + " of red " + key + " is red";
+    }
+
+    public static String getRedUncleString(int uncleKey){
+        return "uncle " + uncleKey + " is red, recolor parent, uncle and grandparent";
+    }
+
+    public static String getBlackUncleString(int grandParentKey){
+        return "uncle is black, recolor parent and grandparent " + grandParentKey;
+    }
+
+    public static String getRootString(int key){
+        return "root " + key + " is black";
+    }
+
+    public static String getDoubleBlackString(int parentKey){
+        return "child of " + parentKey + " is double black";
+    }
+
+    public static String getRedSiblingString(int siblingKey){
+        return "sibling " + siblingKey + " is red, recolor sibling and parent";
+    }
+
+    public static String getBlackNephewsString(int siblingKey){
+        return "children of sibling " + siblingKey + " are black, recolor sibling red";
+    }
+
+    public static String getRedNearNephewString(int nephewKey){
+        return "near nephew " + nephewKey + " is red, recolor it and sibling";
+    }
+
+    public static String getRedFarNephewString(int nephewKey){
+        return "far nephew " + nephewKey + " is red, sibling takes color of parent";
+    }
+
+    public static String getBlackString(int key){
+        return "color " + key + " black";
+    }
+
+    public static String getOperationStatsString(int noOfRotations, int noOfRecolors){
+        return "rotations : " + noOfRotations + ", recolors : " + noOfRecolors;
+    }
+
+    public static String getRightRotateString(int key){
+        return "right rotate " + key ;
+    }
+
+    public static String getLeftRotateString(int key){
+        return "left rotate " + key ;
+    }
+
+}
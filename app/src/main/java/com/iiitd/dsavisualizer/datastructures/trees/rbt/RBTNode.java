@@ -0,0 +1,64 @@
+package com.iiitd.dsavisualizer.datastructures.trees.rbt;
+
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutData;
+import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutNode;
+
+// RBTNode used by RBT, null children are the black leaves of the tree
+public class RBTNode implements TreeLayoutNode {
+
+    final int id;
+    int key;
+    int count;
+    boolean isRed;
+    RBTNode left;
+    RBTNode right;
+    RBTNode parent;
+    final TreeLayoutData layoutData;
+
+    RBTNode(int id, int key) {
+        this.id = id;
+        this.key = key;
+        this.count = 1;
+        this.isRed = true;
+        this.left = null;
+        this.right = null;
+        this.parent = null;
+        this.layoutData = new TreeLayoutData();
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int getKey() {
+        return key;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getColor() {
+        return isRed ? COLOR_RED : COLOR_BLACK;
+    }
+
+    @Override
+    public TreeLayoutNode getLeft() {
+        return left;
+    }
+
+    @Override
+    public TreeLayoutNode getRight() {
+        return right;
+    }
+
+    @Override
+    public TreeLayoutData getLayoutData() {
+        return layoutData;
+    }
+
+}
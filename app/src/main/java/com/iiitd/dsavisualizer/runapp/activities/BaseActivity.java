@@ -15,12 +15,14 @@ import androidx.drawerlayout.widget.DrawerLayout;
 
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.runapp.others.OnBoardingPopUp;
+import com.iiitd.dsavisualizer.runapp.others.PlaybackEngine;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
 // Base Activity as an abstract class
 // Contains Left drawer, Right drawer and also the main layout view
 // configure() function must be called by each subclass before calling super.onCreate()
 // Also manages FullScreen functionality, drawers open/close, back functionality
+// playbackEngine is used by subclasses for auto play, it is stopped when the activity is destroyed
 // abstract functions must be overridden  by subclasses
 public abstract class BaseActivity extends AppCompatActivity {
 
@@ -34,6 +36,7 @@ public abstract class BaseActivity extends AppCompatActivity {
     public View v_main;
     public View v_menu_left;
     public View v_menu_right;
+    public PlaybackEngine playbackEngine;
 
     public int LAYOUT_MAIN;
     public int LAYOUT_LEFT;
@@ -66,6 +69,7 @@ public abstract class BaseActivity extends AppCompatActivity {
         setContentView(R.layout.layout_base);
 
         context = this;
+        playbackEngine = new PlaybackEngine();
         layoutInflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
         dl_main = findViewById(R.id.dl_main);
         vs_main = findViewById(R.id.vs_main);
@@ -130,6 +134,15 @@ public abstract class BaseActivity extends AppCompatActivity {
         return onBoardingPopUp;
     }
 
+    @Override
+    protected void onDestroy() {
+        if(playbackEngine != null){
+            playbackEngine.stop();
+        }
+
+        super.onDestroy();
+    }
+
     @Override
     public void onBackPressed() {
         if (isDrawerOpen(0)){
@@ -20,6 +20,7 @@ import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSortActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortActivity;
+import com.iiitd.dsavisualizer.algorithms.sorting.race.SortingRaceActivity;
 import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortActivity;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.runapp.others.ActivityItemData;
@@ -39,7 +40,8 @@ public class SortingActivity extends AppCompatActivity {
             new ActivityItemData(SelectionSortActivity.class.getName(), "SelectionSort", R.drawable.dsa_selectionsort),
             new ActivityItemData(InsertionSortActivity.class.getName(), "InsertionSort", R.drawable.dsa_insertionsort),
             new ActivityItemData(MergeSortActivity.class.getName(), "MergeSort", R.drawable.dsa_mergesort),
-            new ActivityItemData(QuickSortActivity.class.getName(), "QuickSort", R.drawable.dsa_quicksort)
+            new ActivityItemData(QuickSortActivity.class.getName(), "QuickSort", R.drawable.dsa_quicksort),
+            new ActivityItemData(SortingRaceActivity.class.getName(), "Race", R.drawable.dsa_sorting)
     };
 
     int theme;
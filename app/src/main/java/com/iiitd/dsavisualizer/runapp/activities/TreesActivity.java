@@ -18,7 +18,9 @@ import android.widget.TextView;
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 import com.iiitd.dsavisualizer.datastructures.trees.avl.AVLActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.bplustree.BPlusTreeActivity;
 import com.iiitd.dsavisualizer.datastructures.trees.bst.BSTActivity;
+import com.iiitd.dsavisualizer.datastructures.trees.rbt.RBTActivity;
 import com.iiitd.dsavisualizer.runapp.others.ActivityItemData;
 import com.iiitd.dsavisualizer.utility.UtilUI;
 
@@ -33,7 +35,9 @@ public class TreesActivity extends AppCompatActivity {
 
     ActivityItemData[] activityItemData = new ActivityItemData[]{
             new ActivityItemData(BSTActivity.class.getName(), "BST", R.drawable.dsa_bst),
-            new ActivityItemData(AVLActivity.class.getName(), "AVL", R.drawable.dsa_avl)
+            new ActivityItemData(AVLActivity.class.getName(), "AVL", R.drawable.dsa_avl),
+            new ActivityItemData(RBTActivity.class.getName(), "RBT", R.drawable.dsa_rbt),
+            new ActivityItemData(BPlusTreeActivity.class.getName(), "B+ Tree", R.drawable.dsa_bplustree)
     };
 
     int theme;
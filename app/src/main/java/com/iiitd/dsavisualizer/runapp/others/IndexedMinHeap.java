@@ -0,0 +1,151 @@
+package com.iiitd.dsavisualizer.runapp.others;
+
+import java.util.Arrays;
+
+// Used by Dijkstra's and Prim's algorithm
+// Indexed binary min-heap with decrease-key, elements are dense indices in [0, capacity)
+// Ties are broken by the smaller element, so extraction order is deterministic
+// Heap positions written since the last clearChanges() are logged, so a step can be recorded in O(log V)
+public class IndexedMinHeap {
+
+    private final int[] heap;        // heap position -> element
+    private final int[] position;    // element -> heap position, -1 if not in heap
+    private final int[] keys;        // element -> key
+    private int size;
+
+    private final int[] changes;     // heap positions written since last clearChanges()
+    private final boolean[] changed; // heap position -> is it in changes
+    private int noOfChanges;
+
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new int[capacity];
+        this.size = 0;
+        this.changes = new int[capacity];
+        this.changed = new boolean[capacity];
+        this.noOfChanges = 0;
+        Arrays.fill(position, -1);
+    }
+
+    public void insert(int element, int key) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("element already in heap : " + element);
+        }
+
+        keys[element] = key;
+        set(size, element);
+        size++;
+        siftUp(size - 1);
+    }
+
+    // Returns false if the new key is not smaller than the current key
+    public boolean decreaseKey(int element, int key) {
+        if (!contains(element) || key >= keys[element]) {
+            return false;
+        }
+
+        keys[element] = key;
+        siftUp(position[element]);
+        return true;
+    }
+
+    // Removes and returns the element having minimum key
+    public int extractMin() {
+        if (size == 0) {
+            throw new IllegalStateException("heap is empty");
+        }
+
+        int min = heap[0];
+        size--;
+        if (size > 0) {
+            set(0, heap[size]);
+            siftDown(0);
+        }
+        position[min] = -1;
+
+        return min;
+    }
+
+    public boolean contains(int element) {
+        return position[element] >= 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getKey(int element) {
+        return keys[element];
+    }
+
+    // Element stored at heap position [ array layout of the heap ]
+    public int elementAt(int heapPosition) {
+        return heap[heapPosition];
+    }
+
+    // No. of heap positions written since last clearChanges(), positions >= size() are no longer in the heap
+    public int getNoOfChanges() {
+        return noOfChanges;
+    }
+
+    public int changeAt(int index) {
+        return changes[index];
+    }
+
+    public void clearChanges() {
+        for (int i = 0; i < noOfChanges; i++) {
+            changed[changes[i]] = false;
+        }
+        noOfChanges = 0;
+    }
+
+    private void set(int heapPosition, int element) {
+        heap[heapPosition] = element;
+        position[element] = heapPosition;
+        if (!changed[heapPosition]) {
+            changed[heapPosition] = true;
+            changes[noOfChanges++] = heapPosition;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private void siftUp(int i) {
+        int element = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(element, heap[parent])) {
+                break;
+            }
+            set(i, heap[parent]);
+            i = parent;
+        }
+        set(i, element);
+    }
+
+    private void siftDown(int i) {
+        int element = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], element)) {
+                break;
+            }
+            set(i, heap[child]);
+            i = child;
+        }
+        set(i, element);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.iiitd.dsavisualizer.runapp.others;
+
+import android.view.Choreographer;
+
+// PlaybackEngine plays animation steps on the UI thread in sync with display frames, using Choreographer
+// Used by all activities for auto play, instead of a java.util.Timer thread per activity
+// The next frame callback is posted only after the current frame's steps are done, so steps never queue up
+// Steps faster than a frame are run together in a single frame and only the last one is drawn
+// If a frame runs over FRAME_BUDGET_MS, the remaining steps of that frame are dropped and playback slows down
+public class PlaybackEngine implements Choreographer.FrameCallback {
+    public static final long FRAME_BUDGET_MS = 8;
+
+    // Callbacks of a playback, all are called on the UI thread
+    public interface OnPlaybackListener {
+        // Runs a single step, returns false if there are no more steps
+        boolean onStep();
+
+        // Draws the last step, called once for every frame in which steps were run
+        void onFrame();
+
+        // Called once when playback stops, at the end or by stop()
+        void onStop();
+    }
+
+    private OnPlaybackListener onPlaybackListener;
+    private long stepDuration;              // nanoseconds
+    private long nextStepTime;              // frame time of the next step, 0 => next frame
+    private boolean isRunning;
+
+    public PlaybackEngine() {
+        this.onPlaybackListener = null;
+        this.stepDuration = 0;
+        this.nextStepTime = 0;
+        this.isRunning = false;
+    }
+
+    // Starts playback with a step every stepDuration ms, first step is run on the next frame
+    // Stops the current playback, if any
+    public void start(long stepDuration, OnPlaybackListener onPlaybackListener){
+        stop();
+
+        this.onPlaybackListener = onPlaybackListener;
+        this.stepDuration = Math.max(1, stepDuration) * 1000000;
+        this.nextStepTime = 0;
+        this.isRunning = true;
+
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    // Changes speed of the current playback, from the next step
+    public void setStepDuration(long stepDuration){
+        long old = this.stepDuration;
+        this.stepDuration = Math.max(1, stepDuration) * 1000000;
+
+        if(isRunning && nextStepTime != 0){
+            nextStepTime += this.stepDuration - old;
+        }
+    }
+
+    public void stop(){
+        if(!isRunning)
+            return;
+
+        isRunning = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+
+        OnPlaybackListener onPlaybackListener = this.onPlaybackListener;
+        this.onPlaybackListener = null;
+        onPlaybackListener.onStop();
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if(!isRunning)
+            return;
+
+        if(nextStepTime == 0){
+            nextStepTime = frameTimeNanos;
+        }
+
+        OnPlaybackListener onPlaybackListener = this.onPlaybackListener;
+        long deadline = System.nanoTime() + FRAME_BUDGET_MS * 1000000;
+        int noOfSteps = 0;
+        boolean hasNext = true;
+
+        while (nextStepTime <= frameTimeNanos){
+            hasNext = onPlaybackListener.onStep();
+            noOfSteps++;
+            nextStepTime += stepDuration;
+
+            // Stopped by the step itself
+            if(!isRunning){
+                onPlaybackListener.onFrame();
+                return;
+            }
+
+            if(!hasNext)
+                break;
+
+            // Running behind, remaining steps of this frame are dropped
+            if(System.nanoTime() > deadline){
+                nextStepTime = frameTimeNanos + stepDuration;
+                break;
+            }
+        }
+
+        if(noOfSteps > 0){
+            onPlaybackListener.onFrame();
+        }
+
+        if(!hasNext){
+            stop();
+            return;
+        }
+
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    // Step duration in ms for the speed SeekBar progress [0, 100]
+    // [0, 80] => 2500ms to 900ms, linear as before, (80, 100] => 900ms to 1ms, several steps per frame
+    public static int getStepDuration(int progress){
+        if(progress <= 80){
+            return (2000 - progress * 20) + 500;
+        }
+
+        return (int) Math.max(1, Math.round(900 * Math.pow(900, -(progress - 80) / 20.0)));
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.iiitd.dsavisualizer.utility;
+
+// Unicode symbols used in infos of algorithms, drawn as images by UtilUI.stringToSpannableStringBuilder()
+// Kept out of UtilUI, so algorithms also run on a plain JVM [ benchmark module ]
+public class Symbols {
+    public static final String INFINITY = "\u221E";
+    public static final String LEFT_ARROW = "\u2190";
+}
@@ -2,9 +2,6 @@ package com.iiitd.dsavisualizer.utility;
 
 import android.os.Environment;
 
-import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortData;
-import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortData;
-import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortData;
 import com.iiitd.dsavisualizer.constants.AppSettings;
 
 import java.io.File;
@@ -16,42 +13,6 @@ import java.util.Date;
 // Util class for non-UI Related helper functions
 public class Util {
 
-    // Used by QuickSort
-    public static void swap(QuickSortData a, QuickSortData b){
-        int oldData = a.data;
-        int oldIndex = a.index;
-
-        a.data = b.data;
-        a.index = b.index;
-
-        b.data = oldData;
-        b.index = oldIndex;
-    }
-
-    // Used by BubbleSort
-    public static void swap(BubbleSortData a, BubbleSortData b){
-        int oldData = a.data;
-        int oldIndex = a.index;
-
-        a.data = b.data;
-        a.index = b.index;
-
-        b.data = oldData;
-        b.index = oldIndex;
-    }
-
-    // Used by SelectionSort
-    public static void swap(SelectionSortData a, SelectionSortData b){
-        int oldData = a.data;
-        int oldIndex = a.index;
-
-        a.data = b.data;
-        a.index = b.index;
-
-        b.data = oldData;
-        b.index = oldIndex;
-    }
-
     public static double distance(double x1, double y1, double x2, double y2) {
         return Math.sqrt((y2 - y1) * (y2 - y1) + (x2 - x1) * (x2 - x1));
     }
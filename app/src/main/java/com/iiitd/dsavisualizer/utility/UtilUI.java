@@ -19,15 +19,12 @@ import android.text.SpannedString;
 import android.text.style.DynamicDrawableSpan;
 import android.text.style.ImageSpan;
 import android.transition.Fade;
-import android.util.Pair;
 import android.util.TypedValue;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.Window;
 import android.view.WindowManager;
-import android.widget.FrameLayout;
 import android.widget.ScrollView;
-import android.widget.TableRow;
+import android.widget.SeekBar;
 import android.widget.TextView;
 
 import androidx.annotation.ColorInt;
@@ -35,7 +32,6 @@ import androidx.core.content.ContextCompat;
 
 import com.iiitd.dsavisualizer.R;
 import com.iiitd.dsavisualizer.constants.AppSettings;
-import com.iiitd.dsavisualizer.datastructures.trees.TreeLayoutElement;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -76,6 +72,13 @@ public class UtilUI {
         textView.setText(spannableString);
     }
 
+    // Updates the animation step counter and the scrub bar of sorting activities
+    public static void setSeqNo(TextView textView, SeekBar seekBar, int curSeqNo, int size){
+        textView.setText(curSeqNo + " / " + size);
+        seekBar.setMax(size);
+        seekBar.setProgress(curSeqNo);
+    }
+
     public static int getRandomColor(){
         Random random = new Random();
         return Color.argb(255, random.nextInt(256), random.nextInt(256), random.nextInt(256));
@@ -219,98 +222,6 @@ public class UtilUI {
 
     }
 
-    // Used by BST and AVL for tree nodes
-    public static View getTreeNodeView(Context context, LayoutInflater layoutInflater,
-                                       TreeLayoutElement treeLayoutElement, int height, int row, int col){
-        int layout = 0;
-        int weight = treeLayoutElement.weight;
-        int visibility = View.INVISIBLE;
-        switch (treeLayoutElement.type){
-            case EMPTY:
-                layout = R.layout.element_treenode_empty;
-                break;
-            case ARROW:
-                layout = R.layout.element_treenode_arrow;
-                break;
-            case ELEMENT:
-                layout = R.layout.element_treenode_element;
-                break;
-        }
-        View myView = layoutInflater.inflate(layout, null);
-        myView.setLayoutParams(new TableRow.LayoutParams(0, height, weight));
-
-        if(row > 0 && layout == R.layout.element_treenode_arrow){
-            int arrowLayout = R.drawable.trees_arrow_height_1;
-            if(row == 1){
-                arrowLayout = R.drawable.trees_arrow_height_1;
-            }
-            else if(row == 3){
-                arrowLayout = R.drawable.trees_arrow_height_2;
-            }
-            else if(row == 5){
-                arrowLayout = R.drawable.trees_arrow_height_3;
-            }
-
-            //if last arrow row, then mod is reversed, hence ++
-            if(row == 5)
-                col++;
-            if(((col-1)/2) % 2 == 1)
-                myView.setRotationY(180);
-
-            FrameLayout frameLayout = myView.findViewById(R.id.fl_arrow);
-            frameLayout.setBackground(getDrawable(context, arrowLayout));
-        }
-
-        /* FOR DEBUGGING PURPOSE's ONLY, HARDCODED STUFF< HANDLE WITH CARE
-        int in = 0;
-        if(row == 0)
-            in = 8;
-        else if(row == 2){
-            if(col == 1)
-                in = 4;
-            if(col == 3)
-                in = 12;
-        }
-        else if(row == 4){
-            if(col == 1)
-                in = 2;
-            if(col == 3)
-                in = 6;
-            if(col == 5)
-                in = 10;
-            if(col == 7)
-                in = 14;
-        }
-        else if(row == 6){
-            if(col == 0)
-                in = 1;
-            if(col == 2)
-                in = 3;
-            if(col == 4)
-                in = 5;
-            if(col == 6)
-                in = 7;
-            if(col == 8)
-                in = 9;
-            if(col == 10)
-                in = 11;
-            if(col == 12)
-                in = 13;
-            if(col == 14)
-                in = 15;
-        }
-
-        if(treeLayoutElement.type == NodeType.ELEMENT) {
-            TextView viewById = myView.findViewById(R.id.tv_index);
-            viewById.setText(in+"");
-        }
-        */
-
-        myView.setVisibility(visibility);
-
-        return myView;
-    }
-
     // Converts pixels to DP
     public static float pxToDp(Context context, int px){
         return px / context.getResources().getDisplayMetrics().density;
@@ -399,12 +310,12 @@ public class UtilUI {
 
     // Returns unicode string for infinity symbol
     public static String getInfinity(){
-        return "\u221E";
+        return Symbols.INFINITY;
     }
 
     // Returns unicode string for left arrow symbol
     public static String getLeftArrow(){
-        return "\u2190";
+        return Symbols.LEFT_ARROW;
     }
 
     // Returns unicode string for right arrow symbol
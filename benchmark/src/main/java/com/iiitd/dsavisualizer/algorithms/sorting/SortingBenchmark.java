@@ -0,0 +1,145 @@
+package com.iiitd.dsavisualizer.algorithms.sorting;
+
+import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.bubble.BubbleSortInfo;
+import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSortGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.insertion.InsertionSortInfo;
+import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSortGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.merge.MergeSortInfo;
+import com.iiitd.dsavisualizer.algorithms.sorting.merge.ParallelMergeSort;
+import com.iiitd.dsavisualizer.algorithms.sorting.quick.PivotType;
+import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.quick.QuickSortInfo;
+import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortGenerator;
+import com.iiitd.dsavisualizer.algorithms.sorting.selection.SelectionSortInfo;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Records the complete sequence of a sorting algorithm, as the backends do on their worker thread
+// ops/s is sequences per second, the states and bytes counters give states/s and encoded bytes/s
+// bytes per state = bytes / states, allocation per sequence is gc.alloc.rate.norm of -prof gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortingBenchmark {
+    public static final long SEED = 1;
+
+    @Param({"BUBBLE", "SELECTION", "INSERTION", "MERGE", "PARALLEL_MERGE", "QUICK", "DUAL_PIVOT_QUICK", "INTRO_SORT"})
+    public String algorithm;
+
+    @Param({"16", "256", "1000"})
+    public int size;
+
+    @Param({"RANDOM", "REVERSED"})
+    public InputDistribution distribution;
+
+    int[] data;
+    ParallelMergeSort benchmark;            // speedup shown by PARALLEL_MERGE, measured once
+
+    // Counters of the recorded sequences, reset every iteration
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long states;
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            states = 0;
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup(){
+        data = SortingInputGenerator.generate(distribution, size, size, SEED);
+        if(algorithm.equals("PARALLEL_MERGE")){
+            benchmark = ParallelMergeSort.createBenchmark();
+            benchmark.measure();
+        }
+    }
+
+    @Benchmark
+    public SortingRecorder generate(Counters counters){
+        SortingRecorder sequence = new SortingRecorder(getSortingInfoFormatter());
+        int[] positions = new int[size];
+        for(int i=0;i<size;i++){
+            positions[i] = i;
+        }
+        sequence.setPositions(positions);
+        SortingMetrics metrics = new SortingMetrics();
+        sequence.setMetrics(metrics);
+
+        switch (algorithm){
+            case "BUBBLE":
+                new BubbleSortGenerator(data, sequence, metrics).generate();
+                break;
+            case "SELECTION":
+                new SelectionSortGenerator(data, sequence, metrics).generate();
+                break;
+            case "INSERTION":
+                new InsertionSortGenerator(data, sequence, metrics).generate();
+                break;
+            case "MERGE":
+                new MergeSortGenerator(data, sequence, metrics, false).generate();
+                break;
+            case "PARALLEL_MERGE":
+            {
+                MergeSortGenerator mergeSortGenerator = new MergeSortGenerator(data, sequence, metrics, true);
+                mergeSortGenerator.setBenchmark(benchmark);
+                mergeSortGenerator.generate();
+                break;
+            }
+            case "QUICK":
+                new QuickSortGenerator(data, sequence, metrics, PivotType.FIRST, false, new Random(SEED)).generate();
+                break;
+            case "DUAL_PIVOT_QUICK":
+                new QuickSortGenerator(data, sequence, metrics, PivotType.DUAL_PIVOT, false, new Random(SEED)).generate();
+                break;
+            case "INTRO_SORT":
+                new QuickSortGenerator(data, sequence, metrics, PivotType.FIRST, true, new Random(SEED)).generate();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+
+        counters.states += sequence.size;
+        counters.bytes += sequence.sortingAnimationStates.getNoOfBytes();
+        return sequence;
+    }
+
+    private SortingInfoFormatter getSortingInfoFormatter(){
+        switch (algorithm){
+            case "BUBBLE":
+                return BubbleSortInfo.sortingInfoFormatter;
+            case "SELECTION":
+                return SelectionSortInfo.sortingInfoFormatter;
+            case "INSERTION":
+                return InsertionSortInfo.sortingInfoFormatter;
+            case "MERGE":
+            case "PARALLEL_MERGE":
+                return MergeSortInfo.sortingInfoFormatter;
+            default:
+                return QuickSortInfo.sortingInfoFormatter;
+        }
+    }
+
+}
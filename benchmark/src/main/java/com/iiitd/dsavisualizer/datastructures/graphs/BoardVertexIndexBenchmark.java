@@ -0,0 +1,166 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Vertex lookups made by a single Board.update(), the Canvas drawing itself needs Android and is not measured
+// index is the current update(), which iterates the dense list of BoardVertexIndex and looks up both ends of every edge
+// gridScan is the update() before it, which scanned the yCount x xCount grid for vertices and for both ends of every edge
+// move is a vertex dragged to another grid element, as Board does with remove() and put()
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardVertexIndexBenchmark {
+    public static final long SEED = 1;
+    public static final int MAX_VERTEX = 1000;      // vertex numbers are [0, 999] for custom input
+    public static final int EDGES_PER_VERTEX = 2;
+
+    @Param({"false", "true"})
+    public boolean isLargeGraph;
+
+    @Param({"25", "100"})
+    public int fill;                                // % of grid elements with a vertex
+
+    int xCount;
+    int yCount;
+    BoardVertexIndex boardVertexIndex;
+    int[][] grid;                                   // row, col -> vertex number, -1 => empty
+    int[] sources;                                  // edge -> vertex number of src
+    int[] targets;                                  // edge -> vertex number of des
+    int[] emptyCells;                               // grid elements without a vertex, targets of move
+    int moves;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        Random random = new Random(SEED);
+        xCount = GraphSettings.getNoOfCols(isLargeGraph);
+        yCount = GraphSettings.getNoOfRows(isLargeGraph);
+        int noOfCells = xCount * yCount;
+        int noOfVertices = Math.max(2, noOfCells * fill / 100);
+
+        List<Integer> cells = shuffled(noOfCells, random);
+        List<Integer> vertices = shuffled(MAX_VERTEX, random);
+
+        boardVertexIndex = new BoardVertexIndex(xCount);
+        grid = new int[yCount][xCount];
+        for(int r=0;r<yCount;r++){
+            for(int c=0;c<xCount;c++){
+                grid[r][c] = -1;
+            }
+        }
+        for(int i=0;i<noOfVertices;i++){
+            int cell = cells.get(i);
+            boardVertexIndex.put(vertices.get(i), cell / xCount, cell % xCount);
+            grid[cell / xCount][cell % xCount] = vertices.get(i);
+        }
+
+        emptyCells = new int[Math.max(1, noOfCells - noOfVertices)];
+        for(int i=noOfVertices;i<noOfCells;i++){
+            emptyCells[i - noOfVertices] = cells.get(i);
+        }
+        if(noOfVertices == noOfCells){
+            emptyCells[0] = cells.get(noOfCells - 1);   // full board, the last vertex is put back on its own element
+        }
+
+        sources = new int[EDGES_PER_VERTEX * noOfVertices];
+        targets = new int[EDGES_PER_VERTEX * noOfVertices];
+        for(int i=0;i<sources.length;i++){
+            sources[i] = vertices.get(random.nextInt(noOfVertices));
+            targets[i] = vertices.get(random.nextInt(noOfVertices));
+        }
+        moves = 0;
+    }
+
+    @Benchmark
+    public long index(){
+        long sum = 0;
+        for(int i=0;i<boardVertexIndex.size();i++){
+            int value = boardVertexIndex.vertexAt(i);
+            sum += boardVertexIndex.getRow(value) * xCount + boardVertexIndex.getCol(value);
+        }
+
+        for(int i=0;i<sources.length;i++){
+            sum += boardVertexIndex.getRow(sources[i]) + boardVertexIndex.getCol(sources[i]);
+            sum += boardVertexIndex.getRow(targets[i]) + boardVertexIndex.getCol(targets[i]);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long gridScan(){
+        long sum = 0;
+        for(int r=0;r<yCount;r++){
+            for(int c=0;c<xCount;c++){
+                if(grid[r][c] != -1){
+                    sum += r * xCount + c;
+                }
+            }
+        }
+
+        for(int i=0;i<sources.length;i++){
+            int[] src = getCoordinates(sources[i]);
+            int[] des = getCoordinates(targets[i]);
+            sum += src[0] + src[1] + des[0] + des[1];
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int move(){
+        int vertex = boardVertexIndex.vertexAt(boardVertexIndex.size() - 1);
+        int cell = emptyCells[moves++ % emptyCells.length];
+        int row = boardVertexIndex.getRow(vertex);
+        int col = boardVertexIndex.getCol(vertex);
+
+        // Moves the vertex and back, so the board is the same after every call
+        boardVertexIndex.remove(vertex);
+        boardVertexIndex.put(vertex, cell / xCount, cell % xCount);
+        boardVertexIndex.remove(vertex);
+        boardVertexIndex.put(vertex, row, col);
+        return boardVertexIndex.size();
+    }
+
+    // Lookup of the grid before BoardVertexIndex, a new int[] for every call
+    private int[] getCoordinates(int key){
+        for(int r=0;r<yCount;r++){
+            for(int c=0;c<xCount;c++){
+                if(grid[r][c] == key){
+                    return new int[]{r, c};
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static List<Integer> shuffled(int n, Random random){
+        List<Integer> list = new ArrayList<>();
+        for(int i=0;i<n;i++){
+            list.add(i);
+        }
+        Collections.shuffle(list, random);
+        return list;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.iiitd.dsavisualizer.datastructures.graphs;
+
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.BFS;
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.BellmanFord;
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.DFS;
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.Dijkstra;
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.Kruskals;
+import com.iiitd.dsavisualizer.datastructures.graphs.algorithms.Prims;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Records the complete sequence of a graph algorithm, as GraphAlgorithm does on its worker thread
+// ops/s is sequences per second, the states counter gives states/s
+// Graph sequences keep no byte count, bytes per state = gc.alloc.rate.norm of -prof gc / states per op
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphBenchmark {
+    public static final long SEED = 1;
+    public static final int X_COUNT = 8;            // vertices are laid out row by row on the board
+    public static final int EDGES_PER_VERTEX = 2;   // average degree is 2 * EDGES_PER_VERTEX
+    public static final int MAX_WEIGHT = 20;
+
+    @Param({"BFS", "BFS_CC", "DFS", "DFS_CC", "DIJKSTRA", "BELLMAN_FORD", "PRIMS", "KRUSKALS"})
+    public GraphAlgorithmType algorithm;
+
+    @Param({"50", "500"})
+    public int size;
+
+    Graph graph;
+
+    // Counters of the recorded sequences, reset every iteration
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long states;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            states = 0;
+        }
+    }
+
+    // Undirected weighted graph, as Kruskals, Prims and the CC algorithms need
+    @Setup(Level.Trial)
+    public void setup(){
+        graph = createGraph(size, new Random(SEED));
+    }
+
+    @Benchmark
+    public GraphSequence generate(Counters counters){
+        GraphSnapshot graphSnapshot = new GraphSnapshot(graph);
+        GraphSequence graphSequence;
+        switch (algorithm){
+            case BFS:
+                graphSequence = new BFS(graphSnapshot, algorithm).bfs(0);
+                break;
+            case BFS_CC:
+                graphSequence = new BFS(graphSnapshot, algorithm).bfsCC();
+                break;
+            case DFS:
+                graphSequence = new DFS(graphSnapshot, algorithm).dfs(0);
+                break;
+            case DFS_CC:
+                graphSequence = new DFS(graphSnapshot, algorithm).dfsCC();
+                break;
+            case DIJKSTRA:
+                graphSequence = new Dijkstra(graphSnapshot).dijkstra(0);
+                break;
+            case BELLMAN_FORD:
+                graphSequence = new BellmanFord(graphSnapshot).bellmanford();
+                break;
+            case PRIMS:
+                graphSequence = new Prims(graphSnapshot).prims();
+                break;
+            case KRUSKALS:
+                graphSequence = new Kruskals(graphSnapshot).kruskals();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+
+        counters.states += graphSequence.size;
+        return graphSequence;
+    }
+
+    // Vertices 0 to noOfVertices - 1, with EDGES_PER_VERTEX * noOfVertices random edges at most
+    static Graph createGraph(int noOfVertices, Random random){
+        Graph graph = new Graph(false, true);
+        for(int i=0;i<noOfVertices;i++){
+            graph.addVertex(i, i / X_COUNT, i % X_COUNT);
+        }
+
+        for(int i=0;i<EDGES_PER_VERTEX*noOfVertices;i++){
+            int src = random.nextInt(noOfVertices);
+            int des = random.nextInt(noOfVertices);
+            if(src == des || graph.checkContainsEdge(src, des))
+                continue;
+
+            int weight = 1 + random.nextInt(MAX_WEIGHT);
+            graph.addEdge(src, des, weight, true);
+            graph.addEdge(des, src, weight, false);
+        }
+
+        return graph;
+    }
+
+}
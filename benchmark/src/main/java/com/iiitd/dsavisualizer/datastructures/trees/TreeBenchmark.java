@@ -0,0 +1,195 @@
+package com.iiitd.dsavisualizer.datastructures.trees;
+
+import com.iiitd.dsavisualizer.datastructures.trees.avl.AVL;
+import com.iiitd.dsavisualizer.datastructures.trees.bplustree.BPlusTree;
+import com.iiitd.dsavisualizer.datastructures.trees.bst.BST;
+import com.iiitd.dsavisualizer.datastructures.trees.rbt.RBT;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Records the sequences of size operations on a tree, as the tree activities do for every operation
+// ops/s is batches of size operations per second, the states counter gives states/s
+// Trees keep no byte count, allocation per batch is gc.alloc.rate.norm of -prof gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeBenchmark {
+    public static final long SEED = 1;
+    public static final int FAN_OUT = 4;
+    public static final int NO_OF_FRAMES = 8;
+
+    @Param({"BST", "AVL", "RBT", "BPLUS"})
+    public String tree;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    List<Integer> keys;             // distinct keys in random order
+    Object searchTree;              // built once from keys, only searched
+
+    // Counters of the recorded sequences, reset every iteration
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long states;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            states = 0;
+        }
+    }
+
+    // A batch of deletes empties the tree, so it is built again outside the measured time
+    @State(Scope.Thread)
+    public static class DeleteTree {
+        Object tree;
+
+        @Setup(Level.Invocation)
+        public void setup(TreeBenchmark treeBenchmark){
+            tree = treeBenchmark.newTree();
+            treeBenchmark.buildTree(tree);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup(){
+        keys = new ArrayList<>();
+        for(int i=0;i<size;i++){
+            keys.add(i);
+        }
+        Collections.shuffle(keys, new Random(SEED));
+
+        searchTree = newTree();
+        buildTree(searchTree);
+    }
+
+    @Benchmark
+    public Object insert(Counters counters){
+        Object t = newTree();
+        for(int key : keys){
+            counters.states += insertKey(t, key);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Object search(Counters counters){
+        for(int key : keys){
+            counters.states += searchKey(searchTree, key);
+        }
+        return searchTree;
+    }
+
+    @Benchmark
+    public Object delete(DeleteTree deleteTree, Counters counters){
+        for(int key : keys){
+            counters.states += deleteKey(deleteTree.tree, key);
+        }
+        return deleteTree.tree;
+    }
+
+    @Benchmark
+    public Object build(Counters counters){
+        Object t = newTree();
+        counters.states += buildTree(t);
+        return t;
+    }
+
+    Object newTree(){
+        switch (tree){
+            case "BST":
+                return new BST();
+            case "AVL":
+                return new AVL();
+            case "RBT":
+                return new RBT();
+            case "BPLUS":
+                return new BPlusTree(FAN_OUT, NO_OF_FRAMES);
+            default:
+                throw new IllegalArgumentException("Unknown tree " + tree);
+        }
+    }
+
+    // Each operation returns the no of states it recorded
+    private static int insertKey(Object t, int key){
+        if(t instanceof BST)
+            return ((BST) t).insert(key).size();
+        else if(t instanceof AVL)
+            return ((AVL) t).insert(key).size();
+        else if(t instanceof RBT)
+            return ((RBT) t).insert(key).size();
+        else
+            return ((BPlusTree) t).insert(key).size();
+    }
+
+    private static int searchKey(Object t, int key){
+        if(t instanceof BST){
+            ((BST) t).search(key);
+            return ((BST) t).treeSequence.size;
+        }
+        else if(t instanceof AVL){
+            ((AVL) t).search(key);
+            return ((AVL) t).treeSequence.size;
+        }
+        else if(t instanceof RBT){
+            ((RBT) t).search(key);
+            return ((RBT) t).treeSequence.size;
+        }
+        else{
+            ((BPlusTree) t).search(key);
+            return ((BPlusTree) t).treeSequence.size;
+        }
+    }
+
+    private static int deleteKey(Object t, int key){
+        if(t instanceof BST){
+            ((BST) t).delete(key);
+            return ((BST) t).treeSequence.size;
+        }
+        else if(t instanceof AVL){
+            ((AVL) t).delete(key);
+            return ((AVL) t).treeSequence.size;
+        }
+        else if(t instanceof RBT){
+            ((RBT) t).delete(key);
+            return ((RBT) t).treeSequence.size;
+        }
+        else{
+            ((BPlusTree) t).delete(key);
+            return ((BPlusTree) t).treeSequence.size;
+        }
+    }
+
+    int buildTree(Object t){
+        if(t instanceof BST)
+            return ((BST) t).build(keys).size();
+        else if(t instanceof AVL)
+            return ((AVL) t).build(keys).size();
+        else if(t instanceof RBT)
+            return ((RBT) t).build(keys).size();
+        else
+            return ((BPlusTree) t).build(keys).size();
+    }
+
+}